@@ -1,25 +1,62 @@
 package net.modtale.config.core;
 
-import java.util.concurrent.Executor;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.modtale.config.properties.AppExecutorProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig {
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("Modtale-Async-");
-        executor.initialize();
-        return executor;
+    private final AppExecutorProperties executorProperties;
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfig(AppExecutorProperties executorProperties, MeterRegistry meterRegistry) {
+        this.executorProperties = executorProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = "scanExecutor")
+    public LaneExecutor scanExecutor() {
+        return new LaneExecutor("scan", executorProperties.scan(), meterRegistry);
+    }
+
+    @Bean(name = {"notifyExecutor", "taskExecutor"})
+    public LaneExecutor notifyExecutor() {
+        return new LaneExecutor("notify", executorProperties.notify(), meterRegistry);
+    }
+
+    @Bean(name = "webhookExecutor")
+    public LaneExecutor webhookExecutor() {
+        return new LaneExecutor("webhook", executorProperties.webhook(), meterRegistry);
+    }
+
+    @Bean(name = "housekeepingExecutor")
+    public LaneExecutor housekeepingExecutor() {
+        return new LaneExecutor("housekeeping", executorProperties.housekeeping(), meterRegistry);
+    }
+
+    @Bean(name = "renderExecutor")
+    public LaneExecutor renderExecutor() {
+        return new LaneExecutor("render", executorProperties.render(), meterRegistry);
+    }
+
+    @Bean(name = "probeExecutor")
+    public LaneExecutor probeExecutor() {
+        return new LaneExecutor("probe", executorProperties.probe(), meterRegistry);
+    }
+
+    @Bean(name = "releaseExecutor")
+    public LaneExecutor releaseExecutor() {
+        return new LaneExecutor("release", executorProperties.release(), meterRegistry);
+    }
+
+    @Bean(name = "migrationExecutor")
+    public LaneExecutor migrationExecutor() {
+        return new LaneExecutor("migration", executorProperties.migration(), meterRegistry);
     }
 }
@@ -3,7 +3,12 @@ package net.modtale.config.core;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import net.modtale.service.project.media.WikiService;
+import net.modtale.service.project.media.WikiUpstreamClient;
+import net.modtale.service.project.query.ProjectResponseBytesCache;
+import net.modtale.service.project.version.VersionHashLookupService;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -16,6 +21,7 @@ public class CacheConfig {
 
     static final long WIKI_METADATA_CACHE_MAX_WEIGHT_BYTES = 4L * 1024L * 1024L;
     static final long WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES = 12L * 1024L * 1024L;
+    static final long PROJECT_RESPONSE_BYTES_MAX_WEIGHT_BYTES = 64L * 1024L * 1024L;
 
     private static final List<String> CACHE_NAMES = List.of(
             "modTags",
@@ -28,6 +34,8 @@ public class CacheConfig {
             "projectTeamDtos",
             "projectVersionChangelogs",
             "projectMetaDtos",
+            ProjectResponseBytesCache.CACHE_NAME,
+            VersionHashLookupService.CACHE_NAME,
             "projectPermissionSnapshots",
             "modpackZips",
             "projectSearch",
@@ -40,7 +48,6 @@ public class CacheConfig {
             "platformAnalytics",
             "creatorAnalytics",
             "projectAnalytics",
-            "sitemapData",
             "analyticsDebounce",
             "wikiProjectPayload",
             "wikiPagePayload",
@@ -58,16 +65,23 @@ public class CacheConfig {
                 .maximumSize(10000)
                 .recordStats());
 
-        registerWeightedWikiCache(cacheManager, "wikiProjectPayload", WIKI_METADATA_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
-        registerWeightedWikiCache(cacheManager, "wikiProjectJson", WIKI_METADATA_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
-        registerWeightedWikiCache(cacheManager, "wikiPagePayload", WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
-        registerWeightedWikiCache(cacheManager, "wikiPageJson", WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
-        registerWeightedWikiCache(cacheManager, "wikiPageBundleJson", WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
+        // Upstream payloads revalidate in the background once stale, so they outlive the derived JSON caches.
+        registerWeightedCache(cacheManager, "wikiProjectPayload", WIKI_METADATA_CACHE_MAX_WEIGHT_BYTES, Duration.ofHours(6));
+        registerWeightedCache(cacheManager, "wikiProjectJson", WIKI_METADATA_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
+        registerWeightedCache(cacheManager, "wikiPagePayload", WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES, Duration.ofHours(6));
+        registerWeightedCache(cacheManager, "wikiPageJson", WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
+        registerWeightedCache(cacheManager, "wikiPageBundleJson", WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES, Duration.ofMinutes(30));
+        registerWeightedCache(cacheManager, ProjectResponseBytesCache.CACHE_NAME, PROJECT_RESPONSE_BYTES_MAX_WEIGHT_BYTES, Duration.ofMinutes(60));
+        cacheManager.registerCustomCache(VersionHashLookupService.CACHE_NAME, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(30))
+                .maximumSize(50_000)
+                .recordStats()
+                .build());
 
         return cacheManager;
     }
 
-    private void registerWeightedWikiCache(
+    private void registerWeightedCache(
             CaffeineCacheManager cacheManager,
             String cacheName,
             long maxWeightBytes,
@@ -94,6 +108,19 @@ public class CacheConfig {
         if (value instanceof byte[] bytes) {
             return 64L + bytes.length;
         }
+        if (value instanceof ProjectResponseBytesCache.EncodedResponse response) {
+            return 128L + response.body().length;
+        }
+        if (value instanceof WikiUpstreamClient.CachedPayload payload) {
+            return 128L + estimateObjectWeight(payload.body());
+        }
+        if (value instanceof WikiService.CachedPages cachedPages) {
+            long weight = 128L;
+            for (Map.Entry<String, Object> page : cachedPages.pages().entrySet()) {
+                weight += estimateObjectWeight(page.getKey()) + estimateObjectWeight(page.getValue());
+            }
+            return weight;
+        }
         return 256L;
     }
 }
@@ -0,0 +1,237 @@
+package net.modtale.config.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.modtale.config.properties.AppExecutorProperties.Lane;
+import net.modtale.config.properties.AppExecutorProperties.RejectionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A named, bounded executor for one class of background work. Platform-thread lanes are a plain
+ * {@link ThreadPoolExecutor}; virtual-thread lanes start one virtual thread per admitted task and bound
+ * concurrency and backlog with semaphores instead. Both report queue depth, active tasks, queue wait,
+ * execution time and rejections tagged with the lane name. {@link #tryExecute(Runnable)} reports rejection on
+ * every policy, for callers whose state depends on the task actually running.
+ */
+public final class LaneExecutor implements Executor, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LaneExecutor.class);
+
+    private final String name;
+    private final RejectionPolicy rejectionPolicy;
+    private final ExecutorService delegate;
+    private final ThreadPoolExecutor pool;
+    private final Semaphore admission;
+    private final Semaphore concurrency;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer queueWait;
+    private final Timer execution;
+    private final Counter rejected;
+
+    public LaneExecutor(String name, Lane lane, MeterRegistry meterRegistry) {
+        int maxPoolSize = Math.max(1, lane.maxPoolSize());
+        int corePoolSize = Math.max(1, Math.min(lane.corePoolSize(), maxPoolSize));
+        int queueCapacity = Math.max(0, lane.queueCapacity());
+
+        this.name = name;
+        this.rejectionPolicy = lane.rejectionPolicy() != null ? lane.rejectionPolicy() : RejectionPolicy.ABORT;
+
+        if (lane.virtualThreads()) {
+            this.pool = null;
+            this.admission = new Semaphore(maxPoolSize + queueCapacity);
+            this.concurrency = new Semaphore(maxPoolSize);
+            this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadPrefix(name), 0).factory());
+        } else {
+            this.admission = null;
+            this.concurrency = null;
+            this.pool = new ThreadPoolExecutor(
+                    corePoolSize,
+                    maxPoolSize,
+                    60L,
+                    TimeUnit.SECONDS,
+                    queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                    platformThreadFactory(name),
+                    (task, executor) -> reject(task)
+            );
+            this.delegate = pool;
+        }
+
+        this.queueWait = Timer.builder("modtale.executor.queue.wait")
+                .tag("lane", name)
+                .register(meterRegistry);
+        this.execution = Timer.builder("modtale.executor.execution")
+                .tag("lane", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("modtale.executor.rejected")
+                .tag("lane", name)
+                .register(meterRegistry);
+        Gauge.builder("modtale.executor.queued", this, LaneExecutor::getQueueDepth)
+                .tag("lane", name)
+                .register(meterRegistry);
+        Gauge.builder("modtale.executor.active", this, LaneExecutor::getActiveCount)
+                .tag("lane", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(instrument(task), false);
+    }
+
+    /**
+     * Submits {@code task} without falling back to the lane's rejection policy. Returns {@code false} when the
+     * lane is saturated or shut down, so callers that mark work as pending before submitting can undo it.
+     */
+    public boolean tryExecute(Runnable task) {
+        return submit(new Attempt(instrument(task)), true);
+    }
+
+    /** {@link #tryExecute(Runnable)} for any executor; other executors signal rejection by throwing. */
+    public static boolean tryExecute(Executor executor, Runnable task) {
+        if (executor instanceof LaneExecutor lane) {
+            return lane.tryExecute(task);
+        }
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    private boolean submit(Runnable instrumented, boolean strict) {
+        if (pool != null) {
+            try {
+                pool.execute(instrumented);
+                return true;
+            } catch (RejectedExecutionException ex) {
+                if (strict) {
+                    return false;
+                }
+                throw ex;
+            }
+        }
+
+        if (!admission.tryAcquire()) {
+            if (strict) {
+                rejected.increment();
+                return false;
+            }
+            reject(instrumented);
+            return true;
+        }
+        try {
+            delegate.execute(() -> {
+                waiting.incrementAndGet();
+                concurrency.acquireUninterruptibly();
+                waiting.decrementAndGet();
+                try {
+                    instrumented.run();
+                } finally {
+                    concurrency.release();
+                    admission.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            admission.release();
+            if (strict) {
+                rejected.increment();
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return pool != null ? pool.getQueue().size() : waiting.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+
+    private Runnable instrument(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWait.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                logger.error("Unhandled failure in {} executor task", name, ex);
+            } finally {
+                active.decrementAndGet();
+                execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private void reject(Runnable task) {
+        rejected.increment();
+        if (task instanceof Attempt) {
+            throw new RejectedExecutionException("The " + name + " executor is saturated");
+        }
+        if (delegate.isShutdown()) {
+            logger.debug("Dropped task submitted to the {} executor after shutdown", name);
+            return;
+        }
+
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> task.run();
+            case DISCARD -> logger.warn("The {} executor is saturated; dropping a task", name);
+            case DISCARD_OLDEST -> {
+                // Tasks submitted through tryExecute were promised to their callers, so they are never evicted.
+                Runnable oldest = pool != null ? pool.getQueue().peek() : null;
+                if (oldest == null || oldest instanceof Attempt || !pool.getQueue().remove(oldest)) {
+                    logger.warn("The {} executor is saturated; dropping a task", name);
+                    return;
+                }
+                logger.warn("The {} executor is saturated; dropping its oldest queued task", name);
+                pool.execute(task);
+            }
+            case ABORT -> throw new RejectedExecutionException("The " + name + " executor is saturated");
+        }
+    }
+
+    private record Attempt(Runnable task) implements Runnable {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    private static String threadPrefix(String name) {
+        return "Modtale-" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "-";
+    }
+
+    private static ThreadFactory platformThreadFactory(String name) {
+        return Thread.ofPlatform().name(threadPrefix(name), 0).daemon(false).factory();
+    }
+}
@@ -46,7 +46,10 @@ public final class PublicApiEndpointMatcher {
         String normalizedPath = path.trim();
         String normalizedMethod = method.toUpperCase(Locale.ROOT);
 
-        if (normalizedMethod.equals("POST") && normalizedPath.equals("/api/v1/users/batch")) {
+        if (normalizedMethod.equals("POST")
+                && (normalizedPath.equals("/api/v1/users/batch")
+                || normalizedPath.equals("/api/v1/version/hashes")
+                || normalizedPath.equals("/api/v1/version/updates"))) {
             return true;
         }
 
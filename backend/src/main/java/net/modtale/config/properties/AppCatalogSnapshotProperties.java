@@ -0,0 +1,15 @@
+package net.modtale.config.properties;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.catalog-snapshot")
+public record AppCatalogSnapshotProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"12", "24"}) List<Integer> pageSizes,
+        @DefaultValue("15s") Duration debounce,
+        @DefaultValue("60s") Duration maxDelay
+) {
+}
@@ -0,0 +1,33 @@
+package net.modtale.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.executors")
+public record AppExecutorProperties(
+        @DefaultValue Lane scan,
+        @DefaultValue Lane notify,
+        @DefaultValue Lane webhook,
+        @DefaultValue Lane housekeeping,
+        @DefaultValue Lane render,
+        @DefaultValue Lane probe,
+        @DefaultValue Lane release,
+        @DefaultValue Lane migration
+) {
+
+    public enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS,
+        DISCARD,
+        DISCARD_OLDEST
+    }
+
+    public record Lane(
+            @DefaultValue("2") int corePoolSize,
+            @DefaultValue("4") int maxPoolSize,
+            @DefaultValue("200") int queueCapacity,
+            @DefaultValue("false") boolean virtualThreads,
+            @DefaultValue("CALLER_RUNS") RejectionPolicy rejectionPolicy
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package net.modtale.config.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "app.og")
+public record AppOgImageProperties(
+        @DefaultValue("") String renderCacheDir,
+        @DefaultValue("14d") Duration renderCacheTtl,
+        @DefaultValue("5s") Duration renderTimeout,
+        @DefaultValue("2s") Duration fetchTimeout,
+        @DefaultValue("1GB") DataSize renderCacheMaxSize,
+        @DefaultValue("34") int maxInFlightRenders
+) {
+}
@@ -0,0 +1,12 @@
+package net.modtale.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.response-cache")
+public record AppResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean gzip,
+        @DefaultValue("1024") int gzipMinBytes
+) {
+}
@@ -0,0 +1,13 @@
+package net.modtale.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.scan-jobs")
+public record AppScanJobProperties(
+        @DefaultValue("4") int maxConcurrent,
+        @DefaultValue("60000") long leaseMs,
+        @DefaultValue("2000") long pollMs,
+        @DefaultValue("20000") long heartbeatMs
+) {
+}
@@ -9,6 +9,10 @@ public record AppWardenProperties(
         @DefaultValue("") String apiKey,
         @DefaultValue("true") boolean enabled,
         @DefaultValue("3") int maxAttempts,
-        @DefaultValue("75") long requestTimeoutSeconds
+        @DefaultValue("75") long requestTimeoutSeconds,
+        @DefaultValue("64") int uploadBufferKb,
+        @DefaultValue("4") int uploadReadAhead,
+        @DefaultValue("2048") int maxResponseKb,
+        @DefaultValue("128") int scanHeapBudgetMb
 ) {
 }
@@ -0,0 +1,17 @@
+package net.modtale.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.webhook-delivery")
+public record AppWebhookDeliveryProperties(
+        @DefaultValue("6") int maxAttempts,
+        @DefaultValue("4") int maxConcurrencyPerHost,
+        @DefaultValue("5000") long connectTimeoutMs,
+        @DefaultValue("10000") long requestTimeoutMs,
+        @DefaultValue("2000") long initialBackoffMs,
+        @DefaultValue("600000") long maxBackoffMs,
+        @DefaultValue("60000") long leaseMs,
+        @DefaultValue("50") int retryBatchSize
+) {
+}
@@ -248,7 +248,7 @@ public class SecurityConfig {
                             .csrfTokenRequestHandler(requestHandler);
 
                     csrf.ignoringRequestMatchers("/api/v1/user/api-keys/**", "/api/v1/auth/**");
-                    csrf.ignoringRequestMatchers("/api/v1/users/batch");
+                    csrf.ignoringRequestMatchers("/api/v1/users/batch", "/api/v1/version/hashes", "/api/v1/version/updates");
                     csrf.ignoringRequestMatchers(request -> request.getHeader("X-MODTALE-KEY") != null);
 
                     if (isPreviewEnvironment()) {
@@ -293,7 +293,7 @@ public class SecurityConfig {
                                 "/api/v1/auth/forgot-password",
                                 "/api/v1/auth/reset-password"
                         ).permitAll()
-                        .requestMatchers("/sitemap.xml", "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/sitemap.xml", "/sitemaps/**", "/actuator/health", "/actuator/health/**").permitAll()
                         .requestMatchers("/client-metadata.json").permitAll()
                         .requestMatchers(HttpMethod.GET,
                                 "/api/v1/projects/**",
@@ -314,7 +314,9 @@ public class SecurityConfig {
                         ).permitAll()
                         .requestMatchers(HttpMethod.HEAD, "/api/v1/projects/**", "/api/v1/tags", "/api/v1/files/**", "/api/v1/user/profile/**", "/api/v1/og/**").permitAll()
                         .requestMatchers(HttpMethod.POST,
-                                "/api/v1/users/batch"
+                                "/api/v1/users/batch",
+                                "/api/v1/version/hashes",
+                                "/api/v1/version/updates"
                         ).permitAll()
                         .requestMatchers("/api/v1/analytics/platform/full").access((authentication, context) -> {
                             boolean isApiKeyUser = authentication.get().getAuthorities().stream()
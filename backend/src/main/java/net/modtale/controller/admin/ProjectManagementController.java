@@ -12,6 +12,9 @@ import net.modtale.model.user.User;
 import net.modtale.service.admin.project.ProjectAdminOperationsService;
 import net.modtale.service.admin.review.ProjectReviewAdminService;
 import net.modtale.service.user.account.AccountService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -44,8 +47,12 @@ public class ProjectManagementController {
 
     @GetMapping("/verification/queue")
     @PreAuthorize("@apiSecurity.hasAdminPermission('PROJECT_REVIEW_READ', authentication)")
-    public ResponseEntity<List<ProjectSummaryDTO>> getVerificationQueue() {
-        return ResponseEntity.ok(projectReviewAdminService.getVerificationQueue());
+    public ResponseEntity<Page<ProjectSummaryDTO>> getVerificationQueue(
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "50") int size
+    ) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(projectReviewAdminService.getVerificationQueue(pageable));
     }
 
     @GetMapping("/projects/{id}/review-details")
@@ -10,6 +10,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import net.modtale.exception.InvalidProjectRequestException;
 import net.modtale.exception.ResourceNotFoundException;
@@ -36,6 +37,8 @@ import net.modtale.service.project.catalog.GameVersionService;
 import net.modtale.service.project.lifecycle.LifecycleService;
 import net.modtale.service.project.lifecycle.ProjectRetentionService;
 import net.modtale.service.project.metadata.MetadataService;
+import net.modtale.service.project.query.CatalogSnapshotService;
+import net.modtale.service.project.query.ProjectResponseBytesCache;
 import net.modtale.service.project.query.ProjectResponseCacheService;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.project.query.SearchService;
@@ -45,6 +48,9 @@ import net.modtale.service.security.access.PermissionProjectLookupService;
 import net.modtale.service.user.account.AccountService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -56,6 +62,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -76,6 +83,8 @@ public class ProjectController {
     private final AccessControlService accessControlService;
     private final AccountService accountService;
     private final PermissionProjectLookupService permissionProjectLookupService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ProjectResponseBytesCache projectResponseBytesCache;
 
     public ProjectController(
             ProjectService projectService,
@@ -88,7 +97,9 @@ public class ProjectController {
             ProjectResponseCacheService projectResponseCacheService,
             AccessControlService accessControlService,
             AccountService accountService,
-            PermissionProjectLookupService permissionProjectLookupService
+            PermissionProjectLookupService permissionProjectLookupService,
+            CatalogSnapshotService catalogSnapshotService,
+            ProjectResponseBytesCache projectResponseBytesCache
     ) {
         this.projectService = projectService;
         this.searchService = searchService;
@@ -101,11 +112,13 @@ public class ProjectController {
         this.accessControlService = accessControlService;
         this.accountService = accountService;
         this.permissionProjectLookupService = permissionProjectLookupService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.projectResponseBytesCache = projectResponseBytesCache;
     }
 
     @GetMapping("/projects")
     @PreAuthorize("@apiSecurity.hasAnyPerm('PROJECT_READ', authentication)")
-    public ResponseEntity<Page<?>> getProjects(
+    public ResponseEntity<?> getProjects(
             @RequestParam(required = false) String tags,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page must be 0 or greater.") int page,
@@ -140,6 +153,8 @@ public class ProjectController {
                     message = "View must be catalog or marquee."
             )
             String view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean exactTotal,
             Authentication authentication
     ) {
         List<String> tagList = tags != null && !tags.trim().isEmpty()
@@ -174,7 +189,9 @@ public class ProjectController {
                     effectiveCategory,
                     dateRange,
                     authorId,
-                    openSourceFilter
+                    openSourceFilter,
+                    cursor,
+                    exactTotal
             );
 
             return ResponseEntity.ok()
@@ -182,6 +199,19 @@ public class ProjectController {
                     .body(responsePage);
         }
 
+        if (publicCatalogRequest && page == 0 && cursor == null && !exactTotal
+                && tagList == null && (search == null || search.isBlank()) && gameVersion == null
+                && minDownloads == null && minFavorites == null && effectiveCategory == ProjectViewCategory.ALL
+                && (dateRange == null || "all".equalsIgnoreCase(dateRange)) && authorId == null && openSourceFilter == null) {
+            byte[] snapshot = catalogSnapshotService.find(classificationEnum, sortEnum, size);
+            if (snapshot != null) {
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(snapshot);
+            }
+        }
+
         Page<ProjectSummaryDTO> responsePage = publicCatalogRequest
                 ? projectResponseCacheService.searchPublicProjectSummaries(
                         tagList,
@@ -196,7 +226,9 @@ public class ProjectController {
                         effectiveCategory,
                         dateRange,
                         authorId,
-                        openSourceFilter
+                        openSourceFilter,
+                        cursor,
+                        exactTotal
                 )
                 : searchService.searchProjects(
                         tagList,
@@ -212,6 +244,8 @@ public class ProjectController {
                         dateRange,
                         authorId,
                         openSourceFilter,
+                        cursor,
+                        exactTotal,
                         currentUser
                 ).map(ProjectMapper::toSummaryDTO);
 
@@ -226,14 +260,16 @@ public class ProjectController {
 
     @GetMapping("/projects/{id}")
     @PreAuthorize("@apiSecurity.hasProjectPerm(#id, 'PROJECT_READ', authentication)")
-    public ResponseEntity<ProjectPageDTO> getProject(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<?> getProject(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication
+    ) {
         ProjectAccess access = resolveProjectAccess(id, authentication);
         if (access.usePublicCache()) {
-            ProjectPageDTO project = projectResponseCacheService.getPublicProjectPageDtoByRouteKey(id);
-            if (project == null) {
-                throwProjectNotFound();
-            }
-            return publicProjectResponse(project);
+            return publicProjectResponse("projectPageDtos", id, ifNoneMatch, acceptEncoding,
+                    () -> projectResponseCacheService.getPublicProjectPageDtoByRouteKey(id));
         }
 
         Project project = projectService.getProjectPageShellByRouteKey(id, access.currentUser());
@@ -250,14 +286,16 @@ public class ProjectController {
 
     @GetMapping("/projects/{id}/details")
     @PreAuthorize("@apiSecurity.hasProjectPerm(#id, 'PROJECT_READ', authentication)")
-    public ResponseEntity<ProjectDTO> getProjectDetails(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<?> getProjectDetails(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication
+    ) {
         ProjectAccess access = resolveProjectAccess(id, authentication);
         if (access.usePublicCache()) {
-            ProjectDTO project = projectResponseCacheService.getPublicProjectDtoByRouteKey(id);
-            if (project == null) {
-                throwProjectNotFound();
-            }
-            return publicProjectResponse(project);
+            return publicProjectResponse("projectDetailDtos", id, ifNoneMatch, acceptEncoding,
+                    () -> projectResponseCacheService.getPublicProjectDtoByRouteKey(id));
         }
 
         Project project = projectService.getProjectDetailsByRouteKey(id, access.currentUser());
@@ -274,14 +312,16 @@ public class ProjectController {
 
     @GetMapping("/projects/{id}/versions")
     @PreAuthorize("@apiSecurity.hasProjectPerm(#id, 'PROJECT_READ', authentication)")
-    public ResponseEntity<ProjectVersionsDTO> getProjectVersions(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<?> getProjectVersions(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication
+    ) {
         ProjectAccess access = resolveProjectAccess(id, authentication);
         if (access.usePublicCache()) {
-            ProjectVersionsDTO versions = projectResponseCacheService.getPublicProjectVersionsByRouteKey(id);
-            if (versions == null) {
-                throwProjectNotFound();
-            }
-            return publicProjectResponse(versions);
+            return publicProjectResponse("projectVersionDtos", id, ifNoneMatch, acceptEncoding,
+                    () -> projectResponseCacheService.getPublicProjectVersionsByRouteKey(id));
         }
 
         Project project = projectService.getProjectVersionsByRouteKey(id, access.currentUser());
@@ -316,14 +356,16 @@ public class ProjectController {
 
     @GetMapping("/projects/{id}/gallery")
     @PreAuthorize("@apiSecurity.hasProjectPerm(#id, 'PROJECT_READ', authentication)")
-    public ResponseEntity<ProjectGalleryDTO> getProjectGallery(@PathVariable String id, Authentication authentication) {
+    public ResponseEntity<?> getProjectGallery(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication
+    ) {
         ProjectAccess access = resolveProjectAccess(id, authentication);
         if (access.usePublicCache()) {
-            ProjectGalleryDTO gallery = projectResponseCacheService.getPublicProjectGalleryByRouteKey(id);
-            if (gallery == null) {
-                throwProjectNotFound();
-            }
-            return publicProjectResponse(gallery);
+            return publicProjectResponse("projectGalleryDtos", id, ifNoneMatch, acceptEncoding,
+                    () -> projectResponseCacheService.getPublicProjectGalleryByRouteKey(id));
         }
 
         Project project = projectService.getProjectGalleryByRouteKey(id, access.currentUser());
@@ -605,6 +647,46 @@ public class ProjectController {
                 .body(body);
     }
 
+    private ResponseEntity<?> publicProjectResponse(
+            String dtoCache,
+            String id,
+            String ifNoneMatch,
+            String acceptEncoding,
+            Supplier<?> loader
+    ) {
+        if (!projectResponseBytesCache.isEnabled()) {
+            Object body = loader.get();
+            if (body == null) {
+                throwProjectNotFound();
+            }
+            return publicProjectResponse(body);
+        }
+
+        ProjectResponseBytesCache.EncodedResponse encoded = projectResponseBytesCache.get(dtoCache, id, acceptEncoding, loader);
+        if (encoded == null) {
+            throwProjectNotFound();
+        }
+
+        CacheControl cacheControl = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+        if (encoded.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(encoded.etag())
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(encoded.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (encoded.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoded.contentEncoding());
+        }
+        return response.body(encoded.body());
+    }
+
     private void throwProjectNotFound() {
         throw new ResourceNotFoundException("We couldn't find a project with that ID.");
     }
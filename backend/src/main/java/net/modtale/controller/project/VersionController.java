@@ -7,10 +7,14 @@ import java.util.List;
 import net.modtale.model.dto.project.ManifestInspectionResult;
 import net.modtale.model.dto.project.ProjectVersionDTO;
 import net.modtale.model.dto.request.project.CreateVersionRequest;
+import net.modtale.model.dto.request.project.UpdateCheckRequest;
 import net.modtale.model.dto.request.project.UpdateVersionRequest;
+import net.modtale.model.dto.request.project.VersionHashLookupRequest;
 import net.modtale.model.dto.response.project.BundleDownloadUrlResponse;
 import net.modtale.model.dto.response.project.DownloadUrlResponse;
+import net.modtale.model.dto.response.project.UpdateCheckResponse;
 import net.modtale.model.dto.response.project.VersionDependenciesView;
+import net.modtale.model.dto.response.project.VersionHashLookupResponse;
 import net.modtale.model.user.User;
 import net.modtale.service.project.version.VersionApplicationService;
 import net.modtale.service.project.version.VersionDownloadPayload;
@@ -82,6 +86,18 @@ public class VersionController {
         return ResponseEntity.ok(versionApplicationService.getVersionByHash(hash));
     }
 
+    @PostMapping("/version/hashes")
+    @PreAuthorize("@apiSecurity.hasAnyPerm('VERSION_READ', authentication)")
+    public ResponseEntity<VersionHashLookupResponse> resolveVersionHashes(@Valid @RequestBody VersionHashLookupRequest requestPayload) {
+        return ResponseEntity.ok(versionApplicationService.resolveVersionHashes(requestPayload.getHashes()));
+    }
+
+    @PostMapping("/version/updates")
+    @PreAuthorize("@apiSecurity.hasAnyPerm('VERSION_READ', authentication)")
+    public ResponseEntity<UpdateCheckResponse> checkForUpdates(@Valid @RequestBody UpdateCheckRequest requestPayload) {
+        return ResponseEntity.ok(versionApplicationService.checkForUpdates(requestPayload));
+    }
+
     @PostMapping("/projects/{id}/versions")
     @PreAuthorize("@apiSecurity.hasProjectPerm(#id, 'VERSION_CREATE', authentication)")
     public ResponseEntity<Void> addVersion(
@@ -43,7 +43,7 @@ public class WikiProxyController {
 
     @GetMapping({"/{id}/_bundle", "/{id}/_bundle/**"})
     @PreAuthorize("@apiSecurity.hasProjectPerm(#id, 'PROJECT_READ', authentication)")
-    public ResponseEntity<String> getWikiPageBundle(@PathVariable String id, HttpServletRequest request, Authentication authentication) {
+    public ResponseEntity<byte[]> getWikiPageBundle(@PathVariable String id, HttpServletRequest request, Authentication authentication) {
         String pagePath = extractTrailingWikiPath(id, request, "/_bundle");
         User currentUser = accountService.getCurrentUser(authentication);
         return wikiResponse(wikiService.getWikiPageBundle(id, pagePath, currentUser), currentUser);
@@ -68,7 +68,7 @@ public class WikiProxyController {
         return pagePath.startsWith("/") ? pagePath.substring(1) : pagePath;
     }
 
-    private ResponseEntity<String> wikiResponse(String body, User currentUser) {
+    private <T> ResponseEntity<T> wikiResponse(T body, User currentUser) {
         ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON);
 
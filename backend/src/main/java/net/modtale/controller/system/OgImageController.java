@@ -10,22 +10,32 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.imageio.ImageIO;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.config.properties.AppOgImageProperties;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectClassification;
+import net.modtale.service.media.OgImageRenderStore;
 import net.modtale.service.project.query.ProjectService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
@@ -48,10 +58,20 @@ public class OgImageController {
     private static final Logger logger = LoggerFactory.getLogger(OgImageController.class);
 
     private final ProjectService ProjectService;
+    private final OgImageRenderStore renderStore;
+    private final Executor renderExecutor;
+    private final HttpClient httpClient;
+    private final Duration renderTimeout;
+    private final Duration fetchTimeout;
     private final Cache<String, CachedRender> renderCache;
     private final Cache<String, BufferedImage> assetCache;
+    private final ConcurrentHashMap<String, InFlightRender> inFlightRenders = new ConcurrentHashMap<>();
+    private final Semaphore renderPermits;
     private final SVGDocument logoDocument;
 
+    // Bump whenever the card layout changes so persisted renders are not reused.
+    private static final String RENDER_REVISION = "1";
+
     private static final Color BRAND_ACCENT = new Color(59, 130, 246);
     private static final Color BRAND_DARK = new Color(11, 17, 32);
     private static final Color CARD_BG = new Color(15, 23, 42);
@@ -100,11 +120,25 @@ public class OgImageController {
             </svg>
     """;
 
-    public OgImageController(ProjectService ProjectService) {
+    public OgImageController(
+            ProjectService ProjectService,
+            OgImageRenderStore renderStore,
+            @Qualifier("renderExecutor") Executor renderExecutor,
+            AppOgImageProperties properties
+    ) {
         this.ProjectService = ProjectService;
+        this.renderStore = renderStore;
+        this.renderExecutor = renderExecutor;
+        this.renderTimeout = properties.renderTimeout();
+        this.fetchTimeout = properties.fetchTimeout();
+        this.renderPermits = new Semaphore(Math.max(1, properties.maxInFlightRenders()));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(fetchTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
         this.renderCache = Caffeine.newBuilder()
-                .maximumSize(5000)
-                .expireAfterWrite(4, TimeUnit.HOURS)
+                .maximumSize(1000)
+                .expireAfterAccess(1, TimeUnit.HOURS)
                 .recordStats()
                 .build();
         this.assetCache = Caffeine.newBuilder()
@@ -160,32 +194,130 @@ public class OgImageController {
                 return serveImage(cached.data, versionKey, mediaType);
             }
 
-            CompletableFuture<BufferedImage> bannerFuture = CompletableFuture.supplyAsync(() ->
-                    getOrFetchImage(project.getBannerUrl())
-            );
-            CompletableFuture<BufferedImage> iconFuture = CompletableFuture.supplyAsync(() ->
-                    getOrFetchImage(project.getImageUrl())
-            );
-
-            BufferedImage banner = bannerFuture.get(2, TimeUnit.SECONDS);
-            BufferedImage icon = iconFuture.get(2, TimeUnit.SECONDS);
+            String contentKey = renderKey(project, formatName);
+            byte[] stored = renderStore.read(contentKey);
+            if (stored != null) {
+                renderCache.put(cacheKey, new CachedRender(stored, versionKey));
+                return serveImage(stored, versionKey, mediaType);
+            }
 
-            byte[] imageBytes = renderImage(project, banner, icon, formatName, isJpg);
+            InFlightRender render = render(contentKey, project, formatName, isJpg);
+            byte[] imageBytes;
+            try {
+                imageBytes = render.result().get(renderTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                render.abandonFetches();
+                throw e;
+            }
             renderCache.put(cacheKey, new CachedRender(imageBytes, versionKey));
 
             return serveImage(imageBytes, versionKey, mediaType);
 
+        } catch (TimeoutException e) {
+            // Renders that time out on the lane keep running and land in the store, so a retry is usually served from disk.
+            return renderPoolBusy(id);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             logger.warn("OG image generation interrupted for project={}", id, e);
             return ResponseEntity.internalServerError().build();
-        } catch (ExecutionException | TimeoutException | IOException | RuntimeException e) {
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException || e.getCause() instanceof TimeoutException) {
+                return renderPoolBusy(id);
+            }
+            logger.warn("OG image generation failed for project={}", id, e);
+            return ResponseEntity.internalServerError().build();
+        } catch (RuntimeException e) {
             logger.warn("OG image generation failed for project={}", id, e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
-    private String generateEtag(Project project) {
+    private ResponseEntity<ByteArrayResource> renderPoolBusy(String id) {
+        logger.debug("OG image render pool busy for project={}", id);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
+
+    /**
+     * Admits the render against {@code renderPermits} before fetching anything, then fetches the banner and icon
+     * without holding a render thread and decodes and draws on the bounded render lane, sharing one render between
+     * concurrent requests for the same card. The result fails with {@link RejectedExecutionException} when either
+     * bound is saturated.
+     */
+    private InFlightRender render(String contentKey, Project project, String formatName, boolean isJpg) {
+        InFlightRender render = new InFlightRender(new CompletableFuture<>(), new CompletableFuture<>());
+        InFlightRender existing = inFlightRenders.putIfAbsent(contentKey, render);
+        if (existing != null) {
+            return existing;
+        }
+        if (!renderPermits.tryAcquire()) {
+            inFlightRenders.remove(contentKey, render);
+            render.result().completeExceptionally(new RejectedExecutionException("OG render admission is saturated"));
+            return render;
+        }
+        render.result().whenComplete((bytes, error) -> {
+            inFlightRenders.remove(contentKey, render);
+            renderPermits.release();
+        });
+
+        CompletableFuture<FetchedAsset> bannerFuture = fetchAsset(project.getBannerUrl());
+        CompletableFuture<FetchedAsset> iconFuture = fetchAsset(project.getImageUrl());
+        render.fetches().whenComplete((ignored, error) -> {
+            if (error != null) {
+                bannerFuture.cancel(true);
+                iconFuture.cancel(true);
+            }
+        });
+        bannerFuture.thenAcceptBoth(iconFuture, (banner, icon) -> {
+            if (!render.fetches().complete(null)) {
+                return;
+            }
+            boolean accepted = LaneExecutor.tryExecute(renderExecutor, () -> {
+                try {
+                    byte[] imageBytes = renderImage(project, decodeAsset(banner), decodeAsset(icon), formatName, isJpg);
+                    renderStore.write(contentKey, imageBytes);
+                    render.result().complete(imageBytes);
+                } catch (IOException | RuntimeException e) {
+                    render.result().completeExceptionally(e);
+                }
+            });
+            if (!accepted) {
+                render.result().completeExceptionally(new RejectedExecutionException("OG render lane is saturated"));
+            }
+        });
+        return render;
+    }
+
+    private record InFlightRender(CompletableFuture<byte[]> result, CompletableFuture<Void> fetches) {
+
+        // Cancels fetches still in progress; a render already handed to the lane is left to finish.
+        void abandonFetches() {
+            if (fetches.cancel(true)) {
+                result.completeExceptionally(new TimeoutException("OG asset fetches timed out"));
+            }
+        }
+    }
+
+    // Keyed on what the card draws; counts enter only as their rounded labels so each download does not re-render.
+    static String renderKey(Project project, String formatName) {
+        return OgImageRenderStore.contentKey(
+                project.getId(),
+                project.getUpdatedAt(),
+                project.getTitle(),
+                project.getAuthor(),
+                project.getDescription(),
+                String.valueOf(project.getClassification()),
+                project.getBannerUrl(),
+                project.getImageUrl(),
+                formatNumber(project.getDownloadCount()),
+                formatNumber(project.getFavoriteCount()),
+                formatName,
+                RENDER_REVISION
+        );
+    }
+
+    static String generateEtag(Project project) {
         try {
             String raw = project.getId() + "|" + project.getUpdatedAt() + "|" + project.getTitle() + "|" + project.getDownloadCount() + "|" + project.getFavoriteCount();
             MessageDigest digest = MessageDigest.getInstance("MD5");
@@ -211,32 +343,55 @@ public class OgImageController {
                 .body(new ByteArrayResource(bytes));
     }
 
-    private BufferedImage getOrFetchImage(String url) {
-        if (url == null || url.isEmpty()) return null;
+    private CompletableFuture<FetchedAsset> fetchAsset(String url) {
+        if (url == null || url.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        BufferedImage cached = assetCache.getIfPresent(url);
+        if (cached != null) return CompletableFuture.completedFuture(new FetchedAsset(url, url, cached, null, null));
+
+        String fetchUrl = url.startsWith("/") ? "http://localhost:8080" + url : url;
+        HttpRequest request;
         try {
-            BufferedImage cached = assetCache.getIfPresent(url);
-            if (cached != null) return cached;
-
-            String fetchUrl = url.startsWith("/") ? "http://localhost:8080" + url : url;
-            URL targetUrl = new URL(fetchUrl);
-            HttpURLConnection connection = (HttpURLConnection) targetUrl.openConnection();
-            connection.setConnectTimeout(1000);
-            connection.setReadTimeout(1000);
-            connection.connect();
-
-            try (var is = connection.getInputStream()) {
-                String contentType = connection.getContentType();
-                byte[] data = is.readAllBytes();
-                BufferedImage img = decodeFetchedImage(data, contentType, fetchUrl);
-                if (img != null) {
-                    assetCache.put(url, img);
-                }
-                return img;
+            request = HttpRequest.newBuilder(URI.create(fetchUrl)).timeout(fetchTimeout).GET().build();
+        } catch (IllegalArgumentException e) {
+            logger.debug("Invalid OG asset url {}", url, e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<FetchedAsset> asset = exchange
+                .thenApply(response -> response.statusCode() / 100 != 2 ? null : new FetchedAsset(
+                        url,
+                        fetchUrl,
+                        null,
+                        response.body(),
+                        response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null)
+                ))
+                .exceptionally(e -> {
+                    logger.debug("Failed to fetch OG asset from {}", url, e);
+                    return null;
+                });
+        // Failures are mapped to null above, so an exceptional completion here means the asset was cancelled.
+        asset.whenComplete((ignored, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
             }
-        } catch (IOException | IllegalArgumentException e) {
-            logger.debug("Failed to fetch OG asset from {}", url, e);
-            return null;
+        });
+        return asset;
+    }
+
+    // Runs on the render lane so image decoding never lands on the HTTP client's executor.
+    private BufferedImage decodeAsset(FetchedAsset asset) {
+        if (asset == null) return null;
+        if (asset.image() != null) return asset.image();
+        BufferedImage img = decodeFetchedImage(asset.data(), asset.contentType(), asset.fetchUrl());
+        if (img != null) {
+            assetCache.put(asset.url(), img);
         }
+        return img;
+    }
+
+    private record FetchedAsset(String url, String fetchUrl, BufferedImage image, byte[] data, String contentType) {
     }
 
     private BufferedImage decodeFetchedImage(byte[] data, String contentType, String sourceUrl) {
@@ -653,7 +808,7 @@ public class OgImageController {
         }
     }
 
-    private String formatNumber(long count) {
+    private static String formatNumber(long count) {
         if (count < 1000) return String.valueOf(count);
         int exp = (int) (Math.log(count) / Math.log(1000));
         return String.format("%.1f%c", count / Math.pow(1000, exp), "kMGTPE".charAt(exp - 1));
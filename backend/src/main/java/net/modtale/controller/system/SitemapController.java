@@ -1,8 +1,16 @@
 package net.modtale.controller.system;
 
+import java.util.concurrent.TimeUnit;
+import net.modtale.service.project.query.ProjectResponseBytesCache;
 import net.modtale.service.system.SitemapService;
+import net.modtale.service.system.SitemapService.SitemapDocument;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,7 +23,33 @@ public class SitemapController {
     }
 
     @GetMapping(value = "/sitemap.xml", produces = MediaType.APPLICATION_XML_VALUE)
-    public String generateSitemap() {
-        return sitemapService.generateSitemap();
+    public ResponseEntity<byte[]> getSitemapIndex(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return render(sitemapService.getIndex(), acceptEncoding);
+    }
+
+    @GetMapping(value = "/sitemaps/{name}.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<byte[]> getSitemapShard(
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return sitemapService.getShard(name)
+                .map(document -> render(document, acceptEncoding))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<byte[]> render(SitemapDocument document, String acceptEncoding) {
+        boolean gzip = ProjectResponseBytesCache.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_XML)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .eTag(gzip ? document.etag() + "-gz" : document.etag())
+                .lastModified(document.lastModified())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? document.gzip() : document.xml());
     }
 }
@@ -0,0 +1,43 @@
+package net.modtale.model.dto.request.project;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import net.modtale.model.project.ProjectVersion;
+
+public class UpdateCheckRequest {
+
+    @NotEmpty(message = "At least one project id is required.")
+    @Size(max = 1000, message = "Update checks are limited to 1,000 projects per request.")
+    private List<String> projectIds;
+
+    @NotBlank(message = "A game version is required.")
+    private String gameVersion;
+
+    private List<ProjectVersion.Channel> channels;
+
+    public List<String> getProjectIds() {
+        return projectIds;
+    }
+
+    public void setProjectIds(List<String> projectIds) {
+        this.projectIds = projectIds;
+    }
+
+    public String getGameVersion() {
+        return gameVersion;
+    }
+
+    public void setGameVersion(String gameVersion) {
+        this.gameVersion = gameVersion;
+    }
+
+    public List<ProjectVersion.Channel> getChannels() {
+        return channels;
+    }
+
+    public void setChannels(List<ProjectVersion.Channel> channels) {
+        this.channels = channels;
+    }
+}
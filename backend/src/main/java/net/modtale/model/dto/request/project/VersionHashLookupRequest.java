@@ -0,0 +1,20 @@
+package net.modtale.model.dto.request.project;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class VersionHashLookupRequest {
+
+    @NotEmpty(message = "At least one file hash is required.")
+    @Size(max = 1000, message = "Hash lookups are limited to 1,000 hashes per request.")
+    private List<String> hashes;
+
+    public List<String> getHashes() {
+        return hashes;
+    }
+
+    public void setHashes(List<String> hashes) {
+        this.hashes = hashes;
+    }
+}
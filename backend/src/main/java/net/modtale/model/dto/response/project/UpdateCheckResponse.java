@@ -0,0 +1,17 @@
+package net.modtale.model.dto.response.project;
+
+import java.util.Map;
+import net.modtale.model.project.ProjectVersion;
+
+public record UpdateCheckResponse(Map<String, Update> updates) {
+
+    public record Update(
+            String versionId,
+            String versionNumber,
+            ProjectVersion.Channel channel,
+            String releaseDate,
+            String fileUrl,
+            String hash
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package net.modtale.model.dto.response.project;
+
+import java.util.Map;
+
+public record VersionHashLookupResponse(Map<String, Match> versions) {
+
+    public record Match(String projectId, String versionId, String versionNumber, String fileUrl) {
+    }
+}
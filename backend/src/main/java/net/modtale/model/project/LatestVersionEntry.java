@@ -0,0 +1,59 @@
+package net.modtale.model.project;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The newest approved version of a publicly readable project for one (channel, game version). The id is
+ * {@code projectId:channel:gameVersion}; projects that are not publicly readable have no entries.
+ */
+@Document(collection = "latest_versions")
+@CompoundIndex(name = "project_game_version_idx", def = "{'projectId': 1, 'gameVersion': 1, 'channel': 1}")
+public class LatestVersionEntry {
+
+    @Id
+    private String id;
+
+    private String projectId;
+    private ProjectVersion.Channel channel;
+    private String gameVersion;
+    private String versionId;
+    private String versionNumber;
+    private String releaseDate;
+    private String fileUrl;
+    private String hash;
+
+    public LatestVersionEntry() {}
+
+    public static String idFor(String projectId, ProjectVersion.Channel channel, String gameVersion) {
+        return projectId + ":" + channel + ":" + gameVersion;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getProjectId() { return projectId; }
+    public void setProjectId(String projectId) { this.projectId = projectId; }
+
+    public ProjectVersion.Channel getChannel() { return channel; }
+    public void setChannel(ProjectVersion.Channel channel) { this.channel = channel; }
+
+    public String getGameVersion() { return gameVersion; }
+    public void setGameVersion(String gameVersion) { this.gameVersion = gameVersion; }
+
+    public String getVersionId() { return versionId; }
+    public void setVersionId(String versionId) { this.versionId = versionId; }
+
+    public String getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(String versionNumber) { this.versionNumber = versionNumber; }
+
+    public String getReleaseDate() { return releaseDate; }
+    public void setReleaseDate(String releaseDate) { this.releaseDate = releaseDate; }
+
+    public String getFileUrl() { return fileUrl; }
+    public void setFileUrl(String fileUrl) { this.fileUrl = fileUrl; }
+
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+}
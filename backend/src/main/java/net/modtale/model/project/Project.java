@@ -49,6 +49,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
         @CompoundIndex(name = "status_game_version_updated_idx", def = "{'status': 1, 'versions.gameVersions': 1, 'updatedAt': -1}"),
         @CompoundIndex(name = "status_class_game_version_relevance_rank_idx", def = "{'status': 1, 'classification': 1, 'versions.gameVersions': 1, 'relevanceRank': 1}"),
         @CompoundIndex(name = "status_expires_idx", def = "{'status': 1, 'expiresAt': 1}"),
+        @CompoundIndex(name = "review_queue_idx", def = "{'status': 1, 'versions.reviewStatus': 1, 'updatedAt': 1}"),
         @CompoundIndex(name = "deleted_at_idx", def = "{'deletedAt': 1}"),
         @CompoundIndex(name = "trend_score_idx", def = "{'trendScore': -1}"),
         @CompoundIndex(name = "relevance_score_idx", def = "{'relevanceScore': -1}"),
@@ -0,0 +1,90 @@
+package net.modtale.model.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "project_version_graph")
+@CompoundIndexes({
+        @CompoundIndex(name = "project_version_number_idx", def = "{'projectId': 1, 'versionNumber': 1}"),
+        @CompoundIndex(name = "dependency_project_idx", def = "{'dependencies.projectId': 1, 'projectId': 1}"),
+        @CompoundIndex(name = "hash_idx", def = "{'hash': 1}", sparse = true)
+})
+public class ProjectVersionNode {
+
+    public static class Edge {
+        private String projectId;
+        private String versionNumber;
+        private boolean optional;
+        private boolean embedded;
+
+        public Edge() {}
+
+        public Edge(String projectId, String versionNumber, boolean optional, boolean embedded) {
+            this.projectId = projectId;
+            this.versionNumber = versionNumber;
+            this.optional = optional;
+            this.embedded = embedded;
+        }
+
+        public String getProjectId() { return projectId; }
+        public void setProjectId(String projectId) { this.projectId = projectId; }
+
+        public String getVersionNumber() { return versionNumber; }
+        public void setVersionNumber(String versionNumber) { this.versionNumber = versionNumber; }
+
+        public boolean isOptional() { return optional; }
+        public void setOptional(boolean optional) { this.optional = optional; }
+
+        public boolean isEmbedded() { return embedded; }
+        public void setEmbedded(boolean embedded) { this.embedded = embedded; }
+    }
+
+    @Id
+    private String id;
+
+    private String projectId;
+    private String versionId;
+    private String versionNumber;
+    private String fileUrl;
+    private String hash;
+    private ProjectClassification classification;
+    private ProjectVersion.ReviewStatus reviewStatus;
+    private List<Edge> dependencies = new ArrayList<>();
+
+    public ProjectVersionNode() {}
+
+    public static String nodeId(String projectId, String versionId) {
+        return projectId + ":" + versionId;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getProjectId() { return projectId; }
+    public void setProjectId(String projectId) { this.projectId = projectId; }
+
+    public String getVersionId() { return versionId; }
+    public void setVersionId(String versionId) { this.versionId = versionId; }
+
+    public String getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(String versionNumber) { this.versionNumber = versionNumber; }
+
+    public String getFileUrl() { return fileUrl; }
+    public void setFileUrl(String fileUrl) { this.fileUrl = fileUrl; }
+
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+
+    public ProjectClassification getClassification() { return classification; }
+    public void setClassification(ProjectClassification classification) { this.classification = classification; }
+
+    public ProjectVersion.ReviewStatus getReviewStatus() { return reviewStatus; }
+    public void setReviewStatus(ProjectVersion.ReviewStatus reviewStatus) { this.reviewStatus = reviewStatus; }
+
+    public List<Edge> getDependencies() { return dependencies; }
+    public void setDependencies(List<Edge> dependencies) { this.dependencies = dependencies; }
+}
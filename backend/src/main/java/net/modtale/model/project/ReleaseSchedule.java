@@ -0,0 +1,48 @@
+package net.modtale.model.project;
+
+import java.time.LocalDateTime;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "release_schedule")
+public class ReleaseSchedule {
+    @Id
+    private String id;
+
+    private String projectId;
+    private String versionId;
+
+    @Indexed
+    private LocalDateTime dueAt;
+
+    private LocalDateTime leaseUntil;
+
+    public ReleaseSchedule() {}
+
+    public ReleaseSchedule(String projectId, String versionId, LocalDateTime dueAt) {
+        this.id = idFor(projectId, versionId);
+        this.projectId = projectId;
+        this.versionId = versionId;
+        this.dueAt = dueAt;
+    }
+
+    public static String idFor(String projectId, String versionId) {
+        return projectId + ":" + versionId;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getProjectId() { return projectId; }
+    public void setProjectId(String projectId) { this.projectId = projectId; }
+
+    public String getVersionId() { return versionId; }
+    public void setVersionId(String versionId) { this.versionId = versionId; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(LocalDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+}
@@ -0,0 +1,99 @@
+package net.modtale.model.project;
+
+import java.time.LocalDateTime;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One scan attempt of one version. The id is {@code projectId:versionId:attempt}, so queueing the same attempt
+ * twice is a no-op. Finished jobs expire after three days.
+ */
+@Document(collection = "scan_jobs")
+@CompoundIndexes({
+        @CompoundIndex(name = "visible_job_idx", def = "{'state': 1, 'visibleAt': 1}"),
+        @CompoundIndex(name = "leased_job_idx", def = "{'state': 1, 'leaseUntil': 1}")
+})
+public class ScanJob {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    @Id
+    private String id;
+
+    private String projectId;
+    private String versionId;
+    private String filePath;
+    private String originalFilename;
+    private boolean manualRescan;
+    private int attempt;
+    private State state;
+    private int claims;
+
+    private LocalDateTime visibleAt;
+    private String leaseOwner;
+    private LocalDateTime leaseUntil;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+
+    @Indexed(expireAfter = "3d")
+    private LocalDateTime finishedAt;
+
+    public ScanJob() {}
+
+    public static String idFor(String projectId, String versionId, int attempt) {
+        return projectId + ":" + versionId + ":" + attempt;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getProjectId() { return projectId; }
+    public void setProjectId(String projectId) { this.projectId = projectId; }
+
+    public String getVersionId() { return versionId; }
+    public void setVersionId(String versionId) { this.versionId = versionId; }
+
+    public String getFilePath() { return filePath; }
+    public void setFilePath(String filePath) { this.filePath = filePath; }
+
+    public String getOriginalFilename() { return originalFilename; }
+    public void setOriginalFilename(String originalFilename) { this.originalFilename = originalFilename; }
+
+    public boolean isManualRescan() { return manualRescan; }
+    public void setManualRescan(boolean manualRescan) { this.manualRescan = manualRescan; }
+
+    public int getAttempt() { return attempt; }
+    public void setAttempt(int attempt) { this.attempt = attempt; }
+
+    public State getState() { return state; }
+    public void setState(State state) { this.state = state; }
+
+    public int getClaims() { return claims; }
+    public void setClaims(int claims) { this.claims = claims; }
+
+    public LocalDateTime getVisibleAt() { return visibleAt; }
+    public void setVisibleAt(LocalDateTime visibleAt) { this.visibleAt = visibleAt; }
+
+    public String getLeaseOwner() { return leaseOwner; }
+    public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(LocalDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -0,0 +1,57 @@
+package net.modtale.model.project;
+
+import java.time.LocalDateTime;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The full result of one scan attempt. Versions only carry {@link ScanResult#toStub()}; the id is
+ * {@code projectId:versionId:attempt}, so storing an attempt again replaces it.
+ */
+@Document(collection = "scan_reports")
+@CompoundIndex(name = "version_attempt_idx", def = "{'projectId': 1, 'versionId': 1, 'attempt': -1}")
+public class ScanReport {
+
+    @Id
+    private String id;
+
+    private String projectId;
+    private String versionId;
+    private int attempt;
+    private ScanResult result;
+    private LocalDateTime storedAt;
+
+    public ScanReport() {}
+
+    public ScanReport(String projectId, String versionId, ScanResult result) {
+        this.projectId = projectId;
+        this.versionId = versionId;
+        this.attempt = Math.max(1, result.getScanAttempt());
+        this.id = idFor(projectId, versionId, attempt);
+        this.result = result;
+        this.storedAt = LocalDateTime.now();
+    }
+
+    public static String idFor(String projectId, String versionId, int attempt) {
+        return projectId + ":" + versionId + ":" + Math.max(1, attempt);
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getProjectId() { return projectId; }
+    public void setProjectId(String projectId) { this.projectId = projectId; }
+
+    public String getVersionId() { return versionId; }
+    public void setVersionId(String versionId) { this.versionId = versionId; }
+
+    public int getAttempt() { return attempt; }
+    public void setAttempt(int attempt) { this.attempt = attempt; }
+
+    public ScanResult getResult() { return result; }
+    public void setResult(ScanResult result) { this.result = result; }
+
+    public LocalDateTime getStoredAt() { return storedAt; }
+    public void setStoredAt(LocalDateTime storedAt) { this.storedAt = storedAt; }
+}
@@ -22,6 +22,8 @@ public class ScanResult {
     private int newIssueCount;
     private int escalatedIssueCount;
 
+    private boolean detailsStored;
+
     private List<String> reviewerNotes = new ArrayList<>();
     private ScanSummary summary;
     private List<ReviewTarget> reviewTargets = new ArrayList<>();
@@ -75,6 +77,9 @@ public class ScanResult {
     public int getEscalatedIssueCount() { return escalatedIssueCount; }
     public void setEscalatedIssueCount(int escalatedIssueCount) { this.escalatedIssueCount = escalatedIssueCount; }
 
+    public boolean isDetailsStored() { return detailsStored; }
+    public void setDetailsStored(boolean detailsStored) { this.detailsStored = detailsStored; }
+
     public List<String> getReviewerNotes() { return reviewerNotes; }
     public void setReviewerNotes(List<String> reviewerNotes) { this.reviewerNotes = reviewerNotes == null ? new ArrayList<>() : reviewerNotes; }
 
@@ -84,6 +89,30 @@ public class ScanResult {
     public List<ReviewTarget> getReviewTargets() { return reviewTargets; }
     public void setReviewTargets(List<ReviewTarget> reviewTargets) { this.reviewTargets = reviewTargets == null ? new ArrayList<>() : reviewTargets; }
 
+    /**
+     * The copy kept on the version: status, counts and summary without the issues and review targets,
+     * which stay in {@code scan_reports} and are loaded on demand.
+     */
+    public ScanResult toStub() {
+        ScanResult stub = new ScanResult();
+        stub.status = status;
+        stub.verdict = verdict;
+        stub.riskLevel = riskLevel;
+        stub.scanState = scanState;
+        stub.riskScore = riskScore;
+        stub.confidenceScore = confidenceScore;
+        stub.scanAttempt = scanAttempt;
+        stub.scanTimestamp = scanTimestamp;
+        stub.holdUntilTimestamp = holdUntilTimestamp;
+        stub.knownIssueCount = knownIssueCount;
+        stub.newIssueCount = newIssueCount;
+        stub.escalatedIssueCount = escalatedIssueCount;
+        stub.detailsStored = true;
+        stub.reviewerNotes = reviewerNotes == null ? new ArrayList<>() : new ArrayList<>(reviewerNotes);
+        stub.summary = summary;
+        return stub;
+    }
+
     public boolean hasFindings() {
         return issues != null && !issues.isEmpty();
     }
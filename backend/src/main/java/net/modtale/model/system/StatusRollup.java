@@ -0,0 +1,93 @@
+package net.modtale.model.system;
+
+import java.time.LocalDateTime;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Aggregated probe results for one time bucket. Stored in the collection of its
+ * {@link StatusRollupResolution}; {@code expiresAt} carries that collection's TTL.
+ */
+public class StatusRollup {
+    @Id
+    private LocalDateTime bucketStart;
+
+    private int samples;
+    private Tally overall = new Tally();
+    private Tally api = new Tally();
+    private Tally db = new Tally();
+    private Tally storage = new Tally();
+
+    private LocalDateTime expiresAt;
+
+    public StatusRollup() {}
+
+    public StatusRollup(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public void add(StatusRollup other) {
+        samples += other.samples;
+        overall.add(other.overall);
+        api.add(other.api);
+        db.add(other.db);
+        storage.add(other.storage);
+    }
+
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public int getSamples() { return samples; }
+    public void setSamples(int samples) { this.samples = samples; }
+    public Tally getOverall() { return overall; }
+    public Tally getApi() { return api; }
+    public Tally getDb() { return db; }
+    public Tally getStorage() { return storage; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    public static class Tally {
+        private int operational;
+        private int degraded;
+        private int outage;
+        private long latencySum;
+        private int latencyMax;
+
+        public void add(SystemStatus status, int latency) {
+            switch (status != null ? status : SystemStatus.DEGRADED) {
+                case OPERATIONAL -> operational++;
+                case DEGRADED -> degraded++;
+                case OUTAGE -> outage++;
+            }
+            latencySum += Math.max(0, latency);
+            latencyMax = Math.max(latencyMax, latency);
+        }
+
+        public void add(Tally other) {
+            operational += other.operational;
+            degraded += other.degraded;
+            outage += other.outage;
+            latencySum += other.latencySum;
+            latencyMax = Math.max(latencyMax, other.latencyMax);
+        }
+
+        public int samples() {
+            return operational + degraded + outage;
+        }
+
+        /** Worst status seen in the bucket, or {@code null} when it holds no samples. */
+        public SystemStatus worstStatus() {
+            if (outage > 0) return SystemStatus.OUTAGE;
+            if (degraded > 0) return SystemStatus.DEGRADED;
+            return operational > 0 ? SystemStatus.OPERATIONAL : null;
+        }
+
+        public int averageLatency() {
+            int samples = samples();
+            return samples == 0 ? 0 : (int) (latencySum / samples);
+        }
+
+        public int getOperational() { return operational; }
+        public int getDegraded() { return degraded; }
+        public int getOutage() { return outage; }
+        public long getLatencySum() { return latencySum; }
+        public int getLatencyMax() { return latencyMax; }
+    }
+}
@@ -0,0 +1,39 @@
+package net.modtale.model.system;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Rollup granularities, finest first. Each resolution lives in its own collection and is derived from the
+ * one before it.
+ */
+public enum StatusRollupResolution {
+    ONE_MINUTE("status_rollups_1m", Duration.ofMinutes(1), Duration.ofDays(2)),
+    FIFTEEN_MINUTES("status_rollups_15m", Duration.ofMinutes(15), Duration.ofDays(35)),
+    ONE_HOUR("status_rollups_1h", Duration.ofHours(1), Duration.ofDays(90)),
+    ONE_DAY("status_rollups_1d", Duration.ofDays(1), Duration.ofDays(400));
+
+    private final String collection;
+    private final Duration step;
+    private final Duration retention;
+
+    StatusRollupResolution(String collection, Duration step, Duration retention) {
+        this.collection = collection;
+        this.step = step;
+        this.retention = retention;
+    }
+
+    public String collection() { return collection; }
+    public Duration step() { return step; }
+    public Duration retention() { return retention; }
+
+    public LocalDateTime truncate(LocalDateTime timestamp) {
+        return switch (this) {
+            case ONE_MINUTE -> timestamp.truncatedTo(ChronoUnit.MINUTES);
+            case FIFTEEN_MINUTES -> timestamp.truncatedTo(ChronoUnit.HOURS).plusMinutes(timestamp.getMinute() / 15 * 15L);
+            case ONE_HOUR -> timestamp.truncatedTo(ChronoUnit.HOURS);
+            case ONE_DAY -> timestamp.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+}
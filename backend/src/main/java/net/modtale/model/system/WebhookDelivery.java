@@ -0,0 +1,64 @@
+package net.modtale.model.system;
+
+import java.time.LocalDateTime;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "webhook_deliveries")
+@CompoundIndex(name = "due_delivery_idx", def = "{'failedAt': 1, 'nextAttemptAt': 1}")
+public class WebhookDelivery {
+    @Id
+    private String id;
+
+    private WebhookDestination destination;
+    // Only set on rows queued before deliveries referenced their destination.
+    private String url;
+    private String payload;
+    private String failureMessage;
+    private int attempts;
+    private String lastError;
+
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime leaseUntil;
+    private LocalDateTime createdAt;
+
+    @Indexed(expireAfter = "7d")
+    private LocalDateTime failedAt;
+
+    public WebhookDelivery() {}
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public WebhookDestination getDestination() { return destination; }
+    public void setDestination(WebhookDestination destination) { this.destination = destination; }
+
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public String getFailureMessage() { return failureMessage; }
+    public void setFailureMessage(String failureMessage) { this.failureMessage = failureMessage; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(LocalDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getFailedAt() { return failedAt; }
+    public void setFailedAt(LocalDateTime failedAt) { this.failedAt = failedAt; }
+}
@@ -0,0 +1,16 @@
+package net.modtale.model.system;
+
+/**
+ * A configured webhook endpoint. Queued deliveries store this instead of the URL and credentials, which are
+ * resolved by {@code WebhookDestinationResolver} when each attempt is sent.
+ */
+public enum WebhookDestination {
+    PROJECT_FEED,
+    DISCORD,
+    ADMIN_DISCORD,
+    STATUS_DISCORD;
+
+    public boolean isDiscord() {
+        return this != PROJECT_FEED;
+    }
+}
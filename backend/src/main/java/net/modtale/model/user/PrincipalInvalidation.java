@@ -0,0 +1,39 @@
+package net.modtale.model.user;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A principal cache invalidation published by one node so every other node drops the same snapshots.
+ */
+@Document(collection = "principal_invalidations")
+public class PrincipalInvalidation {
+    @Id
+    private String id;
+
+    private List<String> userIds;
+    private String organizationId;
+
+    @Indexed(expireAfter = "1h")
+    private Instant createdAt;
+
+    public PrincipalInvalidation() {}
+
+    public PrincipalInvalidation(List<String> userIds, String organizationId) {
+        this.userIds = userIds;
+        this.organizationId = organizationId;
+        this.createdAt = Instant.now();
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public List<String> getUserIds() { return userIds; }
+    public void setUserIds(List<String> userIds) { this.userIds = userIds; }
+    public String getOrganizationId() { return organizationId; }
+    public void setOrganizationId(String organizationId) { this.organizationId = organizationId; }
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
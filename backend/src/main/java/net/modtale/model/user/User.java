@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.annotation.Id;
@@ -24,6 +25,10 @@ public class User implements Serializable {
     @Indexed(unique = true)
     private String username;
 
+    @JsonIgnore
+    @Indexed(name = "username_lower_idx")
+    private String usernameLower;
+
     private String email;
 
     private boolean emailVerified = false;
@@ -210,7 +215,16 @@ public class User implements Serializable {
     public void setId(String id) { this.id = id; }
 
     public String getUsername() { return username; }
-    public void setUsername(String username) { this.username = username; }
+    public void setUsername(String username) {
+        this.username = username;
+        this.usernameLower = normalizeUsername(username);
+    }
+
+    public String getUsernameLower() { return usernameLower; }
+
+    public static String normalizeUsername(String username) {
+        return username == null ? null : username.toLowerCase(Locale.ROOT);
+    }
 
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
@@ -0,0 +1,57 @@
+package net.modtale.model.user;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable view of the fields authorization checks need from a {@link User}. It deliberately omits the
+ * unbounded social and connection lists so it can be cached per user and shared across requests.
+ */
+public record UserPrincipalSnapshot(
+        String id,
+        String username,
+        List<String> roles,
+        Set<AdminPermission> adminPermissions,
+        ApiKey.Tier tier,
+        User.AccountType accountType,
+        Set<String> organizationIds,
+        boolean deleted
+) {
+
+    public UserPrincipalSnapshot {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+        adminPermissions = adminPermissions == null || adminPermissions.isEmpty()
+                ? Set.of()
+                : Set.copyOf(EnumSet.copyOf(adminPermissions));
+        organizationIds = organizationIds == null ? Set.of() : Set.copyOf(organizationIds);
+    }
+
+    public static UserPrincipalSnapshot of(User user) {
+        return of(user, Set.of());
+    }
+
+    public static UserPrincipalSnapshot of(User user, Set<String> organizationIds) {
+        if (user == null) {
+            return null;
+        }
+        return new UserPrincipalSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getRoles(),
+                user.getAdminPermissions(),
+                user.getTier(),
+                user.getAccountType(),
+                organizationIds,
+                user.isDeleted()
+        );
+    }
+
+    public boolean hasAnyAdminPermission() {
+        return !adminPermissions.isEmpty();
+    }
+
+    public boolean hasAdminPermission(AdminPermission permission) {
+        return permission != null && adminPermissions.contains(permission);
+    }
+}
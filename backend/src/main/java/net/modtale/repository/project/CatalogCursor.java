@@ -0,0 +1,139 @@
+package net.modtale.repository.project;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import net.modtale.exception.InvalidProjectRequestException;
+import net.modtale.model.project.Project;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Opaque keyset position in a catalog search: the sort values and id of the last project on a page, bound
+ * to the sort fields they were read for. Searches always sort by {@code _id} last, so the position is total.
+ */
+final class CatalogCursor {
+
+    private static final Map<String, Function<Project, Object>> SORT_KEYS = Map.ofEntries(
+            Map.entry("trendingRank", Project::getTrendingRank),
+            Map.entry("trendScore", Project::getTrendScore),
+            Map.entry("popularRank", Project::getPopularRank),
+            Map.entry("popularScore", Project::getPopularScore),
+            Map.entry("relevanceRank", Project::getRelevanceRank),
+            Map.entry("relevanceScore", Project::getRelevanceScore),
+            Map.entry("downloads7d", Project::getDownloads7d),
+            Map.entry("downloads30d", Project::getDownloads30d),
+            Map.entry("downloads90d", Project::getDownloads90d),
+            Map.entry("downloadCount", Project::getDownloadCount),
+            Map.entry("favoriteCount", Project::getFavoriteCount),
+            Map.entry("createdAt", Project::getCreatedAt),
+            Map.entry("updatedAt", Project::getUpdatedAt),
+            Map.entry("title", Project::getTitle)
+    );
+
+    private final List<String> fields;
+    private final List<Object> values;
+    private final String id;
+
+    private CatalogCursor(List<String> fields, List<Object> values, String id) {
+        this.fields = fields;
+        this.values = values;
+        this.id = id;
+    }
+
+    /** Whether every order of {@code sort} can be read back from a project to build a cursor. */
+    static boolean supports(Sort sort) {
+        return sort.stream().allMatch(order -> SORT_KEYS.containsKey(order.getProperty()));
+    }
+
+    static CatalogCursor after(Sort sort, Project last) {
+        List<String> fields = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            fields.add(order.getProperty());
+            values.add(SORT_KEYS.get(order.getProperty()).apply(last));
+        }
+        return new CatalogCursor(fields, values, last.getId());
+    }
+
+    static CatalogCursor decode(String token, Sort sort) {
+        Document document;
+        try {
+            document = Document.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            throw invalid();
+        }
+
+        List<String> fields = document.getList("f", String.class);
+        List<Object> values = document.getList("v", Object.class);
+        String id = document.getString("id");
+        List<String> expected = sort.stream().map(Sort.Order::getProperty).toList();
+        if (fields == null || values == null || id == null || !fields.equals(expected) || values.size() != fields.size()) {
+            throw invalid();
+        }
+        return new CatalogCursor(fields, values, id);
+    }
+
+    String encode() {
+        String json = new Document("f", fields).append("v", values).append("id", id).toJson();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Matches everything that sorts strictly after this position: for each order, the rows that tie on
+     * every earlier key and come after on this one, with the id as the final tiebreaker. Missing values sort
+     * lowest, so they come first ascending and last descending.
+     */
+    Criteria criteria(Sort sort) {
+        List<Criteria> branches = new ArrayList<>();
+        List<Criteria> tied = new ArrayList<>();
+        int index = 0;
+        for (Sort.Order order : sort) {
+            String field = order.getProperty();
+            Object value = values.get(index++);
+            Criteria after = after(field, order.isAscending(), value);
+            if (after != null) {
+                branches.add(allOf(tied, after));
+            }
+            tied.add(Criteria.where(field).is(value));
+        }
+        branches.add(allOf(tied, idAfter()));
+        return branches.size() == 1 ? branches.getFirst() : new Criteria().orOperator(branches);
+    }
+
+    private Criteria idAfter() {
+        if (ObjectId.isValid(id)) {
+            return Criteria.where("_id").gt(id);
+        }
+        // Legacy string ids sort before every ObjectId.
+        return new Criteria().orOperator(Criteria.where("_id").gt(id), Criteria.where("_id").type(7));
+    }
+
+    private static Criteria after(String field, boolean ascending, Object value) {
+        if (ascending) {
+            return value == null ? Criteria.where(field).ne(null) : Criteria.where(field).gt(value);
+        }
+        if (value == null) {
+            return null;
+        }
+        return new Criteria().orOperator(Criteria.where(field).lt(value), Criteria.where(field).is(null));
+    }
+
+    private static Criteria allOf(List<Criteria> tied, Criteria last) {
+        if (tied.isEmpty()) {
+            return last;
+        }
+        List<Criteria> all = new ArrayList<>(tied);
+        all.add(last);
+        return new Criteria().andOperator(all);
+    }
+
+    private static InvalidProjectRequestException invalid() {
+        return new InvalidProjectRequestException("The cursor is invalid or belongs to a different sort.");
+    }
+}
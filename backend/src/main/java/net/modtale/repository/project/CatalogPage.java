@@ -0,0 +1,37 @@
+package net.modtale.repository.project;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Catalog search page. {@code nextCursor} continues after the last element without an offset and is
+ * {@code null} on the last page; {@code totalExact} is false when the total came from the count cache.
+ */
+public class CatalogPage<T> extends PageImpl<T> {
+
+    private final String nextCursor;
+    private final boolean totalExact;
+
+    public CatalogPage(List<T> content, Pageable pageable, long total, String nextCursor, boolean totalExact) {
+        super(content, pageable, total);
+        this.nextCursor = nextCursor;
+        this.totalExact = totalExact;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        List<U> converted = getContent().stream().<U>map(converter).toList();
+        return new CatalogPage<>(converted, getPageable(), getTotalElements(), nextCursor, totalExact);
+    }
+}
@@ -0,0 +1,46 @@
+package net.modtale.repository.project;
+
+import java.util.Objects;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request for catalog search that can continue from a keyset cursor instead of an offset, and can ask
+ * for an exact rather than a cached total.
+ */
+public class CatalogPageRequest extends PageRequest {
+
+    private final String cursor;
+    private final boolean exactTotal;
+
+    protected CatalogPageRequest(int page, int size, String cursor, boolean exactTotal) {
+        super(page, size, Sort.unsorted());
+        this.cursor = cursor;
+        this.exactTotal = exactTotal;
+    }
+
+    public static CatalogPageRequest of(int page, int size, String cursor, boolean exactTotal) {
+        return new CatalogPageRequest(page, size, cursor != null && !cursor.isBlank() ? cursor : null, exactTotal);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isExactTotal() {
+        return exactTotal;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CatalogPageRequest that
+                && super.equals(that)
+                && Objects.equals(cursor, that.cursor)
+                && exactTotal == that.exactTotal;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * super.hashCode() + Objects.hashCode(cursor)) + Boolean.hashCode(exactTotal);
+    }
+}
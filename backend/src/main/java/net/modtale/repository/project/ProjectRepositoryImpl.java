@@ -1,10 +1,14 @@
 package net.modtale.repository.project;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.LongSupplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import net.modtale.model.project.Project;
@@ -15,6 +19,7 @@ import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.project.ProjectViewCategory;
 import net.modtale.service.project.query.ProjectSearchResultDecorator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -27,6 +32,11 @@ import org.springframework.stereotype.Repository;
 public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
     private final MongoTemplate mongoTemplate;
     private final ProjectSearchResultDecorator projectSearchResultDecorator;
+    // Catalog totals keyed by filter. Paging does not need an exact total, so most pages skip the count.
+    private final Cache<String, Long> searchTotalCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(2))
+            .build();
 
     public ProjectRepositoryImpl(MongoTemplate mongoTemplate, ProjectSearchResultDecorator projectSearchResultDecorator) {
         this.mongoTemplate = mongoTemplate;
@@ -136,21 +146,44 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
         Criteria baseCriteria = criteriaList.isEmpty() ? new Criteria() :
                 (criteriaList.size() == 1 ? criteriaList.get(0) : new Criteria().andOperator(criteriaList.toArray(new Criteria[0])));
         Sort sort = resolveSort(sortBy, viewCategory, dateCutoff, pageable);
-        Query query = new Query(baseCriteria).with(sort);
+        boolean keyset = CatalogCursor.supports(sort);
+        String cursor = pageable instanceof CatalogPageRequest request ? request.getCursor() : null;
+        boolean exactTotal = pageable instanceof CatalogPageRequest request && request.isExactTotal();
+
+        Query query;
+        if (cursor != null && keyset) {
+            query = new Query(new Criteria().andOperator(baseCriteria, CatalogCursor.decode(cursor, sort).criteria(sort)));
+        } else {
+            query = new Query(baseCriteria).skip((long) pageable.getPageNumber() * pageable.getPageSize());
+        }
+        query.with(sort.and(Sort.by(Sort.Order.asc("_id"))));
         if (projection == SearchProjection.MARQUEE) {
             applyMarqueeProjection(query);
         } else {
             applyCatalogSummaryProjection(query);
         }
-        query.skip((long) pageable.getPageNumber() * pageable.getPageSize());
+        sort.forEach(order -> query.fields().include(order.getProperty()));
         query.limit(pageable.getPageSize());
 
         List<Project> results = mongoTemplate.find(query, Project.class);
-        return PageableExecutionUtils.getPage(
-                results,
-                pageable,
-                () -> mongoTemplate.count(new Query(baseCriteria), Project.class)
-        );
+        String nextCursor = keyset && results.size() == pageable.getPageSize()
+                ? CatalogCursor.after(sort, results.getLast()).encode()
+                : null;
+        boolean[] cachedTotal = {false};
+        LongSupplier total = () -> {
+            if (exactTotal) {
+                return mongoTemplate.count(new Query(baseCriteria), Project.class);
+            }
+            cachedTotal[0] = true;
+            return searchTotalCache.get(baseCriteria.getCriteriaObject().toString(),
+                    key -> mongoTemplate.count(new Query(baseCriteria), Project.class));
+        };
+
+        // A cursor page's position is not its offset, so the total cannot be inferred from a short page.
+        Page<Project> page = cursor != null && keyset
+                ? new PageImpl<>(results, pageable, total.getAsLong())
+                : PageableExecutionUtils.getPage(results, pageable, total);
+        return new CatalogPage<>(page.getContent(), pageable, page.getTotalElements(), nextCursor, !cachedTotal[0]);
     }
 
     private enum SearchProjection {
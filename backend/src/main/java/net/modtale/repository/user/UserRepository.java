@@ -14,9 +14,20 @@ public interface UserRepository extends MongoRepository<User, String> {
 
     Optional<User> findByUsername(String username);
 
-    Optional<User> findByUsernameIgnoreCase(String username);
+    Optional<User> findByUsernameLower(String usernameLower);
 
-    boolean existsByUsernameIgnoreCase(String username);
+    boolean existsByUsernameLower(String usernameLower);
+
+    /**
+     * Case-insensitive lookup served by the {@code usernameLower} index rather than an anchored regex.
+     */
+    default Optional<User> findByUsernameIgnoreCase(String username) {
+        return username == null ? Optional.empty() : findByUsernameLower(User.normalizeUsername(username));
+    }
+
+    default boolean existsByUsernameIgnoreCase(String username) {
+        return username != null && existsByUsernameLower(User.normalizeUsername(username));
+    }
 
     Optional<User> findByEmail(String email);
 
@@ -12,6 +12,7 @@ import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.admin.audit.AdminAuditLogger;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.project.query.SearchService;
+import net.modtale.service.security.scan.ScanReportService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -22,17 +23,20 @@ public class ProjectAdminQueryService {
     private final ProjectService projectService;
     private final SearchService searchService;
     private final AdminAuditLogger adminAuditLogger;
+    private final ScanReportService scanReportService;
 
     public ProjectAdminQueryService(
             ProjectRepository projectRepository,
             ProjectService projectService,
             SearchService searchService,
-            AdminAuditLogger adminAuditLogger
+            AdminAuditLogger adminAuditLogger,
+            ScanReportService scanReportService
     ) {
         this.projectRepository = projectRepository;
         this.projectService = projectService;
         this.searchService = searchService;
         this.adminAuditLogger = adminAuditLogger;
+        this.scanReportService = scanReportService;
     }
 
     public AdminProjectDTO getProjectById(String id) {
@@ -40,6 +44,7 @@ public class ProjectAdminQueryService {
         if (project == null) {
             throw new ResourceNotFoundException("Project not found.");
         }
+        scanReportService.loadDetails(project);
         return ProjectMapper.toAdminDTO(project);
     }
 
@@ -48,7 +53,7 @@ public class ProjectAdminQueryService {
         projectService.evictProjectCache(existing);
         updatedProject.setId(existing.getId());
         projectRepository.save(updatedProject);
-        projectService.evictProjectCache(updatedProject);
+        projectService.evictProjectVersionCache(updatedProject);
         adminAuditLogger.logAction(adminId, "RAW_UPDATE_PROJECT", existing.getId(), "PROJECT", "Updated via Raw JSON");
     }
 
@@ -58,7 +63,7 @@ public class ProjectAdminQueryService {
                     .map(project -> ProjectMapper.toSummaryDTO(project, true))
                     .toList();
         }
-        return searchService.searchProjects(null, query, 0, 10, ProjectSort.RELEVANCE, null, null, null, null, ProjectViewCategory.ALL, null, null, null, null)
+        return searchService.searchProjects(null, query, 0, 10, ProjectSort.RELEVANCE, null, null, null, null, ProjectViewCategory.ALL, null, null, null, null, false, null)
                 .getContent().stream()
                 .map(project -> ProjectMapper.toSummaryDTO(project, true))
                 .toList();
@@ -89,7 +89,7 @@ public class ProjectModerationService {
         targetProject.setExpiresAt(null);
         scoringService.markProjectRankingDirty(targetProject);
         projectRepository.save(targetProject);
-        projectService.evictProjectCache(targetProject);
+        projectService.evictProjectVersionCache(targetProject);
 
         notificationService.sendNotifcation(
                 List.of(targetProject.getAuthorId()),
@@ -114,7 +114,7 @@ public class ProjectModerationService {
         });
 
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         adminAuditLogger.logAction(adminUser.getId(), "DELETE_VERSION", id, "VERSION", "VerID: " + versionId);
     }
 
@@ -1,9 +1,10 @@
 package net.modtale.service.admin.review;
 
-import java.util.List;
 import net.modtale.model.dto.admin.AdminProjectReviewDTO;
 import net.modtale.model.dto.project.ProjectSummaryDTO;
 import net.modtale.model.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,8 +21,8 @@ public class ProjectReviewAdminService {
         this.projectReviewDecisionService = projectReviewDecisionService;
     }
 
-    public List<ProjectSummaryDTO> getVerificationQueue() {
-        return projectReviewQueryService.getVerificationQueue();
+    public Page<ProjectSummaryDTO> getVerificationQueue(Pageable pageable) {
+        return projectReviewQueryService.getVerificationQueue(pageable);
     }
 
     public AdminProjectReviewDTO getProjectReviewDetails(String id) {
@@ -1,6 +1,5 @@
 package net.modtale.service.admin.review;
 
-import java.util.List;
 import net.modtale.exception.ResourceNotFoundException;
 import net.modtale.mapper.ProjectMapper;
 import net.modtale.model.dto.admin.AdminAuthorStatsDTO;
@@ -11,7 +10,9 @@ import net.modtale.model.user.User;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectListingQueryService;
 import net.modtale.service.project.query.ProjectService;
-import org.springframework.data.domain.PageRequest;
+import net.modtale.service.security.scan.ScanReportService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,23 +22,25 @@ public class ProjectReviewQueryService {
     private final ProjectService projectService;
     private final ProjectReviewQueueService projectReviewQueueService;
     private final ProjectListingQueryService projectListingQueryService;
+    private final ScanReportService scanReportService;
 
     public ProjectReviewQueryService(
             UserRepository userRepository,
             ProjectService projectService,
             ProjectReviewQueueService projectReviewQueueService,
-            ProjectListingQueryService projectListingQueryService
+            ProjectListingQueryService projectListingQueryService,
+            ScanReportService scanReportService
     ) {
         this.userRepository = userRepository;
         this.projectService = projectService;
         this.projectReviewQueueService = projectReviewQueueService;
         this.projectListingQueryService = projectListingQueryService;
+        this.scanReportService = scanReportService;
     }
 
-    public List<ProjectSummaryDTO> getVerificationQueue() {
-        return projectReviewQueueService.getVerificationQueue().stream()
-                .map(project -> ProjectMapper.toSummaryDTO(project, true))
-                .toList();
+    public Page<ProjectSummaryDTO> getVerificationQueue(Pageable pageable) {
+        return projectReviewQueueService.getVerificationQueue(pageable)
+                .map(project -> ProjectMapper.toSummaryDTO(project, true));
     }
 
     public AdminProjectReviewDTO getProjectReviewDetails(String id) {
@@ -48,11 +51,10 @@ public class ProjectReviewQueryService {
                 author != null ? author.getCreatedAt() : "Unknown",
                 author != null ? author.getTier().name() : "Unknown",
                 author != null && author.getAvatarUrl() != null ? author.getAvatarUrl() : "",
-                author != null
-                        ? projectListingQueryService.getCreatorProjects(author.getId(), PageRequest.of(0, 10_000)).getTotalElements()
-                        : 0
+                author != null ? projectListingQueryService.countCreatorProjects(author.getId()) : 0
         );
 
+        scanReportService.loadDetails(project);
         return new AdminProjectReviewDTO(ProjectMapper.toAdminDTO(project), authorStats);
     }
 
@@ -54,7 +54,7 @@ public class ProjectReviewTransitionService {
         securityIssueAnalysisService.pruneApprovedScanResults(project);
         project.setUpdatedAt(LocalDateTime.now().toString());
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         return new VersionReviewDecision(project, version, null);
     }
 
@@ -66,7 +66,7 @@ public class ProjectReviewTransitionService {
         version.setRejectionReason(reason);
         version.setScheduledPublishDate(null);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         return new VersionReviewDecision(project, version, reason);
     }
 
@@ -75,7 +75,7 @@ public class ProjectReviewTransitionService {
         project.setStatus(ProjectStatus.DRAFT);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         return new ProjectRejectionDecision(project, reason);
     }
 
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 import net.modtale.model.analytics.ProjectMonthlyStats;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectStatus;
+import net.modtale.service.project.query.CatalogSnapshotService;
 import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.BulkOperations;
@@ -41,9 +42,11 @@ public class ScoringService {
     private static final long UNRANKED = 0L;
 
     private final MongoTemplate mongoTemplate;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public ScoringService(MongoTemplate mongoTemplate) {
+    public ScoringService(MongoTemplate mongoTemplate, CatalogSnapshotService catalogSnapshotService) {
         this.mongoTemplate = mongoTemplate;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     @Scheduled(cron = "${app.analytics.score-refresh.cron:0 30 0 * * ?}")
@@ -75,6 +78,7 @@ public class ScoringService {
         Map<String, RankSnapshot> ranks = calculateRanks(rankableProjects);
         applyRankChanges(rankableProjects, ranks, bulkWriter);
         bulkWriter.flush();
+        catalogSnapshotService.requestImmediateRebuild();
     }
 
     public void ensureScores(List<Project> projects) {
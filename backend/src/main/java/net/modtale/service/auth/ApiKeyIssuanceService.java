@@ -39,7 +39,7 @@ public class ApiKeyIssuanceService {
             ProjectRepository projectRepository,
             AccessControlService accessControlService,
             OrganizationApiKeyContextService organizationApiKeyContextService,
-            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Qualifier("housekeepingExecutor") Executor taskExecutor,
             AppLimitProperties limitProperties
     ) {
         this.apiKeyRepository = apiKeyRepository;
@@ -28,7 +28,7 @@ public class ApiKeyResolutionService {
             ApiKeyRepository apiKeyRepository,
             UserRepository userRepository,
             ApiKeyIssuanceService apiKeyIssuanceService,
-            @Qualifier("taskExecutor") Executor taskExecutor
+            @Qualifier("housekeepingExecutor") Executor taskExecutor
     ) {
         this.apiKeyRepository = apiKeyRepository;
         this.userRepository = userRepository;
@@ -37,7 +37,7 @@ public class ApiKeyService {
             ProjectRepository projectRepository,
             AccessControlService accessControlService,
             OrganizationApiKeyContextService organizationApiKeyContextService,
-            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Qualifier("housekeepingExecutor") Executor taskExecutor,
             AppLimitProperties limitProperties
     ) {
         ApiKeyIssuanceService issuanceService = new ApiKeyIssuanceService(
@@ -1,13 +1,19 @@
 package net.modtale.service.communication;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import net.modtale.model.project.Project;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -22,6 +28,7 @@ public class ProjectNotificationService {
     private final ProjectRepository projectRepository;
     private final NotificationDeliveryService notificationDeliveryService;
     private final ProjectService projectService;
+    private final VersionDependencyGraphService versionDependencyGraphService;
     private final Executor taskExecutor;
 
     public ProjectNotificationService(
@@ -29,12 +36,14 @@ public class ProjectNotificationService {
             ProjectRepository projectRepository,
             NotificationDeliveryService notificationDeliveryService,
             ProjectService projectService,
-            @Qualifier("taskExecutor") Executor taskExecutor
+            VersionDependencyGraphService versionDependencyGraphService,
+            @Qualifier("notifyExecutor") Executor taskExecutor
     ) {
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.notificationDeliveryService = notificationDeliveryService;
         this.projectService = projectService;
+        this.versionDependencyGraphService = versionDependencyGraphService;
         this.taskExecutor = taskExecutor;
     }
 
@@ -90,9 +99,21 @@ public class ProjectNotificationService {
 
     public void notifyDependents(Project updatedProject, String version) {
         taskExecutor.execute(() -> {
-            List<Project> dependents = projectRepository.findByDependency(updatedProject.getId());
+            List<String> dependentIds = versionDependencyGraphService.findDependentProjectIds(updatedProject.getId());
+            if (dependentIds.isEmpty()) {
+                return;
+            }
+
+            List<Project> dependents = projectRepository.findDependentSummariesByIdIn(dependentIds);
+            Set<String> authorIds = dependents.stream()
+                    .map(Project::getAuthorId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<String, User> authorsById = new HashMap<>();
+            userRepository.findAllById(authorIds).forEach(author -> authorsById.put(author.getId(), author));
+
             for (Project dependent : dependents) {
-                User author = userRepository.findById(dependent.getAuthorId()).orElse(null);
+                User author = authorsById.get(dependent.getAuthorId());
                 if (author != null && author.getNotificationPreferences().getDependencyUpdates() != User.NotificationLevel.OFF) {
                     String msg = updatedProject.getTitle() + " (used in " + dependent.getTitle() + ") has been updated to version " + version + ".";
                     notificationDeliveryService.sendNotifcation(
@@ -1,36 +1,359 @@
 package net.modtale.service.communication;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.config.properties.AppWebhookDeliveryProperties;
+import net.modtale.model.system.WebhookDelivery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
 
+/**
+ * Delivers webhooks through one shared non-blocking {@link HttpClient}. Every delivery is written to
+ * {@code webhook_deliveries} before the first attempt so failed or interrupted deliveries are retried with
+ * exponential backoff (or Discord's {@code retry_after}) by {@link #dispatchDueRetries()}. Rows hold the
+ * destination and the payload without credentials; the URL and secret fields are resolved per attempt.
+ */
 @Service
 public class WebhookDeliveryService {
 
     private static final Logger logger = LoggerFactory.getLogger(WebhookDeliveryService.class);
+    private static final Pattern RETRY_AFTER_BODY = Pattern.compile("\"retry_after\"\\s*:\\s*([0-9]+(?:\\.[0-9]+)?)");
+    private static final Duration HOST_BUSY_DELAY = Duration.ofSeconds(1);
 
-    private final Executor taskExecutor;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppWebhookDeliveryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final WebhookDestinationResolver destinationResolver;
+    private final Executor webhookExecutor;
+    private final HttpClient httpClient;
+    private final Cache<String, Semaphore> hostPermits = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .maximumSize(1_000)
+            .build();
 
-    public WebhookDeliveryService(@Qualifier("taskExecutor") Executor taskExecutor) {
-        this.taskExecutor = taskExecutor;
+    public WebhookDeliveryService(
+            MongoTemplate mongoTemplate,
+            ObjectMapper objectMapper,
+            AppWebhookDeliveryProperties properties,
+            MeterRegistry meterRegistry,
+            WebhookDestinationResolver destinationResolver,
+            @Qualifier("webhookExecutor") Executor webhookExecutor
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.destinationResolver = destinationResolver;
+        this.webhookExecutor = webhookExecutor;
+        // The client keeps its default executor: its internal tasks must never be dropped by the discarding
+        // webhook lane, or completions never run and host permits and leases leak.
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.connectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
     }
 
     public void deliverAsync(WebhookDispatchRequest request, String failureMessage) {
-        taskExecutor.execute(() -> {
-            try {
-                RestTemplate restTemplate = new RestTemplate();
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                restTemplate.postForEntity(request.url(), new HttpEntity<>(request.body(), headers), String.class);
-            } catch (Exception e) {
-                logger.error(failureMessage, e);
+        if (request == null || destinationResolver.resolve(request.destination()).isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        WebhookDelivery delivery = new WebhookDelivery();
+        delivery.setDestination(request.destination());
+        delivery.setFailureMessage(failureMessage);
+        delivery.setCreatedAt(now);
+        delivery.setNextAttemptAt(now);
+        delivery.setLeaseUntil(now.plus(Duration.ofMillis(properties.leaseMs())));
+
+        try {
+            delivery.setPayload(objectMapper.writeValueAsString(request.body()));
+        } catch (RuntimeException e) {
+            logger.error(failureMessage, e);
+            return;
+        }
+
+        if (LaneExecutor.tryExecute(webhookExecutor, () -> queueAndAttempt(delivery))) {
+            return;
+        }
+
+        // The lane is saturated: queue the delivery unleased so the retry poller sends it.
+        delivery.setLeaseUntil(null);
+        try {
+            mongoTemplate.insert(delivery);
+        } catch (RuntimeException e) {
+            logger.error("{}: the webhook lane is saturated and the delivery could not be queued", failureMessage, e);
+        }
+    }
+
+    private void queueAndAttempt(WebhookDelivery delivery) {
+        try {
+            mongoTemplate.insert(delivery);
+        } catch (RuntimeException e) {
+            logger.warn("Could not queue webhook delivery to {}; sending once without retry", destinationTag(delivery), e);
+        }
+        attempt(delivery);
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhook-delivery.retry-poll-ms:5000}")
+    public void dispatchDueRetries() {
+        int batchSize = Math.max(1, properties.retryBatchSize());
+        for (int i = 0; i < batchSize; i++) {
+            WebhookDelivery delivery = claimNextDue();
+            if (delivery == null) {
+                return;
+            }
+            attempt(delivery);
+        }
+    }
+
+    CompletableFuture<Void> attempt(WebhookDelivery delivery) {
+        Optional<WebhookDestinationResolver.Target> target = destinationResolver.resolve(delivery.getDestination());
+        String url = target.map(WebhookDestinationResolver.Target::url).orElse(delivery.getUrl());
+        if (url == null || url.isBlank()) {
+            markFailed(delivery, "Webhook destination is not configured");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        URI uri;
+        String payload;
+        try {
+            uri = URI.create(url);
+            payload = withSecretFields(delivery.getPayload(), target.map(WebhookDestinationResolver.Target::secretFields).orElse(Map.of()));
+        } catch (IllegalArgumentException e) {
+            markFailed(delivery, "Invalid webhook URL");
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            markFailed(delivery, "Unreadable webhook payload");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String host = hostOf(url);
+        Semaphore permits = hostPermits.get(host, ignored -> new Semaphore(Math.max(1, properties.maxConcurrencyPerHost())));
+        if (!permits.tryAcquire()) {
+            reschedule(delivery, HOST_BUSY_DELAY, delivery.getAttempts(), delivery.getLastError());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofMillis(properties.requestTimeoutMs()))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(payload))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            permits.release();
+            markFailed(delivery, "Invalid webhook URL");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long startedAt = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    permits.release();
+                    handleResult(delivery, host, startedAt, response, error);
+                    return null;
+                });
+    }
+
+    private void handleResult(
+            WebhookDelivery delivery,
+            String host,
+            long startedAt,
+            HttpResponse<String> response,
+            Throwable error
+    ) {
+        String outcome;
+        try {
+            if (error != null) {
+                outcome = "error";
+                retry(delivery, backoff(delivery.getAttempts() + 1), error.getClass().getSimpleName() + ": " + error.getMessage());
+            } else if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                outcome = "success";
+                complete(delivery);
+            } else if (response.statusCode() == 429) {
+                outcome = "rate_limited";
+                retry(delivery, retryAfter(response, delivery.getAttempts() + 1), "HTTP 429");
+            } else if (response.statusCode() >= 500 || response.statusCode() == 408) {
+                outcome = "server_error";
+                retry(delivery, backoff(delivery.getAttempts() + 1), "HTTP " + response.statusCode());
+            } else {
+                outcome = "rejected";
+                markFailed(delivery, "HTTP " + response.statusCode());
+            }
+        } catch (RuntimeException e) {
+            outcome = "error";
+            logger.warn("Could not record webhook delivery result for {}", host, e);
+        }
+
+        Timer.builder("modtale.webhook.delivery")
+                .tag("destination", destinationTag(delivery))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private WebhookDelivery claimNextDue() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("failedAt").is(null),
+                Criteria.where("nextAttemptAt").lte(now),
+                new Criteria().orOperator(
+                        Criteria.where("leaseUntil").is(null),
+                        Criteria.where("leaseUntil").lt(now)
+                )
+        )).with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+
+        return mongoTemplate.findAndModify(
+                query,
+                new Update().set("leaseUntil", now.plus(Duration.ofMillis(properties.leaseMs()))),
+                FindAndModifyOptions.options().returnNew(true),
+                WebhookDelivery.class
+        );
+    }
+
+    private void complete(WebhookDelivery delivery) {
+        if (delivery.getId() != null) {
+            mongoTemplate.remove(byId(delivery), WebhookDelivery.class);
+        }
+    }
+
+    private void retry(WebhookDelivery delivery, Duration delay, String reason) {
+        int attempts = delivery.getAttempts() + 1;
+        if (attempts >= Math.max(1, properties.maxAttempts())) {
+            delivery.setAttempts(attempts);
+            markFailed(delivery, reason);
+            return;
+        }
+        logger.debug("Webhook delivery to {} failed ({}); retrying in {}", destinationTag(delivery), reason, delay);
+        reschedule(delivery, delay, attempts, reason);
+    }
+
+    private void reschedule(WebhookDelivery delivery, Duration delay, int attempts, String reason) {
+        if (delivery.getId() == null) {
+            return;
+        }
+        mongoTemplate.updateFirst(
+                byId(delivery),
+                new Update()
+                        .set("attempts", attempts)
+                        .set("nextAttemptAt", LocalDateTime.now().plus(delay))
+                        .set("leaseUntil", null)
+                        .set("lastError", reason),
+                WebhookDelivery.class
+        );
+    }
+
+    private void markFailed(WebhookDelivery delivery, String reason) {
+        logger.error("{}: {} after {} attempt(s)", delivery.getFailureMessage(), reason, Math.max(1, delivery.getAttempts()));
+        meterRegistry.counter("modtale.webhook.failed", "destination", destinationTag(delivery)).increment();
+        if (delivery.getId() == null) {
+            return;
+        }
+        mongoTemplate.updateFirst(
+                byId(delivery),
+                new Update()
+                        .set("attempts", delivery.getAttempts())
+                        .set("failedAt", LocalDateTime.now())
+                        .set("leaseUntil", null)
+                        .set("lastError", reason),
+                WebhookDelivery.class
+        );
+    }
+
+    private Duration backoff(int attempt) {
+        long initial = Math.max(1L, properties.initialBackoffMs());
+        long exponential = initial << Math.min(20, Math.max(0, attempt - 1));
+        long capped = Math.min(Math.max(initial, properties.maxBackoffMs()), exponential);
+        long jitter = ThreadLocalRandom.current().nextLong(Math.max(1L, capped / 5));
+        return Duration.ofMillis(capped - capped / 10 + jitter);
+    }
+
+    private Duration retryAfter(HttpResponse<String> response, int attempt) {
+        Double seconds = null;
+        if (response.body() != null) {
+            Matcher matcher = RETRY_AFTER_BODY.matcher(response.body());
+            if (matcher.find()) {
+                seconds = Double.parseDouble(matcher.group(1));
             }
-        });
+        }
+        if (seconds == null) {
+            seconds = response.headers().firstValue("Retry-After").map(value -> {
+                try {
+                    return Double.parseDouble(value.trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }).orElse(null);
+        }
+        if (seconds == null) {
+            return backoff(attempt);
+        }
+        return Duration.ofMillis(Math.min(properties.maxBackoffMs(), Math.max(0L, (long) Math.ceil(seconds * 1000D))));
+    }
+
+    private String withSecretFields(String payload, Map<String, String> secretFields) {
+        String body = payload == null ? "{}" : payload;
+        if (secretFields.isEmpty()) {
+            return body;
+        }
+        if (!(objectMapper.readTree(body) instanceof ObjectNode node)) {
+            throw new IllegalStateException("Webhook payload is not a JSON object");
+        }
+        secretFields.forEach(node::put);
+        return objectMapper.writeValueAsString(node);
+    }
+
+    private static Query byId(WebhookDelivery delivery) {
+        return new Query(Criteria.where("_id").is(delivery.getId()));
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static String destinationTag(WebhookDelivery delivery) {
+        if (delivery.getDestination() != null) {
+            return delivery.getDestination().isDiscord() ? "discord" : "other";
+        }
+        String host = hostOf(delivery.getUrl() == null ? "" : delivery.getUrl());
+        return host.endsWith("discord.com") || host.endsWith("discordapp.com") ? "discord" : "other";
     }
 }
@@ -0,0 +1,53 @@
+package net.modtale.service.communication;
+
+import java.util.Map;
+import java.util.Optional;
+import net.modtale.config.properties.AppAdminDiscordWebhookProperties;
+import net.modtale.config.properties.AppDiscordWebhookProperties;
+import net.modtale.config.properties.AppStatusDiscordWebhookProperties;
+import net.modtale.config.properties.AppWebhookProperties;
+import net.modtale.model.system.WebhookDestination;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WebhookDestinationResolver {
+
+    /** The URL to post to and the body fields that carry credentials and are added just before sending. */
+    public record Target(String url, Map<String, String> secretFields) {
+    }
+
+    private final AppWebhookProperties webhookProperties;
+    private final AppDiscordWebhookProperties discordWebhookProperties;
+    private final AppAdminDiscordWebhookProperties adminDiscordWebhookProperties;
+    private final AppStatusDiscordWebhookProperties statusDiscordWebhookProperties;
+
+    public WebhookDestinationResolver(
+            AppWebhookProperties webhookProperties,
+            AppDiscordWebhookProperties discordWebhookProperties,
+            AppAdminDiscordWebhookProperties adminDiscordWebhookProperties,
+            AppStatusDiscordWebhookProperties statusDiscordWebhookProperties
+    ) {
+        this.webhookProperties = webhookProperties;
+        this.discordWebhookProperties = discordWebhookProperties;
+        this.adminDiscordWebhookProperties = adminDiscordWebhookProperties;
+        this.statusDiscordWebhookProperties = statusDiscordWebhookProperties;
+    }
+
+    public Optional<Target> resolve(WebhookDestination destination) {
+        if (destination == null) {
+            return Optional.empty();
+        }
+        Target target = switch (destination) {
+            case PROJECT_FEED -> new Target(
+                    webhookProperties.url(),
+                    webhookProperties.key() == null || webhookProperties.key().isBlank()
+                            ? Map.of()
+                            : Map.of("apiKey", webhookProperties.key())
+            );
+            case DISCORD -> new Target(discordWebhookProperties.url(), Map.of());
+            case ADMIN_DISCORD -> new Target(adminDiscordWebhookProperties.url(), Map.of());
+            case STATUS_DISCORD -> new Target(statusDiscordWebhookProperties.url(), Map.of());
+        };
+        return target.url() == null || target.url().isBlank() ? Optional.empty() : Optional.of(target);
+    }
+}
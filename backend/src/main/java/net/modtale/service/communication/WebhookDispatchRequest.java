@@ -1,6 +1,7 @@
 package net.modtale.service.communication;
 
 import java.util.Map;
+import net.modtale.model.system.WebhookDestination;
 
-public record WebhookDispatchRequest(String url, Map<String, Object> body) {
+public record WebhookDispatchRequest(WebhookDestination destination, Map<String, Object> body) {
 }
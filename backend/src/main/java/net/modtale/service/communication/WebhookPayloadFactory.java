@@ -8,11 +8,11 @@ import net.modtale.config.properties.AppAdminDiscordWebhookProperties;
 import net.modtale.config.properties.AppBackendProperties;
 import net.modtale.config.properties.AppDiscordWebhookProperties;
 import net.modtale.config.properties.AppFrontendProperties;
-import net.modtale.config.properties.AppWebhookProperties;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
+import net.modtale.model.system.WebhookDestination;
 import net.modtale.model.user.User;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectService;
@@ -23,8 +23,6 @@ public class WebhookPayloadFactory {
 
     private final UserRepository userRepository;
     private final ProjectService projectService;
-    private final String webhookUrl;
-    private final String webhookKey;
     private final String discordWebhookUrl;
     private final String adminDiscordWebhookUrl;
     private final String frontendUrl;
@@ -33,7 +31,6 @@ public class WebhookPayloadFactory {
     public WebhookPayloadFactory(
             UserRepository userRepository,
             ProjectService projectService,
-            AppWebhookProperties webhookProperties,
             AppDiscordWebhookProperties discordWebhookProperties,
             AppAdminDiscordWebhookProperties adminDiscordWebhookProperties,
             AppFrontendProperties frontendProperties,
@@ -41,8 +38,6 @@ public class WebhookPayloadFactory {
     ) {
         this.userRepository = userRepository;
         this.projectService = projectService;
-        this.webhookUrl = webhookProperties.url();
-        this.webhookKey = webhookProperties.key();
         this.discordWebhookUrl = discordWebhookProperties.url();
         this.adminDiscordWebhookUrl = adminDiscordWebhookProperties.url();
         this.frontendUrl = frontendProperties.url();
@@ -53,7 +48,6 @@ public class WebhookPayloadFactory {
         String authorName = resolveAuthorName(project);
 
         Map<String, Object> body = new HashMap<>();
-        body.put("apiKey", webhookKey);
         body.put("type", "New");
         body.put("title", project.getTitle());
         body.put("description", project.getDescription());
@@ -65,7 +59,7 @@ public class WebhookPayloadFactory {
         String ogUrl = apiUrl + "/api/v1/og/project/" + project.getId() + ".jpg";
         body.put("ogImageLink", ogUrl);
 
-        return new WebhookDispatchRequest(webhookUrl, body);
+        return new WebhookDispatchRequest(WebhookDestination.PROJECT_FEED, body);
     }
 
     public Optional<WebhookDispatchRequest> buildProjectDiscordWebhook(Project project) {
@@ -87,7 +81,7 @@ public class WebhookPayloadFactory {
         body.put("username", "Modtale");
         body.put("avatar_url", frontendUrl + "/assets/favicon.png");
         body.put("embeds", List.of(embed));
-        return Optional.of(new WebhookDispatchRequest(discordWebhookUrl, body));
+        return Optional.of(new WebhookDispatchRequest(WebhookDestination.DISCORD, body));
     }
 
     public Optional<WebhookDispatchRequest> buildAdminNewProjectWebhook(Project project) {
@@ -110,7 +104,7 @@ public class WebhookPayloadFactory {
         body.put("avatar_url", DiscordWebhookIdentity.adminBotAvatarUrl(frontendUrl));
         body.put("content", "**Verification Required**");
         body.put("embeds", List.of(embed));
-        return Optional.of(new WebhookDispatchRequest(adminDiscordWebhookUrl, body));
+        return Optional.of(new WebhookDispatchRequest(WebhookDestination.ADMIN_DISCORD, body));
     }
 
     public Optional<WebhookDispatchRequest> buildAdminFlaggedVersionWebhook(
@@ -162,7 +156,7 @@ public class WebhookPayloadFactory {
         body.put("avatar_url", frontendUrl + "/assets/favicon.png");
         body.put("content", "**Flagged File Detected**");
         body.put("embeds", List.of(embed));
-        return Optional.of(new WebhookDispatchRequest(adminDiscordWebhookUrl, body));
+        return Optional.of(new WebhookDispatchRequest(WebhookDestination.ADMIN_DISCORD, body));
     }
 
     private String resolveAuthorName(Project project) {
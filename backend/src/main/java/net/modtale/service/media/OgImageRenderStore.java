@@ -0,0 +1,173 @@
+package net.modtale.service.media;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import net.modtale.config.properties.AppOgImageProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Disk tier for rendered Open Graph cards. Entries are keyed by a digest of everything the card is drawn
+ * from, so a key never needs invalidating; stale cards simply stop being read and are pruned once they are
+ * older than the configured TTL or, oldest first, once the directory outgrows its byte cap.
+ *
+ * <p>The directory must be a mounted volume that outlives the container. Without one the tier is disabled
+ * rather than silently writing to ephemeral scratch space.
+ */
+@Service
+public class OgImageRenderStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OgImageRenderStore.class);
+
+    private final Path root;
+    private final Duration ttl;
+    private final long maxBytes;
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicBoolean pruning = new AtomicBoolean();
+
+    public OgImageRenderStore(AppOgImageProperties properties) {
+        String dir = properties.renderCacheDir();
+        this.ttl = properties.renderCacheTtl();
+        this.maxBytes = properties.renderCacheMaxSize().toBytes();
+        if (dir == null || dir.isBlank()) {
+            logger.warn("app.og.render-cache-dir is not set; rendered OG cards will not be persisted.");
+            this.root = null;
+            return;
+        }
+        this.root = Path.of(dir);
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("OG render cache directory " + root + " is not usable", e);
+        }
+        if (!Files.isWritable(root)) {
+            throw new IllegalStateException("OG render cache directory " + root + " is not writable");
+        }
+        prune();
+    }
+
+    public static String contentKey(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is unavailable", e);
+        }
+    }
+
+    public byte[] read(String key) {
+        if (root == null) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(path(key));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.debug("Failed to read OG render {}", key, e);
+            return null;
+        }
+    }
+
+    public void write(String key, byte[] data) {
+        if (root == null) {
+            return;
+        }
+        Path target = path(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, data);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to persist OG render {}", key, e);
+            return;
+        }
+        if (storedBytes.addAndGet(data.length) > maxBytes) {
+            prune();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.og.render-cache-prune-ms:3600000}")
+    public void prune() {
+        if (root == null || !Files.isDirectory(root) || !pruning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            FileTime cutoff = FileTime.from(Instant.now().minus(ttl));
+            List<StoredRender> kept = new ArrayList<>();
+            long total = 0;
+            try (Stream<Path> files = Files.walk(root, 2)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    try {
+                        FileTime modified = Files.getLastModifiedTime(file);
+                        if (modified.compareTo(cutoff) < 0) {
+                            Files.deleteIfExists(file);
+                        } else {
+                            long size = Files.size(file);
+                            kept.add(new StoredRender(file, modified, size));
+                            total += size;
+                        }
+                    } catch (IOException e) {
+                        logger.debug("Failed to prune OG render {}", file, e);
+                    }
+                }
+            }
+
+            if (total > maxBytes) {
+                kept.sort(Comparator.comparing(StoredRender::modified));
+                for (StoredRender render : kept) {
+                    if (total <= maxBytes) {
+                        break;
+                    }
+                    try {
+                        Files.deleteIfExists(render.file());
+                        total -= render.size();
+                    } catch (IOException e) {
+                        logger.debug("Failed to evict OG render {}", render.file(), e);
+                    }
+                }
+            }
+            storedBytes.set(total);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Failed to prune OG render cache at {}", root, e);
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    private Path path(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + ".img");
+    }
+
+    private record StoredRender(Path file, FileTime modified, long size) {
+    }
+}
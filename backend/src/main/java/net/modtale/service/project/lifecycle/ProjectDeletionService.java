@@ -7,9 +7,11 @@ import java.util.Set;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanReport;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.analytics.ScoringService;
 import net.modtale.service.analytics.TrackingService;
+import net.modtale.service.project.query.ProjectRouteResolver;
 import net.modtale.service.project.query.ProjectService;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -26,6 +28,7 @@ public class ProjectDeletionService {
     private final ScoringService scoringService;
     private final ProjectArtifactDeletionService projectArtifactDeletionService;
     private final MongoTemplate mongoTemplate;
+    private final ProjectRouteResolver projectRouteResolver;
 
     public ProjectDeletionService(
             ProjectRepository projectRepository,
@@ -33,7 +36,8 @@ public class ProjectDeletionService {
             TrackingService trackingService,
             ScoringService scoringService,
             ProjectArtifactDeletionService projectArtifactDeletionService,
-            MongoTemplate mongoTemplate
+            MongoTemplate mongoTemplate,
+            ProjectRouteResolver projectRouteResolver
     ) {
         this.projectRepository = projectRepository;
         this.projectService = projectService;
@@ -41,6 +45,7 @@ public class ProjectDeletionService {
         this.scoringService = scoringService;
         this.projectArtifactDeletionService = projectArtifactDeletionService;
         this.mongoTemplate = mongoTemplate;
+        this.projectRouteResolver = projectRouteResolver;
     }
 
     public void softDelete(Project project) {
@@ -49,7 +54,7 @@ public class ProjectDeletionService {
         project.setDeletedAt(LocalDateTime.now());
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         if (oldStatus == ProjectStatus.PUBLISHED || oldStatus == ProjectStatus.UNLISTED || oldStatus == ProjectStatus.ARCHIVED) {
             trackingService.logDeletedProject(project.getId());
         }
@@ -60,14 +65,15 @@ public class ProjectDeletionService {
         project.setDeletedAt(null);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 
     public void hardDelete(Project project) {
         if (!projectRepository.findByDependency(project.getId()).isEmpty()) {
             scrubProjectForDependencyResolution(project);
             projectRepository.save(project);
-            projectService.evictProjectCache(project);
+            projectRouteResolver.evict(project);
+            projectService.evictProjectVersionCache(project);
             return;
         }
 
@@ -90,7 +96,9 @@ public class ProjectDeletionService {
         mongoTemplate.updateMulti(new Query(Criteria.where("likedModIds").is(project.getId())), new Update().pull("likedModIds", project.getId()), net.modtale.model.user.User.class);
         scoringService.markProjectRankingDirty(project.getId());
         projectRepository.delete(project);
-        projectService.evictProjectCache(project);
+        mongoTemplate.remove(new Query(Criteria.where("projectId").is(project.getId())), ScanReport.class);
+        projectRouteResolver.evict(project);
+        projectService.evictProjectVersionCache(project);
         dependencyIds.forEach(this::cleanupOrphanedDependency);
     }
 
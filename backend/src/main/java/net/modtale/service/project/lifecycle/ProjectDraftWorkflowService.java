@@ -183,7 +183,7 @@ public class ProjectDraftWorkflowService {
         }
 
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         scansQueuedForSubmission.forEach(version -> versionMutationOrchestrationService.enqueueSubmissionScan(project, version));
         if (project.getVersions() == null
                 || project.getVersions().stream().noneMatch(version -> version.getScanResult() != null
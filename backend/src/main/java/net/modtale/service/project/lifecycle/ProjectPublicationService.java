@@ -63,7 +63,7 @@ public class ProjectPublicationService {
         project.setStatus(ProjectStatus.DRAFT);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 
     public void archiveProject(String id, User user) {
@@ -78,7 +78,7 @@ public class ProjectPublicationService {
         project.setExpiresAt(null);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 
     public void unlistProject(String id, User user) {
@@ -91,7 +91,7 @@ public class ProjectPublicationService {
         project.setExpiresAt(null);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 
     public void privateProject(String id, User user) {
@@ -104,7 +104,7 @@ public class ProjectPublicationService {
         project.setExpiresAt(null);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 
     public void publishProject(String id, User user) {
@@ -149,7 +149,7 @@ public class ProjectPublicationService {
         }
 
         Project saved = projectRepository.save(project);
-        projectService.evictProjectCache(saved);
+        projectService.evictProjectVersionCache(saved);
 
         if (isNew) {
             projectNotificationService.notifyNewProject(saved);
@@ -166,6 +166,6 @@ public class ProjectPublicationService {
         project.setExpiresAt(null);
         scoringService.markProjectRankingDirty(project);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 }
@@ -1,72 +1,98 @@
 package net.modtale.service.project.lifecycle;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.communication.ProjectNotificationService;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.security.issue.SecurityIssueAnalysisService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ScheduledReleaseExecutionService {
 
+    private final MongoTemplate mongoTemplate;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
     private final ProjectNotificationService projectNotificationService;
     private final SecurityIssueAnalysisService securityIssueAnalysisService;
 
     public ScheduledReleaseExecutionService(
+            MongoTemplate mongoTemplate,
             ProjectRepository projectRepository,
             ProjectService projectService,
             ProjectNotificationService projectNotificationService,
             SecurityIssueAnalysisService securityIssueAnalysisService
     ) {
+        this.mongoTemplate = mongoTemplate;
         this.projectRepository = projectRepository;
         this.projectService = projectService;
         this.projectNotificationService = projectNotificationService;
         this.securityIssueAnalysisService = securityIssueAnalysisService;
     }
 
-    public List<String> publishDueVersions(Project project, LocalDateTime publishTime) {
-        List<String> releasedVersions = new ArrayList<>();
-        if (project.getVersions() == null) {
-            return releasedVersions;
+    /**
+     * Approves one scheduled version in place if it is still scheduled and due. When it has been moved to a
+     * later time instead, the outcome carries that time so the caller can requeue it.
+     */
+    public ReleaseOutcome publishScheduledVersion(String projectId, String versionId, LocalDateTime publishTime) {
+        Query due = new Query(Criteria.where("_id").is(projectId).and("versions").elemMatch(
+                Criteria.where("_id").is(versionId)
+                        .and("reviewStatus").is(ProjectVersion.ReviewStatus.SCHEDULED)
+                        .and("scheduledPublishDate").lte(publishTime.toString())
+        ));
+        Update update = new Update()
+                .set("versions.$.reviewStatus", ProjectVersion.ReviewStatus.APPROVED)
+                .set("versions.$.scheduledPublishDate", null)
+                .set("updatedAt", publishTime.toString());
+
+        if (mongoTemplate.updateFirst(due, update, Project.class).getModifiedCount() == 0) {
+            return new ReleaseOutcome(false, findLaterPublishDate(projectId, versionId, publishTime));
         }
 
-        for (ProjectVersion version : project.getVersions()) {
-            if (!isDueForRelease(version, publishTime)) {
-                continue;
-            }
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null) {
+            return new ReleaseOutcome(true, null);
+        }
+        if (securityIssueAnalysisService.pruneApprovedScanResults(project) > 0) {
+            projectRepository.save(project);
+        }
+        projectService.evictProjectVersionCache(project);
 
-            version.setReviewStatus(ProjectVersion.ReviewStatus.APPROVED);
-            version.setScheduledPublishDate(null);
-            releasedVersions.add(version.getVersionNumber());
+        ProjectVersion version = project.getVersions() == null ? null : project.getVersions().stream()
+                .filter(candidate -> versionId.equals(candidate.getId()))
+                .findFirst()
+                .orElse(null);
+        if (version != null) {
+            projectNotificationService.notifyUpdates(project, version.getVersionNumber());
+            projectNotificationService.notifyDependents(project, version.getVersionNumber());
         }
+        return new ReleaseOutcome(true, null);
+    }
 
-        if (releasedVersions.isEmpty()) {
-            return releasedVersions;
+    private LocalDateTime findLaterPublishDate(String projectId, String versionId, LocalDateTime publishTime) {
+        Query query = new Query(Criteria.where("_id").is(projectId));
+        query.fields().elemMatch("versions", Criteria.where("_id").is(versionId)
+                .and("reviewStatus").is(ProjectVersion.ReviewStatus.SCHEDULED));
+        Project project = mongoTemplate.findOne(query, Project.class);
+        if (project == null || project.getVersions() == null || project.getVersions().isEmpty()) {
+            return null;
         }
 
-        project.setUpdatedAt(publishTime.toString());
-        securityIssueAnalysisService.pruneApprovedScanResults(project);
-        projectRepository.save(project);
-        projectService.evictProjectCache(project);
-        releasedVersions.forEach(versionNumber -> {
-            projectNotificationService.notifyUpdates(project, versionNumber);
-            projectNotificationService.notifyDependents(project, versionNumber);
-        });
-        return releasedVersions;
+        String scheduledPublishDate = project.getVersions().getFirst().getScheduledPublishDate();
+        if (scheduledPublishDate == null) {
+            return null;
+        }
+        LocalDateTime later = LocalDateTime.parse(scheduledPublishDate);
+        return later.isAfter(publishTime) ? later : null;
     }
 
-    private boolean isDueForRelease(ProjectVersion version, LocalDateTime publishTime) {
-        if (version.getReviewStatus() != ProjectVersion.ReviewStatus.SCHEDULED
-                || version.getScheduledPublishDate() == null) {
-            return false;
-        }
-        return !LocalDateTime.parse(version.getScheduledPublishDate()).isAfter(publishTime);
+    /** {@code rescheduledFor} is set when the version is still scheduled, but for a later time. */
+    public record ReleaseOutcome(boolean published, LocalDateTime rescheduledFor) {
     }
 }
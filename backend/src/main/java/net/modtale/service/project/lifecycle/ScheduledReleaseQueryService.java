@@ -1,8 +1,12 @@
 package net.modtale.service.project.lifecycle;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ReleaseSchedule;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -17,13 +21,33 @@ public class ScheduledReleaseQueryService {
         this.mongoTemplate = mongoTemplate;
     }
 
-    public List<Project> findProjectsWithReleasesDueAt(LocalDateTime publishTime) {
+    public List<ReleaseSchedule> findScheduleDueBefore(LocalDateTime horizon) {
         return mongoTemplate.find(
-                new Query(Criteria.where("versions").elemMatch(
-                        Criteria.where("reviewStatus").is("SCHEDULED")
-                                .and("scheduledPublishDate").lte(publishTime.toString())
-                )),
-                Project.class
+                new Query(Criteria.where("dueAt").lte(horizon)).with(Sort.by(Sort.Direction.ASC, "dueAt")),
+                ReleaseSchedule.class
         );
     }
+
+    /** Scheduled versions read from the projects themselves, for seeding the schedule collection. */
+    public List<ReleaseSchedule> findScheduledVersions() {
+        Query query = new Query(Criteria.where("versions").elemMatch(Criteria.where("reviewStatus").is("SCHEDULED")));
+        query.fields()
+                .include("_id")
+                .include("versions._id")
+                .include("versions.reviewStatus")
+                .include("versions.scheduledPublishDate");
+
+        List<ReleaseSchedule> scheduled = new ArrayList<>();
+        for (Project project : mongoTemplate.find(query, Project.class)) {
+            if (project.getVersions() == null) {
+                continue;
+            }
+            for (ProjectVersion version : project.getVersions()) {
+                if (version.getReviewStatus() == ProjectVersion.ReviewStatus.SCHEDULED && version.getScheduledPublishDate() != null) {
+                    scheduled.add(new ReleaseSchedule(project.getId(), version.getId(), LocalDateTime.parse(version.getScheduledPublishDate())));
+                }
+            }
+        }
+        return scheduled;
+    }
 }
@@ -1,5 +1,10 @@
 package net.modtale.service.project.media;
 
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
 import net.modtale.exception.InvalidProjectRequestException;
 import net.modtale.exception.ResourceNotFoundException;
 import net.modtale.exception.UpstreamServiceException;
@@ -7,59 +12,66 @@ import net.modtale.mapper.ProjectMapper;
 import net.modtale.model.project.Project;
 import net.modtale.model.user.User;
 import net.modtale.service.project.query.ProjectService;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.node.ObjectNode;
 
+/**
+ * Serves wiki metadata, pages and page bundles. Anonymous responses are cached under the resolved project id,
+ * with every page of a project held in one {@link CachedPages} entry, so a project change evicts its pages by
+ * key whichever route (id, slug or handle) they were requested through.
+ */
 @Service
 public class WikiService {
 
+    static final String PROJECT_CACHE = "wikiProjectJson";
+    static final String PAGE_CACHE = "wikiPageJson";
+    static final String BUNDLE_CACHE = "wikiPageBundleJson";
+
     private final ProjectService projectService;
     private final ObjectMapper objectMapper;
     private final WikiUpstreamClient wikiUpstreamClient;
+    private final CacheManager cacheManager;
 
     public WikiService(
             ProjectService projectService,
             ObjectMapper objectMapper,
-            WikiUpstreamClient wikiUpstreamClient
+            WikiUpstreamClient wikiUpstreamClient,
+            CacheManager cacheManager
     ) {
         this.projectService = projectService;
         this.objectMapper = objectMapper;
         this.wikiUpstreamClient = wikiUpstreamClient;
+        this.cacheManager = cacheManager;
     }
 
-    @Cacheable(value = "wikiProjectJson", key = "'public:' + #projectId.toLowerCase()", condition = "#currentUser == null", sync = true)
     public String getWikiProject(String projectId, User currentUser) {
-        return loadWikiProject(projectId, currentUser);
-    }
-
-    private String loadWikiProject(String projectId, User currentUser) {
         Project project = resolveProjectWikiProject(projectId, currentUser);
-        String targetSlug = project.getHmWikiSlug().trim();
-        return loadWikiProjectBySlug(targetSlug);
+        Cache cache = currentUser == null ? cacheManager.getCache(PROJECT_CACHE) : null;
+        if (cache == null) {
+            return loadWikiProjectBySlug(project.getHmWikiSlug().trim());
+        }
+        return cache.get(cacheKey(project), () -> loadWikiProjectBySlug(project.getHmWikiSlug().trim()));
     }
 
     private String loadWikiProjectBySlug(String targetSlug) {
         return wikiUpstreamClient.fetchProjectPayload(targetSlug);
     }
 
-    @Cacheable(
-            value = "wikiPageJson",
-            key = "'public:' + #projectId.toLowerCase() + ':' + (#pagePath == null ? '' : #pagePath.trim().toLowerCase())",
-            condition = "#currentUser == null",
-            sync = true
-    )
     public String getWikiPage(String projectId, String pagePath, User currentUser) {
-        return loadWikiPage(projectId, pagePath, currentUser);
-    }
-
-    private String loadWikiPage(String projectId, String pagePath, User currentUser) {
         String requestedPagePath = normalizePagePath(pagePath);
         Project project = resolveProjectWikiProject(projectId, currentUser);
+        return cachedPage(PAGE_CACHE, project, requestedPagePath, currentUser, String.class,
+                () -> loadWikiPage(project, projectId, requestedPagePath));
+    }
+
+    private String loadWikiPage(Project project, String projectId, String requestedPagePath) {
         String targetSlug = project.getHmWikiSlug().trim();
         String metadataBody = loadWikiProjectBySlug(targetSlug);
         JsonNode metadata = readJson(metadataBody, "Failed to parse wiki project data.");
@@ -69,50 +81,75 @@ public class WikiService {
         return wikiUpstreamClient.fetchPagePayload(wikiId, normalizedPagePath);
     }
 
-    @Cacheable(
-            value = "wikiPageBundleJson",
-            key = "'public:' + #projectId.toLowerCase() + ':' + (#pagePath == null ? '' : #pagePath.trim().toLowerCase())",
-            condition = "#currentUser == null",
-            sync = true
-    )
-    public String getWikiPageBundle(String projectId, String pagePath, User currentUser) {
-        return loadWikiPageBundle(projectId, pagePath, currentUser);
-    }
-
-    private String loadWikiPageBundle(String projectId, String pagePath, User currentUser) {
+    public byte[] getWikiPageBundle(String projectId, String pagePath, User currentUser) {
         String requestedPagePath = normalizePagePath(pagePath);
         Project project = resolveProjectWikiProject(projectId, currentUser);
+        return cachedPage(BUNDLE_CACHE, project, requestedPagePath, currentUser, byte[].class,
+                () -> loadWikiPageBundle(project, projectId, requestedPagePath));
+    }
+
+    private byte[] loadWikiPageBundle(Project project, String projectId, String requestedPagePath) {
         String targetSlug = project.getHmWikiSlug().trim();
         String metadataBody = loadWikiProjectBySlug(targetSlug);
         JsonNode metadata = readJson(metadataBody, "Failed to parse wiki project data.");
         String normalizedPagePath = resolvePagePath(requestedPagePath, metadata);
         String wikiId = extractWikiId(metadata, projectId);
         String pageBody = wikiUpstreamClient.fetchPagePayload(wikiId, normalizedPagePath);
-        JsonNode page = readJson(pageBody, "Failed to parse wiki page data.");
+        requireJsonValue(pageBody, "Failed to parse wiki page data.");
 
-        return buildBundle(project, metadata, page, normalizedPagePath);
+        return writeBundle(project, metadataBody, pageBody, normalizedPagePath);
     }
 
-    private String buildBundle(Project project, JsonNode metadata, JsonNode page, String normalizedPagePath) {
-        ObjectNode bundle = objectMapper.createObjectNode();
-        bundle.set("project", projectPageNode(project));
-        bundle.set("metadata", metadata);
-        bundle.set("page", page);
-        bundle.put("pageSlug", normalizedPagePath);
-
-        try {
-            return objectMapper.writeValueAsString(bundle);
-        } catch (JacksonException e) {
-            throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, "Failed to serialize wiki page data.", e);
+    /**
+     * Returns the page from the project's {@link CachedPages} entry, loading and adding it on a miss. The entry
+     * is replaced rather than mutated so the cache weighs it again; two concurrent misses on one project may drop
+     * one of the pages, which only costs a later reload.
+     */
+    private <T> T cachedPage(String cacheName, Project project, String pagePath, User currentUser, Class<T> type, Supplier<T> loader) {
+        Cache cache = currentUser == null ? cacheManager.getCache(cacheName) : null;
+        if (cache == null) {
+            return loader.get();
+        }
+        String key = cacheKey(project);
+        String pageKey = pagePath.toLowerCase(Locale.ROOT);
+        CachedPages cached = cache.get(key, CachedPages.class);
+        if (cached != null && type.isInstance(cached.pages().get(pageKey))) {
+            return type.cast(cached.pages().get(pageKey));
         }
-    }
 
-    private JsonNode projectPageNode(Project project) {
-        try {
-            return objectMapper.readTree(objectMapper.writeValueAsString(ProjectMapper.toPageDTO(project)));
+        T value = loader.get();
+        if (value != null) {
+            Map<String, Object> pages = new HashMap<>(cached != null ? cached.pages() : Map.of());
+            pages.put(pageKey, value);
+            cache.put(key, new CachedPages(Map.copyOf(pages)));
+        }
+        return value;
+    }
+
+    private String cacheKey(Project project) {
+        return "public:" + project.getId();
+    }
+
+    /**
+     * Streams the bundle in one pass: the page DTO is serialized straight into the generator and the upstream
+     * bodies, already validated, are copied in as raw values instead of being rebuilt as trees.
+     */
+    byte[] writeBundle(Project project, String metadataBody, String pageBody, String normalizedPagePath) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(metadataBody.length() + pageBody.length() + 4096);
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeName("project");
+            generator.writePOJO(ProjectMapper.toPageDTO(project));
+            generator.writeName("metadata");
+            generator.writeRawValue(metadataBody);
+            generator.writeName("page");
+            generator.writeRawValue(pageBody);
+            generator.writeStringProperty("pageSlug", normalizedPagePath);
+            generator.writeEndObject();
         } catch (JacksonException e) {
-            throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, "Failed to serialize project page data.", e);
+            throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, "Failed to serialize wiki page data.", e);
         }
+        return out.toByteArray();
     }
 
     private Project resolveProjectWikiProject(String projectId, User currentUser) {
@@ -135,6 +172,24 @@ public class WikiService {
         }
     }
 
+    /** Checks that {@code body} is a single JSON value by skipping through its tokens without building a tree. */
+    private void requireJsonValue(String body, String failureMessage) {
+        if (body == null) {
+            throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, failureMessage);
+        }
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() == null) {
+                throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, failureMessage);
+            }
+            parser.skipChildren();
+            if (parser.nextToken() != null) {
+                throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, failureMessage);
+            }
+        } catch (JacksonException e) {
+            throw new UpstreamServiceException(HttpStatus.BAD_GATEWAY, failureMessage, e);
+        }
+    }
+
     private String extractWikiId(JsonNode metadata, String projectId) {
         String id = textValue(metadata.path("mod").path("id"));
         if (id == null) {
@@ -187,4 +242,7 @@ public class WikiService {
         }
         return normalized;
     }
+
+    /** Every cached page of one project, keyed by lowercased page path. */
+    public record CachedPages(Map<String, Object> pages) {}
 }
@@ -1,11 +1,19 @@
 package net.modtale.service.project.media;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import net.modtale.config.core.LaneExecutor;
 import net.modtale.config.properties.AppWikiProperties;
 import net.modtale.exception.UpstreamServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -18,30 +26,103 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriUtils;
 
+/**
+ * Caches upstream wiki bodies with their ETag and Last-Modified. Entries older than {@link #FRESH_FOR} are
+ * still served, while one background request per key revalidates them conditionally; a 304 only refreshes
+ * the entry's age. Concurrent misses for a key share one upstream request.
+ */
 @Service
 public class WikiUpstreamClient {
 
     private static final Logger logger = LoggerFactory.getLogger(WikiUpstreamClient.class);
+    static final String PROJECT_CACHE = "wikiProjectPayload";
+    static final String PAGE_CACHE = "wikiPagePayload";
+    static final Duration FRESH_FOR = Duration.ofMinutes(5);
 
     private final AppWikiProperties wikiProperties;
     private final RestTemplate restTemplate;
+    private final CacheManager cacheManager;
+    private final Executor revalidationExecutor;
+    private final long freshForMillis;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
 
+    @Autowired
     public WikiUpstreamClient(
             AppWikiProperties wikiProperties,
-            RestTemplate restTemplate
+            RestTemplate restTemplate,
+            CacheManager cacheManager,
+            @Qualifier("housekeepingExecutor") Executor revalidationExecutor
+    ) {
+        this(wikiProperties, restTemplate, cacheManager, revalidationExecutor, FRESH_FOR);
+    }
+
+    WikiUpstreamClient(
+            AppWikiProperties wikiProperties,
+            RestTemplate restTemplate,
+            CacheManager cacheManager,
+            Executor revalidationExecutor,
+            Duration freshFor
     ) {
         this.wikiProperties = wikiProperties;
         this.restTemplate = restTemplate;
+        this.cacheManager = cacheManager;
+        this.revalidationExecutor = revalidationExecutor;
+        this.freshForMillis = freshFor.toMillis();
     }
 
-    @Cacheable(value = "wikiProjectPayload", key = "#id", sync = true)
     public String fetchProjectPayload(String id) {
-        return fetchWithAuthFallback(wikiProperties.wikiUrl() + "/mods/" + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8));
+        return fetch(PROJECT_CACHE, id, wikiProperties.wikiUrl() + "/mods/" + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8));
     }
 
-    @Cacheable(value = "wikiPagePayload", key = "#id + ':' + #pagePath", sync = true)
     public String fetchPagePayload(String id, String pagePath) {
-        return fetchWithAuthFallback(wikiProperties.wikiUrl() + "/mods/" + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8) + "/" + UriUtils.encodePath(pagePath, StandardCharsets.UTF_8));
+        return fetch(
+                PAGE_CACHE,
+                id + ":" + pagePath,
+                wikiProperties.wikiUrl() + "/mods/" + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8) + "/" + UriUtils.encodePath(pagePath, StandardCharsets.UTF_8)
+        );
+    }
+
+    private String fetch(String cacheName, String key, String url) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return fetchWithAuthFallback(url, null).body();
+        }
+
+        CachedPayload cached;
+        try {
+            cached = cache.get(key, () -> fetchWithAuthFallback(url, null));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - cached.fetchedAt() >= freshForMillis) {
+            revalidateInBackground(cache, cacheName + ":" + key, key, url, cached);
+        }
+        return cached.body();
+    }
+
+    private void revalidateInBackground(Cache cache, String token, String key, String url, CachedPayload stale) {
+        if (!revalidating.add(token)) {
+            return;
+        }
+        boolean accepted = LaneExecutor.tryExecute(revalidationExecutor, () -> {
+            try {
+                cache.put(key, fetchWithAuthFallback(url, stale));
+            } catch (RuntimeException e) {
+                logger.warn("Wiki revalidation failed for URL '{}'; serving the cached body: {}", url, e.getMessage());
+            } finally {
+                revalidating.remove(token);
+            }
+        });
+        if (!accepted) {
+            revalidating.remove(token);
+            logger.debug("Skipped wiki revalidation for URL '{}'; the housekeeping lane is saturated", url);
+        }
     }
 
     private HttpHeaders buildHeaders() {
@@ -52,9 +133,9 @@ public class WikiUpstreamClient {
         return headers;
     }
 
-    private String fetchWithAuthFallback(String url) {
+    private CachedPayload fetchWithAuthFallback(String url, CachedPayload stale) {
         try {
-            return exchangeForBody(url, buildHeaders());
+            return exchange(url, buildHeaders(), stale);
         } catch (HttpStatusCodeException e) {
             HttpStatusCode code = e.getStatusCode();
             boolean authConfigured = wikiProperties.wikiKey() != null && !wikiProperties.wikiKey().isBlank();
@@ -62,7 +143,7 @@ public class WikiUpstreamClient {
 
             if (authConfigured && authRejected) {
                 logger.warn("Wiki API rejected configured bearer token ({}). Retrying unauthenticated for URL: {}", code, url);
-                return exchangeForBody(url, new HttpHeaders());
+                return exchange(url, new HttpHeaders(), stale);
             }
 
             HttpStatus status = HttpStatus.resolve(code.value());
@@ -77,13 +158,33 @@ public class WikiUpstreamClient {
         }
     }
 
-    private String exchangeForBody(String url, HttpHeaders headers) {
+    private CachedPayload exchange(String url, HttpHeaders headers, CachedPayload stale) {
+        if (stale != null) {
+            if (stale.etag() != null) {
+                headers.setIfNoneMatch(stale.etag());
+            }
+            if (stale.lastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, stale.lastModified());
+            }
+        }
+
         ResponseEntity<String> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
                 new HttpEntity<>(headers),
                 String.class
         );
-        return response.getBody();
+        long now = System.currentTimeMillis();
+        if (stale != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            return new CachedPayload(stale.body(), stale.etag(), stale.lastModified(), now);
+        }
+        return new CachedPayload(
+                response.getBody(),
+                response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                now
+        );
     }
+
+    public record CachedPayload(String body, String etag, String lastModified, long fetchedAt) {}
 }
@@ -1,6 +1,7 @@
 package net.modtale.service.project.metadata;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.regex.Pattern;
 import net.modtale.exception.InvalidProjectRequestException;
 import net.modtale.model.project.Project;
@@ -10,6 +11,7 @@ import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.project.access.ProjectAccessService;
 import net.modtale.service.project.access.ProjectMutationGuard;
+import net.modtale.service.project.query.ProjectRouteResolver;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.project.validation.ValidationService;
 import net.modtale.service.security.validation.SanitizationService;
@@ -31,6 +33,7 @@ public class MetadataService {
     private final ProjectAccessService projectAccessService;
     private final ProjectMutationGuard projectMutationGuard;
     private final SanitizationService sanitizer;
+    private final ProjectRouteResolver projectRouteResolver;
 
     public MetadataService(
             ProjectRepository projectRepository,
@@ -38,7 +41,8 @@ public class MetadataService {
             ValidationService validationService,
             ProjectAccessService projectAccessService,
             ProjectMutationGuard projectMutationGuard,
-            SanitizationService sanitizer
+            SanitizationService sanitizer,
+            ProjectRouteResolver projectRouteResolver
     ) {
         this.projectRepository = projectRepository;
         this.projectService = projectService;
@@ -46,6 +50,7 @@ public class MetadataService {
         this.projectAccessService = projectAccessService;
         this.projectMutationGuard = projectMutationGuard;
         this.sanitizer = sanitizer;
+        this.projectRouteResolver = projectRouteResolver;
     }
 
     public void updateMetadata(String id, Project updated, User user) {
@@ -73,6 +78,7 @@ public class MetadataService {
         }
         existing.setCategories(updated.getCategories());
 
+        String previousSlug = existing.getSlug();
         if (updated.getSlug() != null) {
             String newSlug = updated.getSlug().toLowerCase();
             if (newSlug.isEmpty()) existing.setSlug(null);
@@ -107,6 +113,10 @@ public class MetadataService {
         if (updated.getImageUrl() != null) existing.setImageUrl(updated.getImageUrl());
 
         projectRepository.save(existing);
+        if (!Objects.equals(previousSlug, existing.getSlug())) {
+            projectRouteResolver.evict(previousSlug);
+            projectRouteResolver.evict(existing);
+        }
         projectService.evictProjectCache(existing);
     }
 
@@ -0,0 +1,151 @@
+package net.modtale.service.project.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.config.properties.AppCatalogSnapshotProperties;
+import net.modtale.mapper.ProjectMapper;
+import net.modtale.model.dto.project.ProjectSummaryDTO;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectClassification;
+import net.modtale.model.project.ProjectSort;
+import net.modtale.model.project.ProjectViewCategory;
+import net.modtale.repository.project.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Serialized first pages of the unfiltered public catalog for every (classification, sort, page size). The
+ * whole set is rebuilt in the background and swapped in one write, so readers never see a partial rebuild
+ * and never fall through to Mongo because a cache was just cleared. Rebuilds are debounced: a burst of
+ * project changes triggers one rebuild once it goes quiet, or after {@code maxDelay} at the latest.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectSearchResultDecorator projectSearchResultDecorator;
+    private final ObjectMapper objectMapper;
+    private final Executor housekeepingExecutor;
+    private final AppCatalogSnapshotProperties properties;
+
+    private volatile Map<SnapshotKey, byte[]> snapshots = Map.of();
+    // Dirty since / last change, in epoch millis; zero when clean.
+    private final AtomicLong dirtySince = new AtomicLong();
+    private final AtomicLong lastChange = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public CatalogSnapshotService(
+            ProjectRepository projectRepository,
+            ProjectSearchResultDecorator projectSearchResultDecorator,
+            ObjectMapper objectMapper,
+            @Qualifier("housekeepingExecutor") Executor housekeepingExecutor,
+            AppCatalogSnapshotProperties properties
+    ) {
+        this.projectRepository = projectRepository;
+        this.projectSearchResultDecorator = projectSearchResultDecorator;
+        this.objectMapper = objectMapper;
+        this.housekeepingExecutor = housekeepingExecutor;
+        this.properties = properties;
+        requestImmediateRebuild();
+    }
+
+    /** Serialized first page, or {@code null} when that combination is not materialized yet. */
+    public byte[] find(ProjectClassification classification, ProjectSort sort, int size) {
+        if (!properties.enabled()) {
+            return null;
+        }
+        return snapshots.get(new SnapshotKey(classification, sort != null ? sort : ProjectSort.RELEVANCE, size));
+    }
+
+    public void requestRebuild() {
+        long now = System.currentTimeMillis();
+        lastChange.set(now);
+        dirtySince.compareAndSet(0, now);
+    }
+
+    public void requestImmediateRebuild() {
+        lastChange.set(1);
+        dirtySince.set(1);
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog-snapshot.tick-ms:1000}")
+    public void rebuildIfDue() {
+        long since = dirtySince.get();
+        if (!properties.enabled() || since == 0 || rebuilding.get()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean quiet = now - lastChange.get() >= properties.debounce().toMillis();
+        boolean overdue = now - since >= properties.maxDelay().toMillis();
+        if ((quiet || overdue) && rebuilding.compareAndSet(false, true)
+                && !LaneExecutor.tryExecute(housekeepingExecutor, this::rebuild)) {
+            // The set stays dirty, so the next tick retries once the lane has room.
+            rebuilding.set(false);
+            logger.debug("Housekeeping lane is saturated; deferring catalog snapshot rebuild");
+        }
+    }
+
+    void rebuild() {
+        try {
+            // Changes that arrive while this runs mark the set dirty again and trigger another rebuild.
+            dirtySince.set(0);
+            Map<SnapshotKey, byte[]> rebuilt = new HashMap<>();
+            List<ProjectClassification> classifications = new ArrayList<>();
+            classifications.add(null);
+            classifications.addAll(List.of(ProjectClassification.values()));
+
+            for (ProjectClassification classification : classifications) {
+                for (ProjectSort sort : ProjectSort.values()) {
+                    for (int size : properties.pageSizes()) {
+                        rebuilt.put(new SnapshotKey(classification, sort, size), render(classification, sort, size));
+                    }
+                }
+            }
+            snapshots = Map.copyOf(rebuilt);
+        } catch (RuntimeException ex) {
+            requestRebuild();
+            logger.warn("Catalog snapshot rebuild failed; serving the previous snapshots", ex);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private byte[] render(ProjectClassification classification, ProjectSort sort, int size) {
+        Page<Project> page = projectRepository.searchProjects(
+                null,
+                null,
+                null,
+                classification,
+                null,
+                null,
+                PageRequest.of(0, size),
+                null,
+                sort,
+                ProjectViewCategory.ALL,
+                null,
+                null,
+                null
+        );
+        Page<ProjectSummaryDTO> response = projectSearchResultDecorator.decorateCatalogResults(page)
+                .map(ProjectMapper::toSummaryDTO);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private record SnapshotKey(ProjectClassification classification, ProjectSort sort, int size) {
+    }
+}
@@ -2,6 +2,10 @@ package net.modtale.service.project.query;
 
 import java.util.Collection;
 import net.modtale.model.project.Project;
+import net.modtale.service.project.version.LatestVersionIndexService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
@@ -9,12 +13,26 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProjectCacheService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCacheService.class);
+
     private final CacheManager cacheManager;
     private final ProjectRouteService projectRouteService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final LatestVersionIndexService latestVersionIndexService;
+    private final VersionDependencyGraphService versionDependencyGraphService;
 
-    public ProjectCacheService(CacheManager cacheManager, ProjectRouteService projectRouteService) {
+    public ProjectCacheService(
+            CacheManager cacheManager,
+            ProjectRouteService projectRouteService,
+            CatalogSnapshotService catalogSnapshotService,
+            LatestVersionIndexService latestVersionIndexService,
+            VersionDependencyGraphService versionDependencyGraphService
+    ) {
         this.cacheManager = cacheManager;
         this.projectRouteService = projectRouteService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.latestVersionIndexService = latestVersionIndexService;
+        this.versionDependencyGraphService = versionDependencyGraphService;
     }
 
     public void evictProjectCache(Project project) {
@@ -22,6 +40,22 @@ public class ProjectCacheService {
         evictProjectSearchCache();
     }
 
+    /**
+     * For version and status mutations: evicts like {@link #evictProjectCache}, then resyncs the version graph
+     * (which evicts the hashes it held) and the latest version index from the stored project.
+     */
+    public void evictProjectVersionCache(Project project) {
+        evictProjectCache(project);
+        if (project != null) {
+            try {
+                versionDependencyGraphService.syncProject(project.getId());
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to resync the version graph for project {}", project.getId(), ex);
+            }
+            latestVersionIndexService.requestSync(project.getId());
+        }
+    }
+
     public void evictProjectDetailsCache(Project project) {
         if (project == null) return;
         Cache cache = cacheManager.getCache("projectDetails");
@@ -35,8 +69,7 @@ public class ProjectCacheService {
         Cache metaDtoCache = cacheManager.getCache("projectMetaDtos");
         Cache permissionCache = cacheManager.getCache("projectPermissionSnapshots");
         Cache wikiProjectJsonCache = cacheManager.getCache("wikiProjectJson");
-        Cache wikiPageJsonCache = cacheManager.getCache("wikiPageJson");
-        Cache wikiPageBundleJsonCache = cacheManager.getCache("wikiPageBundleJson");
+        Cache responseBytesCache = cacheManager.getCache(ProjectResponseBytesCache.CACHE_NAME);
 
         if (cache != null && project.getId() != null) cache.evict(project.getId());
         if (cache != null && project.getId() != null) cache.evict("public:" + project.getId());
@@ -51,6 +84,7 @@ public class ProjectCacheService {
         if (metaDtoCache != null && project.getId() != null) metaDtoCache.evict("public:" + project.getId());
         if (permissionCache != null && project.getId() != null) permissionCache.evict(project.getId());
         if (wikiProjectJsonCache != null && project.getId() != null) wikiProjectJsonCache.evict("public:" + project.getId());
+        if (responseBytesCache != null && project.getId() != null) evictResponseBytes(responseBytesCache, project.getId());
 
         String routeHandle = projectRouteService.buildProjectHandle(project);
         if (cache != null && routeHandle != null) cache.evict(routeHandle);
@@ -64,7 +98,7 @@ public class ProjectCacheService {
         if (teamDtoCache != null && routeHandle != null) teamDtoCache.evict("public:" + routeHandle);
         if (changelogCache != null && routeHandle != null) changelogCache.evict("public:" + routeHandle);
         if (metaDtoCache != null && routeHandle != null) metaDtoCache.evict("public:" + routeHandle);
-        if (wikiProjectJsonCache != null && routeHandle != null) wikiProjectJsonCache.evict("public:" + routeHandle);
+        if (responseBytesCache != null && routeHandle != null) evictResponseBytes(responseBytesCache, routeHandle);
         if (cache != null && project.getSlug() != null) cache.evict(project.getSlug());
         if (cache != null && project.getSlug() != null) cache.evict("public:" + project.getSlug());
         if (cache != null && project.getSlug() != null) cache.evict("public-page:" + project.getSlug());
@@ -76,9 +110,8 @@ public class ProjectCacheService {
         if (teamDtoCache != null && project.getSlug() != null) teamDtoCache.evict("public:" + project.getSlug());
         if (changelogCache != null && project.getSlug() != null) changelogCache.evict("public:" + project.getSlug());
         if (metaDtoCache != null && project.getSlug() != null) metaDtoCache.evict("public:" + project.getSlug());
-        if (wikiProjectJsonCache != null && project.getSlug() != null) wikiProjectJsonCache.evict("public:" + project.getSlug());
-        if (wikiPageJsonCache != null) wikiPageJsonCache.clear();
-        if (wikiPageBundleJsonCache != null) wikiPageBundleJsonCache.clear();
+        if (responseBytesCache != null && project.getSlug() != null) evictResponseBytes(responseBytesCache, project.getSlug());
+        if (project.getId() != null) evictWikiPages(project.getId());
     }
 
     public void evictProjectDetailsCacheById(String projectId) {
@@ -129,8 +162,11 @@ public class ProjectCacheService {
         if (wikiProjectJsonCache != null) {
             wikiProjectJsonCache.evict("public:" + projectId);
         }
-        clearCache("wikiPageJson");
-        clearCache("wikiPageBundleJson");
+        Cache responseBytesCache = cacheManager.getCache(ProjectResponseBytesCache.CACHE_NAME);
+        if (responseBytesCache != null) {
+            evictResponseBytes(responseBytesCache, projectId);
+        }
+        evictWikiPages(projectId);
     }
 
     public void evictProjectSearchCache() {
@@ -138,8 +174,8 @@ public class ProjectCacheService {
         clearCache("projectSummarySearch");
         clearCache("projectMarqueeSearch");
         clearCache("projectMarqueeSummarySearch");
-        clearCache("sitemapData");
         clearCache("platformStats");
+        catalogSnapshotService.requestRebuild();
     }
 
     public void evictProjectDetailsCaches(Collection<Project> projects, Collection<String> fallbackProjectIds) {
@@ -152,6 +188,18 @@ public class ProjectCacheService {
         evictProjectSearchCache();
     }
 
+    /** Wiki caches key every page of a project under {@code public:<project id>}, whatever route served it. */
+    private void evictWikiPages(String projectId) {
+        Cache pageCache = cacheManager.getCache("wikiPageJson");
+        if (pageCache != null) pageCache.evict("public:" + projectId);
+        Cache bundleCache = cacheManager.getCache("wikiPageBundleJson");
+        if (bundleCache != null) bundleCache.evict("public:" + projectId);
+    }
+
+    private void evictResponseBytes(Cache cache, String routeKey) {
+        ProjectResponseBytesCache.keysFor(routeKey).forEach(cache::evict);
+    }
+
     private void clearCache(String cacheName) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
@@ -10,6 +10,7 @@ import net.modtale.model.project.ProjectClassification;
 import net.modtale.model.project.ProjectSort;
 import net.modtale.model.project.ProjectViewCategory;
 import net.modtale.model.user.User;
+import net.modtale.repository.project.CatalogPageRequest;
 import net.modtale.repository.project.ProjectRepository;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
@@ -33,7 +34,7 @@ public class ProjectCatalogSearchService {
 
     @Cacheable(
             value = "projectSearch",
-            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #contentType, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource)",
+            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #contentType, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource, #cursor, #exactTotal)",
             condition = "#currentUser == null && (#viewCategory == null || !#viewCategory.personalView)",
             sync = true
     )
@@ -51,6 +52,8 @@ public class ProjectCatalogSearchService {
             String dateRange,
             String authorId,
             Boolean openSource,
+            String cursor,
+            boolean exactTotal,
             User currentUser
     ) {
         if (viewCategory == ProjectViewCategory.FAVORITES) {
@@ -78,7 +81,7 @@ public class ProjectCatalogSearchService {
                 contentType,
                 minDownloads,
                 minFavorites,
-                PageRequest.of(page, size),
+                cursor != null || exactTotal ? CatalogPageRequest.of(page, size, cursor, exactTotal) : PageRequest.of(page, size),
                 currentUser != null ? currentUser.getId() : null,
                 sortBy,
                 viewCategory,
@@ -92,7 +95,7 @@ public class ProjectCatalogSearchService {
 
     @Cacheable(
             value = "projectMarqueeSearch",
-            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #contentType, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource)",
+            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #contentType, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource, #cursor, #exactTotal)",
             condition = "#viewCategory == null || !#viewCategory.personalView",
             sync = true
     )
@@ -109,7 +112,9 @@ public class ProjectCatalogSearchService {
             ProjectViewCategory viewCategory,
             String dateRange,
             String authorId,
-            Boolean openSource
+            Boolean openSource,
+            String cursor,
+            boolean exactTotal
     ) {
         LocalDate dateCutoff = resolveDateCutoff(dateRange);
 
@@ -120,7 +125,7 @@ public class ProjectCatalogSearchService {
                 contentType,
                 minDownloads,
                 minFavorites,
-                PageRequest.of(page, size),
+                cursor != null || exactTotal ? CatalogPageRequest.of(page, size, cursor, exactTotal) : PageRequest.of(page, size),
                 sortBy,
                 viewCategory,
                 dateCutoff,
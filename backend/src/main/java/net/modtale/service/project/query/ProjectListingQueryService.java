@@ -37,16 +37,14 @@ public class ProjectListingQueryService {
             return Page.empty();
         }
 
-        Page<Project> results = findCreatorProjects(
-                Criteria.where("authorId").is(creator.getId())
-                        .and("status").is(ProjectStatus.PUBLISHED)
-                        .and("deletedAt").is(null),
-                pageable,
-                false
-        );
+        Page<Project> results = findCreatorProjects(publishedCreatorCriteria(creator.getId()), pageable, false);
         return projectSearchResultDecorator.decorateCreatorResults(results, creator, true);
     }
 
+    public long countCreatorProjects(String userId) {
+        return mongoTemplate.count(new Query(publishedCreatorCriteria(userId)), Project.class);
+    }
+
     public Page<Project> getPrivilegedCreatorProjects(String userId, Pageable pageable) {
         User creator = userRepository.findById(userId).orElse(null);
         if (creator == null) {
@@ -73,6 +71,12 @@ public class ProjectListingQueryService {
         );
     }
 
+    private static Criteria publishedCreatorCriteria(String userId) {
+        return Criteria.where("authorId").is(userId)
+                .and("status").is(ProjectStatus.PUBLISHED)
+                .and("deletedAt").is(null);
+    }
+
     private Page<Project> findCreatorProjects(Criteria criteria, Pageable pageable, boolean includeManagementFields) {
         Query query = new Query(criteria);
         applyCreatorSummaryProjection(query, includeManagementFields);
@@ -0,0 +1,109 @@
+package net.modtale.service.project.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.modtale.model.project.Project;
+import net.modtale.service.user.account.UserProjectionCacheService;
+import net.modtale.service.user.account.UserProjectionCacheService.UserProjection;
+import net.modtale.util.MongoIdUtils;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Collects user and project id lookups while a response is being assembled and resolves them with at most one
+ * {@code $in} query per type when {@link Batch#dispatch()} is called.
+ */
+@Service
+public class ProjectRelationLoader {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserProjectionCacheService userProjectionCacheService;
+
+    public ProjectRelationLoader(MongoTemplate mongoTemplate, UserProjectionCacheService userProjectionCacheService) {
+        this.mongoTemplate = mongoTemplate;
+        this.userProjectionCacheService = userProjectionCacheService;
+    }
+
+    public Batch newBatch(boolean includeNonPublicProjects) {
+        return new Batch(includeNonPublicProjects);
+    }
+
+    public final class Batch {
+
+        private final boolean includeNonPublicProjects;
+        private final Map<String, List<Consumer<UserProjection>>> userCallbacks = new LinkedHashMap<>();
+        private final Map<String, List<Consumer<Project>>> projectCallbacks = new LinkedHashMap<>();
+
+        private Batch(boolean includeNonPublicProjects) {
+            this.includeNonPublicProjects = includeNonPublicProjects;
+        }
+
+        /**
+         * Registers a user lookup. The callback only runs if the user exists.
+         */
+        public Batch loadUser(String userId, Consumer<UserProjection> callback) {
+            if (userId != null && !userId.isBlank()) {
+                userCallbacks.computeIfAbsent(userId, ignored -> new ArrayList<>()).add(callback);
+            }
+            return this;
+        }
+
+        /**
+         * Registers a dependency project lookup. The callback receives {@code null} when the project is missing,
+         * deleted or not visible to the batch.
+         */
+        public Batch loadProject(String projectId, Consumer<Project> callback) {
+            if (projectId != null && !projectId.isBlank()) {
+                projectCallbacks.computeIfAbsent(projectId, ignored -> new ArrayList<>()).add(callback);
+            }
+            return this;
+        }
+
+        public void dispatch() {
+            if (!userCallbacks.isEmpty()) {
+                Map<String, UserProjection> users = userProjectionCacheService.getAll(userCallbacks.keySet());
+                userCallbacks.forEach((userId, callbacks) -> {
+                    UserProjection user = users.get(userId);
+                    if (user != null) {
+                        callbacks.forEach(callback -> callback.accept(user));
+                    }
+                });
+                userCallbacks.clear();
+            }
+
+            if (!projectCallbacks.isEmpty()) {
+                Map<String, Project> projects = findProjects();
+                projectCallbacks.forEach((projectId, callbacks) ->
+                        callbacks.forEach(callback -> callback.accept(projects.get(projectId))));
+                projectCallbacks.clear();
+            }
+        }
+
+        private Map<String, Project> findProjects() {
+            Criteria criteria = Criteria.where("_id").in(MongoIdUtils.expandIds(projectCallbacks.keySet()))
+                    .and("deletedAt").is(null);
+            if (!includeNonPublicProjects) {
+                criteria.and("status").in("PUBLISHED", "UNLISTED", "ARCHIVED");
+            }
+
+            Query query = Query.query(criteria);
+            query.fields()
+                    .include("_id")
+                    .include("slug")
+                    .include("title")
+                    .include("imageUrl")
+                    .include("classification")
+                    .include("status");
+
+            return mongoTemplate.find(query, Project.class).stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity(), (existing, replacement) -> existing));
+        }
+    }
+}
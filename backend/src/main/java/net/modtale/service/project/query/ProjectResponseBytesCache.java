@@ -0,0 +1,180 @@
+package net.modtale.service.project.query;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import net.modtale.config.properties.AppResponseCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Final response bytes for public project DTOs, keyed by DTO cache, route key and content encoding. A hit
+ * skips Jackson entirely, and its strong ETag lets conditional requests be answered without touching the
+ * body. Opt-in through {@code app.response-cache.enabled}; entries are evicted alongside the DTO caches by
+ * {@link ProjectCacheService}.
+ */
+@Service
+public class ProjectResponseBytesCache {
+
+    public static final String CACHE_NAME = "projectResponseBytes";
+
+    static final List<String> DTO_CACHES = List.of(
+            "projectDetailDtos",
+            "projectPageDtos",
+            "projectVersionDtos",
+            "projectGalleryDtos"
+    );
+
+    private static final String IDENTITY = "identity";
+    private static final String GZIP = "gzip";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final AppResponseCacheProperties properties;
+
+    public ProjectResponseBytesCache(
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            AppResponseCacheProperties properties
+    ) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Encoded response for the public DTO {@code loader} produces, or {@code null} when it produces none.
+     * Missing DTOs are not cached so a project that appears later is picked up straight away.
+     */
+    public EncodedResponse get(String dtoCache, String routeKey, String acceptEncoding, Supplier<?> loader) {
+        String encoding = properties.gzip() && acceptsGzip(acceptEncoding) ? GZIP : IDENTITY;
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        String key = key(dtoCache, routeKey, encoding);
+        EncodedResponse cached = cache != null ? cache.get(key, EncodedResponse.class) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        EncodedResponse encoded;
+        if (GZIP.equals(encoding)) {
+            EncodedResponse identity = get(dtoCache, routeKey, null, loader);
+            if (identity == null) {
+                return null;
+            }
+            encoded = identity.body().length < properties.gzipMinBytes()
+                    ? identity
+                    : new EncodedResponse(gzip(identity.body()), withSuffix(identity.etag(), "-gzip"), GZIP);
+        } else {
+            Object dto = loader.get();
+            if (dto == null) {
+                return null;
+            }
+            byte[] body = objectMapper.writeValueAsBytes(dto);
+            encoded = new EncodedResponse(body, etag(body), null);
+        }
+
+        if (cache != null) {
+            cache.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    /** Every key a route key may occupy, for eviction alongside the DTO caches. */
+    public static List<String> keysFor(String routeKey) {
+        List<String> keys = new ArrayList<>(DTO_CACHES.size() * 2);
+        for (String dtoCache : DTO_CACHES) {
+            keys.add(key(dtoCache, routeKey, IDENTITY));
+            keys.add(key(dtoCache, routeKey, GZIP));
+        }
+        return keys;
+    }
+
+    static String key(String dtoCache, String routeKey, String encoding) {
+        return dtoCache + "|public:" + routeKey + "|" + encoding;
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(parameter.substring(2)) <= 0;
+                    } catch (NumberFormatException ex) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is unavailable", e);
+        }
+    }
+
+    private static String withSuffix(String etag, String suffix) {
+        return etag.substring(0, etag.length() - 1) + suffix + "\"";
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** Serialized body with its strong ETag; {@code contentEncoding} is null for an uncompressed body. */
+    public record EncodedResponse(byte[] body, String etag, String contentEncoding) {
+
+        /** Weak comparison, as RFC 9110 specifies for {@code If-None-Match}. */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
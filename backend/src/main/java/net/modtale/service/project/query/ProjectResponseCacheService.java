@@ -32,26 +32,26 @@ public class ProjectResponseCacheService {
     private final ProjectService projectService;
     private final SearchService searchService;
     private final ProjectRepository projectRepository;
-    private final ProjectRouteService projectRouteService;
+    private final ProjectRouteResolver projectRouteResolver;
     private final MongoTemplate mongoTemplate;
 
     public ProjectResponseCacheService(
             ProjectService projectService,
             SearchService searchService,
             ProjectRepository projectRepository,
-            ProjectRouteService projectRouteService,
+            ProjectRouteResolver projectRouteResolver,
             MongoTemplate mongoTemplate
     ) {
         this.projectService = projectService;
         this.searchService = searchService;
         this.projectRepository = projectRepository;
-        this.projectRouteService = projectRouteService;
+        this.projectRouteResolver = projectRouteResolver;
         this.mongoTemplate = mongoTemplate;
     }
 
     @Cacheable(
             value = "projectSummarySearch",
-            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #classification, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource)",
+            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #classification, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource, #cursor, #exactTotal)",
             condition = "#viewCategory == null || !#viewCategory.personalView",
             sync = true
     )
@@ -68,7 +68,9 @@ public class ProjectResponseCacheService {
             ProjectViewCategory viewCategory,
             String dateRange,
             String authorId,
-            Boolean openSource
+            Boolean openSource,
+            String cursor,
+            boolean exactTotal
     ) {
         return searchService.searchProjects(
                 tags,
@@ -84,13 +86,15 @@ public class ProjectResponseCacheService {
                 dateRange,
                 authorId,
                 openSource,
+                cursor,
+                exactTotal,
                 null
         ).map(ProjectMapper::toSummaryDTO);
     }
 
     @Cacheable(
             value = "projectMarqueeSummarySearch",
-            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #classification, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource)",
+            key = "T(java.util.Arrays).asList(#tags, #search, #page, #size, #sortBy, #gameVersion, #classification, #minDownloads, #minFavorites, #viewCategory, #dateRange, #authorId, #openSource, #cursor, #exactTotal)",
             condition = "#viewCategory == null || !#viewCategory.personalView",
             sync = true
     )
@@ -107,7 +111,9 @@ public class ProjectResponseCacheService {
             ProjectViewCategory viewCategory,
             String dateRange,
             String authorId,
-            Boolean openSource
+            Boolean openSource,
+            String cursor,
+            boolean exactTotal
     ) {
         return searchService.searchProjectMarquee(
                 tags,
@@ -122,7 +128,9 @@ public class ProjectResponseCacheService {
                 viewCategory,
                 dateRange,
                 authorId,
-                openSource
+                openSource,
+                cursor,
+                exactTotal
         ).map(ProjectMapper::toMarqueeDTO);
     }
 
@@ -220,20 +228,9 @@ public class ProjectResponseCacheService {
     }
 
     private Project resolvePublicMetaByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project byId = projectRepository.findPublicMetaById(projectId).orElse(null);
-            if (byId != null) return byId;
-            return projectRepository.findPublicMetaBySlug(normalized).orElse(null);
-        }
-
-        Project bySlug = projectRepository.findPublicMetaBySlug(normalized).orElse(null);
-        if (bySlug != null) return bySlug;
-
-        return projectRepository.findPublicMetaById(normalized).orElse(null);
+        String projectId = projectRouteResolver.resolveProjectId(routeKey);
+        if (projectId == null) return null;
+        return projectRepository.findPublicMetaById(projectId).orElse(null);
     }
 
 }
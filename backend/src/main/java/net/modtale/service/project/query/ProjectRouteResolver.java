@@ -0,0 +1,87 @@
+package net.modtale.service.project.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import net.modtale.model.project.Project;
+import net.modtale.repository.project.ProjectRepository;
+import net.modtale.util.MongoIdUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maps a route key (id, slug, {@code title~id} handle or legacy UUID-suffixed handle) to a project id with
+ * one query over the id and slug indexes. Resolutions are cached by trimmed route key; unknown keys are
+ * cached briefly as well, so crawlers probing dead routes do not reach Mongo on every request.
+ */
+@Service
+public class ProjectRouteResolver {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectRouteService projectRouteService;
+
+    private final Cache<String, String> routes = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+    private final Cache<String, Boolean> misses = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    public ProjectRouteResolver(ProjectRepository projectRepository, ProjectRouteService projectRouteService) {
+        this.projectRepository = projectRepository;
+        this.projectRouteService = projectRouteService;
+    }
+
+    /** Id of the project the route key names, or {@code null} when none does. */
+    public String resolveProjectId(String routeKey) {
+        if (routeKey == null || routeKey.isBlank()) return null;
+
+        String normalized = routeKey.trim();
+        String cached = routes.getIfPresent(normalized);
+        if (cached != null) return cached;
+        if (misses.getIfPresent(normalized) != null) return null;
+
+        String projectId = lookup(normalized);
+        if (projectId == null) {
+            misses.put(normalized, Boolean.TRUE);
+        } else {
+            routes.put(normalized, projectId);
+        }
+        return projectId;
+    }
+
+    /** Drops every cached route to the project along with misses for its current keys. */
+    public void evict(Project project) {
+        if (project == null) return;
+        if (project.getId() != null) {
+            routes.asMap().values().removeIf(project.getId()::equals);
+        }
+        evict(project.getId(), project.getSlug(), projectRouteService.buildProjectHandle(project));
+    }
+
+    public void evict(String... routeKeys) {
+        for (String routeKey : routeKeys) {
+            if (routeKey == null || routeKey.isBlank()) continue;
+            String normalized = routeKey.trim();
+            routes.invalidate(normalized);
+            misses.invalidate(normalized);
+        }
+    }
+
+    private String lookup(String normalized) {
+        boolean explicitHandle = projectRouteService.hasExplicitProjectHandle(normalized);
+        String candidateId = explicitHandle ? projectRouteService.extractProjectId(normalized) : normalized;
+        List<Project> candidates = projectRepository.findRouteCandidates(MongoIdUtils.expandIds(List.of(candidateId)), normalized);
+
+        String byId = null;
+        String bySlug = null;
+        for (Project candidate : candidates) {
+            if (candidateId.equals(candidate.getId())) byId = candidate.getId();
+            if (normalized.equals(candidate.getSlug())) bySlug = candidate.getId();
+        }
+        // Explicit handles name an id first; bare keys are slugs first, matching how links are generated.
+        return explicitHandle ? (byId != null ? byId : bySlug) : (bySlug != null ? bySlug : byId);
+    }
+}
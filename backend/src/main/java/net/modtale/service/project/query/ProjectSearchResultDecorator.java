@@ -1,24 +1,18 @@
 package net.modtale.service.project.query;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import net.modtale.model.project.Project;
 import net.modtale.model.user.User;
-import net.modtale.repository.user.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ProjectSearchResultDecorator {
 
-    private final UserRepository userRepository;
+    private final ProjectRelationLoader projectRelationLoader;
 
-    public ProjectSearchResultDecorator(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public ProjectSearchResultDecorator(ProjectRelationLoader projectRelationLoader) {
+        this.projectRelationLoader = projectRelationLoader;
     }
 
     public Page<Project> decorateCatalogResults(Page<Project> results) {
@@ -48,27 +42,15 @@ public class ProjectSearchResultDecorator {
     }
 
     private void hydrateAuthors(List<Project> projects) {
-        Set<String> authorIds = projects.stream()
+        ProjectRelationLoader.Batch batch = projectRelationLoader.newBatch(false);
+        projects.stream()
                 .filter(project -> project.getAuthor() == null || project.getAuthor().isBlank())
-                .map(Project::getAuthorId)
-                .filter(id -> id != null && !id.isBlank())
-                .collect(Collectors.toSet());
-
-        if (authorIds.isEmpty()) {
-            return;
-        }
-
-        Map<String, String> usernamesById = new HashMap<>();
-        userRepository.findAllById(authorIds).forEach(user -> usernamesById.put(user.getId(), user.getUsername()));
-
-        projects.forEach(project -> {
-            if (project.getAuthor() == null && project.getAuthorId() != null) {
-                String username = usernamesById.get(project.getAuthorId());
-                if (username != null) {
-                    project.setAuthor(username);
-                }
-            }
-        });
+                .forEach(project -> batch.loadUser(project.getAuthorId(), author -> {
+                    if (author.username() != null) {
+                        project.setAuthor(author.username());
+                    }
+                }));
+        batch.dispatch();
     }
 
     private void sanitizeVersionResults(Project project) {
@@ -28,6 +28,10 @@ public class ProjectService {
         projectCacheService.evictProjectCache(project);
     }
 
+    public void evictProjectVersionCache(Project project) {
+        projectCacheService.evictProjectVersionCache(project);
+    }
+
     public void evictProjectDetailsCaches(Collection<Project> projects, Collection<String> fallbackProjectIds) {
         projectCacheService.evictProjectDetailsCaches(projects, fallbackProjectIds);
     }
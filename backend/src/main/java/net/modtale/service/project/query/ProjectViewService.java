@@ -1,50 +1,37 @@
 package net.modtale.service.project.query;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import net.modtale.model.dto.project.ProjectVersionChangelogDTO;
-import net.modtale.model.project.Comment;
 import net.modtale.model.project.Project;
-import net.modtale.model.project.ProjectDependency;
 import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
-import net.modtale.repository.user.UserRepository;
 import net.modtale.service.security.access.AccessControlService;
-import net.modtale.util.MongoIdUtils;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ProjectViewService {
 
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
-    private final MongoTemplate mongoTemplate;
     private final AccessControlService accessControlService;
-    private final ProjectRouteService projectRouteService;
+    private final ProjectRouteResolver projectRouteResolver;
+    private final ProjectRelationLoader projectRelationLoader;
 
     public ProjectViewService(
             ProjectRepository projectRepository,
-            UserRepository userRepository,
-            MongoTemplate mongoTemplate,
             AccessControlService accessControlService,
-            ProjectRouteService projectRouteService
+            ProjectRouteResolver projectRouteResolver,
+            ProjectRelationLoader projectRelationLoader
     ) {
         this.projectRepository = projectRepository;
-        this.userRepository = userRepository;
-        this.mongoTemplate = mongoTemplate;
         this.accessControlService = accessControlService;
-        this.projectRouteService = projectRouteService;
+        this.projectRouteResolver = projectRouteResolver;
+        this.projectRelationLoader = projectRelationLoader;
     }
 
     public Project getRawProjectById(String id) {
@@ -281,237 +268,89 @@ public class ProjectViewService {
     public Project getAdminProjectDetails(String id) {
         Project project = getRawProjectById(id);
         if (project == null) return null;
-        if (project.getAuthorId() != null) {
-            userRepository.findById(project.getAuthorId()).ifPresent(u -> project.setAuthor(u.getUsername()));
-        }
+        projectRelationLoader.newBatch(true)
+                .loadUser(project.getAuthorId(), author -> project.setAuthor(author.username()))
+                .dispatch();
         return project;
     }
 
     public Project getAdminProjectDetailsByRouteKey(String routeKey) {
         Project project = resolveProjectByRouteKey(routeKey);
         if (project == null) return null;
-        if (project.getAuthorId() != null) {
-            userRepository.findById(project.getAuthorId()).ifPresent(u -> project.setAuthor(u.getUsername()));
-        }
+        projectRelationLoader.newBatch(true)
+                .loadUser(project.getAuthorId(), author -> project.setAuthor(author.username()))
+                .dispatch();
         return project;
     }
 
     private Project resolveProjectByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = projectRepository.findById(projectId).orElse(null);
-            if (project != null) return project;
-            return projectRepository.findBySlug(normalized).orElse(null);
-        }
-
-        Project project = projectRepository.findBySlug(normalized).orElse(null);
-        if (project != null) return project;
-
-        return projectRepository.findById(normalized).orElse(null);
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findById);
     }
 
     private Project resolvePublicProjectByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = projectRepository.findPublicDetailById(projectId).orElse(null);
-            if (project != null) return project;
-            return projectRepository.findPublicDetailBySlug(normalized).orElse(null);
-        }
-
-        Project project = projectRepository.findPublicDetailBySlug(normalized).orElse(null);
-        if (project != null) return project;
-
-        return projectRepository.findPublicDetailById(normalized).orElse(null);
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicDetailById);
     }
 
     private Project resolvePublicProjectDetailsByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = projectRepository.findPublicDetailsPayloadById(projectId).orElse(null);
-            if (project != null) return project;
-            return projectRepository.findPublicDetailsPayloadBySlug(normalized).orElse(null);
-        }
-
-        Project route = projectRepository.findPublicRouteBySlug(normalized).orElse(null);
-        if (route != null && route.getId() != null) {
-            Project project = projectRepository.findPublicDetailsPayloadById(route.getId()).orElse(null);
-            if (project != null) return project;
-        }
-
-        return projectRepository.findPublicDetailsPayloadById(normalized).orElse(null);
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicDetailsPayloadById);
     }
 
     private Project resolveViewerProjectByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = projectRepository.findViewerDetailById(projectId).orElse(null);
-            if (project != null) return project;
-            return projectRepository.findViewerDetailBySlug(normalized).orElse(null);
-        }
-
-        Project project = projectRepository.findViewerDetailBySlug(normalized).orElse(null);
-        if (project != null) return project;
-
-        return projectRepository.findViewerDetailById(normalized).orElse(null);
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerDetailById);
     }
 
     private Project resolveViewerProjectDetailsByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = projectRepository.findViewerDetailsPayloadById(projectId).orElse(null);
-            if (project != null) return project;
-            return projectRepository.findViewerDetailsPayloadBySlug(normalized).orElse(null);
-        }
-
-        Project route = projectRepository.findPublicRouteBySlug(normalized).orElse(null);
-        if (route != null && route.getId() != null) {
-            Project project = projectRepository.findViewerDetailsPayloadById(route.getId()).orElse(null);
-            if (project != null) return project;
-        }
-
-        Project project = projectRepository.findViewerDetailsPayloadBySlug(normalized).orElse(null);
-        if (project != null) return project;
-
-        return projectRepository.findViewerDetailsPayloadById(normalized).orElse(null);
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerDetailsPayloadById);
     }
 
     private Project resolveChangelogProjectByRouteKey(String routeKey) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = projectRepository.findChangelogsById(projectId).orElse(null);
-            if (project != null) return project;
-            return projectRepository.findChangelogsBySlug(normalized).orElse(null);
-        }
-
-        Project route = projectRepository.findPublicRouteBySlug(normalized).orElse(null);
-        if (route != null && route.getId() != null) {
-            Project project = projectRepository.findChangelogsById(route.getId()).orElse(null);
-            if (project != null) return project;
-        }
-
-        Project project = projectRepository.findChangelogsBySlug(normalized).orElse(null);
-        if (project != null) return project;
-
-        return projectRepository.findChangelogsById(normalized).orElse(null);
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findChangelogsById);
     }
 
     private Project resolvePublicProjectPageShellByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findPublicPageShellById,
-                projectRepository::findPublicPageShellBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicPageShellById);
     }
 
     private Project resolveViewerProjectPageShellByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findViewerPageShellById,
-                projectRepository::findViewerPageShellBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerPageShellById);
     }
 
     private Project resolvePublicProjectVersionsByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findPublicVersionsById,
-                projectRepository::findPublicVersionsBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicVersionsById);
     }
 
     private Project resolveViewerProjectVersionsByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findViewerVersionsById,
-                projectRepository::findViewerVersionsBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerVersionsById);
     }
 
     private Project resolvePublicProjectCommentsByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findPublicCommentsById,
-                projectRepository::findPublicCommentsBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicCommentsById);
     }
 
     private Project resolveViewerProjectCommentsByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findViewerCommentsById,
-                projectRepository::findViewerCommentsBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerCommentsById);
     }
 
     private Project resolvePublicProjectGalleryByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findPublicGalleryById,
-                projectRepository::findPublicGalleryBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicGalleryById);
     }
 
     private Project resolveViewerProjectGalleryByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findViewerGalleryById,
-                projectRepository::findViewerGalleryBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerGalleryById);
     }
 
     private Project resolvePublicProjectTeamByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findPublicTeamById,
-                projectRepository::findPublicTeamBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findPublicTeamById);
     }
 
     private Project resolveViewerProjectTeamByRouteKey(String routeKey) {
-        return resolveProjectedProjectByRouteKey(
-                routeKey,
-                projectRepository::findViewerTeamById,
-                projectRepository::findViewerTeamBySlug
-        );
+        return resolveProjectedProjectByRouteKey(routeKey, projectRepository::findViewerTeamById);
     }
 
-    private Project resolveProjectedProjectByRouteKey(
-            String routeKey,
-            Function<String, Optional<Project>> byId,
-            Function<String, Optional<Project>> bySlug
-    ) {
-        if (routeKey == null || routeKey.isBlank()) return null;
-
-        String normalized = routeKey.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String projectId = projectRouteService.extractProjectId(normalized);
-            Project project = byId.apply(projectId).orElse(null);
-            if (project != null) return project;
-            return bySlug.apply(normalized).orElse(null);
-        }
-
-        Project project = bySlug.apply(normalized).orElse(null);
-        if (project != null) return project;
-
-        return byId.apply(normalized).orElse(null);
+    private Project resolveProjectedProjectByRouteKey(String routeKey, Function<String, Optional<Project>> byId) {
+        String projectId = projectRouteResolver.resolveProjectId(routeKey);
+        if (projectId == null) return null;
+        return byId.apply(projectId).orElse(null);
     }
 
     private ProjectAccess resolveAccess(Project project, User viewer) {
@@ -539,56 +378,46 @@ public class ProjectViewService {
     }
 
     private Project prepareProjectForViewer(Project project, User viewer, boolean privileged) {
-        populateAuthorName(project);
+        ProjectRelationLoader.Batch batch = projectRelationLoader.newBatch(privileged);
+        registerAuthorName(batch, project);
 
         if (project.getVersions() != null) {
             filterVisibleVersions(project, privileged);
-            populateDependencyMetadata(project, privileged);
+            registerDependencyMetadata(batch, project);
         }
 
         if (!project.isAllowComments() && !privileged) project.setComments(new ArrayList<>());
-        populateRelatedUsers(project);
+        registerRelatedUsers(batch, project);
 
+        batch.dispatch();
         return project;
     }
 
     private void populateDependencyMetadata(Project project, boolean privileged) {
-        if (project == null || project.getVersions() == null) return;
-
-        Set<String> dependencyIds = project.getVersions().stream()
-                .filter(version -> version.getDependencies() != null)
-                .flatMap(version -> version.getDependencies().stream())
-                .map(ProjectDependency::getModId)
-                .filter(id -> id != null && !id.isBlank())
-                .collect(Collectors.toSet());
-
-        if (dependencyIds.isEmpty()) {
-            return;
-        }
+        ProjectRelationLoader.Batch batch = projectRelationLoader.newBatch(privileged);
+        registerDependencyMetadata(batch, project);
+        batch.dispatch();
+    }
 
-        Criteria criteria = Criteria.where("_id").in(MongoIdUtils.expandIds(dependencyIds))
-                .and("deletedAt").is(null);
-        if (!privileged) {
-            criteria.and("status").in("PUBLISHED", "UNLISTED", "ARCHIVED");
-        }
+    private void populateAuthorName(Project project) {
+        ProjectRelationLoader.Batch batch = projectRelationLoader.newBatch(false);
+        registerAuthorName(batch, project);
+        batch.dispatch();
+    }
 
-        Query query = Query.query(criteria);
-        query.fields()
-                .include("_id")
-                .include("slug")
-                .include("title")
-                .include("imageUrl")
-                .include("classification")
-                .include("status");
+    private void populateRelatedUsers(Project project) {
+        ProjectRelationLoader.Batch batch = projectRelationLoader.newBatch(false);
+        registerRelatedUsers(batch, project);
+        batch.dispatch();
+    }
 
-        Map<String, Project> dependencyProjects = mongoTemplate.find(query, Project.class).stream()
-                .collect(Collectors.toMap(Project::getId, Function.identity(), (existing, replacement) -> existing));
+    private void registerDependencyMetadata(ProjectRelationLoader.Batch batch, Project project) {
+        if (project == null || project.getVersions() == null) return;
 
         project.getVersions().stream()
                 .filter(version -> version.getDependencies() != null)
                 .flatMap(version -> version.getDependencies().stream())
-                .forEach(dependency -> {
-                    Project dependencyProject = dependencyProjects.get(dependency.getModId());
+                .forEach(dependency -> batch.loadProject(dependency.getModId(), dependencyProject -> {
                     if (dependencyProject == null) {
                         dependency.setTitle(dependency.getModTitle());
                         return;
@@ -603,72 +432,27 @@ public class ProjectViewService {
                     dependency.setSlug(dependencyProject.getSlug() != null && !dependencyProject.getSlug().isBlank()
                             ? dependencyProject.getSlug()
                             : dependencyProject.getId());
-                });
+                }));
     }
 
-    private void populateAuthorName(Project project) {
+    private void registerAuthorName(ProjectRelationLoader.Batch batch, Project project) {
         if (project.getAuthorId() == null || (project.getAuthor() != null && !project.getAuthor().isBlank())) {
             return;
         }
 
-        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(List.of(project.getAuthorId()))));
-        query.fields().include("_id").include("username");
-        User author = mongoTemplate.findOne(query, User.class);
-        if (author != null) {
-            project.setAuthor(author.getUsername());
-        }
+        batch.loadUser(project.getAuthorId(), author -> project.setAuthor(author.username()));
     }
 
-    private void populateRelatedUsers(Project project) {
-        Set<String> userIdsToFetch = new HashSet<>();
-
-        if (project.getTeamMembers() != null) project.getTeamMembers().forEach(m -> userIdsToFetch.add(m.getUserId()));
-        if (project.getTeamInvites() != null) project.getTeamInvites().forEach(m -> userIdsToFetch.add(m.getUserId()));
-
-        if (project.getComments() != null) {
-            for (Comment c : project.getComments()) {
-                if (c.getUserId() != null) userIdsToFetch.add(c.getUserId());
-                if (c.getDeveloperReply() != null && c.getDeveloperReply().getUserId() != null) {
-                    userIdsToFetch.add(c.getDeveloperReply().getUserId());
-                }
-            }
-        }
-
-        if (userIdsToFetch.isEmpty()) {
-            return;
-        }
-
-        List<User> users = mongoTemplate.find(
-                relatedUserQuery(userIdsToFetch),
-                User.class
-        );
-
-        Map<String, User> userMapById = users.stream().collect(Collectors.toMap(User::getId, u -> u));
-
-        if (project.getTeamMembers() != null) {
-            project.getTeamMembers().forEach(m -> {
-                User u = userMapById.get(m.getUserId());
-                if (u != null) {
-                    m.setUsername(u.getUsername());
-                    m.setAvatarUrl(u.getAvatarUrl());
-                }
-            });
-        }
-        if (project.getTeamInvites() != null) {
-            project.getTeamInvites().forEach(m -> {
-                User u = userMapById.get(m.getUserId());
-                if (u != null) {
-                    m.setUsername(u.getUsername());
-                    m.setAvatarUrl(u.getAvatarUrl());
-                }
-            });
-        }
+    private void registerRelatedUsers(ProjectRelationLoader.Batch batch, Project project) {
+        if (project.getTeamMembers() != null) project.getTeamMembers().forEach(m -> registerMember(batch, m));
+        if (project.getTeamInvites() != null) project.getTeamInvites().forEach(m -> registerMember(batch, m));
     }
 
-    private Query relatedUserQuery(Set<String> userIdsToFetch) {
-        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(userIdsToFetch)));
-        query.fields().include("_id").include("username").include("avatarUrl");
-        return query;
+    private void registerMember(ProjectRelationLoader.Batch batch, Project.ProjectMember member) {
+        batch.loadUser(member.getUserId(), user -> {
+            member.setUsername(user.username());
+            member.setAvatarUrl(user.avatarUrl());
+        });
     }
 
     private record ProjectAccess(boolean privileged, boolean canRead) {
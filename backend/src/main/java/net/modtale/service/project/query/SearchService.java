@@ -38,6 +38,8 @@ public class SearchService {
             String dateRange,
             String authorId,
             Boolean openSource,
+            String cursor,
+            boolean exactTotal,
             User currentUser
     ) {
         return projectCatalogSearchService.searchProjects(
@@ -54,6 +56,8 @@ public class SearchService {
                 dateRange,
                 authorId,
                 openSource,
+                cursor,
+                exactTotal,
                 currentUser
         );
     }
@@ -71,7 +75,9 @@ public class SearchService {
             ProjectViewCategory viewCategory,
             String dateRange,
             String authorId,
-            Boolean openSource
+            Boolean openSource,
+            String cursor,
+            boolean exactTotal
     ) {
         return projectCatalogSearchService.searchProjectMarquee(
                 tags,
@@ -86,7 +92,9 @@ public class SearchService {
                 viewCategory,
                 dateRange,
                 authorId,
-                openSource
+                openSource,
+                cursor,
+                exactTotal
         );
     }
 
@@ -0,0 +1,266 @@
+package net.modtale.service.project.version;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.model.project.LatestVersionEntry;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.service.security.access.AccessControlService;
+import net.modtale.util.MongoIdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains {@code latest_versions}: for each publicly readable project, the newest approved version per
+ * (channel, game version). Version and status mutations request a resync through
+ * {@code ProjectCacheService.evictProjectVersionCache}, which rereads the project and rewrites its entries on the
+ * housekeeping lane; edits that touch neither leave the index alone.
+ */
+@Service
+public class LatestVersionIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatestVersionIndexService.class);
+    private static final Comparator<LatestVersionEntry> NEWEST_FIRST = Comparator
+            .comparing(LatestVersionEntry::getReleaseDate, Comparator.nullsFirst(String::compareTo))
+            .reversed()
+            .thenComparing(LatestVersionEntry::getChannel);
+
+    private final MongoTemplate mongoTemplate;
+    private final AccessControlService accessControlService;
+    private final Executor housekeepingExecutor;
+    private final Set<String> pendingSyncs = ConcurrentHashMap.newKeySet();
+    private final Set<String> refusedSyncs = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean backfillPending = new AtomicBoolean();
+
+    public LatestVersionIndexService(
+            MongoTemplate mongoTemplate,
+            AccessControlService accessControlService,
+            @Qualifier("housekeepingExecutor") Executor housekeepingExecutor
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.accessControlService = accessControlService;
+        this.housekeepingExecutor = housekeepingExecutor;
+    }
+
+    /**
+     * Queues one resync per project; requests that arrive while it is queued share it. Requests the lane refuses
+     * are kept and requeued by {@link #retryRefusedSyncs()}.
+     */
+    public void requestSync(String projectId) {
+        if (projectId == null || projectId.isBlank() || !pendingSyncs.add(projectId)) {
+            return;
+        }
+        boolean accepted = LaneExecutor.tryExecute(housekeepingExecutor, () -> {
+            pendingSyncs.remove(projectId);
+            try {
+                syncProject(projectId);
+            } catch (RuntimeException ex) {
+                logger.warn("Latest version index sync failed for project {}", projectId, ex);
+            }
+        });
+        if (accepted) {
+            refusedSyncs.remove(projectId);
+        } else {
+            pendingSyncs.remove(projectId);
+            refusedSyncs.add(projectId);
+            logger.warn("Housekeeping lane refused the latest version index sync for project {}; retrying later", projectId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.latest-versions.sync-retry-ms:60000}")
+    public void retryRefusedSyncs() {
+        for (String projectId : List.copyOf(refusedSyncs)) {
+            if (refusedSyncs.remove(projectId)) {
+                requestSync(projectId);
+            }
+        }
+    }
+
+    public void syncProject(String projectId) {
+        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(List.of(projectId))));
+        includeIndexedFields(query);
+        Project project = mongoTemplate.findOne(query, Project.class);
+        if (project == null) {
+            mongoTemplate.remove(new Query(Criteria.where("projectId").is(projectId)), LatestVersionEntry.class);
+            return;
+        }
+        writeEntries(project.getId(), toEntries(project));
+    }
+
+    /**
+     * Latest version per project for {@code gameVersion} across {@code channels} (release only when none are
+     * given), from one query. When several channels match, the most recent release wins and ties go to the more
+     * stable channel.
+     */
+    public Map<String, LatestVersionEntry> findLatest(
+            Collection<String> projectIds,
+            String gameVersion,
+            Collection<ProjectVersion.Channel> channels
+    ) {
+        Set<String> ids = new LinkedHashSet<>();
+        if (projectIds != null) {
+            projectIds.stream().filter(id -> id != null && !id.isBlank()).map(String::trim).forEach(ids::add);
+        }
+        if (ids.isEmpty() || gameVersion == null || gameVersion.isBlank()) {
+            return Map.of();
+        }
+        Set<ProjectVersion.Channel> allowedChannels = channels == null || channels.isEmpty()
+                ? EnumSet.of(ProjectVersion.Channel.RELEASE)
+                : EnumSet.copyOf(channels);
+
+        Query query = new Query(Criteria.where("projectId").in(ids)
+                .and("gameVersion").is(gameVersion.trim())
+                .and("channel").in(allowedChannels));
+        Map<String, LatestVersionEntry> newest = new LinkedHashMap<>();
+        for (LatestVersionEntry entry : mongoTemplate.find(query, LatestVersionEntry.class)) {
+            newest.merge(entry.getProjectId(), entry, (current, candidate) ->
+                    NEWEST_FIRST.compare(candidate, current) < 0 ? candidate : current);
+        }
+
+        Map<String, LatestVersionEntry> ordered = new LinkedHashMap<>();
+        for (String id : ids) {
+            LatestVersionEntry entry = newest.get(id);
+            if (entry != null) {
+                ordered.put(id, entry);
+            }
+        }
+        return ordered;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        boolean accepted = LaneExecutor.tryExecute(housekeepingExecutor, () -> {
+            try {
+                if (mongoTemplate.estimatedCount(LatestVersionEntry.class) > 0) {
+                    return;
+                }
+
+                Query query = new Query(Criteria.where("versions.0").exists(true).and("deletedAt").is(null));
+                includeIndexedFields(query);
+                query.cursorBatchSize(200);
+
+                int projects = 0;
+                try (Stream<Project> stream = mongoTemplate.stream(query, Project.class)) {
+                    for (Project project : (Iterable<Project>) stream::iterator) {
+                        List<LatestVersionEntry> entries = toEntries(project);
+                        if (!entries.isEmpty()) {
+                            writeEntries(project.getId(), entries);
+                            projects++;
+                        }
+                    }
+                }
+                logger.info("Backfilled the latest version index from {} projects.", projects);
+            } catch (RuntimeException ex) {
+                logger.warn("Latest version index backfill failed", ex);
+            }
+        });
+        backfillPending.set(!accepted);
+        if (!accepted) {
+            logger.warn("Housekeeping lane refused the latest version index backfill; retrying later");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.latest-versions.backfill-retry-ms:60000}")
+    public void retryRefusedBackfill() {
+        if (backfillPending.get()) {
+            backfillIfEmpty();
+        }
+    }
+
+    private void writeEntries(String projectId, List<LatestVersionEntry> entries) {
+        List<String> entryIds = entries.stream().map(LatestVersionEntry::getId).toList();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LatestVersionEntry.class);
+        bulkOps.remove(new Query(Criteria.where("projectId").is(projectId).and("_id").nin(entryIds)));
+        for (LatestVersionEntry entry : entries) {
+            bulkOps.replaceOne(
+                    new Query(Criteria.where("_id").is(entry.getId())),
+                    entry,
+                    FindAndReplaceOptions.options().upsert()
+            );
+        }
+        bulkOps.execute();
+    }
+
+    private static void includeIndexedFields(Query query) {
+        query.fields()
+                .include("_id")
+                .include("status")
+                .include("deletedAt")
+                .include("versions._id")
+                .include("versions.versionNumber")
+                .include("versions.gameVersions")
+                .include("versions.channel")
+                .include("versions.reviewStatus")
+                .include("versions.releaseDate")
+                .include("versions.fileUrl")
+                .include("versions.hash");
+    }
+
+    /** Versions are stored newest first, so the first approved version seen for a key is its latest. */
+    List<LatestVersionEntry> toEntries(Project project) {
+        Map<String, LatestVersionEntry> entries = new LinkedHashMap<>();
+        if (project.getDeletedAt() != null
+                || !accessControlService.isPubliclyReadable(project)
+                || project.getVersions() == null) {
+            return new ArrayList<>();
+        }
+
+        for (ProjectVersion version : project.getVersions()) {
+            if (version == null
+                    || version.getId() == null
+                    || version.getReviewStatus() != ProjectVersion.ReviewStatus.APPROVED
+                    || version.getGameVersions() == null) {
+                continue;
+            }
+            ProjectVersion.Channel channel = version.getChannel() != null ? version.getChannel() : ProjectVersion.Channel.RELEASE;
+            for (String gameVersion : version.getGameVersions()) {
+                if (gameVersion == null || gameVersion.isBlank()) continue;
+                String id = LatestVersionEntry.idFor(project.getId(), channel, gameVersion.trim());
+                entries.computeIfAbsent(id, ignored -> toEntry(id, project.getId(), channel, gameVersion.trim(), version));
+            }
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    private static LatestVersionEntry toEntry(
+            String id,
+            String projectId,
+            ProjectVersion.Channel channel,
+            String gameVersion,
+            ProjectVersion version
+    ) {
+        LatestVersionEntry entry = new LatestVersionEntry();
+        entry.setId(id);
+        entry.setProjectId(projectId);
+        entry.setChannel(channel);
+        entry.setGameVersion(gameVersion);
+        entry.setVersionId(version.getId());
+        entry.setVersionNumber(version.getVersionNumber());
+        entry.setReleaseDate(version.getReleaseDate());
+        entry.setFileUrl(version.getFileUrl());
+        entry.setHash(version.getHash());
+        return entry;
+    }
+}
@@ -1,7 +1,9 @@
 package net.modtale.service.project.version;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import net.modtale.exception.ResourceNotFoundException;
 import net.modtale.exception.VersionNotFoundException;
@@ -10,10 +12,13 @@ import net.modtale.model.dto.project.ManifestInspectionResult;
 import net.modtale.model.dto.project.ProjectDependencyDTO;
 import net.modtale.model.dto.project.ProjectVersionDTO;
 import net.modtale.model.dto.request.project.CreateVersionRequest;
+import net.modtale.model.dto.request.project.UpdateCheckRequest;
 import net.modtale.model.dto.request.project.UpdateVersionRequest;
 import net.modtale.model.dto.response.project.BundleDownloadUrlResponse;
 import net.modtale.model.dto.response.project.DownloadUrlResponse;
+import net.modtale.model.dto.response.project.UpdateCheckResponse;
 import net.modtale.model.dto.response.project.VersionDependenciesView;
+import net.modtale.model.dto.response.project.VersionHashLookupResponse;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectDependency;
 import net.modtale.model.project.ProjectVersion;
@@ -73,6 +78,24 @@ public class VersionApplicationService {
         return ProjectMapper.toVersionDTO(version);
     }
 
+    public VersionHashLookupResponse resolveVersionHashes(List<String> hashes) {
+        return new VersionHashLookupResponse(versionService.resolveVersionHashes(hashes));
+    }
+
+    public UpdateCheckResponse checkForUpdates(UpdateCheckRequest request) {
+        Map<String, UpdateCheckResponse.Update> updates = new LinkedHashMap<>();
+        versionService.findLatestVersions(request.getProjectIds(), request.getGameVersion(), request.getChannels())
+                .forEach((projectId, entry) -> updates.put(projectId, new UpdateCheckResponse.Update(
+                        entry.getVersionId(),
+                        entry.getVersionNumber(),
+                        entry.getChannel(),
+                        entry.getReleaseDate(),
+                        entry.getFileUrl(),
+                        entry.getHash()
+                )));
+        return new UpdateCheckResponse(updates);
+    }
+
     public void addVersion(String projectId, CreateVersionRequest requestPayload, User currentUser) {
         versionMutationApplicationService.addVersion(projectId, requestPayload, currentUser);
     }
@@ -10,6 +10,7 @@ import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectClassification;
 import net.modtale.service.security.validation.FileValidationService;
 import net.modtale.service.storage.StorageService;
+import net.modtale.util.MongoIdUtils;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -28,15 +29,18 @@ public class VersionArtifactService {
     private final StorageService storageService;
     private final FileValidationService fileValidationService;
     private final MongoTemplate mongoTemplate;
+    private final VersionHashLookupService versionHashLookupService;
 
     public VersionArtifactService(
             StorageService storageService,
             FileValidationService fileValidationService,
-            MongoTemplate mongoTemplate
+            MongoTemplate mongoTemplate,
+            VersionHashLookupService versionHashLookupService
     ) {
         this.storageService = storageService;
         this.fileValidationService = fileValidationService;
         this.mongoTemplate = mongoTemplate;
+        this.versionHashLookupService = versionHashLookupService;
     }
 
     public PreparedVersionArtifact prepareVersionArtifact(Project project, MultipartFile file) {
@@ -53,8 +57,7 @@ public class VersionArtifactService {
         if (file != null) {
             if (!isModpack) {
                 fileHash = calculateSha256(file);
-                Query duplicateQuery = new Query(Criteria.where("versions.hash").is(fileHash).and("deletedAt").is(null));
-                if (mongoTemplate.exists(duplicateQuery, Project.class)) {
+                if (isUploadedToLiveProject(fileHash)) {
                     throw new InvalidVersionRequestException("This file has already been uploaded to Modtale.");
                 }
             }
@@ -64,6 +67,15 @@ public class VersionArtifactService {
         return new PreparedVersionArtifact(effectiveClassification, filePath, fileHash);
     }
 
+    private boolean isUploadedToLiveProject(String fileHash) {
+        List<String> projectIds = versionHashLookupService.findProjectIds(fileHash);
+        if (projectIds.isEmpty()) {
+            return false;
+        }
+        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(projectIds)).and("deletedAt").is(null));
+        return mongoTemplate.exists(query, Project.class);
+    }
+
     private ProjectClassification resolveClassificationForUpload(Project project, MultipartFile file) {
         ProjectClassification current = project.getClassification();
         if (current == null || file == null || file.isEmpty()) return current;
@@ -102,7 +102,7 @@ public class VersionCreationCommandHandler {
                 : List.of();
         project.getVersions().add(0, version);
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         versionMutationOrchestrationService.enqueueInitialScan(project, version, file, modpack, preparedArtifact.filePath());
         replacedVersions.forEach(versionMutationOrchestrationService::deleteVersionFile);
     }
@@ -0,0 +1,277 @@
+package net.modtale.service.project.version;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectDependency;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ProjectVersionNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains {@code project_version_graph}, one node per project version holding its artifact pointers and
+ * forward dependency edges. The multikey index on {@code dependencies.projectId} serves reverse lookups and
+ * {@code hash_idx} serves {@link VersionHashLookupService}.
+ */
+@Service
+public class VersionDependencyGraphService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionDependencyGraphService.class);
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final VersionHashLookupService versionHashLookupService;
+
+    public VersionDependencyGraphService(MongoTemplate mongoTemplate, VersionHashLookupService versionHashLookupService) {
+        this.mongoTemplate = mongoTemplate;
+        this.versionHashLookupService = versionHashLookupService;
+    }
+
+    public void syncProject(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+
+        List<ProjectVersionNode> nodes = toNodes(project);
+        List<String> nodeIds = nodes.stream().map(ProjectVersionNode::getId).toList();
+        List<String> previousHashes = indexedHashes(project.getId());
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectVersionNode.class);
+        bulkOps.remove(new Query(Criteria.where("projectId").is(project.getId()).and("_id").nin(nodeIds)));
+        for (ProjectVersionNode node : nodes) {
+            bulkOps.replaceOne(
+                    new Query(Criteria.where("_id").is(node.getId())),
+                    node,
+                    FindAndReplaceOptions.options().upsert()
+            );
+        }
+        bulkOps.execute();
+        versionHashLookupService.evict(previousHashes);
+    }
+
+    /** Rereads the project's graph fields and resyncs its nodes, removing them once the project is gone. */
+    public void syncProject(String projectId) {
+        if (projectId == null || projectId.isBlank()) {
+            return;
+        }
+        Query query = new Query(Criteria.where("_id").is(projectId));
+        includeGraphFields(query);
+        Project project = mongoTemplate.findOne(query, Project.class);
+        if (project == null) {
+            removeProject(projectId);
+        } else {
+            syncProject(project);
+        }
+    }
+
+    public void removeProject(String projectId) {
+        if (projectId == null || projectId.isBlank()) {
+            return;
+        }
+        List<String> previousHashes = indexedHashes(projectId);
+        mongoTemplate.remove(new Query(Criteria.where("projectId").is(projectId)), ProjectVersionNode.class);
+        versionHashLookupService.evict(previousHashes);
+    }
+
+    private List<String> indexedHashes(String projectId) {
+        return mongoTemplate.findDistinct(
+                new Query(Criteria.where("projectId").is(projectId)),
+                "hash",
+                ProjectVersionNode.class,
+                String.class
+        );
+    }
+
+    public Optional<ProjectVersionNode> findVersion(String projectId, String versionNumber) {
+        if (projectId == null || versionNumber == null) {
+            return Optional.empty();
+        }
+        Query query = new Query(Criteria.where("projectId").is(projectId).and("versionNumber").is(versionNumber));
+        query.fields().exclude("dependencies");
+        return Optional.ofNullable(mongoTemplate.findOne(query, ProjectVersionNode.class));
+    }
+
+    public List<String> findDependentProjectIds(String projectId) {
+        if (projectId == null || projectId.isBlank()) {
+            return List.of();
+        }
+        return mongoTemplate.findDistinct(
+                new Query(Criteria.where("dependencies.projectId").is(projectId)),
+                "projectId",
+                ProjectVersionNode.class,
+                String.class
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (mongoTemplate.estimatedCount(ProjectVersionNode.class) > 0) {
+                return;
+            }
+
+            Query query = new Query(Criteria.where("versions.0").exists(true));
+            includeGraphFields(query);
+
+            int projects = 0;
+            try (Stream<Project> stream = mongoTemplate.stream(query, Project.class)) {
+                for (Project project : (Iterable<Project>) stream::iterator) {
+                    syncProject(project);
+                    projects++;
+                }
+            }
+            logger.info("Backfilled the project version graph from {} projects.", projects);
+        } catch (RuntimeException ex) {
+            logger.warn("Project version graph backfill failed", ex);
+        }
+    }
+
+    /**
+     * Safety net for nodes that drifted from their documents. Every version and status change resyncs through
+     * {@code ProjectCacheService.evictProjectVersionCache}; this only repairs syncs that failed or were skipped.
+     */
+    @Scheduled(
+            initialDelayString = "${app.version-graph.reconcile-initial-delay-ms:600000}",
+            fixedDelayString = "${app.version-graph.reconcile-ms:3600000}"
+    )
+    public void reconcile() {
+        try {
+            Query query = new Query();
+            includeGraphFields(query);
+
+            int checked = 0;
+            int repaired = 0;
+            List<Project> batch = new ArrayList<>(RECONCILE_BATCH_SIZE);
+            try (Stream<Project> stream = mongoTemplate.stream(query, Project.class)) {
+                for (Project project : (Iterable<Project>) stream::iterator) {
+                    batch.add(project);
+                    if (batch.size() == RECONCILE_BATCH_SIZE) {
+                        repaired += reconcileBatch(batch);
+                        checked += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                repaired += reconcileBatch(batch);
+                checked += batch.size();
+            }
+            if (repaired > 0) {
+                logger.info("Repaired the project version graph for {} of {} projects.", repaired, checked);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Project version graph reconciliation failed", ex);
+        }
+    }
+
+    int reconcileBatch(List<Project> projects) {
+        List<String> projectIds = projects.stream().map(Project::getId).toList();
+        Map<String, Set<String>> indexed = new HashMap<>();
+        for (ProjectVersionNode node : mongoTemplate.find(new Query(Criteria.where("projectId").in(projectIds)), ProjectVersionNode.class)) {
+            indexed.computeIfAbsent(node.getProjectId(), ignored -> new HashSet<>()).add(fingerprint(node));
+        }
+
+        int repaired = 0;
+        for (Project project : projects) {
+            Set<String> expected = toNodes(project).stream()
+                    .map(VersionDependencyGraphService::fingerprint)
+                    .collect(Collectors.toSet());
+            if (!expected.equals(indexed.getOrDefault(project.getId(), Set.of()))) {
+                syncProject(project);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    private static void includeGraphFields(Query query) {
+        query.fields()
+                .include("_id")
+                .include("classification")
+                .include("versions._id")
+                .include("versions.versionNumber")
+                .include("versions.fileUrl")
+                .include("versions.hash")
+                .include("versions.reviewStatus")
+                .include("versions.dependencies");
+        query.cursorBatchSize(RECONCILE_BATCH_SIZE);
+    }
+
+    private static String fingerprint(ProjectVersionNode node) {
+        StringBuilder fingerprint = new StringBuilder()
+                .append(node.getId()).append('|')
+                .append(node.getVersionNumber()).append('|')
+                .append(node.getFileUrl()).append('|')
+                .append(node.getHash()).append('|')
+                .append(node.getClassification()).append('|')
+                .append(node.getReviewStatus());
+        if (node.getDependencies() != null) {
+            for (ProjectVersionNode.Edge edge : node.getDependencies()) {
+                fingerprint.append('|').append(edge.getProjectId())
+                        .append(':').append(edge.getVersionNumber())
+                        .append(':').append(edge.isOptional())
+                        .append(':').append(edge.isEmbedded());
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    static List<ProjectVersionNode> toNodes(Project project) {
+        List<ProjectVersionNode> nodes = new ArrayList<>();
+        if (project.getVersions() == null) {
+            return nodes;
+        }
+
+        for (ProjectVersion version : project.getVersions()) {
+            if (version == null || version.getId() == null) continue;
+
+            ProjectVersionNode node = new ProjectVersionNode();
+            node.setId(ProjectVersionNode.nodeId(project.getId(), version.getId()));
+            node.setProjectId(project.getId());
+            node.setVersionId(version.getId());
+            node.setVersionNumber(version.getVersionNumber());
+            node.setFileUrl(version.getFileUrl());
+            node.setHash(version.getHash());
+            node.setClassification(project.getClassification());
+            node.setReviewStatus(version.getReviewStatus());
+            node.setDependencies(toEdges(version.getDependencies()));
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private static List<ProjectVersionNode.Edge> toEdges(Collection<ProjectDependency> dependencies) {
+        List<ProjectVersionNode.Edge> edges = new ArrayList<>();
+        if (dependencies == null) {
+            return edges;
+        }
+        for (ProjectDependency dependency : dependencies) {
+            if (dependency == null || dependency.getModId() == null) continue;
+            edges.add(new ProjectVersionNode.Edge(
+                    dependency.getModId(),
+                    dependency.getVersionNumber(),
+                    dependency.isOptional(),
+                    dependency.isEmbedded()
+            ));
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,164 @@
+package net.modtale.service.project.version;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import net.modtale.model.dto.response.project.VersionHashLookupResponse;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ProjectVersionNode;
+import net.modtale.service.security.access.AccessControlService;
+import net.modtale.util.MongoIdUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves artifact SHA-256 hashes through {@code hash_idx} on {@code project_version_graph}, so launchers can
+ * identify a whole modlist in one query. Only approved versions are indexed for lookup, and matches are
+ * returned only for projects that are publicly readable and not deleted, the same rule the latest-version index
+ * applies. Approved hits are kept in a small cache that the graph evicts on every sync, and every version or
+ * review change resyncs the graph through {@code ProjectCacheService.evictProjectVersionCache}; project
+ * readability is checked on every call so status changes apply at once.
+ */
+@Service
+public class VersionHashLookupService {
+
+    public static final String CACHE_NAME = "versionHashLookup";
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheManager cacheManager;
+    private final AccessControlService accessControlService;
+
+    public VersionHashLookupService(MongoTemplate mongoTemplate, CacheManager cacheManager, AccessControlService accessControlService) {
+        this.mongoTemplate = mongoTemplate;
+        this.cacheManager = cacheManager;
+        this.accessControlService = accessControlService;
+    }
+
+    public Optional<VersionHashLookupResponse.Match> find(String hash) {
+        String normalized = normalize(hash);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(resolve(List.of(normalized)).get(normalized));
+    }
+
+    /** Returns a match per known hash, keyed by the lowercased hash in request order; unknown hashes are left out. */
+    public Map<String, VersionHashLookupResponse.Match> resolve(Collection<String> hashes) {
+        Set<String> requested = new LinkedHashSet<>();
+        if (hashes != null) {
+            for (String hash : hashes) {
+                String normalized = normalize(hash);
+                if (normalized != null) {
+                    requested.add(normalized);
+                }
+            }
+        }
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        Map<String, VersionHashLookupResponse.Match> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String hash : requested) {
+            VersionHashLookupResponse.Match cached = cache != null ? cache.get(hash, VersionHashLookupResponse.Match.class) : null;
+            if (cached != null) {
+                found.put(hash, cached);
+            } else {
+                misses.add(hash);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Query query = new Query(Criteria.where("hash").in(misses).and("reviewStatus").is(ProjectVersion.ReviewStatus.APPROVED));
+            query.fields().include("projectId", "versionId", "versionNumber", "fileUrl", "hash");
+            for (ProjectVersionNode node : mongoTemplate.find(query, ProjectVersionNode.class)) {
+                VersionHashLookupResponse.Match match = new VersionHashLookupResponse.Match(
+                        node.getProjectId(),
+                        node.getVersionId(),
+                        node.getVersionNumber(),
+                        node.getFileUrl()
+                );
+                if (found.putIfAbsent(node.getHash(), match) == null && cache != null) {
+                    cache.put(node.getHash(), match);
+                }
+            }
+        }
+
+        Set<String> readable = readableProjectIds(found.values());
+        Map<String, VersionHashLookupResponse.Match> ordered = new LinkedHashMap<>();
+        for (String hash : requested) {
+            VersionHashLookupResponse.Match match = found.get(hash);
+            if (match != null && readable.contains(match.projectId())) {
+                ordered.put(hash, match);
+            }
+        }
+        return ordered;
+    }
+
+    private Set<String> readableProjectIds(Collection<VersionHashLookupResponse.Match> matches) {
+        Set<String> projectIds = new LinkedHashSet<>();
+        for (VersionHashLookupResponse.Match match : matches) {
+            projectIds.add(match.projectId());
+        }
+        if (projectIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(projectIds)));
+        query.fields().include("status", "deletedAt");
+        Set<String> readable = new HashSet<>();
+        for (Project project : mongoTemplate.find(query, Project.class)) {
+            if (project.getDeletedAt() == null && accessControlService.isPubliclyReadable(project)) {
+                readable.add(project.getId());
+            }
+        }
+        return readable;
+    }
+
+    /** Project ids currently holding {@code hash}, read from the index without the cache. */
+    public List<String> findProjectIds(String hash) {
+        String normalized = normalize(hash);
+        if (normalized == null) {
+            return List.of();
+        }
+        return mongoTemplate.findDistinct(
+                new Query(Criteria.where("hash").is(normalized)),
+                "projectId",
+                ProjectVersionNode.class,
+                String.class
+        );
+    }
+
+    public void evict(Collection<String> hashes) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || hashes == null) {
+            return;
+        }
+        for (String hash : hashes) {
+            String normalized = normalize(hash);
+            if (normalized != null) {
+                cache.evict(normalized);
+            }
+        }
+    }
+
+    private static String normalize(String hash) {
+        if (hash == null || hash.isBlank()) {
+            return null;
+        }
+        return hash.trim().toLowerCase(Locale.ROOT);
+    }
+}
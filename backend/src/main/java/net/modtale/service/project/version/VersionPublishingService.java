@@ -1,29 +1,214 @@
 package net.modtale.service.project.version;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.model.project.ReleaseSchedule;
 import net.modtale.service.project.lifecycle.ScheduledReleaseExecutionService;
 import net.modtale.service.project.lifecycle.ScheduledReleaseQueryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Publishes scheduled versions when they fall due. Every pending release has a row in
+ * {@code release_schedule}; rows due within the next hour are held in an in-process delay queue, so a
+ * release fires within a tick of its time. Each node claims a row with a short lease before publishing, so
+ * nodes holding the same row never both publish it. The periodic release check reloads the queue from the
+ * collection, which also picks up rows written by other nodes. Releases run on their own small lane so they
+ * never queue behind housekeeping work; one the lane turns away is re-armed a few seconds later.
+ */
 @Service
 public class VersionPublishingService {
 
+    private static final Logger logger = LoggerFactory.getLogger(VersionPublishingService.class);
+    static final Duration LEASE = Duration.ofMinutes(2);
+    static final Duration HORIZON = Duration.ofHours(1);
+    static final Duration REDISPATCH_DELAY = Duration.ofSeconds(5);
+
+    private final MongoTemplate mongoTemplate;
     private final ScheduledReleaseQueryService scheduledReleaseQueryService;
     private final ScheduledReleaseExecutionService scheduledReleaseExecutionService;
+    private final Executor releaseExecutor;
+
+    private final DelayQueue<PendingRelease> pending = new DelayQueue<>();
+    private final Set<PendingRelease> queued = ConcurrentHashMap.newKeySet();
 
     public VersionPublishingService(
+            MongoTemplate mongoTemplate,
             ScheduledReleaseQueryService scheduledReleaseQueryService,
-            ScheduledReleaseExecutionService scheduledReleaseExecutionService
+            ScheduledReleaseExecutionService scheduledReleaseExecutionService,
+            @Qualifier("releaseExecutor") Executor releaseExecutor
     ) {
+        this.mongoTemplate = mongoTemplate;
         this.scheduledReleaseQueryService = scheduledReleaseQueryService;
         this.scheduledReleaseExecutionService = scheduledReleaseExecutionService;
+        this.releaseExecutor = releaseExecutor;
+    }
+
+    public void schedule(String projectId, String versionId, LocalDateTime dueAt) {
+        String id = ReleaseSchedule.idFor(projectId, versionId);
+        mongoTemplate.upsert(
+                byId(id),
+                new Update()
+                        .set("projectId", projectId)
+                        .set("versionId", versionId)
+                        .set("dueAt", dueAt)
+                        .set("leaseUntil", null),
+                ReleaseSchedule.class
+        );
+        enqueue(id, dueAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSchedule() {
+        boolean accepted = LaneExecutor.tryExecute(releaseExecutor, () -> {
+            try {
+                seedFromProjects();
+                processScheduledReleases();
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to load the release schedule; the next release check will retry", ex);
+            }
+        });
+        if (!accepted) {
+            logger.warn("Release lane rejected the schedule load; the next release check will retry");
+        }
+    }
+
+    /** Adds rows for scheduled versions that predate the schedule collection, leaving existing rows alone. */
+    void seedFromProjects() {
+        List<ReleaseSchedule> scheduled = scheduledReleaseQueryService.findScheduledVersions();
+        if (scheduled.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReleaseSchedule.class);
+        for (ReleaseSchedule entry : scheduled) {
+            bulk.upsert(
+                    byId(entry.getId()),
+                    new Update()
+                            .setOnInsert("projectId", entry.getProjectId())
+                            .setOnInsert("versionId", entry.getVersionId())
+                            .setOnInsert("dueAt", entry.getDueAt())
+            );
+        }
+        bulk.execute();
     }
 
     @Scheduled(fixedDelayString = "${app.scheduler.release-check:900000}")
     public void processScheduledReleases() {
-        LocalDateTime publishTime = LocalDateTime.now();
-        scheduledReleaseQueryService.findProjectsWithReleasesDueAt(publishTime)
-                .forEach(project -> scheduledReleaseExecutionService.publishDueVersions(project, publishTime));
+        scheduledReleaseQueryService.findScheduleDueBefore(LocalDateTime.now().plus(HORIZON))
+                .forEach(entry -> enqueue(entry.getId(), entry.getDueAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.scheduler.release-tick-ms:1000}")
+    public void dispatchDueReleases() {
+        PendingRelease due;
+        while ((due = pending.poll()) != null) {
+            queued.remove(due);
+            String id = due.id();
+            if (!LaneExecutor.tryExecute(releaseExecutor, () -> release(id))) {
+                logger.warn("Release lane is saturated; retrying scheduled release {} shortly", id);
+                enqueue(id, LocalDateTime.now().plus(REDISPATCH_DELAY));
+                return;
+            }
+        }
+    }
+
+    boolean release(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        ReleaseSchedule entry = claim(id, now);
+        if (entry == null) {
+            return false;
+        }
+
+        try {
+            ScheduledReleaseExecutionService.ReleaseOutcome outcome =
+                    scheduledReleaseExecutionService.publishScheduledVersion(entry.getProjectId(), entry.getVersionId(), now);
+            if (outcome.rescheduledFor() != null) {
+                mongoTemplate.updateFirst(
+                        byId(id),
+                        new Update().set("dueAt", outcome.rescheduledFor()).set("leaseUntil", null),
+                        ReleaseSchedule.class
+                );
+                enqueue(id, outcome.rescheduledFor());
+            } else {
+                mongoTemplate.remove(byId(id), ReleaseSchedule.class);
+            }
+            return outcome.published();
+        } catch (RuntimeException ex) {
+            logger.warn("Scheduled release failed for project={} version={}", entry.getProjectId(), entry.getVersionId(), ex);
+            enqueue(id, now.plus(LEASE));
+            return false;
+        }
+    }
+
+    private ReleaseSchedule claim(String id, LocalDateTime now) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(id),
+                Criteria.where("dueAt").lte(now),
+                new Criteria().orOperator(
+                        Criteria.where("leaseUntil").is(null),
+                        Criteria.where("leaseUntil").lt(now)
+                )
+        ));
+
+        return mongoTemplate.findAndModify(
+                query,
+                new Update().set("leaseUntil", now.plus(LEASE)),
+                FindAndModifyOptions.options().returnNew(true),
+                ReleaseSchedule.class
+        );
+    }
+
+    private void enqueue(String id, LocalDateTime dueAt) {
+        if (dueAt == null || dueAt.isAfter(LocalDateTime.now().plus(HORIZON))) {
+            return;
+        }
+        PendingRelease release = new PendingRelease(id, dueAt);
+        if (queued.add(release)) {
+            pending.offer(release);
+        }
+    }
+
+    boolean isQueued(String id) {
+        return queued.stream().anyMatch(release -> release.id().equals(id));
+    }
+
+    private static Query byId(String id) {
+        return new Query(Criteria.where("_id").is(id));
+    }
+
+    record PendingRelease(String id, LocalDateTime dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), dueAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof PendingRelease release) {
+                return dueAt.compareTo(release.dueAt);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
     }
 }
@@ -1,13 +1,19 @@
 package net.modtale.service.project.version;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import net.modtale.exception.InvalidVersionRequestException;
 import net.modtale.exception.VersionNotFoundException;
 import net.modtale.model.dto.project.ManifestInspectionResult;
+import net.modtale.model.dto.response.project.VersionHashLookupResponse;
+import net.modtale.model.project.LatestVersionEntry;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanReport;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.project.access.ProjectAccessService;
@@ -15,6 +21,7 @@ import net.modtale.service.project.access.ProjectMutationGuard;
 import net.modtale.service.project.access.ProjectVersionAccessService;
 import net.modtale.service.project.lifecycle.ProjectDeletionService;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.util.MongoIdUtils;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -34,6 +41,8 @@ public class VersionService {
     private final ProjectDeletionService projectDeletionService;
     private final VersionCreationCommandHandler versionCreationCommandHandler;
     private final VersionUpdateCommandHandler versionUpdateCommandHandler;
+    private final VersionHashLookupService versionHashLookupService;
+    private final LatestVersionIndexService latestVersionIndexService;
 
     public VersionService(
             ProjectRepository projectRepository,
@@ -45,7 +54,9 @@ public class VersionService {
             VersionManifestService versionManifestService,
             ProjectDeletionService projectDeletionService,
             VersionCreationCommandHandler versionCreationCommandHandler,
-            VersionUpdateCommandHandler versionUpdateCommandHandler
+            VersionUpdateCommandHandler versionUpdateCommandHandler,
+            VersionHashLookupService versionHashLookupService,
+            LatestVersionIndexService latestVersionIndexService
     ) {
         this.projectRepository = projectRepository;
         this.projectService = projectService;
@@ -57,6 +68,8 @@ public class VersionService {
         this.projectDeletionService = projectDeletionService;
         this.versionCreationCommandHandler = versionCreationCommandHandler;
         this.versionUpdateCommandHandler = versionUpdateCommandHandler;
+        this.versionHashLookupService = versionHashLookupService;
+        this.latestVersionIndexService = latestVersionIndexService;
     }
 
     public ProjectVersion findVersion(Project pack, String versionNumber) {
@@ -74,12 +87,29 @@ public class VersionService {
     }
 
     public Optional<ProjectVersion> getVersionByHash(String hash) {
-        Query query = new Query(Criteria.where("versions.hash").is(hash));
+        Optional<VersionHashLookupResponse.Match> match = versionHashLookupService.find(hash);
+        if (match.isEmpty()) {
+            return Optional.empty();
+        }
+        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(List.of(match.get().projectId())))
+                .and("versions.hash").is(hash.trim().toLowerCase(Locale.ROOT)));
         query.fields().include("versions.$");
         Project project = mongoTemplate.findOne(query, Project.class);
         return project != null && !project.getVersions().isEmpty() ? Optional.of(project.getVersions().get(0)) : Optional.empty();
     }
 
+    public Map<String, VersionHashLookupResponse.Match> resolveVersionHashes(Collection<String> hashes) {
+        return versionHashLookupService.resolve(hashes);
+    }
+
+    public Map<String, LatestVersionEntry> findLatestVersions(
+            Collection<String> projectIds,
+            String gameVersion,
+            Collection<ProjectVersion.Channel> channels
+    ) {
+        return latestVersionIndexService.findLatest(projectIds, gameVersion, channels);
+    }
+
     public void updateVersion(
             String id,
             String versionId,
@@ -129,7 +159,8 @@ public class VersionService {
         projectDeletionService.deleteVersionFile(version);
         project.getVersions().removeIf(existing -> existing.getId().equals(versionId));
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        mongoTemplate.remove(new Query(Criteria.where("projectId").is(project.getId()).and("versionId").is(versionId)), ScanReport.class);
+        projectService.evictProjectVersionCache(project);
     }
 
 }
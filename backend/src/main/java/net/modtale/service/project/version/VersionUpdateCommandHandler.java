@@ -88,6 +88,6 @@ public class VersionUpdateCommandHandler {
         }
 
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
     }
 }
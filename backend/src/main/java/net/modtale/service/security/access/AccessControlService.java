@@ -1,12 +1,12 @@
 package net.modtale.service.security.access;
 
 import java.util.List;
-import java.util.Set;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.user.ApiKey;
 import net.modtale.model.user.AdminPermission;
 import net.modtale.model.user.User;
+import net.modtale.model.user.UserPrincipalSnapshot;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.user.account.AccountService;
 import net.modtale.util.MongoIdUtils;
@@ -42,13 +42,15 @@ public class AccessControlService {
     }
 
     public boolean isAdmin(Authentication authentication) {
-        return isAdmin(accountService.getCurrentUser(authentication));
+        UserPrincipalSnapshot principal = accountService.getCurrentPrincipal(authentication);
+        return principal != null && principal.hasAnyAdminPermission();
     }
 
     public boolean hasAdminPermission(String permission, Authentication authentication) {
         if (isApiKey(authentication)) return false;
         AdminPermission adminPermission = parseAdminPermission(permission);
-        return adminPermission != null && hasAdminPermission(accountService.getCurrentUser(authentication), adminPermission);
+        UserPrincipalSnapshot principal = adminPermission != null ? accountService.getCurrentPrincipal(authentication) : null;
+        return principal != null && principal.hasAdminPermission(adminPermission);
     }
 
     public boolean hasAdminPermission(User user, AdminPermission permission) {
@@ -56,7 +58,11 @@ public class AccessControlService {
     }
 
     public boolean canViewPrivilegedProjectData(User user) {
-        return hasAnyAdminPermission(user,
+        return principalCanViewPrivilegedProjectData(UserPrincipalSnapshot.of(user));
+    }
+
+    private boolean principalCanViewPrivilegedProjectData(UserPrincipalSnapshot principal) {
+        return hasAnyAdminPermission(principal,
                 AdminPermission.PROJECT_REVIEW_READ,
                 AdminPermission.PROJECT_MANAGE_READ,
                 AdminPermission.PROJECT_MODERATE,
@@ -76,12 +82,12 @@ public class AccessControlService {
         if (isApiKey(authentication)) {
             return hasApiKeyScope(authentication, "PERSONAL", perm);
         }
-        return accountService.getCurrentUser(authentication) != null;
+        return accountService.getCurrentPrincipal(authentication) != null;
     }
 
     public boolean hasPersonalPerm(String permStr, Authentication authentication) {
-        User user = accountService.getCurrentUser(authentication);
-        if (user == null) return false;
+        UserPrincipalSnapshot principal = accountService.getCurrentPrincipal(authentication);
+        if (principal == null) return false;
         if (isApiKey(authentication)) {
             return hasApiKeyScope(authentication, "PERSONAL", permStr);
         }
@@ -96,30 +102,30 @@ public class AccessControlService {
     }
 
     public boolean hasOrgPerm(String orgId, String permStr, Authentication authentication) {
-        User user = accountService.getCurrentUser(authentication);
-        if (user == null) return false;
+        UserPrincipalSnapshot principal = accountService.getCurrentPrincipal(authentication);
+        if (principal == null) return false;
         if (isApiKey(authentication)) {
             return hasApiKeyScope(authentication, orgId, permStr);
         }
-        if (hasAdminPermission(user, AdminPermission.USER_PERMISSION_MANAGE)) return true;
+        if (principal.hasAdminPermission(AdminPermission.USER_PERMISSION_MANAGE)) return true;
 
         User org = userRepository.findById(orgId).orElse(null);
         if (org == null) return false;
 
         try {
             ApiKey.ApiPermission perm = ApiKey.ApiPermission.valueOf(permStr);
-            return hasOrgPermission(org, user.getId(), perm);
+            return hasOrgPermission(org, principal.id(), perm);
         } catch (IllegalArgumentException e) {
             return false;
         }
     }
 
     public boolean hasCreateProjectPerm(String ownerId, Authentication authentication) {
-        User user = accountService.getCurrentUser(authentication);
-        if (user == null) return false;
+        UserPrincipalSnapshot principal = accountService.getCurrentPrincipal(authentication);
+        if (principal == null) return false;
 
         if (isApiKey(authentication)) {
-            if (ownerId == null || ownerId.isEmpty() || ownerId.equals(user.getId())) {
+            if (ownerId == null || ownerId.isEmpty() || ownerId.equals(principal.id())) {
                 return hasApiKeyScope(authentication, "PERSONAL", ApiKey.ApiPermission.PROJECT_CREATE.name());
             }
 
@@ -127,15 +133,15 @@ public class AccessControlService {
             return org != null
                     && org.getAccountType() == User.AccountType.ORGANIZATION
                     && hasApiKeyScope(authentication, ownerId, ApiKey.ApiPermission.PROJECT_CREATE.name())
-                    && hasOrgProjectManagementAccess(org, user.getId());
+                    && hasOrgProjectManagementAccess(org, principal.id());
         }
 
-        if (hasAdminPermission(user, AdminPermission.PROJECT_MODERATE)) return true;
-        if (ownerId == null || ownerId.isEmpty() || ownerId.equals(user.getId())) return true;
+        if (principal.hasAdminPermission(AdminPermission.PROJECT_MODERATE)) return true;
+        if (ownerId == null || ownerId.isEmpty() || ownerId.equals(principal.id())) return true;
         User org = userRepository.findById(ownerId).orElse(null);
         if (org == null || org.getAccountType() != User.AccountType.ORGANIZATION) return false;
 
-        return hasOrgProjectManagementAccess(org, user.getId());
+        return hasOrgProjectManagementAccess(org, principal.id());
     }
 
     public boolean hasProjectPerm(String projectId, String permStr, Authentication authentication) {
@@ -147,20 +153,20 @@ public class AccessControlService {
             return hasApiKeyProjectScope(project, projectId, permStr, authentication);
         }
 
-        User user = accountService.getCurrentUser(authentication);
+        UserPrincipalSnapshot principal = accountService.getCurrentPrincipal(authentication);
         if (isProjectReadPermission(permStr)) {
             return project == null
                     || isPubliclyReadable(project)
-                    || canViewPrivilegedProjectData(user)
-                    || hasProjectPermission(project, user, permStr);
+                    || principalCanViewPrivilegedProjectData(principal)
+                    || principalHasProjectPermission(project, principal, parsePermission(permStr));
         }
 
         if (project == null) return true;
 
-        if (user == null) return false;
-        if (hasAdminProjectPermissionOverride(user, permStr)) return true;
+        if (principal == null) return false;
+        if (hasAdminProjectPermissionOverride(principal, permStr)) return true;
 
-        return hasProjectPermission(project, user, permStr);
+        return principalHasProjectPermission(project, principal, parsePermission(permStr));
     }
 
     public boolean canReadProject(Project project, User user) {
@@ -202,26 +208,30 @@ public class AccessControlService {
     }
 
     public boolean hasProjectPermission(Project project, User user, ApiKey.ApiPermission perm) {
-        if (perm == null) return false;
+        return principalHasProjectPermission(project, UserPrincipalSnapshot.of(user), perm);
+    }
+
+    private boolean principalHasProjectPermission(Project project, UserPrincipalSnapshot principal, ApiKey.ApiPermission perm) {
+        if (perm == null || principal == null) return false;
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (isApiKeyAuthenticationForUser(authentication, user)) {
+        if (isApiKeyAuthenticationForUser(authentication, principal.id())) {
             return hasApiKeyProjectScope(project, project != null ? project.getId() : null, perm.name(), authentication);
         }
-        return hasProjectPermission(project, user, perm, findAuthorForPermission(project != null ? project.getAuthorId() : null));
+        return hasProjectPermission(project, principal.id(), perm, findAuthorForPermission(project != null ? project.getAuthorId() : null));
     }
 
-    private boolean hasProjectPermission(Project project, User user, ApiKey.ApiPermission perm, User authorUser) {
-        if (project == null || user == null) return false;
-        if (project.getAuthorId() != null && project.getAuthorId().equals(user.getId())) return true;
+    private boolean hasProjectPermission(Project project, String userId, ApiKey.ApiPermission perm, User authorUser) {
+        if (project == null || userId == null) return false;
+        if (project.getAuthorId() != null && project.getAuthorId().equals(userId)) return true;
 
         if (authorUser != null && authorUser.getAccountType() == User.AccountType.ORGANIZATION) {
-            if (hasOrgPermission(authorUser, user.getId(), perm)) return true;
-            if (hasOrgProjectManagementAccess(authorUser, user.getId())) return true;
+            if (hasOrgPermission(authorUser, userId, perm)) return true;
+            if (hasOrgProjectManagementAccess(authorUser, userId)) return true;
         }
 
         if (project.getTeamMembers() != null) {
             Project.ProjectMember member = project.getTeamMembers().stream()
-                    .filter(m -> m.getUserId().equals(user.getId())).findFirst().orElse(null);
+                    .filter(m -> m.getUserId().equals(userId)).findFirst().orElse(null);
 
             if (member != null && member.getRoleId() != null && project.getProjectRoles() != null) {
                 Project.ProjectRole role = project.getProjectRoles().stream()
@@ -239,7 +249,7 @@ public class AccessControlService {
         if (project == null || user == null) return false;
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (isApiKeyAuthenticationForUser(authentication, user)) {
+        if (isApiKeyAuthenticationForUser(authentication, user.getId())) {
             return hasApiKeyProjectScope(
                     project,
                     project.getId(),
@@ -256,7 +266,7 @@ public class AccessControlService {
                 && hasOrgProjectManagementAccess(authorUser, user.getId())) {
             return true;
         }
-        return hasProjectPermission(project, user, ApiKey.ApiPermission.PROJECT_EDIT_METADATA, authorUser);
+        return hasProjectPermission(project, user.getId(), ApiKey.ApiPermission.PROJECT_EDIT_METADATA, authorUser);
     }
 
     public boolean isOwner(Project project, User user) {
@@ -320,8 +330,8 @@ public class AccessControlService {
                 return true;
             }
 
-            User user = accountService.getCurrentUser(authentication);
-            if (user != null && project.getAuthorId() != null && project.getAuthorId().equals(user.getId())) {
+            UserPrincipalSnapshot principal = accountService.getCurrentPrincipal(authentication);
+            if (principal != null && project.getAuthorId() != null && project.getAuthorId().equals(principal.id())) {
                 return hasApiKeyScope(authentication, "PERSONAL", permStr);
             }
 
@@ -344,14 +354,14 @@ public class AccessControlService {
                 .anyMatch(authority -> expectedAuthority.equals(authority.getAuthority()));
     }
 
-    private boolean isApiKeyAuthenticationForUser(Authentication authentication, User user) {
-        if (!isApiKey(authentication) || user == null || user.getId() == null) {
+    private boolean isApiKeyAuthenticationForUser(Authentication authentication, String userId) {
+        if (!isApiKey(authentication) || userId == null) {
             return false;
         }
 
         Object principal = authentication.getPrincipal();
         return principal instanceof User authenticatedUser
-                && user.getId().equals(authenticatedUser.getId());
+                && userId.equals(authenticatedUser.getId());
     }
 
     private boolean isProjectReadPermission(String permStr) {
@@ -364,24 +374,23 @@ public class AccessControlService {
                 || "ORG_READ".equals(permStr);
     }
 
-    private boolean hasAnyAdminPermission(User user, AdminPermission... permissions) {
-        if (user == null || permissions == null) return false;
-        Set<AdminPermission> effectivePermissions = AdminPermission.effectivePermissions(user);
+    private boolean hasAnyAdminPermission(UserPrincipalSnapshot principal, AdminPermission... permissions) {
+        if (principal == null || permissions == null) return false;
         for (AdminPermission permission : permissions) {
-            if (effectivePermissions.contains(permission)) {
+            if (principal.hasAdminPermission(permission)) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean hasAdminProjectPermissionOverride(User user, String permStr) {
-        if (user == null || permStr == null) return false;
+    private boolean hasAdminProjectPermissionOverride(UserPrincipalSnapshot principal, String permStr) {
+        if (principal == null || permStr == null) return false;
 
         return switch (permStr) {
-            case "PROJECT_READ", "VERSION_READ" -> canViewPrivilegedProjectData(user);
+            case "PROJECT_READ", "VERSION_READ" -> principalCanViewPrivilegedProjectData(principal);
             case "PROJECT_STATUS_PUBLISH" -> hasAnyAdminPermission(
-                    user,
+                    principal,
                     AdminPermission.PROJECT_REVIEW_DECIDE,
                     AdminPermission.PROJECT_MODERATE
             );
@@ -395,9 +404,9 @@ public class AccessControlService {
                     "PROJECT_GALLERY_ADD",
                     "PROJECT_GALLERY_REMOVE",
                     "VERSION_CREATE",
-                    "VERSION_EDIT" -> hasAdminPermission(user, AdminPermission.PROJECT_MODERATE);
-            case "PROJECT_DELETE" -> hasAdminPermission(user, AdminPermission.PROJECT_DELETE);
-            case "VERSION_DELETE" -> hasAdminPermission(user, AdminPermission.PROJECT_VERSION_DELETE);
+                    "VERSION_EDIT" -> principal.hasAdminPermission(AdminPermission.PROJECT_MODERATE);
+            case "PROJECT_DELETE" -> principal.hasAdminPermission(AdminPermission.PROJECT_DELETE);
+            case "VERSION_DELETE" -> principal.hasAdminPermission(AdminPermission.PROJECT_VERSION_DELETE);
             default -> false;
         };
     }
@@ -2,7 +2,7 @@ package net.modtale.service.security.access;
 
 import net.modtale.model.project.Project;
 import net.modtale.repository.project.ProjectRepository;
-import net.modtale.service.project.query.ProjectRouteService;
+import net.modtale.service.project.query.ProjectRouteResolver;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -10,28 +10,17 @@ import org.springframework.stereotype.Service;
 public class PermissionProjectLookupService {
 
     private final ProjectRepository projectRepository;
-    private final ProjectRouteService projectRouteService;
+    private final ProjectRouteResolver projectRouteResolver;
 
-    public PermissionProjectLookupService(ProjectRepository projectRepository, ProjectRouteService projectRouteService) {
+    public PermissionProjectLookupService(ProjectRepository projectRepository, ProjectRouteResolver projectRouteResolver) {
         this.projectRepository = projectRepository;
-        this.projectRouteService = projectRouteService;
+        this.projectRouteResolver = projectRouteResolver;
     }
 
     @Cacheable(value = "projectPermissionSnapshots", key = "#projectId", unless = "#result == null")
     public Project findProject(String projectId) {
-        if (projectId == null || projectId.isBlank()) return null;
-
-        String normalized = projectId.trim();
-        if (projectRouteService.hasExplicitProjectHandle(normalized)) {
-            String extractedId = projectRouteService.extractProjectId(normalized);
-            Project byId = projectRepository.findPermissionSnapshotById(extractedId).orElse(null);
-            if (byId != null) return byId;
-            return projectRepository.findPermissionSnapshotBySlug(normalized).orElse(null);
-        }
-
-        Project bySlug = projectRepository.findPermissionSnapshotBySlug(normalized).orElse(null);
-        if (bySlug != null) return bySlug;
-
-        return projectRepository.findPermissionSnapshotById(normalized).orElse(null);
+        String resolvedId = projectRouteResolver.resolveProjectId(projectId);
+        if (resolvedId == null) return null;
+        return projectRepository.findPermissionSnapshotById(resolvedId).orElse(null);
     }
 }
@@ -97,6 +97,8 @@ public class SecurityIssueAnalysisService {
         }
     }
 
+    public record IssueFingerprints(String exact, String loose) {}
+
     public record BaselineIndex(
             Map<String, IssueBaseline> exact,
             Map<String, IssueBaseline> loose
@@ -9,15 +9,21 @@ import java.util.List;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.project.ScanResult;
+import net.modtale.service.security.scan.ScanReportService;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SecurityIssueApprovalService {
 
     private final SecurityIssueClassificationService securityIssueClassificationService;
+    private final ScanReportService scanReportService;
 
-    public SecurityIssueApprovalService(SecurityIssueClassificationService securityIssueClassificationService) {
+    public SecurityIssueApprovalService(
+            SecurityIssueClassificationService securityIssueClassificationService,
+            ScanReportService scanReportService
+    ) {
         this.securityIssueClassificationService = securityIssueClassificationService;
+        this.scanReportService = scanReportService;
     }
 
     public void markIssuesAcceptedForApprovedVersion(ProjectVersion version) {
@@ -31,8 +37,9 @@ public class SecurityIssueApprovalService {
 
         for (ScanResult.ScanIssue issue : issues) {
             if (issue == null) continue;
-            String fingerprint = securityIssueClassificationService.fingerprint(issue);
-            String looseFingerprint = securityIssueClassificationService.looseFingerprint(issue);
+            SecurityIssueAnalysisService.IssueFingerprints fingerprints = securityIssueClassificationService.fingerprints(issue);
+            String fingerprint = fingerprints.exact();
+            String looseFingerprint = fingerprints.loose();
             String severity = securityIssueClassificationService.normalizeSeverity(issue.getSeverity());
 
             issue.setFingerprint(fingerprint);
@@ -71,17 +78,19 @@ public class SecurityIssueApprovalService {
             return 0;
         }
 
-        int pruned = 0;
-        for (ProjectVersion version : project.getVersions()) {
-            if (version == null
-                    || version.getReviewStatus() != ProjectVersion.ReviewStatus.APPROVED
-                    || version.getScanResult() == null) {
-                continue;
-            }
-            markIssuesAcceptedForApprovedVersion(version);
-            pruned++;
+        List<ProjectVersion> approved = project.getVersions().stream()
+                .filter(version -> version != null
+                        && version.getReviewStatus() == ProjectVersion.ReviewStatus.APPROVED
+                        && version.getScanResult() != null)
+                .toList();
+        if (approved.isEmpty()) {
+            return 0;
         }
-        return pruned;
+
+        // Baselines are built from the full issue list, which versions only carry as a stub.
+        scanReportService.loadDetails(project.getId(), approved);
+        approved.forEach(this::markIssuesAcceptedForApprovedVersion);
+        return approved.size();
     }
 
     private long approvedAt(ProjectVersion version) {
@@ -52,8 +52,9 @@ final class SecurityIssueBaselineService {
                     continue;
                 }
 
-                String fingerprint = evaluationService.fingerprint(issue);
-                String looseFingerprint = evaluationService.looseFingerprint(issue);
+                SecurityIssueAnalysisService.IssueFingerprints fingerprints = evaluationService.fingerprints(issue);
+                String fingerprint = fingerprints.exact();
+                String looseFingerprint = fingerprints.loose();
 
                 SecurityIssueAnalysisService.IssueBaseline candidate = new SecurityIssueAnalysisService.IssueBaseline(
                         fingerprint,
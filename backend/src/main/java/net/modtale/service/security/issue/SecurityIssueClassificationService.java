@@ -33,6 +33,10 @@ public class SecurityIssueClassificationService {
         evaluationService.normalizeScanResult(scanResult);
     }
 
+    public SecurityIssueAnalysisService.IssueFingerprints fingerprints(ScanResult.ScanIssue issue) {
+        return evaluationService.fingerprints(issue);
+    }
+
     public String fingerprint(ScanResult.ScanIssue issue) {
         return evaluationService.fingerprint(issue);
     }
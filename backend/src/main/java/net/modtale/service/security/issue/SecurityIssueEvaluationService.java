@@ -6,12 +6,34 @@ import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Locale;
+import java.util.regex.Pattern;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 
 final class SecurityIssueEvaluationService {
 
+    private static final Pattern TOKEN_UNSAFE = Pattern.compile("[^a-z0-9._-]+");
+    private static final Pattern NESTED_ARCHIVE = Pattern.compile("->", Pattern.LITERAL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PATH_UNSAFE = Pattern.compile("[^a-z0-9./$:_-]+");
+    private static final Pattern HEX_LITERAL = Pattern.compile("0x[0-9a-f]+");
+    private static final Pattern IPV4 = Pattern.compile("\\b\\d{1,3}(?:\\.\\d{1,3}){3}\\b");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    private static final Pattern DESCRIPTION_UNSAFE = Pattern.compile("[^a-z0-9#:/._-]+");
+    private static final Pattern REPEATED_SPACES = Pattern.compile("\\s{2,}");
+    private static final HexFormat HEX = HexFormat.of();
+    // Fingerprints keep the first 12 digest bytes (24 hex characters), the format already stored on versions.
+    private static final int FINGERPRINT_BYTES = 12;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    });
+
     private final long baselineConfidenceDecayDays;
 
     SecurityIssueEvaluationService(long baselineConfidenceDecayDays) {
@@ -40,8 +62,9 @@ final class SecurityIssueEvaluationService {
                 continue;
             }
 
-            String fingerprint = fingerprint(issue);
-            String looseFingerprint = looseFingerprint(issue);
+            SecurityIssueAnalysisService.IssueFingerprints fingerprints = fingerprints(issue);
+            String fingerprint = fingerprints.exact();
+            String looseFingerprint = fingerprints.loose();
             issue.setFingerprint(fingerprint);
             boolean alwaysReview = isAlwaysReviewIssue(issue);
 
@@ -137,31 +160,30 @@ final class SecurityIssueEvaluationService {
         }
     }
 
-    String fingerprint(ScanResult.ScanIssue issue) {
+    /** Exact and loose fingerprints of one issue, normalizing the shared fields once. */
+    SecurityIssueAnalysisService.IssueFingerprints fingerprints(ScanResult.ScanIssue issue) {
         if (issue == null) {
-            return "issue:unknown";
+            return new SecurityIssueAnalysisService.IssueFingerprints("issue:unknown", "issue:unknown");
         }
 
         String type = normalizeToken(issue.getType());
         String category = normalizeToken(issue.getCategory());
-        String file = normalizePathForFingerprint(issue.getFilePath());
         String description = normalizeDescription(issue.getDescription());
+        String file = normalizePathForFingerprint(issue.getFilePath());
         String lineBucket = issue.getLineStart() > 0 ? Integer.toString(issue.getLineStart() / 8) : "na";
 
-        String payload = String.join("|", type, category, file, lineBucket, description);
-        return "si:" + hash(payload);
+        return new SecurityIssueAnalysisService.IssueFingerprints(
+                "si:" + hash(String.join("|", type, category, file, lineBucket, description)),
+                "sl:" + hash(String.join("|", type, category, description))
+        );
     }
 
-    String looseFingerprint(ScanResult.ScanIssue issue) {
-        if (issue == null) {
-            return "issue:unknown";
-        }
-
-        String type = normalizeToken(issue.getType());
-        String category = normalizeToken(issue.getCategory());
-        String description = normalizeDescription(issue.getDescription());
+    String fingerprint(ScanResult.ScanIssue issue) {
+        return fingerprints(issue).exact();
+    }
 
-        return "sl:" + hash(String.join("|", type, category, description));
+    String looseFingerprint(ScanResult.ScanIssue issue) {
+        return fingerprints(issue).loose();
     }
 
     String normalizeSeverity(String severity) {
@@ -179,7 +201,7 @@ final class SecurityIssueEvaluationService {
         if (value == null || value.isBlank()) {
             return "na";
         }
-        return value.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]+", "-");
+        return TOKEN_UNSAFE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll("-");
     }
 
     private String normalizePathForFingerprint(String path) {
@@ -188,7 +210,7 @@ final class SecurityIssueEvaluationService {
         }
 
         String normalized = path.replace('\\', '/').toLowerCase(Locale.ROOT);
-        String[] nestedParts = normalized.split("->");
+        String[] nestedParts = NESTED_ARCHIVE.split(normalized);
         String tail = nestedParts[nestedParts.length - 1].trim();
         if (tail.isBlank()) {
             tail = normalized;
@@ -198,7 +220,7 @@ final class SecurityIssueEvaluationService {
         StringBuilder canonical = new StringBuilder();
         int start = Math.max(0, segments.length - 4);
         for (int i = start; i < segments.length; i++) {
-            String segment = segments[i].replaceAll("\\s+", "");
+            String segment = WHITESPACE.matcher(segments[i]).replaceAll("");
             if (segment.isBlank()) {
                 continue;
             }
@@ -209,7 +231,7 @@ final class SecurityIssueEvaluationService {
         }
 
         String out = canonical.length() == 0 ? "archive-root" : canonical.toString();
-        return out.replaceAll("[^a-z0-9./$:_-]+", "");
+        return PATH_UNSAFE.matcher(out).replaceAll("");
     }
 
     private String normalizeDescription(String text) {
@@ -217,26 +239,20 @@ final class SecurityIssueEvaluationService {
             return "na";
         }
         String normalized = text.toLowerCase(Locale.ROOT);
-        normalized = normalized.replaceAll("0x[0-9a-f]+", "0x#");
-        normalized = normalized.replaceAll("\\b\\d{1,3}(?:\\.\\d{1,3}){3}\\b", "ip#");
-        normalized = normalized.replaceAll("\\d+", "#");
-        normalized = normalized.replaceAll("[^a-z0-9#:/._-]+", " ");
-        normalized = normalized.trim().replaceAll("\\s{2,}", " ");
-        return normalized;
+        normalized = HEX_LITERAL.matcher(normalized).replaceAll("0x#");
+        normalized = IPV4.matcher(normalized).replaceAll("ip#");
+        normalized = DIGITS.matcher(normalized).replaceAll("#");
+        normalized = DESCRIPTION_UNSAFE.matcher(normalized).replaceAll(" ");
+        return REPEATED_SPACES.matcher(normalized.trim()).replaceAll(" ");
     }
 
     private String hash(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] bytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder out = new StringBuilder();
-            for (byte b : bytes) {
-                out.append(String.format("%02x", b));
-            }
-            return out.substring(0, 24);
-        } catch (NoSuchAlgorithmException e) {
+        MessageDigest digest = SHA_256.get();
+        if (digest == null) {
             return Integer.toHexString(input.hashCode());
         }
+        byte[] bytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+        return HEX.formatHex(bytes, 0, FINGERPRINT_BYTES);
     }
 
     private int severityRank(String severity) {
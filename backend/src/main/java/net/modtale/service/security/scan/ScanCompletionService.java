@@ -1,5 +1,6 @@
 package net.modtale.service.security.scan;
 
+import java.time.LocalDateTime;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.project.ProjectVersion;
@@ -10,6 +11,7 @@ import net.modtale.service.communication.ProjectNotificationService;
 import net.modtale.service.communication.WebhookService;
 import net.modtale.service.project.access.ProjectVersionAccessService;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionPublishingService;
 import net.modtale.service.security.issue.SecurityIssueAnalysisService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +30,7 @@ public class ScanCompletionService {
     private final ScanRoutingService scanRoutingService;
     private final ScanPersistenceService scanPersistenceService;
     private final ProjectVersionAccessService projectVersionAccessService;
+    private final VersionPublishingService versionPublishingService;
 
     public ScanCompletionService(
             ProjectRepository projectRepository,
@@ -37,7 +40,8 @@ public class ScanCompletionService {
             SecurityIssueAnalysisService securityIssueAnalysisService,
             ScanRoutingService scanRoutingService,
             ScanPersistenceService scanPersistenceService,
-            ProjectVersionAccessService projectVersionAccessService
+            ProjectVersionAccessService projectVersionAccessService,
+            VersionPublishingService versionPublishingService
     ) {
         this.projectRepository = projectRepository;
         this.projectService = projectService;
@@ -47,6 +51,7 @@ public class ScanCompletionService {
         this.scanRoutingService = scanRoutingService;
         this.scanPersistenceService = scanPersistenceService;
         this.projectVersionAccessService = projectVersionAccessService;
+        this.versionPublishingService = versionPublishingService;
     }
 
     public void handleCompletedScan(
@@ -85,9 +90,13 @@ public class ScanCompletionService {
             logger.info("Scan result ignored because a newer attempt already exists project={} version={} attempt={}", projectId, versionId, expectedAttempt);
             return;
         }
+        if (routingDecision.action() == ScanRoutingService.RoutingAction.SCHEDULE) {
+            // Queued just after the stored publish date, so the release always finds the version due.
+            versionPublishingService.schedule(projectId, versionId, LocalDateTime.now().plusMinutes(routingDecision.delayMinutes()));
+        }
 
         Project refreshed = projectRepository.findById(projectId).orElse(null);
-        projectService.evictProjectCache(refreshed != null ? refreshed : project);
+        projectService.evictProjectVersionCache(refreshed != null ? refreshed : project);
 
         logger.info(
                 "Completed scan project={} version={} attempt={} verdict={} status={} known={} new={} escalated={} route={}",
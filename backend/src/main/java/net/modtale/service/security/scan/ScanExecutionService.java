@@ -1,83 +1,108 @@
 package net.modtale.service.security.scan;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import net.modtale.repository.project.ProjectRepository;
-import net.modtale.service.communication.ProjectNotificationService;
-import net.modtale.service.communication.WebhookService;
-import net.modtale.service.project.access.ProjectVersionAccessService;
-import net.modtale.service.project.query.ProjectService;
-import net.modtale.service.security.issue.SecurityIssueAnalysisService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.config.properties.AppScanJobProperties;
+import net.modtale.model.project.ScanJob;
 import net.modtale.service.storage.StorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * Runs scans from the {@code scan_jobs} collection. Workers claim jobs under a lease and heartbeat their
+ * leases while the scan is within its timeout. A job whose lease lapses (the node died or the scan hung) is
+ * reclaimed by any node and retried or timed out by {@link ScanRecoveryService}. In-flight scans are bounded
+ * by the lower of the Warden heap budget and {@code app.scan-jobs.max-concurrent} rather than by threads: the
+ * upload runs without holding a scan lane thread, and the outcome is recorded on a completion scheduler that
+ * queues rather than drops work, so every claimed job reaches {@code finish} and returns its permit.
+ */
 @Service
 public class ScanExecutionService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScanExecutionService.class);
+    private static final Duration REJECTED_RETRY_DELAY = Duration.ofSeconds(5);
 
     private final WardenClientService wardenService;
     private final StorageService storageService;
-    private final Executor taskExecutor;
+    private final Executor scanExecutor;
+    private final Scheduler completionScheduler;
     private final ScanPersistenceService scanPersistenceService;
     private final ScanCompletionService scanCompletionService;
     private final ScanRecoveryService scanRecoveryService;
+    private final ScanJobService scanJobService;
+    private final ScanRoutingService scanRoutingService;
+    private final Duration lease;
+    private final Semaphore permits;
+    private final String workerId = UUID.randomUUID().toString();
+    private final Map<String, LocalDateTime> running = new ConcurrentHashMap<>();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer waitTimer;
+    private final Timer durationTimer;
 
-    @Autowired
     public ScanExecutionService(
             WardenClientService wardenService,
             StorageService storageService,
-            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Qualifier("scanExecutor") Executor scanExecutor,
             ScanPersistenceService scanPersistenceService,
             ScanCompletionService scanCompletionService,
-            ScanRecoveryService scanRecoveryService
+            ScanRecoveryService scanRecoveryService,
+            ScanJobService scanJobService,
+            ScanRoutingService scanRoutingService,
+            AppScanJobProperties properties,
+            MeterRegistry meterRegistry
     ) {
-        this.wardenService = wardenService;
-        this.storageService = storageService;
-        this.taskExecutor = taskExecutor;
-        this.scanPersistenceService = scanPersistenceService;
-        this.scanCompletionService = scanCompletionService;
-        this.scanRecoveryService = scanRecoveryService;
+        this(wardenService, storageService, scanExecutor, Schedulers.boundedElastic(), scanPersistenceService,
+                scanCompletionService, scanRecoveryService, scanJobService, scanRoutingService, properties, meterRegistry);
     }
 
-    public ScanExecutionService(
-            ProjectRepository projectRepository,
+    ScanExecutionService(
             WardenClientService wardenService,
             StorageService storageService,
-            ProjectService projectService,
-            ProjectNotificationService projectNotificationService,
-            WebhookService webhookService,
-            SecurityIssueAnalysisService securityIssueAnalysisService,
-            Executor taskExecutor,
-            ScanRoutingService scanRoutingService,
+            Executor scanExecutor,
+            Scheduler completionScheduler,
             ScanPersistenceService scanPersistenceService,
-            ProjectVersionAccessService projectVersionAccessService
+            ScanCompletionService scanCompletionService,
+            ScanRecoveryService scanRecoveryService,
+            ScanJobService scanJobService,
+            ScanRoutingService scanRoutingService,
+            AppScanJobProperties properties,
+            MeterRegistry meterRegistry
     ) {
-        ScanCompletionService completionService = new ScanCompletionService(
-                projectRepository,
-                projectService,
-                projectNotificationService,
-                webhookService,
-                securityIssueAnalysisService,
-                scanRoutingService,
-                scanPersistenceService,
-                projectVersionAccessService
-        );
         this.wardenService = wardenService;
         this.storageService = storageService;
-        this.taskExecutor = taskExecutor;
+        this.scanExecutor = scanExecutor;
+        this.completionScheduler = completionScheduler;
         this.scanPersistenceService = scanPersistenceService;
-        this.scanCompletionService = completionService;
-        this.scanRecoveryService = new ScanRecoveryService(
-                projectService,
-                scanRoutingService,
-                scanPersistenceService,
-                completionService
-        );
+        this.scanCompletionService = scanCompletionService;
+        this.scanRecoveryService = scanRecoveryService;
+        this.scanJobService = scanJobService;
+        this.scanRoutingService = scanRoutingService;
+        this.lease = Duration.ofMillis(Math.max(1000L, properties.leaseMs()));
+        this.permits = new Semaphore(Math.max(1, Math.min(wardenService.maxInFlightScans(), properties.maxConcurrent())));
+
+        this.waitTimer = Timer.builder("modtale.scan.jobs.wait").register(meterRegistry);
+        this.durationTimer = Timer.builder("modtale.scan.jobs.duration").register(meterRegistry);
+        Gauge.builder("modtale.scan.jobs.queued", queueDepth, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("modtale.scan.jobs.running", running, Map::size).register(meterRegistry);
     }
 
     public void enqueueBackgroundScan(
@@ -88,19 +113,69 @@ public class ScanExecutionService {
             boolean isManualRescan,
             int expectedAttempt
     ) {
-        taskExecutor.execute(() -> processBackgroundScan(
-                projectId,
-                versionId,
-                filePath,
-                originalFilename,
-                isManualRescan,
-                expectedAttempt
-        ));
+        scanJobService.enqueue(projectId, versionId, filePath, originalFilename, isManualRescan, expectedAttempt);
+        dispatchAvailableJobs();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeScanJobs() {
+        boolean accepted = LaneExecutor.tryExecute(scanExecutor, () -> {
+            try {
+                int queued = scanRecoveryService.queueJobsForScanningVersions();
+                if (queued > 0) {
+                    logger.info("Checked {} in-flight scans for missing jobs", queued);
+                }
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to queue jobs for in-flight scans", ex);
+            }
+            dispatchAvailableJobs();
+        });
+        if (!accepted) {
+            logger.warn("Scan lane refused the startup resume; queued jobs are claimed by the next poll");
+        }
     }
 
-    @Scheduled(fixedDelayString = "${app.security.scan-recovery-check-ms:120000}")
-    public void recoverStaleScanningVersions() {
-        scanRecoveryService.recoverStaleScanningVersions(this::enqueueBackgroundScan);
+    @Scheduled(fixedDelayString = "${app.scan-jobs.poll-ms:2000}")
+    public void dispatchAvailableJobs() {
+        while (permits.tryAcquire()) {
+            ScanJob job;
+            try {
+                job = scanJobService.claimNext(workerId, lease);
+            } catch (RuntimeException ex) {
+                permits.release();
+                logger.warn("Failed to claim a scan job", ex);
+                return;
+            }
+            if (job == null) {
+                permits.release();
+                return;
+            }
+
+            running.put(job.getId(), job.getStartedAt() != null ? job.getStartedAt() : LocalDateTime.now());
+            if (!LaneExecutor.tryExecute(scanExecutor, () -> runJob(job))) {
+                running.remove(job.getId());
+                permits.release();
+                scanJobService.release(job, workerId, REJECTED_RETRY_DELAY);
+                logger.warn("Scan lane refused job {}; released it for a later claim", job.getId());
+                return;
+            }
+        }
+    }
+
+    /** Extends leases on scans still inside the scan timeout, so hung scans lose theirs and get recovered. */
+    @Scheduled(fixedDelayString = "${app.scan-jobs.heartbeat-ms:20000}")
+    public void heartbeatLeases() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(scanRoutingService.scanTimeoutMillis()));
+        List<String> live = running.entrySet().stream()
+                .filter(entry -> entry.getValue().isAfter(cutoff))
+                .map(Map.Entry::getKey)
+                .toList();
+        try {
+            scanJobService.extendLeases(workerId, live, lease);
+            queueDepth.set(scanJobService.countQueued());
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to heartbeat {} scan job leases", live.size(), ex);
+        }
     }
 
     public String extractOriginalFilename(String path) {
@@ -112,32 +187,62 @@ public class ScanExecutionService {
         return path.substring(slashIndex + 1);
     }
 
-    private void processBackgroundScan(
-            String projectId,
-            String versionId,
-            String filePath,
-            String originalFilename,
-            boolean isManualRescan,
-            int expectedAttempt
-    ) {
+    void runJob(ScanJob job) {
+        Mono<ScanJob.State> outcome;
+        try {
+            outcome = job.getClaims() > 1 ? recover(job) : scan(job);
+        } catch (RuntimeException ex) {
+            outcome = Mono.error(ex);
+        }
+
+        outcome
+                .onErrorResume(ex -> {
+                    logger.error("Scan job {} failed", job.getId(), ex);
+                    return Mono.just(ScanJob.State.FAILED);
+                })
+                .defaultIfEmpty(ScanJob.State.DONE)
+                .subscribe(state -> finish(job, state));
+    }
+
+    private Mono<ScanJob.State> recover(ScanJob job) {
+        return Mono.just(scanRecoveryService.recoverAbandonedJob(job) ? ScanJob.State.DONE : ScanJob.State.FAILED);
+    }
+
+    private Mono<ScanJob.State> scan(ScanJob job) {
+        String projectId = job.getProjectId();
+        String versionId = job.getVersionId();
+        int expectedAttempt = job.getAttempt();
+        if (job.getVisibleAt() != null && job.getStartedAt() != null) {
+            waitTimer.record(Duration.between(job.getVisibleAt(), job.getStartedAt()));
+        }
         if (!scanPersistenceService.markAttemptRunning(projectId, versionId, expectedAttempt)) {
             logger.info("Scan attempt skipped because state moved ahead project={} version={} attempt={}", projectId, versionId, expectedAttempt);
-            return;
+            return Mono.just(ScanJob.State.DONE);
         }
 
-        logger.info("Starting scan project={} version={} attempt={} manualRescan={}", projectId, versionId, expectedAttempt, isManualRescan);
+        logger.info("Starting scan project={} version={} attempt={} manualRescan={}", projectId, versionId, expectedAttempt, job.isManualRescan());
+
+        Timer.Sample sample = Timer.start();
+        return wardenService.scan(() -> storageService.getStream(job.getFilePath()), job.getOriginalFilename())
+                .publishOn(completionScheduler)
+                .map(result -> {
+                    scanCompletionService.handleCompletedScan(projectId, versionId, expectedAttempt, job.isManualRescan(), result);
+                    return ScanJob.State.DONE;
+                })
+                .onErrorResume(RuntimeException.class, ex -> Mono.fromCallable(() -> {
+                    scanCompletionService.handleScanFailure(projectId, versionId, job.getOriginalFilename(), expectedAttempt, ex);
+                    return ScanJob.State.DONE;
+                }))
+                .doFinally(signal -> sample.stop(durationTimer));
+    }
 
+    private void finish(ScanJob job, ScanJob.State state) {
+        running.remove(job.getId());
+        permits.release();
         try {
-            byte[] fileBytes = storageService.download(filePath);
-            scanCompletionService.handleCompletedScan(
-                    projectId,
-                    versionId,
-                    expectedAttempt,
-                    isManualRescan,
-                    wardenService.scanFile(fileBytes, originalFilename)
-            );
-        } catch (RuntimeException e) {
-            scanCompletionService.handleScanFailure(projectId, versionId, originalFilename, expectedAttempt, e);
+            scanJobService.finish(job, workerId, state);
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to mark scan job {} {}", job.getId(), state, ex);
         }
     }
 }
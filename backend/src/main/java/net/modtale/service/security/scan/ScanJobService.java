@@ -0,0 +1,160 @@
+package net.modtale.service.security.scan;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import net.modtale.model.project.ScanJob;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads and writes the {@code scan_jobs} collection. A job is claimable while it is queued and visible, or
+ * while it is running under a lease that has expired because its worker stopped heartbeating.
+ */
+@Service
+public class ScanJobService {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ScanJobService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public void enqueue(
+            String projectId,
+            String versionId,
+            String filePath,
+            String originalFilename,
+            boolean isManualRescan,
+            int attempt
+    ) {
+        mongoTemplate.upsert(
+                byId(ScanJob.idFor(projectId, versionId, attempt)),
+                queuedJob(projectId, versionId, filePath, originalFilename, isManualRescan, attempt, LocalDateTime.now()),
+                ScanJob.class
+        );
+    }
+
+    /** Queues each job unless a job for the same attempt already exists, whatever its state. */
+    public void enqueueMissing(Collection<ScanJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScanJob.class);
+        for (ScanJob job : jobs) {
+            bulk.upsert(
+                    byId(ScanJob.idFor(job.getProjectId(), job.getVersionId(), job.getAttempt())),
+                    queuedJob(
+                            job.getProjectId(),
+                            job.getVersionId(),
+                            job.getFilePath(),
+                            job.getOriginalFilename(),
+                            job.isManualRescan(),
+                            job.getAttempt(),
+                            now
+                    )
+            );
+        }
+        bulk.execute();
+    }
+
+    public ScanJob claimNext(String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("state").is(ScanJob.State.QUEUED).and("visibleAt").lte(now),
+                Criteria.where("state").is(ScanJob.State.RUNNING).and("leaseUntil").lt(now)
+        )).with(Sort.by(Sort.Direction.ASC, "visibleAt"));
+
+        return mongoTemplate.findAndModify(
+                query,
+                new Update()
+                        .set("state", ScanJob.State.RUNNING)
+                        .set("leaseOwner", owner)
+                        .set("leaseUntil", now.plus(lease))
+                        .set("startedAt", now)
+                        .inc("claims", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                ScanJob.class
+        );
+    }
+
+    public void extendLeases(String owner, Collection<String> jobIds, Duration lease) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(jobIds)
+                        .and("state").is(ScanJob.State.RUNNING)
+                        .and("leaseOwner").is(owner)),
+                new Update().set("leaseUntil", LocalDateTime.now().plus(lease)),
+                ScanJob.class
+        );
+    }
+
+    /** Hands a claimed job back without counting the claim, e.g. when the worker pool refused it. */
+    public void release(ScanJob job, String owner, Duration delay) {
+        mongoTemplate.updateFirst(
+                leasedBy(job, owner),
+                new Update()
+                        .set("state", ScanJob.State.QUEUED)
+                        .set("visibleAt", LocalDateTime.now().plus(delay))
+                        .unset("leaseOwner")
+                        .unset("leaseUntil")
+                        .inc("claims", -1),
+                ScanJob.class
+        );
+    }
+
+    public void finish(ScanJob job, String owner, ScanJob.State state) {
+        mongoTemplate.updateFirst(
+                leasedBy(job, owner),
+                new Update()
+                        .set("state", state)
+                        .set("finishedAt", LocalDateTime.now())
+                        .unset("leaseUntil"),
+                ScanJob.class
+        );
+    }
+
+    public long countQueued() {
+        return mongoTemplate.count(new Query(Criteria.where("state").is(ScanJob.State.QUEUED)), ScanJob.class);
+    }
+
+    private static Update queuedJob(
+            String projectId,
+            String versionId,
+            String filePath,
+            String originalFilename,
+            boolean isManualRescan,
+            int attempt,
+            LocalDateTime now
+    ) {
+        return new Update()
+                .setOnInsert("projectId", projectId)
+                .setOnInsert("versionId", versionId)
+                .setOnInsert("filePath", filePath)
+                .setOnInsert("originalFilename", originalFilename)
+                .setOnInsert("manualRescan", isManualRescan)
+                .setOnInsert("attempt", attempt)
+                .setOnInsert("state", ScanJob.State.QUEUED)
+                .setOnInsert("claims", 0)
+                .setOnInsert("visibleAt", now)
+                .setOnInsert("createdAt", now);
+    }
+
+    private static Query leasedBy(ScanJob job, String owner) {
+        return new Query(Criteria.where("_id").is(job.getId()).and("leaseOwner").is(owner));
+    }
+
+    private static Query byId(String id) {
+        return new Query(Criteria.where("_id").is(id));
+    }
+}
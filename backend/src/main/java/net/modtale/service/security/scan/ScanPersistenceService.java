@@ -20,15 +20,18 @@ public class ScanPersistenceService {
     private final MongoTemplate mongoTemplate;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
+    private final ScanReportService scanReportService;
 
     public ScanPersistenceService(
             MongoTemplate mongoTemplate,
             ProjectRepository projectRepository,
-            ProjectService projectService
+            ProjectService projectService,
+            ScanReportService scanReportService
     ) {
         this.mongoTemplate = mongoTemplate;
         this.projectRepository = projectRepository;
         this.projectService = projectService;
+        this.scanReportService = scanReportService;
     }
 
     public boolean markAttemptRunning(String projectId, String versionId, int attempt) {
@@ -53,7 +56,7 @@ public class ScanPersistenceService {
             ScanRoutingService.RoutingDecision routingDecision
     ) {
         Update update = new Update()
-                .set("versions.$.scanResult", scanResult)
+                .set("versions.$.scanResult", scanReportService.store(projectId, versionId, scanResult))
                 .set("updatedAt", LocalDateTime.now().toString());
 
         switch (routingDecision.action()) {
@@ -91,7 +94,7 @@ public class ScanPersistenceService {
 
     public boolean updateFailedScan(String projectId, String versionId, ScanResult failed, int expectedAttempt) {
         Update update = new Update()
-                .set("versions.$.scanResult", failed)
+                .set("versions.$.scanResult", scanReportService.store(projectId, versionId, failed))
                 .set("versions.$.reviewStatus", ProjectVersion.ReviewStatus.PENDING)
                 .set("versions.$.scheduledPublishDate", null)
                 .set("updatedAt", LocalDateTime.now().toString());
@@ -100,35 +103,54 @@ public class ScanPersistenceService {
                 .getModifiedCount() > 0;
 
         Project project = projectRepository.findById(projectId).orElse(null);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
         return modified;
     }
 
+    /** Projects with a scan in flight, carrying only the version fields needed to requeue it. */
     public List<Project> findProjectsWithScanningVersions() {
         Query query = new Query(Criteria.where("versions").elemMatch(
                 Criteria.where("scanResult.status").is(ScanStatus.SCANNING.name())
         ));
+        query.fields()
+                .include("versions._id")
+                .include("versions.fileUrl")
+                .include("versions.scanResult.status")
+                .include("versions.scanResult.scanAttempt")
+                .include("versions.scanResult.scanTimestamp");
         return mongoTemplate.find(query, Project.class);
     }
 
-    private Query buildVersionAttemptQuery(String projectId, String versionId, int attempt) {
-        Criteria attemptCriteria;
-        if (attempt <= 1) {
-            attemptCriteria = new Criteria().orOperator(
-                    Criteria.where("scanResult.scanAttempt").is(1),
-                    Criteria.where("scanResult.scanAttempt").is(0),
-                    Criteria.where("scanResult.scanAttempt").exists(false)
-            );
-        } else {
-            attemptCriteria = Criteria.where("scanResult.scanAttempt").is(attempt);
-        }
+    public boolean isAttemptInFlight(String projectId, String versionId, int attempt) {
+        Query query = new Query(
+                Criteria.where("_id").is(projectId)
+                        .and("versions").elemMatch(
+                                Criteria.where("_id").is(versionId)
+                                        .and("scanResult.status").is(ScanStatus.SCANNING.name())
+                                        .andOperator(attemptCriteria(attempt))
+                        )
+        );
+        return mongoTemplate.exists(query, Project.class);
+    }
 
+    private Query buildVersionAttemptQuery(String projectId, String versionId, int attempt) {
         return new Query(
                 Criteria.where("_id").is(projectId)
                         .and("versions").elemMatch(
                                 Criteria.where("_id").is(versionId)
-                                        .andOperator(attemptCriteria)
+                                        .andOperator(attemptCriteria(attempt))
                         )
         );
     }
+
+    static Criteria attemptCriteria(int attempt) {
+        if (attempt <= 1) {
+            return new Criteria().orOperator(
+                    Criteria.where("scanResult.scanAttempt").is(1),
+                    Criteria.where("scanResult.scanAttempt").is(0),
+                    Criteria.where("scanResult.scanAttempt").exists(false)
+            );
+        }
+        return Criteria.where("scanResult.scanAttempt").is(attempt);
+    }
 }
@@ -1,8 +1,10 @@
 package net.modtale.service.security.scan;
 
+import java.util.ArrayList;
 import java.util.List;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanJob;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 import net.modtale.service.project.query.ProjectService;
@@ -19,83 +21,99 @@ public class ScanRecoveryService {
     private final ScanRoutingService scanRoutingService;
     private final ScanPersistenceService scanPersistenceService;
     private final ScanCompletionService scanCompletionService;
+    private final ScanJobService scanJobService;
 
     public ScanRecoveryService(
             ProjectService projectService,
             ScanRoutingService scanRoutingService,
             ScanPersistenceService scanPersistenceService,
-            ScanCompletionService scanCompletionService
+            ScanCompletionService scanCompletionService,
+            ScanJobService scanJobService
     ) {
         this.projectService = projectService;
         this.scanRoutingService = scanRoutingService;
         this.scanPersistenceService = scanPersistenceService;
         this.scanCompletionService = scanCompletionService;
+        this.scanJobService = scanJobService;
     }
 
-    public void recoverStaleScanningVersions(BackgroundScanScheduler backgroundScanScheduler) {
+    /**
+     * Queues a job for every version left scanning without one, e.g. scans handed off in memory before jobs
+     * were persisted. Versions with no file to scan are timed out once they are stale.
+     */
+    public int queueJobsForScanningVersions() {
         long timeoutMs = scanRoutingService.scanTimeoutMillis();
         long now = System.currentTimeMillis();
+        List<ScanJob> jobs = new ArrayList<>();
 
-        List<Project> projects = scanPersistenceService.findProjectsWithScanningVersions();
-        for (Project project : projects) {
+        for (Project project : scanPersistenceService.findProjectsWithScanningVersions()) {
             if (project == null || project.getVersions() == null) {
                 continue;
             }
 
             for (ProjectVersion version : project.getVersions()) {
-                if (version == null) {
+                ScanResult scanResult = version == null ? null : version.getScanResult();
+                if (scanResult == null || scanResult.getStatus() != ScanStatus.SCANNING) {
                     continue;
                 }
 
-                ScanResult scanResult = version.getScanResult();
-                if (scanResult == null || scanResult.getStatus() != ScanStatus.SCANNING) {
+                int attempt = Math.max(1, scanResult.getScanAttempt());
+                if (version.getFileUrl() != null) {
+                    ScanJob job = new ScanJob();
+                    job.setProjectId(project.getId());
+                    job.setVersionId(version.getId());
+                    job.setFilePath(version.getFileUrl());
+                    job.setOriginalFilename(extractOriginalFilename(version.getFileUrl()));
+                    job.setAttempt(attempt);
+                    jobs.add(job);
                     continue;
                 }
 
                 long startedAt = scanResult.getScanTimestamp();
-                boolean stale = startedAt <= 0 || (now - startedAt) > timeoutMs;
-                if (!stale) {
-                    continue;
+                if (startedAt <= 0 || (now - startedAt) > timeoutMs) {
+                    scanCompletionService.handleTimedOutScan(project.getId(), version.getId(), extractOriginalFilename(null), attempt);
                 }
+            }
+        }
 
-                int currentAttempt = Math.max(1, scanResult.getScanAttempt());
-                if (version.getFileUrl() != null && currentAttempt <= Math.max(1, scanRoutingService.scanMaxRetries())) {
-                    int nextAttempt = currentAttempt + 1;
-                    ScanResult queued = scanRoutingService.createQueuedScanResult(
-                            nextAttempt,
-                            "Previous scan attempt timed out and was re-queued automatically."
-                    );
+        scanJobService.enqueueMissing(jobs);
+        return jobs.size();
+    }
 
-                    if (scanPersistenceService.queueRetryAttempt(project.getId(), version.getId(), currentAttempt, queued)) {
-                        logger.warn(
-                                "Recovered stale scan by retrying project={} version={} previousAttempt={} nextAttempt={}",
-                                project.getId(),
-                                version.getId(),
-                                currentAttempt,
-                                nextAttempt
-                        );
+    /**
+     * Handles a job whose previous worker lost its lease. The scan is retried as the next attempt while retries
+     * remain, otherwise the version is marked timed out. Returns {@code false} when the retry budget ran out.
+     */
+    public boolean recoverAbandonedJob(ScanJob job) {
+        String projectId = job.getProjectId();
+        String versionId = job.getVersionId();
+        int currentAttempt = Math.max(1, job.getAttempt());
+        if (!scanPersistenceService.isAttemptInFlight(projectId, versionId, currentAttempt)) {
+            return true;
+        }
 
-                        backgroundScanScheduler.enqueue(
-                                project.getId(),
-                                version.getId(),
-                                version.getFileUrl(),
-                                extractOriginalFilename(version.getFileUrl()),
-                                false,
-                                nextAttempt
-                        );
-                    }
-                } else {
-                    scanCompletionService.handleTimedOutScan(
-                            project.getId(),
-                            version.getId(),
-                            extractOriginalFilename(version.getFileUrl()),
-                            currentAttempt
-                    );
-                }
-            }
+        if (job.getFilePath() == null || currentAttempt > Math.max(1, scanRoutingService.scanMaxRetries())) {
+            scanCompletionService.handleTimedOutScan(projectId, versionId, extractOriginalFilename(job.getFilePath()), currentAttempt);
+            return false;
+        }
 
-            projectService.evictProjectCache(project);
+        int nextAttempt = currentAttempt + 1;
+        ScanResult queued = scanRoutingService.createQueuedScanResult(
+                nextAttempt,
+                "Previous scan attempt timed out and was re-queued automatically."
+        );
+        if (scanPersistenceService.queueRetryAttempt(projectId, versionId, currentAttempt, queued)) {
+            logger.warn(
+                    "Recovered abandoned scan by retrying project={} version={} previousAttempt={} nextAttempt={}",
+                    projectId,
+                    versionId,
+                    currentAttempt,
+                    nextAttempt
+            );
+            scanJobService.enqueue(projectId, versionId, job.getFilePath(), job.getOriginalFilename(), false, nextAttempt);
+            projectService.evictProjectDetailsCaches(List.of(), List.of(projectId));
         }
+        return true;
     }
 
     private String extractOriginalFilename(String path) {
@@ -108,16 +126,4 @@ public class ScanRecoveryService {
         }
         return path.substring(slashIndex + 1);
     }
-
-    @FunctionalInterface
-    public interface BackgroundScanScheduler {
-        void enqueue(
-                String projectId,
-                String versionId,
-                String filePath,
-                String originalFilename,
-                boolean isManualRescan,
-                int expectedAttempt
-        );
-    }
 }
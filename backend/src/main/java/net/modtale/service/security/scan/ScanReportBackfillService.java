@@ -0,0 +1,182 @@
+package net.modtale.service.security.scan;
+
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import net.modtale.config.core.LaneExecutor;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanReport;
+import net.modtale.model.project.ScanResult;
+import net.modtale.service.security.issue.SecurityIssueAnalysisService;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves scan results embedded before {@code scan_reports} existed off the project documents. Pending versions
+ * get a stub and a report; approved versions are reduced to their issue baselines, as approval does today.
+ * Each write is guarded by the scan attempt, so a scan finishing mid-migration wins.
+ */
+@Service
+public class ScanReportBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanReportBackfillService.class);
+    static final int BATCH_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final SecurityIssueAnalysisService securityIssueAnalysisService;
+    private final Executor migrationExecutor;
+
+    public ScanReportBackfillService(
+            MongoTemplate mongoTemplate,
+            SecurityIssueAnalysisService securityIssueAnalysisService,
+            @Qualifier("migrationExecutor") Executor migrationExecutor
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.securityIssueAnalysisService = securityIssueAnalysisService;
+        this.migrationExecutor = migrationExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        boolean accepted = LaneExecutor.tryExecute(migrationExecutor, () -> {
+            try {
+                if (!mongoTemplate.exists(embeddedResultsQuery(), Project.class)) {
+                    return;
+                }
+                Document before = projectSizes();
+                int moved = moveEmbeddedResults();
+                Document after = projectSizes();
+                logger.info(
+                        "Moved {} embedded scan results to scan_reports; project size avg {} -> {} bytes, max {} -> {} bytes.",
+                        moved,
+                        before.get("avg"),
+                        after.get("avg"),
+                        before.get("max"),
+                        after.get("max")
+                );
+            } catch (RuntimeException ex) {
+                logger.warn("Scan report backfill failed", ex);
+            }
+        });
+        if (!accepted) {
+            logger.warn("Scan report backfill was refused by the migration lane; it runs again on the next startup.");
+        }
+    }
+
+    int moveEmbeddedResults() {
+        Query query = embeddedResultsQuery();
+        query.fields()
+                .include("_id")
+                .include("versions._id")
+                .include("versions.versionNumber")
+                .include("versions.releaseDate")
+                .include("versions.reviewStatus")
+                .include("versions.scanResult");
+        query.cursorBatchSize(BATCH_SIZE);
+
+        int moved = 0;
+        int pending = 0;
+        int pendingReports = 0;
+        int pendingUpdates = 0;
+        BulkOperations reports = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScanReport.class);
+        BulkOperations projects = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+        try (Stream<Project> stream = mongoTemplate.stream(query, Project.class)) {
+            for (Project project : (Iterable<Project>) stream::iterator) {
+                for (ProjectVersion version : project.getVersions()) {
+                    if (version == null || !hasDetails(version.getScanResult())) {
+                        continue;
+                    }
+                    ScanResult result = version.getScanResult();
+                    Query target = versionAttemptQuery(project.getId(), version.getId(), result.getScanAttempt());
+                    if (version.getReviewStatus() == ProjectVersion.ReviewStatus.APPROVED) {
+                        securityIssueAnalysisService.markIssuesAcceptedForApprovedVersion(version);
+                        projects.updateOne(target, new Update()
+                                .set("versions.$.approvedIssueBaselines", version.getApprovedIssueBaselines())
+                                .set("versions.$.scanResult", null));
+                    } else {
+                        ScanReport report = new ScanReport(project.getId(), version.getId(), result);
+                        reports.replaceOne(
+                                new Query(Criteria.where("_id").is(report.getId())),
+                                report,
+                                FindAndReplaceOptions.options().upsert()
+                        );
+                        pendingReports++;
+                        projects.updateOne(target, new Update().set("versions.$.scanResult", result.toStub()));
+                    }
+                    pendingUpdates++;
+                    moved++;
+                }
+
+                if (++pending == BATCH_SIZE) {
+                    flush(reports, pendingReports, projects, pendingUpdates);
+                    reports = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScanReport.class);
+                    projects = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+                    pending = 0;
+                    pendingReports = 0;
+                    pendingUpdates = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            flush(reports, pendingReports, projects, pendingUpdates);
+        }
+        return moved;
+    }
+
+    // The driver refuses to execute an empty bulk, and batches of approved versions queue no reports.
+    private void flush(BulkOperations reports, int pendingReports, BulkOperations projects, int pendingUpdates) {
+        // Reports first, so a stub never points at a report that was not written.
+        if (pendingReports > 0) {
+            reports.execute();
+        }
+        if (pendingUpdates > 0) {
+            projects.execute();
+        }
+    }
+
+    private Document projectSizes() {
+        AggregationExpression bsonSize = context -> new Document("$bsonSize", "$$ROOT");
+        Document sizes = mongoTemplate.aggregate(
+                Aggregation.newAggregation(Aggregation.group().avg(bsonSize).as("avg").max(bsonSize).as("max")),
+                Project.class,
+                Document.class
+        ).getUniqueMappedResult();
+        return sizes != null ? sizes : new Document();
+    }
+
+    private static boolean hasDetails(ScanResult result) {
+        return result != null
+                && ((result.getIssues() != null && !result.getIssues().isEmpty())
+                || (result.getReviewTargets() != null && !result.getReviewTargets().isEmpty()));
+    }
+
+    private static Query embeddedResultsQuery() {
+        return new Query(Criteria.where("versions").elemMatch(new Criteria().orOperator(
+                Criteria.where("scanResult.issues.0").exists(true),
+                Criteria.where("scanResult.reviewTargets.0").exists(true)
+        )));
+    }
+
+    private static Query versionAttemptQuery(String projectId, String versionId, int attempt) {
+        return new Query(
+                Criteria.where("_id").is(projectId)
+                        .and("versions").elemMatch(
+                                Criteria.where("_id").is(versionId)
+                                        .andOperator(ScanPersistenceService.attemptCriteria(attempt))
+                        )
+        );
+    }
+}
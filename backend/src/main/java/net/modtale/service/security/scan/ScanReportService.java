@@ -0,0 +1,77 @@
+package net.modtale.service.security.scan;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanReport;
+import net.modtale.model.project.ScanResult;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps full scan results in {@code scan_reports} so project documents only carry a stub per version. Review
+ * and approval paths call {@link #loadDetails} for the versions they need.
+ */
+@Service
+public class ScanReportService {
+
+    private final MongoTemplate mongoTemplate;
+    private final Timer loadTimer;
+
+    public ScanReportService(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.loadTimer = Timer.builder("modtale.scan.reports.load").register(meterRegistry);
+    }
+
+    /** Stores the full result and returns the stub to write onto the version. */
+    public ScanResult store(String projectId, String versionId, ScanResult result) {
+        mongoTemplate.save(new ScanReport(projectId, versionId, result));
+        return result.toStub();
+    }
+
+    /** Replaces stubs on the given versions with their stored results, in one query. */
+    public int loadDetails(String projectId, Collection<ProjectVersion> versions) {
+        List<String> ids = versions.stream()
+                .filter(version -> version != null && version.getScanResult() != null && version.getScanResult().isDetailsStored())
+                .map(version -> ScanReport.idFor(projectId, version.getId(), version.getScanResult().getScanAttempt()))
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        Map<String, ScanResult> results = new HashMap<>();
+        for (ScanReport report : mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), ScanReport.class)) {
+            results.put(report.getId(), report.getResult());
+        }
+        sample.stop(loadTimer);
+
+        int loaded = 0;
+        for (ProjectVersion version : versions) {
+            if (version == null || version.getScanResult() == null || !version.getScanResult().isDetailsStored()) {
+                continue;
+            }
+            ScanResult full = results.get(ScanReport.idFor(projectId, version.getId(), version.getScanResult().getScanAttempt()));
+            if (full != null) {
+                full.setDetailsStored(true);
+                version.setScanResult(full);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    public int loadDetails(Project project) {
+        if (project == null || project.getVersions() == null) {
+            return 0;
+        }
+        return loadDetails(project.getId(), project.getVersions());
+    }
+}
@@ -65,7 +65,7 @@ public class ScanRequestService {
         version.setScheduledPublishDate(null);
 
         projectRepository.save(project);
-        projectService.evictProjectCache(project);
+        projectService.evictProjectVersionCache(project);
 
         String originalFilename = scanExecutionService.extractOriginalFilename(version.getFileUrl());
         logger.info("Queued manual scan retry for project={} version={} attempt={}", projectId, versionId, attempt);
@@ -1,26 +1,41 @@
 package net.modtale.service.security.scan;
 
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import net.modtale.config.properties.AppWardenProperties;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+/**
+ * Streams artifacts to Warden without buffering them. The artifact is read in {@code upload-buffer-kb} chunks
+ * with at most {@code upload-read-ahead} chunks requested ahead of the socket, and the response is capped at
+ * {@code max-response-kb}, so each in-flight scan holds a fixed amount of heap whatever the artifact size.
+ * {@link #maxInFlightScans()} divides the scan heap budget by that amount.
+ */
 @Service
 public class WardenClientService {
 
     private static final Logger logger = LoggerFactory.getLogger(WardenClientService.class);
     private final WebClient webClient;
     private final AppWardenProperties wardenProperties;
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
 
     public WardenClientService(
             AppWardenProperties wardenProperties) {
@@ -28,60 +43,82 @@ public class WardenClientService {
         this.webClient = WebClient.builder()
                 .baseUrl(wardenProperties.url())
                 .defaultHeader("X-Warden-Api-Key", wardenProperties.apiKey())
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(Math.max(64, wardenProperties.maxResponseKb()) * 1024))
                 .build();
     }
 
-    public ScanResult scanFile(byte[] fileBytes, String filename) {
+    /**
+     * Scans the artifact opened by {@code source}, which is called again for every retry. Warden failures end
+     * in a degraded manual-review result; failures opening the artifact are passed through unchanged.
+     */
+    public Mono<ScanResult> scan(Supplier<InputStream> source, String filename) {
         if (!wardenProperties.enabled()) {
             logger.error("Warden scanner is DISABLED. Falling back to manual-review degraded result for file: {}", filename);
-            return buildDegradedResult(filename, new IllegalStateException("Warden scanner disabled"));
+            return Mono.just(buildDegradedResult(filename, new IllegalStateException("Warden scanner disabled")));
         }
 
-        Exception lastError = null;
         int attempts = Math.max(1, wardenProperties.maxAttempts());
-        for (int attempt = 1; attempt <= attempts; attempt++) {
-            try {
-                MultipartBodyBuilder builder = new MultipartBodyBuilder();
-                builder.part("file", new ByteArrayResource(fileBytes) {
-                    @Override
-                    public String getFilename() {
-                        return filename;
-                    }
-                });
+        return Mono.defer(() -> upload(source, filename))
+                .retryWhen(Retry.backoff(attempts - 1, Duration.ofMillis(400))
+                        .maxBackoff(Duration.ofSeconds(3))
+                        .filter(error -> !(error instanceof ArtifactUnavailableException))
+                        .doBeforeRetry(signal -> logger.warn(
+                                "Warden scan attempt {} failed for {}: {}",
+                                signal.totalRetries() + 1,
+                                filename,
+                                signal.failure().getMessage()
+                        ))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorResume(error -> !(error instanceof ArtifactUnavailableException), error -> {
+                    logger.error("Warden unavailable after retries for {}: {}", filename, error.getMessage());
+                    return Mono.just(buildDegradedResult(filename, error instanceof Exception exception ? exception : new IllegalStateException(error)));
+                })
+                .onErrorMap(ArtifactUnavailableException.class, ArtifactUnavailableException::getCause);
+    }
 
-                ScanResult response = webClient.post()
-                        .uri("/api/v1/scan")
-                        .contentType(MediaType.MULTIPART_FORM_DATA)
-                        .body(BodyInserters.fromMultipartData(builder.build()))
-                        .retrieve()
-                        .bodyToMono(ScanResult.class)
-                        .timeout(Duration.ofSeconds(Math.max(15, wardenProperties.requestTimeoutSeconds())))
-                        .block();
+    /** Heap one in-flight scan may hold: read-ahead chunks, the chunk being written and the response body. */
+    public long heapPerScanBytes() {
+        long buffer = Math.max(4, wardenProperties.uploadBufferKb()) * 1024L;
+        long response = Math.max(64, wardenProperties.maxResponseKb()) * 1024L;
+        return buffer * (Math.max(1, wardenProperties.uploadReadAhead()) + 1) + response;
+    }
 
-                if (response != null) {
-                    return response;
-                }
-                throw new IllegalStateException("Warden returned empty response body");
-            } catch (Exception e) {
-                lastError = e;
-                logger.warn("Warden scan attempt {} failed for {}: {}", attempt, filename, e.getMessage());
-                if (attempt < attempts) {
-                    backoff(attempt);
-                }
-            }
-        }
+    public int maxInFlightScans() {
+        long budget = Math.max(1, wardenProperties.scanHeapBudgetMb()) * 1024L * 1024L;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, budget / heapPerScanBytes()));
+    }
+
+    private Mono<ScanResult> upload(Supplier<InputStream> source, String filename) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.asyncPart("file", artifactChunks(source), DataBuffer.class)
+                .filename(filename == null ? "uploaded-artifact" : filename)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
 
-        logger.error("Warden unavailable after retries for {}: {}", filename, lastError == null ? "unknown" : lastError.getMessage());
-        return buildDegradedResult(filename, lastError);
+        return webClient.post()
+                .uri("/api/v1/scan")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(ScanResult.class)
+                .timeout(Duration.ofSeconds(Math.max(15, wardenProperties.requestTimeoutSeconds())))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Warden returned empty response body")));
     }
 
-    private void backoff(int attempt) {
-        long delayMs = Math.min(3000L, 400L * attempt);
-        try {
-            Thread.sleep(delayMs);
-        } catch (InterruptedException interruptedException) {
-            Thread.currentThread().interrupt();
-        }
+    private Flux<DataBuffer> artifactChunks(Supplier<InputStream> source) {
+        // Storage streams block on read, so chunks are read on the bounded elastic pool, never on the event loop.
+        return DataBufferUtils.readInputStream(
+                        () -> {
+                            try {
+                                return source.get();
+                            } catch (RuntimeException e) {
+                                throw new ArtifactUnavailableException(e);
+                            }
+                        },
+                        bufferFactory,
+                        Math.max(4, wardenProperties.uploadBufferKb()) * 1024
+                )
+                .subscribeOn(Schedulers.boundedElastic())
+                .limitRate(Math.max(1, wardenProperties.uploadReadAhead()));
     }
 
     private ScanResult buildDegradedResult(String filename, Exception exception) {
@@ -115,4 +152,10 @@ public class WardenClientService {
         }
         return degraded;
     }
+
+    private static final class ArtifactUnavailableException extends RuntimeException {
+        private ArtifactUnavailableException(RuntimeException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
 }
@@ -5,20 +5,35 @@ import java.io.IOException;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectDependency;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ProjectVersionNode;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.springframework.web.multipart.MultipartFile;
 
 final class DownloadArchiveSupport {
 
     private final ProjectService projectService;
     private final StorageService storageService;
+    private final VersionDependencyGraphService versionDependencyGraphService;
 
-    DownloadArchiveSupport(ProjectService projectService, StorageService storageService) {
+    DownloadArchiveSupport(
+            ProjectService projectService,
+            StorageService storageService,
+            VersionDependencyGraphService versionDependencyGraphService
+    ) {
         this.projectService = projectService;
         this.storageService = storageService;
+        this.versionDependencyGraphService = versionDependencyGraphService;
     }
 
     ResolvedDependency resolveDependency(ProjectDependency dependency) {
+        ProjectVersionNode node = versionDependencyGraphService
+                .findVersion(dependency.getModId(), dependency.getVersionNumber())
+                .orElse(null);
+        if (node != null) {
+            return fromNode(node);
+        }
+
         Project project = projectService.getRawProjectById(dependency.getModId());
         if (project == null) {
             return null;
@@ -32,6 +47,10 @@ final class DownloadArchiveSupport {
         return new ResolvedDependency(project, version);
     }
 
+    void syncVersionGraph(Project project) {
+        versionDependencyGraphService.syncProject(project);
+    }
+
     byte[] download(String fileUrl) {
         return storageService.download(fileUrl);
     }
@@ -52,6 +71,20 @@ final class DownloadArchiveSupport {
         return originalFilename;
     }
 
+    private ResolvedDependency fromNode(ProjectVersionNode node) {
+        Project project = new Project();
+        project.setId(node.getProjectId());
+        project.setClassification(node.getClassification());
+
+        ProjectVersion version = new ProjectVersion();
+        version.setId(node.getVersionId());
+        version.setVersionNumber(node.getVersionNumber());
+        version.setFileUrl(node.getFileUrl());
+        version.setHash(node.getHash());
+        version.setReviewStatus(node.getReviewStatus());
+        return new ResolvedDependency(project, version);
+    }
+
     private ProjectVersion findVersion(Project project, String versionNumber) {
         if (project.getVersions() == null) {
             return null;
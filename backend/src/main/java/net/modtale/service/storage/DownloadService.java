@@ -8,6 +8,7 @@ import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,9 +22,11 @@ public class DownloadService {
             ProjectRepository projectRepository,
             ProjectService projectService,
             StorageService storageService,
+            VersionDependencyGraphService versionDependencyGraphService,
             AppLimitProperties limitProperties
     ) {
-        DownloadArchiveSupport archiveSupport = new DownloadArchiveSupport(projectService, storageService);
+        DownloadArchiveSupport archiveSupport =
+                new DownloadArchiveSupport(projectService, storageService, versionDependencyGraphService);
         this.rateLimitService = new DownloadRateLimitService(limitProperties.modpackGenPerHour());
         this.modpackArchiveService = new ModpackArchiveService(projectRepository, archiveSupport);
         this.bundlePackagingService = new BundlePackagingService(archiveSupport);
@@ -120,6 +120,7 @@ final class ModpackArchiveService {
 
             version.setFileUrl(uploadPath);
             projectRepository.save(pack);
+            archiveSupport.syncVersionGraph(pack);
         } catch (StorageUploadException ex) {
             logger.warn("Generated modpack archive could not be cached for project={} version={}",
                     pack.getId(), version.getVersionNumber(), ex);
@@ -1,28 +1,58 @@
 package net.modtale.service.system;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 import net.modtale.config.properties.AppFrontendProperties;
 import net.modtale.model.project.Project;
+import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectService;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Serves {@code /sitemap.xml} as a sitemap index over hash-bucketed shards. Shards are kept as pre-encoded plain
+ * and gzipped bytes and only re-encoded when their URLs change; a refresh reloads only projects whose
+ * {@code updatedAt} moved since the previous pass. Requests read the last published snapshot without waiting
+ * for a refresh in progress.
+ */
 @Service
 public class SitemapService {
 
+    static final int SHARD_SIZE = 5000;
+
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectService projectService;
     private final String baseUrl;
 
+    private final Map<String, ProjectEntry> projectEntries = new HashMap<>();
+    private volatile Snapshot snapshot;
+
     public SitemapService(
             ProjectRepository projectRepository,
             UserRepository userRepository,
@@ -35,50 +65,221 @@ public class SitemapService {
         this.baseUrl = frontendProperties.url();
     }
 
-    @Cacheable(value = "sitemapData", key = "'sitemap.xml'", sync = true)
-    public String generateSitemap() {
+    public SitemapDocument getIndex() {
+        return currentSnapshot().index();
+    }
+
+    public Optional<SitemapDocument> getShard(String name) {
+        Shard shard = currentSnapshot().shards().get(name);
+        return shard == null ? Optional.empty() : Optional.of(shard.document());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.sitemap.refresh-ms:600000}",
+            initialDelayString = "${app.sitemap.refresh-ms:600000}"
+    )
+    public synchronized void refresh() {
         LocalDate today = LocalDate.now();
-        StringBuilder xml = new StringBuilder();
-        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        xml.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
 
-        addUrl(xml, baseUrl + "/", "1.0", today);
-        addUrl(xml, baseUrl + "/plugins", "0.9", today);
-        addUrl(xml, baseUrl + "/modpacks", "0.9", today);
-        addUrl(xml, baseUrl + "/worlds", "0.9", today);
-        addUrl(xml, baseUrl + "/data", "0.9", today);
-        addUrl(xml, baseUrl + "/art", "0.9", today);
-        addUrl(xml, baseUrl + "/api-docs", "0.8", today);
+        Map<String, String> stamps = new HashMap<>();
+        for (Project project : projectRepository.findSitemapStamps()) {
+            if (project.getId() != null && project.getUpdatedAt() != null) {
+                stamps.put(project.getId(), project.getUpdatedAt());
+            }
+        }
 
-        Set<String> activeAuthors = new HashSet<>();
-        List<Project> projects = projectRepository.findAllForSitemap();
+        projectEntries.keySet().retainAll(stamps.keySet());
+        List<String> changedIds = stamps.entrySet().stream()
+                .filter(stamp -> {
+                    ProjectEntry existing = projectEntries.get(stamp.getKey());
+                    return existing == null || !stamp.getValue().equals(existing.updatedAt());
+                })
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!changedIds.isEmpty()) {
+            loadEntries(changedIds, today);
+        }
 
-        for (Project project : projects) {
-            if (project.getUpdatedAt() != null) {
-                addUrl(xml, baseUrl + projectService.getProjectLink(project), "0.8", parseDate(project.getUpdatedAt(), today));
-                String authorHandle = resolveAuthorHandle(project);
-                if (authorHandle != null && !authorHandle.isBlank()) {
-                    activeAuthors.add(authorHandle);
+        Snapshot previous = snapshot;
+        Map<String, Shard> shards = new LinkedHashMap<>();
+        putShard(shards, previous, "pages", pageUrls(today));
+
+        List<List<ProjectEntry>> projectBuckets = bucketByKey(projectEntries.values(), ProjectEntry::id);
+        for (int bucket = 0; bucket < projectBuckets.size(); bucket++) {
+            if (projectBuckets.get(bucket).isEmpty()) continue;
+            List<SitemapUrl> urls = projectBuckets.get(bucket).stream()
+                    .map(ProjectEntry::url)
+                    .toList();
+            putShard(shards, previous, "projects-" + (bucket + 1), urls);
+        }
+
+        Set<String> creators = new HashSet<>();
+        for (ProjectEntry entry : projectEntries.values()) {
+            if (entry.authorHandle() != null && !entry.authorHandle().isBlank()) {
+                creators.add(entry.authorHandle());
+            }
+        }
+        List<List<String>> creatorBuckets = bucketByKey(creators, Function.identity());
+        for (int bucket = 0; bucket < creatorBuckets.size(); bucket++) {
+            if (creatorBuckets.get(bucket).isEmpty()) continue;
+            List<SitemapUrl> urls = creatorBuckets.get(bucket).stream()
+                    .map(author -> new SitemapUrl(baseUrl + "/creator/" + author, "0.7", today))
+                    .toList();
+            putShard(shards, previous, "creators-" + (bucket + 1), urls);
+        }
+
+        SitemapDocument index = encode(indexXml(shards));
+        if (previous != null && previous.index().etag().equals(index.etag())) {
+            index = previous.index();
+        }
+        snapshot = new Snapshot(index, Map.copyOf(shards));
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
                 }
+                current = snapshot;
             }
         }
+        return current;
+    }
+
+    /**
+     * Splits {@code items} into buckets by a hash of their stable key, so adding or removing one item only
+     * changes its own shard. The bucket count doubles as the total grows, keeping shards near {@link #SHARD_SIZE}.
+     */
+    static <T> List<List<T>> bucketByKey(Collection<T> items, Function<T, String> key) {
+        int buckets = 1;
+        while ((long) buckets * SHARD_SIZE < items.size()) {
+            buckets <<= 1;
+        }
+        List<List<T>> result = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            result.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            int hash = key.apply(item).hashCode();
+            result.get((hash ^ (hash >>> 16)) & (buckets - 1)).add(item);
+        }
+        result.forEach(bucket -> bucket.sort(Comparator.comparing(key)));
+        return result;
+    }
 
-        for (String author : activeAuthors) {
-            if (author != null && !author.isBlank()) {
-                addUrl(xml, baseUrl + "/creator/" + author, "0.7", today);
+    private void loadEntries(List<String> projectIds, LocalDate today) {
+        List<Project> projects = projectRepository.findSitemapEntriesByIdIn(projectIds);
+
+        Set<String> authorIds = new HashSet<>();
+        for (Project project : projects) {
+            if ((project.getAuthor() == null || project.getAuthor().isBlank())
+                    && project.getAuthorId() != null && !project.getAuthorId().isBlank()) {
+                authorIds.add(project.getAuthorId());
+            }
+        }
+        Map<String, String> usernames = new HashMap<>();
+        if (!authorIds.isEmpty()) {
+            for (User user : userRepository.findAllById(authorIds)) {
+                if (user.getUsername() != null && !user.getUsername().isBlank()) {
+                    usernames.put(user.getId(), user.getUsername().trim());
+                }
             }
         }
 
+        projectIds.forEach(projectEntries::remove);
+        for (Project project : projects) {
+            if (project.getId() == null || project.getUpdatedAt() == null) continue;
+            projectEntries.put(project.getId(), new ProjectEntry(
+                    project.getId(),
+                    project.getUpdatedAt(),
+                    new SitemapUrl(
+                            baseUrl + projectService.getProjectLink(project),
+                            "0.8",
+                            parseDate(project.getUpdatedAt(), today)
+                    ),
+                    resolveAuthorHandle(project, usernames)
+            ));
+        }
+    }
+
+    private List<SitemapUrl> pageUrls(LocalDate today) {
+        return List.of(
+                new SitemapUrl(baseUrl + "/", "1.0", today),
+                new SitemapUrl(baseUrl + "/plugins", "0.9", today),
+                new SitemapUrl(baseUrl + "/modpacks", "0.9", today),
+                new SitemapUrl(baseUrl + "/worlds", "0.9", today),
+                new SitemapUrl(baseUrl + "/data", "0.9", today),
+                new SitemapUrl(baseUrl + "/art", "0.9", today),
+                new SitemapUrl(baseUrl + "/api-docs", "0.8", today)
+        );
+    }
+
+    private void putShard(Map<String, Shard> shards, Snapshot previous, String name, List<SitemapUrl> urls) {
+        Shard existing = previous == null ? null : previous.shards().get(name);
+        if (existing != null && existing.urls().equals(urls)) {
+            shards.put(name, existing);
+            return;
+        }
+        shards.put(name, new Shard(urls, encode(urlSetXml(urls))));
+    }
+
+    private String urlSetXml(List<SitemapUrl> urls) {
+        StringBuilder xml = new StringBuilder(128 + urls.size() * 160);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        for (SitemapUrl url : urls) {
+            xml.append("\t<url>\n");
+            xml.append("\t\t<loc>").append(escape(url.loc())).append("</loc>\n");
+            xml.append("\t\t<lastmod>").append(url.lastMod().format(DateTimeFormatter.ISO_DATE)).append("</lastmod>\n");
+            xml.append("\t\t<priority>").append(url.priority()).append("</priority>\n");
+            xml.append("\t</url>\n");
+        }
         xml.append("</urlset>");
         return xml.toString();
     }
 
-    private void addUrl(StringBuilder xml, String loc, String priority, LocalDate lastMod) {
-        xml.append("\t<url>\n");
-        xml.append("\t\t<loc>").append(loc).append("</loc>\n");
-        xml.append("\t\t<lastmod>").append(lastMod.format(DateTimeFormatter.ISO_DATE)).append("</lastmod>\n");
-        xml.append("\t\t<priority>").append(priority).append("</priority>\n");
-        xml.append("\t</url>\n");
+    private String indexXml(Map<String, Shard> shards) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        shards.forEach((name, shard) -> {
+            xml.append("\t<sitemap>\n");
+            xml.append("\t\t<loc>").append(escape(baseUrl + "/sitemaps/" + name + ".xml")).append("</loc>\n");
+            xml.append("\t\t<lastmod>")
+                    .append(DateTimeFormatter.ISO_INSTANT.format(shard.document().lastModified()))
+                    .append("</lastmod>\n");
+            xml.append("\t</sitemap>\n");
+        });
+        xml.append("</sitemapindex>");
+        return xml.toString();
+    }
+
+    private static SitemapDocument encode(String xml) {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            String etag = HexFormat.of().formatHex(digest, 0, 16);
+            return new SitemapDocument(bytes, gzipped.toByteArray(), etag, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&apos;");
     }
 
     private LocalDate parseDate(String dateStr, LocalDate fallback) {
@@ -95,17 +296,31 @@ public class SitemapService {
         }
     }
 
-    private String resolveAuthorHandle(Project project) {
-        if (project == null) return null;
+    private String resolveAuthorHandle(Project project, Map<String, String> usernames) {
         if (project.getAuthor() != null && !project.getAuthor().isBlank()) {
             return project.getAuthor().trim();
         }
         if (project.getAuthorId() == null || project.getAuthorId().isBlank()) {
             return null;
         }
+        return usernames.getOrDefault(project.getAuthorId(), project.getAuthorId());
+    }
+
+    /**
+     * Encoded sitemap bytes. {@code etag} identifies the uncompressed content.
+     */
+    public record SitemapDocument(byte[] xml, byte[] gzip, String etag, Instant lastModified) {
+    }
+
+    private record SitemapUrl(String loc, String priority, LocalDate lastMod) {
+    }
+
+    private record ProjectEntry(String id, String updatedAt, SitemapUrl url, String authorHandle) {
+    }
+
+    private record Shard(List<SitemapUrl> urls, SitemapDocument document) {
+    }
 
-        return userRepository.findById(project.getAuthorId())
-                .map(user -> user.getUsername() != null && !user.getUsername().isBlank() ? user.getUsername().trim() : project.getAuthorId())
-                .orElse(project.getAuthorId());
+    private record Snapshot(SitemapDocument index, Map<String, Shard> shards) {
     }
 }
@@ -4,7 +4,6 @@ import java.net.URI;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -12,7 +11,9 @@ import java.util.Map;
 import net.modtale.config.properties.AppFrontendProperties;
 import net.modtale.config.properties.AppStatusDiscordWebhookProperties;
 import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
 import net.modtale.model.system.SystemStatus;
+import net.modtale.model.system.WebhookDestination;
 import net.modtale.service.communication.DiscordWebhookIdentity;
 import net.modtale.service.communication.WebhookDeliveryService;
 import net.modtale.service.communication.WebhookDispatchRequest;
@@ -50,10 +51,13 @@ public class StatusDiscordNotifierService {
     }
 
     public void notifyStatusChange(StatusHistory previous, StatusHistory latest) {
-        notifyStatusChange(previous, latest, latest == null ? List.of() : List.of(latest));
+        notifyStatusChange(previous, latest, List.of());
     }
 
-    public void notifyStatusChange(StatusHistory previous, StatusHistory latest, List<StatusHistory> history) {
+    /**
+     * @param dailyRollups one-day status rollups covering the uptime window
+     */
+    public void notifyStatusChange(StatusHistory previous, StatusHistory latest, List<StatusRollup> dailyRollups) {
         if (latest == null || webhookUrl == null || webhookUrl.isBlank() || !isProductionStatusDeployment()) {
             return;
         }
@@ -62,7 +66,7 @@ public class StatusDiscordNotifierService {
         embed.put("title", statusIcon(latest.getOverallStatus()) + " Modtale Status Monitor");
         embed.put("url", cleanFrontendUrl() + "/status");
         embed.put("color", colorFor(latest.getOverallStatus()));
-        embed.put("description", descriptionFor(latest, history));
+        embed.put("description", descriptionFor(latest, dailyRollups));
         embed.put("timestamp", timestampFor(latest).toInstant(ZoneOffset.UTC).toString());
 
         Map<String, Object> footer = new HashMap<>();
@@ -75,12 +79,18 @@ public class StatusDiscordNotifierService {
         body.put("embeds", List.of(embed));
 
         webhookDeliveryService.deliverAsync(
-                new WebhookDispatchRequest(webhookUrl, body),
+                new WebhookDispatchRequest(WebhookDestination.STATUS_DISCORD, body),
                 "Failed to trigger Status Discord webhook"
         );
     }
 
-    private String descriptionFor(StatusHistory latest, List<StatusHistory> history) {
+    private String descriptionFor(StatusHistory latest, List<StatusRollup> dailyRollups) {
+        List<StatusRollup> rollups = dailyRollups == null
+                ? List.of()
+                : dailyRollups.stream()
+                .filter(rollup -> rollup != null && rollup.getBucketStart() != null)
+                .toList();
+
         StringBuilder description = new StringBuilder();
         description.append("**Real-time service status and uptime**\n\n");
         description.append("Live monitoring of all Modtale services (last 30 days)");
@@ -92,10 +102,17 @@ public class StatusDiscordNotifierService {
                     .append(" **")
                     .append(service.displayName())
                     .append("**\n")
-                    .append(uptimeBar(history, latest, service))
+                    .append(uptimeBar(rollups, latest, service))
                     .append(" **")
                     .append(labelFor(currentStatus))
                     .append("**");
+            if (!rollups.isEmpty()) {
+                description.append(String.format(
+                        Locale.ROOT,
+                        " (%.2f%% uptime)",
+                        StatusRollupService.uptimePercent(rollups, service::tally)
+                ));
+            }
         }
 
         return description.toString();
@@ -125,15 +142,8 @@ public class StatusDiscordNotifierService {
         };
     }
 
-    private String uptimeBar(List<StatusHistory> history, StatusHistory latest, MonitoredService service) {
-        List<StatusHistory> snapshots = history == null
-                ? List.of()
-                : history.stream()
-                .filter(snapshot -> snapshot != null && snapshot.getTimestamp() != null)
-                .sorted(Comparator.comparing(StatusHistory::getTimestamp))
-                .toList();
-
-        if (snapshots.isEmpty()) {
+    private String uptimeBar(List<StatusRollup> rollups, StatusHistory latest, MonitoredService service) {
+        if (rollups.isEmpty()) {
             return blockFor(service.resolveStatus(latest)).repeat(UPTIME_BUCKET_COUNT);
         }
 
@@ -141,50 +151,21 @@ public class StatusDiscordNotifierService {
         LocalDateTime windowStart = windowEnd.minusDays(UPTIME_WINDOW_DAYS);
         long bucketSeconds = Math.max(1, Duration.between(windowStart, windowEnd).getSeconds() / UPTIME_BUCKET_COUNT);
 
-        StringBuilder bar = new StringBuilder();
-        for (int index = 0; index < UPTIME_BUCKET_COUNT; index++) {
-            LocalDateTime bucketStart = windowStart.plusSeconds(bucketSeconds * index);
-            LocalDateTime bucketEnd = index == UPTIME_BUCKET_COUNT - 1
-                    ? windowEnd.plusNanos(1)
-                    : windowStart.plusSeconds(bucketSeconds * (index + 1));
-            bar.append(blockFor(bucketStatus(snapshots, service, bucketStart, bucketEnd)));
-        }
-        return bar.toString();
-    }
-
-    private SystemStatus bucketStatus(
-            List<StatusHistory> snapshots,
-            MonitoredService service,
-            LocalDateTime bucketStart,
-            LocalDateTime bucketEnd
-    ) {
-        boolean operational = false;
-        boolean degraded = false;
-        boolean outage = false;
-
-        for (StatusHistory snapshot : snapshots) {
-            LocalDateTime timestamp = snapshot.getTimestamp();
-            if (timestamp.isBefore(bucketStart) || !timestamp.isBefore(bucketEnd)) {
-                continue;
-            }
-
-            switch (service.resolveStatus(snapshot)) {
-                case OPERATIONAL -> operational = true;
-                case OUTAGE -> outage = true;
-                default -> degraded = true;
+        StatusRollup.Tally[] buckets = new StatusRollup.Tally[UPTIME_BUCKET_COUNT];
+        for (StatusRollup rollup : rollups) {
+            long offset = Duration.between(windowStart, rollup.getBucketStart()).getSeconds();
+            int index = (int) Math.min(UPTIME_BUCKET_COUNT - 1, Math.max(0, offset / bucketSeconds));
+            if (buckets[index] == null) {
+                buckets[index] = new StatusRollup.Tally();
             }
+            buckets[index].add(service.tally(rollup));
         }
 
-        if (outage) {
-            return SystemStatus.OUTAGE;
-        }
-        if (degraded) {
-            return SystemStatus.DEGRADED;
-        }
-        if (operational) {
-            return SystemStatus.OPERATIONAL;
+        StringBuilder bar = new StringBuilder();
+        for (StatusRollup.Tally bucket : buckets) {
+            bar.append(blockFor(bucket == null ? null : bucket.worstStatus()));
         }
-        return null;
+        return bar.toString();
     }
 
     private String blockFor(SystemStatus status) {
@@ -248,18 +229,33 @@ public class StatusDiscordNotifierService {
             SystemStatus storedStatus(StatusHistory history) {
                 return history.getApiStatus();
             }
+
+            @Override
+            StatusRollup.Tally tally(StatusRollup rollup) {
+                return rollup.getApi();
+            }
         },
         DATABASE("Database (Atlas)", DATABASE_ICON) {
             @Override
             SystemStatus storedStatus(StatusHistory history) {
                 return history.getDbStatus();
             }
+
+            @Override
+            StatusRollup.Tally tally(StatusRollup rollup) {
+                return rollup.getDb();
+            }
         },
         STORAGE("Storage (R2)", PACKAGE_ICON) {
             @Override
             SystemStatus storedStatus(StatusHistory history) {
                 return history.getStorageStatus();
             }
+
+            @Override
+            StatusRollup.Tally tally(StatusRollup rollup) {
+                return rollup.getStorage();
+            }
         };
 
         private final String displayName;
@@ -272,6 +268,8 @@ public class StatusDiscordNotifierService {
 
         abstract SystemStatus storedStatus(StatusHistory history);
 
+        abstract StatusRollup.Tally tally(StatusRollup rollup);
+
         String displayName() {
             return displayName;
         }
@@ -0,0 +1,198 @@
+package net.modtale.service.system;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
+import net.modtale.model.system.StatusRollupResolution;
+import net.modtale.model.system.SystemStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains status rollups at 1m, 15m, 1h and 1d. A sync recomputes every bucket touched since a given
+ * instant: minute buckets from raw {@code status_history} rows, each coarser level from the level below.
+ * Recomputing whole buckets keeps syncs idempotent, so probes written by the detached status service are
+ * picked up by {@link #catchUp()} without double counting.
+ */
+@Service
+public class StatusRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusRollupService.class);
+    private static final Duration BACKFILL_WINDOW = Duration.ofDays(30);
+
+    private final MongoTemplate mongoTemplate;
+    private volatile LocalDateTime watermark;
+
+    public StatusRollupService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            for (StatusRollupResolution resolution : StatusRollupResolution.values()) {
+                mongoTemplate.indexOps(resolution.collection())
+                        .createIndex(new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to ensure status rollup indexes", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.status-rollup.sync-ms:60000}")
+    public void catchUp() {
+        try {
+            LocalDateTime from = watermark != null ? watermark : initialWatermark();
+            if (mongoTemplate.exists(new Query(Criteria.where("timestamp").gt(from)), StatusHistory.class)) {
+                sync(from);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Status rollup catch-up failed", ex);
+        }
+    }
+
+    public synchronized void sync(LocalDateTime from) {
+        if (from == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        StatusRollupResolution lowerResolution = null;
+        LocalDateTime lowerFrom = null;
+        Map<LocalDateTime, StatusRollup> lower = Map.of();
+
+        for (StatusRollupResolution resolution : StatusRollupResolution.values()) {
+            LocalDateTime bucketFrom = resolution.truncate(from);
+            Map<LocalDateTime, StatusRollup> buckets = new TreeMap<>();
+
+            if (lowerResolution == null) {
+                Query query = new Query(Criteria.where("timestamp").gte(bucketFrom))
+                        .with(Sort.by(Sort.Direction.ASC, "timestamp"));
+                try (Stream<StatusHistory> rows = mongoTemplate.stream(query, StatusHistory.class)) {
+                    rows.forEach(row -> {
+                        if (row.getTimestamp() == null) return;
+                        add(bucket(buckets, resolution, row.getTimestamp()), row);
+                        if (watermark == null || row.getTimestamp().isAfter(watermark)) {
+                            watermark = row.getTimestamp();
+                        }
+                    });
+                }
+            } else {
+                // Lower-level buckets before the recomputed range are unchanged, so read them back as stored.
+                Query query = new Query(Criteria.where("_id").gte(bucketFrom).lt(lowerFrom));
+                for (StatusRollup stored : mongoTemplate.find(query, StatusRollup.class, lowerResolution.collection())) {
+                    bucket(buckets, resolution, stored.getBucketStart()).add(stored);
+                }
+                for (StatusRollup recomputed : lower.values()) {
+                    bucket(buckets, resolution, recomputed.getBucketStart()).add(recomputed);
+                }
+            }
+
+            save(resolution, buckets.values(), now);
+            lowerResolution = resolution;
+            lowerFrom = bucketFrom;
+            lower = buckets;
+        }
+    }
+
+    public List<StatusRollup> find(StatusRollupResolution resolution, LocalDateTime since) {
+        Query query = new Query(Criteria.where("_id").gte(resolution.truncate(since)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+        return mongoTemplate.find(query, StatusRollup.class, resolution.collection());
+    }
+
+    /**
+     * Share of samples that were not outages, in percent. Linear in the number of buckets.
+     */
+    public static double uptimePercent(List<StatusRollup> rollups, Function<StatusRollup, StatusRollup.Tally> tally) {
+        long samples = 0;
+        long outages = 0;
+        for (StatusRollup rollup : rollups) {
+            StatusRollup.Tally value = tally.apply(rollup);
+            samples += value.samples();
+            outages += value.getOutage();
+        }
+        return samples == 0 ? 100.0 : 100.0 * (samples - outages) / samples;
+    }
+
+    static SystemStatus resolveServiceStatus(SystemStatus storedStatus, int latency, SystemStatus overallStatus) {
+        if (storedStatus != null) {
+            return storedStatus;
+        }
+
+        if (overallStatus == SystemStatus.OPERATIONAL) {
+            return SystemStatus.OPERATIONAL;
+        }
+
+        if (latency <= 0 || latency >= 5000) {
+            return SystemStatus.OUTAGE;
+        }
+
+        if (overallStatus == SystemStatus.OUTAGE) {
+            return SystemStatus.OUTAGE;
+        }
+
+        return SystemStatus.DEGRADED;
+    }
+
+    private LocalDateTime initialWatermark() {
+        Query latest = new Query().with(Sort.by(Sort.Direction.DESC, "_id")).limit(1);
+        StatusRollup rollup = mongoTemplate.findOne(latest, StatusRollup.class, StatusRollupResolution.ONE_MINUTE.collection());
+        return rollup != null ? rollup.getBucketStart() : LocalDateTime.now().minus(BACKFILL_WINDOW);
+    }
+
+    private void save(StatusRollupResolution resolution, Iterable<StatusRollup> rollups, LocalDateTime now) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusRollup.class, resolution.collection());
+        int pending = 0;
+        for (StatusRollup rollup : rollups) {
+            LocalDateTime expiresAt = rollup.getBucketStart().plus(resolution.step()).plus(resolution.retention());
+            if (expiresAt.isBefore(now)) {
+                continue;
+            }
+            rollup.setExpiresAt(expiresAt);
+            bulk.replaceOne(
+                    new Query(Criteria.where("_id").is(rollup.getBucketStart())),
+                    rollup,
+                    FindAndReplaceOptions.options().upsert()
+            );
+            pending++;
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+    }
+
+    private static StatusRollup bucket(
+            Map<LocalDateTime, StatusRollup> buckets,
+            StatusRollupResolution resolution,
+            LocalDateTime timestamp
+    ) {
+        return buckets.computeIfAbsent(resolution.truncate(timestamp), StatusRollup::new);
+    }
+
+    private static void add(StatusRollup rollup, StatusHistory row) {
+        SystemStatus overall = row.getOverallStatus();
+        rollup.setSamples(rollup.getSamples() + 1);
+        rollup.getOverall().add(overall, row.getApiLatency());
+        rollup.getApi().add(resolveServiceStatus(row.getApiStatus(), row.getApiLatency(), overall), row.getApiLatency());
+        rollup.getDb().add(resolveServiceStatus(row.getDbStatus(), row.getDbLatency(), overall), row.getDbLatency());
+        rollup.getStorage().add(resolveServiceStatus(row.getStorageStatus(), row.getStorageLatency(), overall), row.getStorageLatency());
+    }
+}
@@ -3,13 +3,14 @@ package net.modtale.service.system;
 import com.mongodb.MongoException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.ArrayList;
 import java.util.List;
 import net.modtale.config.properties.AppR2Properties;
 import net.modtale.model.dto.response.system.ServiceStatusView;
 import net.modtale.model.dto.response.system.StatusHistoryPointView;
 import net.modtale.model.dto.response.system.SystemStatusView;
 import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
+import net.modtale.model.system.StatusRollupResolution;
 import net.modtale.model.system.SystemStatus;
 import net.modtale.repository.system.StatusHistoryRepository;
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ public class StatusSnapshotService {
     private final StatusHistoryRepository historyRepository;
     private final StatusDiscordNotifierService statusDiscordNotifierService;
     private final StatusIncidentService statusIncidentService;
+    private final StatusRollupService statusRollupService;
     private final boolean embeddedCheckerEnabled;
 
     private volatile SystemStatusView cached24HourStatus;
@@ -47,6 +49,7 @@ public class StatusSnapshotService {
             StatusHistoryRepository historyRepository,
             StatusDiscordNotifierService statusDiscordNotifierService,
             StatusIncidentService statusIncidentService,
+            StatusRollupService statusRollupService,
             @Value("${app.status-checker.enabled:false}") boolean embeddedCheckerEnabled
     ) {
         this.mongoTemplate = mongoTemplate;
@@ -55,6 +58,7 @@ public class StatusSnapshotService {
         this.historyRepository = historyRepository;
         this.statusDiscordNotifierService = statusDiscordNotifierService;
         this.statusIncidentService = statusIncidentService;
+        this.statusRollupService = statusRollupService;
         this.embeddedCheckerEnabled = embeddedCheckerEnabled;
     }
 
@@ -131,30 +135,24 @@ public class StatusSnapshotService {
                 )
         );
 
-        LocalDateTime since = "30d".equals(range)
+        boolean thirtyDays = "30d".equals(range);
+        LocalDateTime since = thirtyDays
                 ? LocalDateTime.now().minusDays(30)
                 : LocalDateTime.now().minusHours(24);
-
-        List<StatusHistory> history = findHistorySafely(since);
-
-        if ("30d".equals(range) && history.size() > 500) {
-            int step = history.size() / 100;
-            List<StatusHistory> downsampled = new ArrayList<>();
-            for (int i = 0; i < history.size(); i += step) {
-                downsampled.add(history.get(i));
-            }
-            history = downsampled;
-        }
-
-        List<StatusHistoryPointView> historyPoints = history.stream()
-                .map(h -> new StatusHistoryPointView(
-                        h.getTimestamp().toEpochSecond(ZoneOffset.UTC) * 1000,
-                        h.getApiLatency(),
-                        h.getDbLatency(),
-                        h.getStorageLatency(),
-                        resolveServiceStatus(h.getApiStatus(), h.getApiLatency(), h.getOverallStatus()),
-                        resolveServiceStatus(h.getDbStatus(), h.getDbLatency(), h.getOverallStatus()),
-                        resolveServiceStatus(h.getStorageStatus(), h.getStorageLatency(), h.getOverallStatus())
+        StatusRollupResolution resolution = thirtyDays
+                ? StatusRollupResolution.ONE_HOUR
+                : StatusRollupResolution.FIFTEEN_MINUTES;
+
+        List<StatusHistoryPointView> historyPoints = findRollupsSafely(resolution, since).stream()
+                .filter(rollup -> rollup.getSamples() > 0)
+                .map(rollup -> new StatusHistoryPointView(
+                        rollup.getBucketStart().toEpochSecond(ZoneOffset.UTC) * 1000,
+                        rollup.getApi().averageLatency(),
+                        rollup.getDb().averageLatency(),
+                        rollup.getStorage().averageLatency(),
+                        rollup.getApi().worstStatus(),
+                        rollup.getDb().worstStatus(),
+                        rollup.getStorage().worstStatus()
                 ))
                 .toList();
 
@@ -210,12 +208,20 @@ public class StatusSnapshotService {
                 storageStatus
         );
 
+        StatusHistory saved;
         try {
-            return historyRepository.save(entry);
+            saved = historyRepository.save(entry);
         } catch (RuntimeException e) {
             logger.error("Health Check: Failed to persist status history", e);
             return entry;
         }
+
+        try {
+            statusRollupService.sync(saved.getTimestamp());
+        } catch (RuntimeException e) {
+            logger.warn("Health Check: Failed to update status rollups", e);
+        }
+        return saved;
     }
 
     private StatusHistory findLatestHistorySafely() {
@@ -227,33 +233,17 @@ public class StatusSnapshotService {
         }
     }
 
-    private List<StatusHistory> findHistorySafely(LocalDateTime since) {
+    private List<StatusRollup> findRollupsSafely(StatusRollupResolution resolution, LocalDateTime since) {
         try {
-            return historyRepository.findByTimestampAfterOrderByTimestampAsc(since);
+            return statusRollupService.find(resolution, since);
         } catch (RuntimeException e) {
-            logger.warn("Health Check: Failed to read status history", e);
+            logger.warn("Health Check: Failed to read status rollups", e);
             return List.of();
         }
     }
 
     private SystemStatus resolveServiceStatus(SystemStatus storedStatus, int latency, SystemStatus overallStatus) {
-        if (storedStatus != null) {
-            return storedStatus;
-        }
-
-        if (overallStatus == SystemStatus.OPERATIONAL) {
-            return SystemStatus.OPERATIONAL;
-        }
-
-        if (latency <= 0 || latency >= 5000) {
-            return SystemStatus.OUTAGE;
-        }
-
-        if (overallStatus == SystemStatus.OUTAGE) {
-            return SystemStatus.OUTAGE;
-        }
-
-        return SystemStatus.DEGRADED;
+        return StatusRollupService.resolveServiceStatus(storedStatus, latency, overallStatus);
     }
 
     private void notifyDiscordIfStatusChanged(StatusHistory previous, StatusHistory latest) {
@@ -271,7 +261,7 @@ public class StatusSnapshotService {
             statusDiscordNotifierService.notifyStatusChange(
                     previous,
                     latest,
-                    findHistorySafely(LocalDateTime.now().minusDays(30))
+                    findRollupsSafely(StatusRollupResolution.ONE_DAY, LocalDateTime.now().minusDays(30))
             );
         }
     }
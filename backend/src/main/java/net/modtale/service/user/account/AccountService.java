@@ -9,6 +9,7 @@ import net.modtale.exception.ResourceNotFoundException;
 import net.modtale.model.project.Project;
 import net.modtale.model.user.OAuthProvider;
 import net.modtale.model.user.User;
+import net.modtale.model.user.UserPrincipalSnapshot;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.security.validation.SanitizationService;
 import net.modtale.service.user.connection.ConnectedAccountMutationService;
@@ -33,6 +34,7 @@ public class AccountService {
     private final OAuthAvatarHealingService oauthAvatarHealingService;
     private final AccountLifecycleService accountLifecycleService;
     private final ConnectedAccountMutationService connectedAccountMutationService;
+    private final UserProjectionCacheService userProjectionCacheService;
 
     public AccountService(
             UserRepository userRepository,
@@ -41,7 +43,8 @@ public class AccountService {
             CurrentUserResolutionService currentUserResolutionService,
             OAuthAvatarHealingService oauthAvatarHealingService,
             AccountLifecycleService accountLifecycleService,
-            ConnectedAccountMutationService connectedAccountMutationService
+            ConnectedAccountMutationService connectedAccountMutationService,
+            UserProjectionCacheService userProjectionCacheService
     ) {
         this.userRepository = userRepository;
         this.mongoTemplate = mongoTemplate;
@@ -50,6 +53,7 @@ public class AccountService {
         this.oauthAvatarHealingService = oauthAvatarHealingService;
         this.accountLifecycleService = accountLifecycleService;
         this.connectedAccountMutationService = connectedAccountMutationService;
+        this.userProjectionCacheService = userProjectionCacheService;
     }
 
     public User getCurrentUser() {
@@ -60,6 +64,10 @@ public class AccountService {
         return currentUserResolutionService.resolveCurrentUser(authentication);
     }
 
+    public UserPrincipalSnapshot getCurrentPrincipal(Authentication authentication) {
+        return currentUserResolutionService.resolveCurrentPrincipal(authentication);
+    }
+
     public User requireCurrentUser(String actionDescription) {
         return requireCurrentUser(SecurityContextHolder.getContext().getAuthentication(), actionDescription);
     }
@@ -85,18 +93,7 @@ public class AccountService {
         if (userId == null || userId.isBlank()) {
             return null;
         }
-        User user = userRepository.findByUsernameIgnoreCase(userId).orElse(null);
-        if (user == null) {
-            user = userRepository.findById(userId).orElse(null);
-        }
-        if (user == null && userId.contains("~")) {
-            String legacyHandle = userId.substring(0, userId.lastIndexOf('~'));
-            String legacyId = userId.substring(userId.lastIndexOf('~') + 1);
-            user = userRepository.findById(legacyId).orElse(null);
-            if (user == null) {
-                user = userRepository.findByUsernameIgnoreCase(legacyHandle).orElse(null);
-            }
-        }
+        User user = pickProfileMatch(mongoTemplate.find(publicProfileQuery(userId), User.class), userId);
         if (user == null || user.isDeleted()) {
             return null;
         }
@@ -104,6 +101,44 @@ public class AccountService {
         return user;
     }
 
+    /**
+     * Matches a username, an id or a legacy {@code handle~id} route in one indexed {@code $or} query.
+     */
+    public static Query publicProfileQuery(String userId) {
+        List<Criteria> candidates = new ArrayList<>();
+        candidates.add(Criteria.where("usernameLower").is(User.normalizeUsername(userId)));
+        candidates.add(Criteria.where("_id").in(MongoIdUtils.expandIds(List.of(userId))));
+        int separator = userId.lastIndexOf('~');
+        if (separator >= 0) {
+            candidates.add(Criteria.where("_id").in(MongoIdUtils.expandIds(List.of(userId.substring(separator + 1)))));
+            candidates.add(Criteria.where("usernameLower").is(User.normalizeUsername(userId.substring(0, separator))));
+        }
+        return new Query(new Criteria().orOperator(candidates.toArray(Criteria[]::new))).limit(4);
+    }
+
+    // Same precedence as resolving username, id, legacy id and legacy handle one after another.
+    private static User pickProfileMatch(List<User> matches, String userId) {
+        int separator = userId.lastIndexOf('~');
+        String legacyHandle = separator >= 0 ? userId.substring(0, separator) : null;
+        String legacyId = separator >= 0 ? userId.substring(separator + 1) : null;
+
+        User byUsername = null;
+        User byId = null;
+        User byLegacyId = null;
+        User byLegacyHandle = null;
+        for (User match : matches) {
+            if (match.getUsername() != null && match.getUsername().equalsIgnoreCase(userId)) byUsername = match;
+            if (userId.equals(match.getId())) byId = match;
+            if (legacyId != null && legacyId.equals(match.getId())) byLegacyId = match;
+            if (legacyHandle != null && match.getUsername() != null
+                    && match.getUsername().equalsIgnoreCase(legacyHandle)) byLegacyHandle = match;
+        }
+        if (byUsername != null) return byUsername;
+        if (byId != null) return byId;
+        if (byLegacyId != null) return byLegacyId;
+        return byLegacyHandle;
+    }
+
     public List<User> getPublicProfilesByIds(List<String> userIds) {
         if (userIds == null || userIds.isEmpty()) {
             return new ArrayList<>();
@@ -140,13 +175,16 @@ public class AccountService {
             );
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userProjectionCacheService.evict(userId);
+        return saved;
     }
 
     public void updateUserAvatar(String userId, String url) {
         User user = userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User not found."));
         user.setAvatarUrl(url);
         userRepository.save(user);
+        userProjectionCacheService.evict(userId);
     }
 
     public void updateUserBanner(String userId, String url) {
@@ -2,6 +2,7 @@ package net.modtale.service.user.account;
 
 import net.modtale.exception.UnauthorizedException;
 import net.modtale.model.user.User;
+import net.modtale.model.user.UserPrincipalSnapshot;
 import net.modtale.repository.user.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,45 +16,36 @@ public class CurrentUserResolutionService {
     private static final Logger logger = LoggerFactory.getLogger(CurrentUserResolutionService.class);
 
     private final UserRepository userRepository;
+    private final UserPrincipalCacheService userPrincipalCacheService;
 
-    public CurrentUserResolutionService(UserRepository userRepository) {
+    public CurrentUserResolutionService(
+            UserRepository userRepository,
+            UserPrincipalCacheService userPrincipalCacheService
+    ) {
         this.userRepository = userRepository;
+        this.userPrincipalCacheService = userPrincipalCacheService;
     }
 
+    /**
+     * Loads the full user document. Use this only when the caller is going to read or mutate fields that are
+     * not part of {@link UserPrincipalSnapshot}.
+     */
     public User resolveCurrentUser(Authentication authentication) {
         try {
-            if (authentication == null || !authentication.isAuthenticated()) {
+            PrincipalKey key = principalKey(authentication);
+            if (key == null) {
                 return null;
             }
 
-            Object principal = authentication.getPrincipal();
-            String username = null;
-            String userId = null;
-
-            if (principal instanceof User authenticatedUser) {
-                userId = authenticatedUser.getId();
-                username = authenticatedUser.getUsername();
-            } else if (principal instanceof org.springframework.security.core.userdetails.User springUser) {
-                username = springUser.getUsername();
-            } else if (principal instanceof OAuth2User oauth2User) {
-                username = oauth2User.getAttribute("login");
-                Object oauthId = oauth2User.getAttribute("id");
-                if (oauthId != null) {
-                    userId = oauthId.toString();
-                }
-            } else if (principal instanceof String principalName && !"anonymousUser".equals(principalName)) {
-                username = principalName;
-            }
-
-            if (userId != null) {
-                User user = userRepository.findById(userId).orElse(null);
+            if (key.userId() != null) {
+                User user = userRepository.findById(key.userId()).orElse(null);
                 if (user != null && !user.isDeleted()) {
                     return user;
                 }
             }
 
-            if (username != null) {
-                User user = userRepository.findByUsernameIgnoreCase(username).orElse(null);
+            if (key.username() != null) {
+                User user = userRepository.findByUsernameIgnoreCase(key.username()).orElse(null);
                 if (user != null && !user.isDeleted()) {
                     return user;
                 }
@@ -65,6 +57,33 @@ public class CurrentUserResolutionService {
         return null;
     }
 
+    public UserPrincipalSnapshot resolveCurrentPrincipal(Authentication authentication) {
+        try {
+            PrincipalKey key = principalKey(authentication);
+            if (key == null) {
+                return null;
+            }
+
+            if (key.userId() != null) {
+                UserPrincipalSnapshot principal = userPrincipalCacheService.get(key.userId());
+                if (principal != null && !principal.deleted()) {
+                    return principal;
+                }
+            }
+
+            if (key.username() != null) {
+                UserPrincipalSnapshot principal = userPrincipalCacheService.getByUsername(key.username());
+                if (principal != null && !principal.deleted()) {
+                    return principal;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Error retrieving current principal", e);
+        }
+
+        return null;
+    }
+
     public User requireCurrentUser(Authentication authentication, String actionDescription) {
         User currentUser = resolveCurrentUser(authentication);
         if (currentUser == null) {
@@ -72,4 +91,37 @@ public class CurrentUserResolutionService {
         }
         return currentUser;
     }
+
+    private PrincipalKey principalKey(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+
+        Object principal = authentication.getPrincipal();
+        String username = null;
+        String userId = null;
+
+        if (principal instanceof User authenticatedUser) {
+            userId = authenticatedUser.getId();
+            username = authenticatedUser.getUsername();
+        } else if (principal instanceof org.springframework.security.core.userdetails.User springUser) {
+            username = springUser.getUsername();
+        } else if (principal instanceof OAuth2User oauth2User) {
+            username = oauth2User.getAttribute("login");
+            Object oauthId = oauth2User.getAttribute("id");
+            if (oauthId != null) {
+                userId = oauthId.toString();
+            }
+        } else if (principal instanceof String principalName && !"anonymousUser".equals(principalName)) {
+            username = principalName;
+        }
+
+        if (userId == null && username == null) {
+            return null;
+        }
+        return new PrincipalKey(userId, username);
+    }
+
+    private record PrincipalKey(String userId, String username) {
+    }
 }
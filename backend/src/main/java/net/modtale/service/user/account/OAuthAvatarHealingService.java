@@ -1,34 +1,77 @@
 package net.modtale.service.user.account;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.time.LocalDateTime;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import net.modtale.config.core.LaneExecutor;
 import net.modtale.model.user.OAuthProvider;
 import net.modtale.model.user.User;
-import net.modtale.repository.user.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+/**
+ * Replaces dead provider avatars in the background. Read paths only enqueue a check; each user is checked
+ * at most once per cooldown window. Checks run on the dedicated virtual-thread probe lane, which bounds how many
+ * are in flight, so slow avatar hosts never hold up housekeeping work.
+ */
 @Service
 public class OAuthAvatarHealingService {
 
     private static final Logger logger = LoggerFactory.getLogger(OAuthAvatarHealingService.class);
+    private static final Duration CHECK_COOLDOWN = Duration.ofMinutes(30);
+    private static final Duration PROBE_TIMEOUT = Duration.ofMillis(2500);
 
-    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final UserProjectionCacheService userProjectionCacheService;
+    private final Executor probeExecutor;
     private final RestClient restClient;
-    private final Map<String, LocalDateTime> avatarHealCooldown = new ConcurrentHashMap<>();
+    private final HttpClient httpClient;
 
-    public OAuthAvatarHealingService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    private final Cache<String, Boolean> avatarHealCooldown = Caffeine.newBuilder()
+            .expireAfterWrite(CHECK_COOLDOWN)
+            .maximumSize(50000)
+            .build();
+
+    public OAuthAvatarHealingService(
+            MongoTemplate mongoTemplate,
+            UserProjectionCacheService userProjectionCacheService,
+            @Qualifier("probeExecutor") Executor probeExecutor
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.userProjectionCacheService = userProjectionCacheService;
+        this.probeExecutor = probeExecutor;
         this.restClient = RestClient.create();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(PROBE_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
     }
 
+    /**
+     * Schedules a background health check of the user's provider avatar. Never blocks the caller.
+     */
     public void maybeHealOAuthAvatar(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
         if (user.getAvatarUrl() == null || user.getAvatarUrl().isBlank()) {
             return;
         }
@@ -38,30 +81,57 @@ public class OAuthAvatarHealingService {
         if (!isOAuthManagedAvatar(user)) {
             return;
         }
-
-        LocalDateTime lastAttempt = avatarHealCooldown.get(user.getId());
-        if (lastAttempt != null && lastAttempt.isAfter(LocalDateTime.now().minusMinutes(30))) {
+        if (avatarHealCooldown.asMap().putIfAbsent(user.getId(), Boolean.TRUE) != null) {
             return;
         }
-        avatarHealCooldown.put(user.getId(), LocalDateTime.now());
 
-        if (isImageUrlReachable(user.getAvatarUrl())) {
+        if (!LaneExecutor.tryExecute(probeExecutor, () -> verify(user))) {
+            // Probe lane is saturated; let a later read schedule this user again.
+            avatarHealCooldown.invalidate(user.getId());
+        }
+    }
+
+    void verify(User user) {
+        try {
+            heal(user);
+        } catch (RuntimeException ex) {
+            logger.debug("Avatar health check failed for user {}", user.getId(), ex);
+        }
+    }
+
+    private void heal(User user) {
+        String current = user.getAvatarUrl();
+        if (reachability(current) != Reachability.UNREACHABLE) {
             return;
         }
 
         String refreshed = refreshAvatarFromLinkedProvider(user);
-        if (refreshed != null && !refreshed.isBlank() && isImageUrlReachable(refreshed)) {
-            user.setAvatarUrl(refreshed);
-            userRepository.save(user);
-            logger.info("Healed broken provider avatar for user {} using linked provider.", user.getId());
-            return;
+        if (refreshed != null && !refreshed.isBlank()) {
+            Reachability refreshedReachability = reachability(refreshed);
+            if (refreshedReachability == Reachability.UNKNOWN) {
+                return;
+            }
+            if (refreshedReachability == Reachability.REACHABLE) {
+                applyAvatar(user.getId(), current, refreshed);
+                logger.info("Healed broken provider avatar for user {} using linked provider.", user.getId());
+                return;
+            }
         }
 
-        user.setAvatarUrl("https://ui-avatars.com/api/?name=" + user.getUsername() + "&background=random");
-        userRepository.save(user);
+        applyAvatar(user.getId(), current, "https://ui-avatars.com/api/?name=" + user.getUsername() + "&background=random");
         logger.warn("Reset broken provider avatar to default for user {}", user.getId());
     }
 
+    // Conditional on the URL we probed so a concurrent profile edit is never overwritten.
+    private void applyAvatar(String userId, String expectedUrl, String avatarUrl) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(userId).and("avatarUrl").is(expectedUrl)),
+                new Update().set("avatarUrl", avatarUrl),
+                User.class
+        );
+        userProjectionCacheService.evict(userId);
+    }
+
     private boolean isOAuthManagedAvatar(User user) {
         String avatarUrl = user.getAvatarUrl();
         if (avatarUrl == null) {
@@ -83,22 +153,35 @@ public class OAuthAvatarHealingService {
                 || (hasBluesky && avatarUrl.contains("bsky"));
     }
 
-    private boolean isImageUrlReachable(String rawUrl) {
+    // Interruption means shutdown, not a dead host, so the avatar is left untouched.
+    private Reachability reachability(String rawUrl) {
         try {
-            HttpURLConnection connection = (HttpURLConnection) new URL(rawUrl).openConnection();
-            connection.setInstanceFollowRedirects(true);
-            connection.setConnectTimeout(2500);
-            connection.setReadTimeout(2500);
-            connection.setRequestMethod("GET");
-            connection.setRequestProperty("User-Agent", "ModtaleAvatarHealth/1.0");
-            int status = connection.getResponseCode();
-            return status >= 200 && status < 400;
-        } catch (Exception ex) {
+            int status = probe(rawUrl).get(PROBE_TIMEOUT.multipliedBy(3).toMillis(), TimeUnit.MILLISECONDS);
+            return status >= 200 && status < 400 ? Reachability.REACHABLE : Reachability.UNREACHABLE;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Reachability.UNKNOWN;
+        } catch (ExecutionException | TimeoutException | RuntimeException ex) {
             logger.debug("Avatar URL health check failed for {}", rawUrl, ex);
-            return false;
+            return Reachability.UNREACHABLE;
         }
     }
 
+    private CompletableFuture<Integer> probe(String rawUrl) {
+        return send(rawUrl, "HEAD").thenCompose(status -> status == 405 || status == 501
+                ? send(rawUrl, "GET")
+                : CompletableFuture.completedFuture(status));
+    }
+
+    private CompletableFuture<Integer> send(String rawUrl, String method) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(rawUrl))
+                .timeout(PROBE_TIMEOUT)
+                .header("User-Agent", "ModtaleAvatarHealth/1.0")
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
     private String refreshAvatarFromLinkedProvider(User user) {
         for (User.ConnectedAccount account : user.getConnectedAccounts()) {
             if (account == null || account.getProvider() == null) {
@@ -214,4 +297,10 @@ public class OAuthAvatarHealingService {
             return null;
         }
     }
+
+    private enum Reachability {
+        REACHABLE,
+        UNREACHABLE,
+        UNKNOWN
+    }
 }
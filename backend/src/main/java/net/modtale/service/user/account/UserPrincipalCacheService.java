@@ -0,0 +1,251 @@
+package net.modtale.service.user.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.modtale.model.user.PrincipalInvalidation;
+import net.modtale.model.user.User;
+import net.modtale.model.user.UserPrincipalSnapshot;
+import net.modtale.util.MongoIdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches {@link UserPrincipalSnapshot}s per user id. Invalidation stamps each user with a value from a
+ * monotonic clock so a load that raced with a write is never cached over the newer state.
+ *
+ * <p>Every invalidation is also published to {@code principal_invalidations}, which each node polls so a
+ * write handled elsewhere reaches this node within a poll interval. Snapshots carrying admin permissions or a
+ * deletion expire after {@link #PRIVILEGED_SNAPSHOT_TTL} regardless, bounding the damage of a missed poll.
+ */
+@Service
+public class UserPrincipalCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPrincipalCacheService.class);
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(5);
+    static final Duration PRIVILEGED_SNAPSHOT_TTL = Duration.ofSeconds(15);
+    private static final Duration POLL_LOOKBACK = Duration.ofSeconds(10);
+
+    private final MongoTemplate mongoTemplate;
+    private final AtomicLong clock = new AtomicLong();
+    private volatile Instant lastPolledAt = Instant.now();
+
+    private final Cache<String, StampedSnapshot> snapshots = Caffeine.newBuilder()
+            .expireAfter(new SnapshotExpiry())
+            .maximumSize(50000)
+            .build();
+
+    private final Cache<String, Set<String>> memberIdsByOrganization = Caffeine.newBuilder()
+            .expireAfterAccess(SNAPSHOT_TTL)
+            .maximumSize(50000)
+            .build();
+
+    private final Cache<String, Boolean> appliedInvalidations = Caffeine.newBuilder()
+            .expireAfterWrite(POLL_LOOKBACK.multipliedBy(6))
+            .maximumSize(50000)
+            .build();
+
+    private final Cache<String, Long> invalidations = Caffeine.newBuilder()
+            .expireAfterWrite(SNAPSHOT_TTL.multipliedBy(2))
+            .maximumSize(50000)
+            .build();
+
+    private final Cache<String, String> userIdsByUsername = Caffeine.newBuilder()
+            .expireAfterWrite(SNAPSHOT_TTL)
+            .maximumSize(50000)
+            .build();
+
+    public UserPrincipalCacheService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public UserPrincipalSnapshot get(String userId) {
+        if (userId == null || userId.isBlank()) {
+            return null;
+        }
+
+        StampedSnapshot cached = snapshots.getIfPresent(userId);
+        if (cached != null && isCurrent(userId, cached.version())) {
+            return cached.snapshot();
+        }
+
+        long version = clock.incrementAndGet();
+        UserPrincipalSnapshot loaded = load(userId);
+        if (loaded != null && isCurrent(userId, version)) {
+            snapshots.put(userId, new StampedSnapshot(loaded, version));
+            for (String organizationId : loaded.organizationIds()) {
+                memberIdsByOrganization.get(organizationId, ignored -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+        return loaded;
+    }
+
+    public UserPrincipalSnapshot getByUsername(String username) {
+        if (username == null || username.isBlank()) {
+            return null;
+        }
+
+        String key = username.toLowerCase(Locale.ROOT);
+        String userId = userIdsByUsername.getIfPresent(key);
+        if (userId != null) {
+            UserPrincipalSnapshot snapshot = get(userId);
+            if (snapshot != null && username.equalsIgnoreCase(snapshot.username())) {
+                return snapshot;
+            }
+            userIdsByUsername.invalidate(key);
+        }
+
+        Query query = new Query(Criteria.where("usernameLower").is(User.normalizeUsername(username)));
+        query.fields().include("_id");
+        User user = mongoTemplate.findOne(query, User.class);
+        if (user == null || user.getId() == null) {
+            return null;
+        }
+        userIdsByUsername.put(key, user.getId());
+        return get(user.getId());
+    }
+
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidateLocally(userId);
+        publish(List.of(userId), null);
+    }
+
+    /**
+     * Drops the organization's own snapshot and every cached snapshot that lists it as a membership, which
+     * also covers members who were just removed from the organization.
+     */
+    public void invalidateOrganization(String organizationId, List<String> memberIds) {
+        if (organizationId == null) {
+            return;
+        }
+        List<String> userIds = memberIds == null ? List.of() : List.copyOf(memberIds);
+        invalidateOrganizationLocally(organizationId, userIds);
+        publish(userIds, organizationId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.principal-cache.invalidation-poll-ms:2000}")
+    public void applyRemoteInvalidations() {
+        Instant polledAt = Instant.now();
+        Query query = new Query(Criteria.where("createdAt").gte(lastPolledAt.minus(POLL_LOOKBACK)))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        List<PrincipalInvalidation> invalidations;
+        try {
+            invalidations = mongoTemplate.find(query, PrincipalInvalidation.class);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to poll principal invalidations", e);
+            return;
+        }
+        for (PrincipalInvalidation invalidation : invalidations) {
+            if (invalidation.getId() == null || appliedInvalidations.asMap().putIfAbsent(invalidation.getId(), true) != null) {
+                continue;
+            }
+            List<String> userIds = invalidation.getUserIds() == null ? List.of() : invalidation.getUserIds();
+            if (invalidation.getOrganizationId() != null) {
+                invalidateOrganizationLocally(invalidation.getOrganizationId(), userIds);
+            } else {
+                userIds.forEach(this::invalidateLocally);
+            }
+        }
+        lastPolledAt = polledAt;
+    }
+
+    private void invalidateLocally(String userId) {
+        invalidations.put(userId, clock.incrementAndGet());
+        snapshots.invalidate(userId);
+    }
+
+    private void invalidateOrganizationLocally(String organizationId, List<String> memberIds) {
+        invalidateLocally(organizationId);
+        memberIds.forEach(this::invalidateLocally);
+        Set<String> indexed = memberIdsByOrganization.asMap().remove(organizationId);
+        if (indexed != null) {
+            new ArrayList<>(indexed).forEach(this::invalidateLocally);
+        }
+    }
+
+    private void publish(List<String> userIds, String organizationId) {
+        try {
+            PrincipalInvalidation saved = mongoTemplate.insert(new PrincipalInvalidation(userIds, organizationId));
+            if (saved != null && saved.getId() != null) {
+                appliedInvalidations.put(saved.getId(), true);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish principal invalidation for {}", organizationId != null ? organizationId : userIds, e);
+        }
+    }
+
+    private boolean isCurrent(String userId, long version) {
+        Long invalidatedAt = invalidations.getIfPresent(userId);
+        return invalidatedAt == null || invalidatedAt < version;
+    }
+
+    private UserPrincipalSnapshot load(String userId) {
+        Query userQuery = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(List.of(userId))));
+        userQuery.fields()
+                .include("_id")
+                .include("username")
+                .include("roles")
+                .include("adminPermissions")
+                .include("tier")
+                .include("accountType")
+                .include("deletedAt");
+        User user = mongoTemplate.findOne(userQuery, User.class);
+        if (user == null) {
+            return null;
+        }
+
+        Query organizationQuery = new Query(Criteria.where("accountType").is(User.AccountType.ORGANIZATION)
+                .and("organizationMembers.userId").is(user.getId()));
+        organizationQuery.fields().include("_id");
+        Set<String> organizationIds = new LinkedHashSet<>();
+        for (User organization : mongoTemplate.find(organizationQuery, User.class)) {
+            organizationIds.add(organization.getId());
+        }
+
+        return UserPrincipalSnapshot.of(user, organizationIds);
+    }
+
+    private record StampedSnapshot(UserPrincipalSnapshot snapshot, long version) {
+
+        boolean privileged() {
+            return snapshot.hasAnyAdminPermission() || snapshot.roles().contains("ADMIN") || snapshot.deleted();
+        }
+    }
+
+    private static final class SnapshotExpiry implements Expiry<String, StampedSnapshot> {
+
+        @Override
+        public long expireAfterCreate(String key, StampedSnapshot value, long currentTime) {
+            return (value.privileged() ? PRIVILEGED_SNAPSHOT_TTL : SNAPSHOT_TTL).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StampedSnapshot value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StampedSnapshot value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
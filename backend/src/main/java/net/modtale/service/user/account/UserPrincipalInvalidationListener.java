@@ -0,0 +1,49 @@
+package net.modtale.service.user.account;
+
+import java.util.List;
+import java.util.Objects;
+import net.modtale.model.user.User;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates cached principal snapshots whenever a user or organization document is saved or deleted.
+ */
+@Component
+public class UserPrincipalInvalidationListener extends AbstractMongoEventListener<User> {
+
+    private final UserPrincipalCacheService userPrincipalCacheService;
+
+    public UserPrincipalInvalidationListener(UserPrincipalCacheService userPrincipalCacheService) {
+        this.userPrincipalCacheService = userPrincipalCacheService;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        User user = event.getSource();
+        if (user.getAccountType() == User.AccountType.ORGANIZATION) {
+            List<String> memberIds = user.getOrganizationMembers() == null
+                    ? List.of()
+                    : user.getOrganizationMembers().stream()
+                    .map(User.OrganizationMember::getUserId)
+                    .filter(Objects::nonNull)
+                    .toList();
+            userPrincipalCacheService.invalidateOrganization(user.getId(), memberIds);
+        } else {
+            userPrincipalCacheService.invalidate(user.getId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Document criteria = event.getSource();
+        Object id = criteria == null ? null : criteria.get("_id");
+        if (id instanceof String || id instanceof ObjectId) {
+            userPrincipalCacheService.invalidateOrganization(id.toString(), List.of());
+        }
+    }
+}
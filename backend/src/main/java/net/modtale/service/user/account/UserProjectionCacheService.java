@@ -0,0 +1,76 @@
+package net.modtale.service.user.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.modtale.model.user.User;
+import net.modtale.util.MongoIdUtils;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Shared cache of the username/avatar projection used to decorate project pages and catalog results.
+ * Misses are resolved with a single {@code $in} query per call.
+ */
+@Service
+public class UserProjectionCacheService {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Cache<String, UserProjection> projectionCache = Caffeine.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumSize(20000)
+            .build();
+
+    public UserProjectionCacheService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Map<String, UserProjection> getAll(Collection<String> userIds) {
+        Map<String, UserProjection> resolved = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return resolved;
+        }
+
+        Set<String> missing = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            if (userId == null || userId.isBlank()) continue;
+            UserProjection cached = projectionCache.getIfPresent(userId);
+            if (cached != null) {
+                resolved.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Query query = new Query(Criteria.where("_id").in(MongoIdUtils.expandIds(missing)));
+        query.fields().include("_id").include("username").include("avatarUrl");
+        for (User user : mongoTemplate.find(query, User.class)) {
+            if (user.getId() == null) continue;
+            UserProjection projection = new UserProjection(user.getId(), user.getUsername(), user.getAvatarUrl());
+            projectionCache.put(user.getId(), projection);
+            resolved.put(user.getId(), projection);
+        }
+        return resolved;
+    }
+
+    public void evict(String userId) {
+        if (userId != null) {
+            projectionCache.invalidate(userId);
+        }
+    }
+
+    public record UserProjection(String id, String username, String avatarUrl) {
+    }
+}
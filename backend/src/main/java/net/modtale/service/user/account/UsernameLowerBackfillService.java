@@ -0,0 +1,83 @@
+package net.modtale.service.user.account;
+
+import jakarta.annotation.PostConstruct;
+import java.util.stream.Stream;
+import net.modtale.model.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fills {@code usernameLower} on accounts written before the field existed. Lowercasing happens in Java
+ * so the stored key always matches {@link User#normalizeUsername(String)}, including non-ASCII names.
+ *
+ * <p>The migration runs during context refresh, before the web server accepts traffic, because lookups only
+ * consult {@code usernameLower}; a failure aborts startup rather than serving accounts that cannot be found.
+ * A second pass after startup picks up accounts the dev seeder copies in as raw documents.
+ */
+@Service
+public class UsernameLowerBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameLowerBackfillService.class);
+    static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    public UsernameLowerBackfillService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        int updated = backfillMissing();
+        if (updated > 0) {
+            logger.info("Backfilled usernameLower on {} users.", updated);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = backfillMissing();
+            if (updated > 0) {
+                logger.info("Backfilled usernameLower on {} users.", updated);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("usernameLower backfill failed", ex);
+        }
+    }
+
+    int backfillMissing() {
+        Query query = new Query(Criteria.where("usernameLower").is(null).and("username").ne(null));
+        query.fields().include("_id").include("username");
+        query.cursorBatchSize(BATCH_SIZE);
+
+        int updated = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        try (Stream<User> stream = mongoTemplate.stream(query, User.class)) {
+            for (User user : (Iterable<User>) stream::iterator) {
+                bulk.updateOne(
+                        new Query(Criteria.where("_id").is(user.getId()).and("username").is(user.getUsername())),
+                        new Update().set("usernameLower", User.normalizeUsername(user.getUsername()))
+                );
+                if (++pending == BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        return updated;
+    }
+}
@@ -15,6 +15,7 @@ import net.modtale.repository.user.UserRepository;
 import net.modtale.service.analytics.TrackingService;
 import net.modtale.service.security.validation.SanitizationService;
 import net.modtale.service.user.account.AccountService;
+import net.modtale.service.user.account.UserProjectionCacheService;
 import net.modtale.util.MongoIdUtils;
 import net.modtale.validation.AccountNameRules;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -35,6 +36,7 @@ public class OrganizationService {
     private final OrganizationConnectionService organizationConnectionService;
     private final OrganizationRoleService organizationRoleService;
     private final OrganizationInviteService organizationInviteService;
+    private final UserProjectionCacheService userProjectionCacheService;
     private final int maxOrgsPerUser;
 
     public OrganizationService(
@@ -48,6 +50,7 @@ public class OrganizationService {
             OrganizationConnectionService organizationConnectionService,
             OrganizationRoleService organizationRoleService,
             OrganizationInviteService organizationInviteService,
+            UserProjectionCacheService userProjectionCacheService,
             AppLimitProperties limitProperties
     ) {
         this.userRepository = userRepository;
@@ -60,6 +63,7 @@ public class OrganizationService {
         this.organizationConnectionService = organizationConnectionService;
         this.organizationRoleService = organizationRoleService;
         this.organizationInviteService = organizationInviteService;
+        this.userProjectionCacheService = userProjectionCacheService;
         this.maxOrgsPerUser = limitProperties.maxOrgsPerUser();
     }
 
@@ -138,7 +142,9 @@ public class OrganizationService {
         if (bio != null) {
             org.setBio(sanitizer.sanitizePlainText(bio));
         }
-        return userRepository.save(org);
+        User saved = userRepository.save(org);
+        userProjectionCacheService.evict(orgId);
+        return saved;
     }
 
     public User createOrganizationRole(String orgId, String name, String color, java.util.Set<ApiKey.ApiPermission> perms, User requester) {
@@ -183,6 +189,7 @@ public class OrganizationService {
         );
         org.setAvatarUrl(url);
         userRepository.save(org);
+        userProjectionCacheService.evict(orgId);
     }
 
     public void updateOrganizationBanner(String orgId, String url, User requester) {
@@ -1,5 +1,6 @@
 package net.modtale.status;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -9,6 +10,7 @@ import java.util.Map;
 import net.modtale.status.StatusModels.IncidentBuckets;
 import net.modtale.status.StatusModels.StatusHistoryEntry;
 import net.modtale.status.StatusModels.StatusHistoryPointView;
+import net.modtale.status.StatusModels.SystemStatus;
 import net.modtale.status.StatusModels.SystemStatusView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +35,7 @@ public class DetachedStatusService {
     private volatile SystemStatusView cached30DayStatus;
     private volatile IncidentBuckets lastKnownIncidents = IncidentBuckets.empty();
     private volatile boolean hydrated;
+    private volatile Instant nextProbeAt = Instant.MIN;
 
     public DetachedStatusService(
             StatusServiceProperties properties,
@@ -54,14 +57,25 @@ public class DetachedStatusService {
         refreshSnapshots();
     }
 
+    /**
+     * Ticks frequently but only probes once the adaptive interval chosen after the last probe has elapsed.
+     */
     @Scheduled(
-            initialDelayString = "${status.refresh-interval-ms:60000}",
-            fixedDelayString = "${status.refresh-interval-ms:60000}"
+            initialDelayString = "${status.probe-tick-ms:5000}",
+            fixedDelayString = "${status.probe-tick-ms:5000}"
     )
+    public void probeIfDue() {
+        if (Instant.now().isBefore(nextProbeAt)) {
+            return;
+        }
+        refreshSnapshots();
+    }
+
     public synchronized void refreshSnapshots() {
         hydrate();
         StatusHistoryEntry previous = latestHistory();
         StatusHistoryEntry latest = statusProbeService.performHealthCheck();
+        nextProbeAt = Instant.now().plus(nextProbeInterval(latest));
         addHistory(latest);
         mongoStatusStore.saveHistory(latest);
         refreshIncidents();
@@ -87,6 +101,11 @@ public class DetachedStatusService {
         }
     }
 
+    private Duration nextProbeInterval(StatusHistoryEntry latest) {
+        boolean healthy = latest != null && latest.overallStatus() == SystemStatus.OPERATIONAL;
+        return healthy ? properties.getHealthyProbeInterval() : properties.getDegradedProbeInterval();
+    }
+
     private void hydrate() {
         if (hydrated) {
             return;
@@ -5,6 +5,8 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.ConnectionString;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -29,17 +31,25 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 
+/**
+ * Probes the site, API, MongoDB and R2. The Mongo probe reuses one single-connection client and only
+ * rebuilds it after a failed ping, so {@code status.probe.latency} measures the ping itself while client
+ * construction is recorded separately as {@code status.probe.connect}.
+ */
 @Service
-public class StatusProbeService {
+public class StatusProbeService implements AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(StatusProbeService.class);
 
     private final StatusServiceProperties properties;
+    private final MeterRegistry meterRegistry;
     private final HttpClient httpClient;
     private volatile S3Client s3Client;
+    private volatile MongoClient mongoClient;
 
-    public StatusProbeService(StatusServiceProperties properties) {
+    public StatusProbeService(StatusServiceProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
+        this.meterRegistry = meterRegistry;
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(properties.getRequestTimeout())
                 .followRedirects(HttpClient.Redirect.NORMAL)
@@ -82,6 +92,7 @@ public class StatusProbeService {
                     .build();
             HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
             int latency = elapsedMillis(start);
+            recordLatency(id, latency);
             int status = response.statusCode();
             SystemStatus health = status >= 200 && status < 400 ? statusFromLatency(latency) : SystemStatus.OUTAGE;
             return new ProbeResult(id, name, health, latency);
@@ -92,17 +103,21 @@ public class StatusProbeService {
     }
 
     private ProbeResult checkMongo() {
-        long start = System.currentTimeMillis();
         if (!hasText(properties.getMongoUri())) {
             return new ProbeResult("database", "Database (Atlas)", SystemStatus.OUTAGE, 0);
         }
 
-        try (MongoClient client = MongoClients.create(mongoSettings())) {
+        long start = System.currentTimeMillis();
+        try {
+            MongoClient client = mongoClient();
+            start = System.currentTimeMillis();
             client.getDatabase(properties.getMongoDatabase()).runCommand(new Document("ping", 1));
             int latency = elapsedMillis(start);
+            recordLatency("database", latency);
             return new ProbeResult("database", "Database (Atlas)", statusFromLatency(latency), latency);
         } catch (MongoException | IllegalArgumentException e) {
             logger.warn("Status probe failed for MongoDB: {}", e.toString());
+            resetMongoClient();
             return new ProbeResult("database", "Database (Atlas)", SystemStatus.OUTAGE, elapsedMillis(start));
         }
     }
@@ -117,6 +132,7 @@ public class StatusProbeService {
         try {
             s3().headBucket(HeadBucketRequest.builder().bucket(r2.getBucket()).build());
             int latency = elapsedMillis(start);
+            recordLatency("storage", latency);
             return new ProbeResult("storage", "Storage (R2)", statusFromLatency(latency), latency);
         } catch (SdkException | IllegalArgumentException e) {
             logger.warn("Status probe failed for R2: {}", e.toString());
@@ -124,6 +140,49 @@ public class StatusProbeService {
         }
     }
 
+    @Override
+    public void close() {
+        resetMongoClient();
+    }
+
+    private MongoClient mongoClient() {
+        MongoClient current = mongoClient;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (mongoClient == null) {
+                long start = System.nanoTime();
+                mongoClient = MongoClients.create(mongoSettings());
+                Timer.builder("status.probe.connect")
+                        .tag("target", "database")
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return mongoClient;
+        }
+    }
+
+    private synchronized void resetMongoClient() {
+        MongoClient current = mongoClient;
+        mongoClient = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (RuntimeException e) {
+                logger.debug("Failed to close MongoDB probe client: {}", e.toString());
+            }
+        }
+    }
+
+    private void recordLatency(String target, int latencyMillis) {
+        Timer.builder("status.probe.latency")
+                .tag("target", target)
+                .register(meterRegistry)
+                .record(latencyMillis, TimeUnit.MILLISECONDS);
+    }
+
     private S3Client s3() {
         S3Client current = s3Client;
         if (current != null) {
@@ -177,11 +236,13 @@ public class StatusProbeService {
     }
 
     private MongoClientSettings mongoSettings() {
-        Duration timeout = properties.getRequestTimeout();
-        long timeoutMillis = Math.max(1, timeout.toMillis());
+        long timeoutMillis = Math.max(1, properties.getRequestTimeout().toMillis());
+        long selectionMillis = Math.max(1, Math.min(timeoutMillis, properties.getMongoServerSelectionTimeout().toMillis()));
         return MongoClientSettings.builder()
                 .applyConnectionString(new ConnectionString(properties.getMongoUri()))
-                .applyToClusterSettings(settings -> settings.serverSelectionTimeout(timeoutMillis, TimeUnit.MILLISECONDS))
+                .applicationName("modtale-status-probe")
+                .applyToClusterSettings(settings -> settings.serverSelectionTimeout(selectionMillis, TimeUnit.MILLISECONDS))
+                .applyToConnectionPoolSettings(settings -> settings.minSize(0).maxSize(1))
                 .applyToSocketSettings(settings -> {
                     settings.connectTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
                     settings.readTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
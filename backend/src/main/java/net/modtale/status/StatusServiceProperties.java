@@ -9,6 +9,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class StatusServiceProperties {
 
     private Duration requestTimeout = Duration.ofSeconds(5);
+    private Duration mongoServerSelectionTimeout = Duration.ofSeconds(2);
+    private Duration healthyProbeInterval = Duration.ofSeconds(60);
+    private Duration degradedProbeInterval = Duration.ofSeconds(15);
     private Duration historyRetention = Duration.ofDays(30);
     private String snapshotPath = "/tmp/modtale-status-snapshot.json";
     private String targetSiteUrl = "https://modtale.net";
@@ -28,6 +31,30 @@ public class StatusServiceProperties {
         this.requestTimeout = requestTimeout;
     }
 
+    public Duration getMongoServerSelectionTimeout() {
+        return mongoServerSelectionTimeout;
+    }
+
+    public void setMongoServerSelectionTimeout(Duration mongoServerSelectionTimeout) {
+        this.mongoServerSelectionTimeout = mongoServerSelectionTimeout;
+    }
+
+    public Duration getHealthyProbeInterval() {
+        return healthyProbeInterval;
+    }
+
+    public void setHealthyProbeInterval(Duration healthyProbeInterval) {
+        this.healthyProbeInterval = healthyProbeInterval;
+    }
+
+    public Duration getDegradedProbeInterval() {
+        return degradedProbeInterval;
+    }
+
+    public void setDegradedProbeInterval(Duration degradedProbeInterval) {
+        this.degradedProbeInterval = degradedProbeInterval;
+    }
+
     public Duration getHistoryRetention() {
         return historyRetention;
     }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.benmanes.caffeine.cache.Policy;
+import net.modtale.service.project.media.WikiUpstreamClient;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
@@ -23,6 +24,18 @@ class CacheConfigTest {
         assertCacheMaximum(cacheManager, "wikiPageBundleJson", CacheConfig.WIKI_PAGE_CACHE_MAX_WEIGHT_BYTES);
     }
 
+    @Test
+    void wikiPayloadEntriesAreWeighedByTheirBody() {
+        CaffeineCache cache = (CaffeineCache) new CacheConfig().cacheManager().getCache("wikiPagePayload");
+        assertNotNull(cache);
+
+        cache.put("wiki-1:home", new WikiUpstreamClient.CachedPayload("x".repeat(100_000), "\"v1\"", null, 0L));
+        cache.getNativeCache().cleanUp();
+
+        long weight = cache.getNativeCache().policy().eviction().orElseThrow().weightedSize().orElseThrow();
+        assertTrue(weight >= 200_000, "weighed " + weight + " bytes");
+    }
+
     private void assertCacheMaximum(CacheManager cacheManager, String cacheName, long expectedMaximum) {
         Cache cache = cacheManager.getCache(cacheName);
 
@@ -0,0 +1,119 @@
+package net.modtale.config.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import net.modtale.config.properties.AppExecutorProperties.Lane;
+import net.modtale.config.properties.AppExecutorProperties.RejectionPolicy;
+import org.junit.jupiter.api.Test;
+
+class LaneExecutorTest {
+
+    @Test
+    void abortPolicyRejectsOnceThePoolAndQueueAreFull() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        try (LaneExecutor executor = new LaneExecutor("scan", new Lane(1, 1, 1, false, RejectionPolicy.ABORT), registry)) {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+            assertEquals(1.0, registry.get("modtale.executor.rejected").tag("lane", "scan").counter().count());
+            assertEquals(1.0, registry.get("modtale.executor.queued").tag("lane", "scan").gauge().value());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void callerRunsPolicyRunsOverflowOnTheSubmittingThread() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        try (LaneExecutor executor = new LaneExecutor("notify", new Lane(1, 1, 1, false, RejectionPolicy.CALLER_RUNS), new SimpleMeterRegistry())) {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+
+            executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+            assertEquals(Thread.currentThread(), ranOn.get());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void virtualThreadLaneBoundsConcurrencyAndBacklog() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try (LaneExecutor executor = new LaneExecutor("webhook", new Lane(1, 1, 1, true, RejectionPolicy.DISCARD), registry)) {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            executor.execute(() -> await(release));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            executor.execute(() -> {});
+
+            assertEquals(1.0, registry.get("modtale.executor.rejected").tag("lane", "webhook").counter().count());
+            assertEquals(1, executor.getActiveCount());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void tryExecuteReportsRejectionEvenOnADiscardLane() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean ran = new AtomicBoolean();
+        try (LaneExecutor executor = new LaneExecutor("housekeeping", new Lane(1, 1, 1, false, RejectionPolicy.DISCARD), registry)) {
+            assertTrue(executor.tryExecute(() -> await(release)));
+            assertTrue(executor.tryExecute(() -> await(release)));
+
+            assertFalse(executor.tryExecute(() -> ran.set(true)));
+            assertFalse(ran.get());
+            assertEquals(1.0, registry.get("modtale.executor.rejected").tag("lane", "housekeeping").counter().count());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void discardOldestNeverEvictsATaskAcceptedByTryExecute() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch promisedRan = new CountDownLatch(1);
+        AtomicBoolean overflowRan = new AtomicBoolean();
+        try (LaneExecutor executor = new LaneExecutor("webhook", new Lane(1, 1, 1, false, RejectionPolicy.DISCARD_OLDEST), new SimpleMeterRegistry())) {
+            executor.execute(() -> await(release));
+            assertTrue(executor.tryExecute(promisedRan::countDown));
+
+            executor.execute(() -> overflowRan.set(true));
+            release.countDown();
+
+            assertTrue(promisedRan.await(5, TimeUnit.SECONDS));
+            assertFalse(overflowRan.get());
+        }
+    }
+
+    @Test
+    void tryExecuteOnAPlainExecutorTreatsAThrowAsRejection() {
+        assertFalse(LaneExecutor.tryExecute(task -> {
+            throw new RejectedExecutionException("full");
+        }, () -> {}));
+        assertTrue(LaneExecutor.tryExecute(Runnable::run, () -> {}));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
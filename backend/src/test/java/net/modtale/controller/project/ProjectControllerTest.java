@@ -1,5 +1,6 @@
 package net.modtale.controller.project;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import net.modtale.exception.ResourceNotFoundException;
@@ -21,6 +22,8 @@ import net.modtale.service.project.catalog.GameVersionService;
 import net.modtale.service.project.lifecycle.LifecycleService;
 import net.modtale.service.project.lifecycle.ProjectRetentionService;
 import net.modtale.service.project.metadata.MetadataService;
+import net.modtale.service.project.query.CatalogSnapshotService;
+import net.modtale.service.project.query.ProjectResponseBytesCache;
 import net.modtale.service.project.query.ProjectResponseCacheService;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.project.query.SearchService;
@@ -48,6 +51,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ProjectControllerTest {
@@ -64,6 +68,8 @@ class ProjectControllerTest {
     private AccessControlService accessControlService;
     private AccountService accountService;
     private PermissionProjectLookupService permissionProjectLookupService;
+    private CatalogSnapshotService catalogSnapshotService;
+    private ProjectResponseBytesCache projectResponseBytesCache;
 
     @BeforeEach
     void setUp() {
@@ -78,6 +84,8 @@ class ProjectControllerTest {
         accessControlService = mock(AccessControlService.class);
         accountService = mock(AccountService.class);
         permissionProjectLookupService = mock(PermissionProjectLookupService.class);
+        catalogSnapshotService = mock(CatalogSnapshotService.class);
+        projectResponseBytesCache = mock(ProjectResponseBytesCache.class);
 
         controller = new ProjectController(
                 projectService,
@@ -90,10 +98,42 @@ class ProjectControllerTest {
                 projectResponseCacheService,
                 accessControlService,
                 accountService,
-                permissionProjectLookupService
+                permissionProjectLookupService,
+                catalogSnapshotService,
+                projectResponseBytesCache
         );
     }
 
+    @Test
+    void getProjectsServesUnfilteredFirstPagesFromCatalogSnapshots() {
+        byte[] snapshot = "{\"content\":[]}".getBytes(StandardCharsets.UTF_8);
+        when(catalogSnapshotService.find(ProjectClassification.PLUGIN, ProjectSort.DOWNLOADS, 24)).thenReturn(snapshot);
+
+        var response = controller.getProjects(
+                "",
+                null,
+                0,
+                24,
+                "downloads",
+                null,
+                "PLUGIN",
+                null,
+                null,
+                null,
+                "all",
+                null,
+                null,
+                "catalog",
+                null,
+                false,
+                null
+        );
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(snapshot, response.getBody());
+        verifyNoInteractions(projectResponseCacheService, searchService);
+    }
+
     @Test
     void getProjectsUsesAuthorIdAndDisablesCachingForFavorites() {
         User currentUser = user("user-1", "ada");
@@ -113,6 +153,8 @@ class ProjectControllerTest {
                 eq("30d"),
                 eq("Ada"),
                 eq(true),
+                isNull(),
+                eq(false),
                 eq(currentUser)
         )).thenReturn(page);
 
@@ -131,12 +173,14 @@ class ProjectControllerTest {
                 true,
                 "Ada",
                 "catalog",
+                null,
+                false,
                 null
         );
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals("no-cache", response.getHeaders().getCacheControl());
-        ProjectSummaryDTO dto = (ProjectSummaryDTO) response.getBody().getContent().getFirst();
+        ProjectSummaryDTO dto = (ProjectSummaryDTO) ((Page<?>) response.getBody()).getContent().getFirst();
         assertEquals("project-1", dto.id());
         assertEquals("Sky Tools", dto.title());
         verify(accountService).getCurrentUser((Authentication) null);
@@ -164,7 +208,9 @@ class ProjectControllerTest {
                 eq(ProjectViewCategory.ALL),
                 isNull(),
                 eq("creator-name"),
-                isNull()
+                isNull(),
+                isNull(),
+                eq(false)
         )).thenReturn(page);
 
         var response = controller.getProjects(
@@ -182,6 +228,8 @@ class ProjectControllerTest {
                 null,
                 "creator-name",
                 "catalog",
+                null,
+                false,
                 authentication
         );
 
@@ -201,7 +249,9 @@ class ProjectControllerTest {
                 eq(ProjectViewCategory.ALL),
                 isNull(),
                 eq("creator-name"),
-                isNull()
+                isNull(),
+                isNull(),
+                eq(false)
         );
     }
 
@@ -227,7 +277,9 @@ class ProjectControllerTest {
                 eq(ProjectViewCategory.ALL),
                 eq("all"),
                 isNull(),
-                eq(true)
+                eq(true),
+                isNull(),
+                eq(false)
         )).thenReturn(page);
 
         var response = controller.getProjects(
@@ -245,11 +297,13 @@ class ProjectControllerTest {
                 true,
                 null,
                 "catalog",
+                null,
+                false,
                 authentication
         );
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals("project-3", ((ProjectSummaryDTO) response.getBody().getContent().getFirst()).id());
+        assertEquals("project-3", ((ProjectSummaryDTO) ((Page<?>) response.getBody()).getContent().getFirst()).id());
         verify(accountService, never()).getCurrentUser(authentication);
         verify(projectResponseCacheService).searchPublicProjectSummaries(
                 eq(List.of("adventure", "tools")),
@@ -264,7 +318,9 @@ class ProjectControllerTest {
                 eq(ProjectViewCategory.ALL),
                 eq("all"),
                 isNull(),
-                eq(true)
+                eq(true),
+                isNull(),
+                eq(false)
         );
     }
 
@@ -285,7 +341,9 @@ class ProjectControllerTest {
                 eq(ProjectViewCategory.ALL),
                 isNull(),
                 isNull(),
-                isNull()
+                isNull(),
+                isNull(),
+                eq(false)
         )).thenReturn(page);
 
         var response = controller.getProjects(
@@ -303,11 +361,13 @@ class ProjectControllerTest {
                 null,
                 null,
                 "marquee",
+                null,
+                false,
                 null
         );
 
         assertEquals(200, response.getStatusCode().value());
-        ProjectMarqueeDTO dto = (ProjectMarqueeDTO) response.getBody().getContent().getFirst();
+        ProjectMarqueeDTO dto = (ProjectMarqueeDTO) ((Page<?>) response.getBody()).getContent().getFirst();
         assertEquals("project-4", dto.id());
         assertEquals("Hero Card", dto.title());
         verify(projectResponseCacheService).searchPublicProjectMarquee(
@@ -323,7 +383,9 @@ class ProjectControllerTest {
                 eq(ProjectViewCategory.ALL),
                 isNull(),
                 isNull(),
-                isNull()
+                isNull(),
+                isNull(),
+                eq(false)
         );
         verify(projectResponseCacheService, never()).searchPublicProjectSummaries(
                 org.mockito.ArgumentMatchers.any(),
@@ -349,7 +411,7 @@ class ProjectControllerTest {
         when(permissionProjectLookupService.findProject("project-1")).thenReturn(project("project-1", "Sky Tools", ProjectStatus.PUBLISHED));
         when(projectService.getProjectPageShellByRouteKey("project-1", currentUser)).thenReturn(null);
 
-        assertThrows(ResourceNotFoundException.class, () -> controller.getProject("project-1", null));
+        assertThrows(ResourceNotFoundException.class, () -> controller.getProject("project-1", null, null, null));
     }
 
     @Test
@@ -365,10 +427,10 @@ class ProjectControllerTest {
         when(accessControlService.isPubliclyReadable(snapshot)).thenReturn(true);
         when(projectResponseCacheService.getPublicProjectPageDtoByRouteKey("project-1")).thenReturn(cachedProject);
 
-        var response = controller.getProject("project-1", null);
+        var response = controller.getProject("project-1", null, null, null);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals("project-1", response.getBody().id());
+        assertEquals("project-1", assertInstanceOf(ProjectPageDTO.class, response.getBody()).id());
         assertTrue(response.getHeaders().getCacheControl().contains("max-age=300"));
         assertTrue(response.getHeaders().getCacheControl().contains("public"));
         verify(projectResponseCacheService).getPublicProjectPageDtoByRouteKey("project-1");
@@ -416,7 +478,7 @@ class ProjectControllerTest {
         when(accessControlService.hasEditPermission(project, currentUser)).thenReturn(true);
         when(accessControlService.isOwner(project, currentUser)).thenReturn(false);
 
-        var response = controller.getProject("project-1", null);
+        var response = controller.getProject("project-1", null, null, null);
 
         assertEquals(200, response.getStatusCode().value());
         ProjectPageDTO dto = assertInstanceOf(ProjectPageDTO.class, response.getBody());
@@ -443,7 +505,7 @@ class ProjectControllerTest {
         when(accessControlService.hasEditPermission(project, currentUser)).thenReturn(true);
         when(projectService.getProjectDetailsByRouteKey("project-1", currentUser)).thenReturn(project);
 
-        var response = controller.getProjectDetails("project-1", null);
+        var response = controller.getProjectDetails("project-1", null, null, null);
 
         assertEquals(200, response.getStatusCode().value());
         ProjectDTO dto = assertInstanceOf(ProjectDTO.class, response.getBody());
@@ -471,7 +533,7 @@ class ProjectControllerTest {
         when(accessControlService.hasEditPermission(project, currentUser)).thenReturn(true);
         when(projectService.getProjectVersionsByRouteKey("project-1", currentUser)).thenReturn(project);
 
-        var response = controller.getProjectVersions("project-1", null);
+        var response = controller.getProjectVersions("project-1", null, null, null);
 
         assertEquals(200, response.getStatusCode().value());
         ProjectVersionsDTO dto = assertInstanceOf(ProjectVersionsDTO.class, response.getBody());
@@ -489,13 +551,37 @@ class ProjectControllerTest {
         when(accountService.getCurrentUser((Authentication) null)).thenReturn(null);
         when(projectResponseCacheService.getPublicProjectPageDtoByRouteKey("project-1")).thenReturn(ProjectMapper.toPageDTO(project));
 
-        var response = controller.getProject("project-1", null);
+        var response = controller.getProject("project-1", null, null, null);
 
         assertEquals(200, response.getStatusCode().value());
         assertTrue(response.getHeaders().getCacheControl().contains("max-age=300"));
         assertTrue(response.getHeaders().getCacheControl().contains("public"));
     }
 
+    @Test
+    void getProjectServesPreEncodedBytesAndAnswersConditionalRequests() {
+        byte[] gzipped = {31, -117, 8, 0};
+        ProjectResponseBytesCache.EncodedResponse encoded = new ProjectResponseBytesCache.EncodedResponse(gzipped, "\"abc-gzip\"", "gzip");
+        when(accountService.getCurrentUser((Authentication) null)).thenReturn(null);
+        when(projectResponseBytesCache.isEnabled()).thenReturn(true);
+        when(projectResponseBytesCache.get(eq("projectPageDtos"), eq("project-1"), eq("gzip, br"), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(encoded);
+
+        var response = controller.getProject("project-1", null, "gzip, br", null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(gzipped, response.getBody());
+        assertEquals("gzip", response.getHeaders().getFirst("Content-Encoding"));
+        assertEquals("\"abc-gzip\"", response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getVary().contains("Accept-Encoding"));
+
+        var notModified = controller.getProject("project-1", "W/\"abc-gzip\"", "gzip, br", null);
+
+        assertEquals(304, notModified.getStatusCode().value());
+        assertEquals(null, notModified.getBody());
+        verifyNoInteractions(projectResponseCacheService);
+    }
+
     @Test
     void getProjectUsesCanonicalSlugRoutesForAnonymousProjects() {
         Project project = project("project-1", "LevelingCore", ProjectStatus.PUBLISHED);
@@ -504,7 +590,7 @@ class ProjectControllerTest {
         when(accountService.getCurrentUser((Authentication) null)).thenReturn(null);
         when(projectResponseCacheService.getPublicProjectPageDtoByRouteKey("levelingcore")).thenReturn(ProjectMapper.toPageDTO(project));
 
-        var response = controller.getProject("levelingcore", null);
+        var response = controller.getProject("levelingcore", null, null, null);
 
         assertEquals(200, response.getStatusCode().value());
         assertTrue(response.getHeaders().getCacheControl().contains("max-age=300"));
@@ -1,5 +1,6 @@
 package net.modtale.controller.project;
 
+import java.nio.charset.StandardCharsets;
 import net.modtale.exception.UpstreamServiceException;
 import net.modtale.service.project.media.WikiService;
 import net.modtale.service.user.account.AccountService;
@@ -11,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -51,7 +53,8 @@ class WikiProxyControllerTest {
     void getWikiPageBundleExtractsTheTrailingPagePath() {
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setRequestURI("/api/v1/wiki/project-1/_bundle/guides/getting-started");
-        var payload = "{\"metadata\":{\"pages\":[]},\"page\":{\"title\":\"Getting Started\"},\"pageSlug\":\"guides/getting-started\"}";
+        var payload = "{\"metadata\":{\"pages\":[]},\"page\":{\"title\":\"Getting Started\"},\"pageSlug\":\"guides/getting-started\"}"
+                .getBytes(StandardCharsets.UTF_8);
 
         when(wikiService.getWikiPageBundle("project-1", "guides/getting-started", null)).thenReturn(payload);
 
@@ -60,7 +63,7 @@ class WikiProxyControllerTest {
         assertEquals(200, response.getStatusCode().value());
         assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
         assertTrue(response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL).contains("max-age=300"));
-        assertEquals(payload, response.getBody());
+        assertSame(payload, response.getBody());
         verify(wikiService).getWikiPageBundle("project-1", "guides/getting-started", null);
     }
 
@@ -1,31 +1,146 @@
 package net.modtale.controller.system;
 
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import net.modtale.config.properties.AppOgImageProperties;
+import net.modtale.model.project.Project;
+import net.modtale.service.media.OgImageRenderStore;
 import net.modtale.service.project.query.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class OgImageControllerTest {
 
+    @TempDir
+    Path renderDir;
+
     private ProjectService projectService;
+    private OgImageRenderStore renderStore;
     private OgImageController controller;
 
     @BeforeEach
     void setUp() {
         projectService = mock(ProjectService.class);
-        controller = new OgImageController(projectService);
+        renderStore = new OgImageRenderStore(properties());
+        controller = new OgImageController(projectService, renderStore, task -> {
+            throw new RejectedExecutionException("saturated");
+        }, properties());
     }
 
     @Test
     void generateOgImageReturnsNotFoundWhenTheProjectDoesNotExist() {
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/og/project/project-1.png");
 
-        org.mockito.Mockito.when(projectService.getPublicProjectByRouteKey("project-1")).thenReturn(null);
+        when(projectService.getPublicProjectByRouteKey("project-1")).thenReturn(null);
         var response = controller.generateOgImage("project-1", null, request);
 
         assertEquals(404, response.getStatusCode().value());
     }
+
+    @Test
+    void saturatedRenderPoolShedsLoadWithServiceUnavailable() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/og/project/project-1.png");
+        when(projectService.getPublicProjectByRouteKey("project-1")).thenReturn(project());
+
+        var response = controller.generateOgImage("project-1", null, request);
+
+        assertEquals(503, response.getStatusCode().value());
+        assertEquals("5", response.getHeaders().getFirst("Retry-After"));
+    }
+
+    @Test
+    void timedOutFetchesAreCancelledAndReleaseTheirAdmission() throws Exception {
+        BlockingQueue<String> fetches = new LinkedBlockingQueue<>();
+        CountDownLatch stalled = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/banner.png", exchange -> {
+            fetches.add(exchange.getRequestURI().getPath());
+            try {
+                stalled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        try {
+            OgImageController slow = new OgImageController(projectService, renderStore, Runnable::run, properties(Duration.ofMillis(200)));
+            Project project = project();
+            project.setBannerUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/banner.png");
+            when(projectService.getPublicProjectByRouteKey("project-1")).thenReturn(project);
+
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/og/project/project-1.png");
+            assertEquals(503, slow.generateOgImage("project-1", null, request).getStatusCode().value());
+            assertNotNull(fetches.poll(5, TimeUnit.SECONDS));
+
+            // The single admission was released, so the retry fetches again instead of being shed.
+            assertEquals(503, slow.generateOgImage("project-1", null, request).getStatusCode().value());
+            assertNotNull(fetches.poll(5, TimeUnit.SECONDS));
+        } finally {
+            stalled.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void persistedRenderIsServedWithoutTouchingTheRenderPool() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/og/project/project-1.png");
+        Project project = project();
+        when(projectService.getPublicProjectByRouteKey("project-1")).thenReturn(project);
+        byte[] card = {1, 2, 3};
+        renderStore.write(OgImageController.renderKey(project, "png"), card);
+
+        var response = controller.generateOgImage("project-1", null, request);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertArrayEquals(card, response.getBody().getByteArray());
+    }
+
+    @Test
+    void renderKeyOnlyChangesWhenTheDrawnCountLabelChanges() {
+        Project project = project();
+        project.setDownloadCount(12_340);
+        String before = OgImageController.renderKey(project, "png");
+
+        project.setDownloadCount(12_345);
+        assertEquals(before, OgImageController.renderKey(project, "png"));
+
+        project.setDownloadCount(12_400);
+        assertNotEquals(before, OgImageController.renderKey(project, "png"));
+    }
+
+    private AppOgImageProperties properties() {
+        return properties(Duration.ofSeconds(5));
+    }
+
+    private AppOgImageProperties properties(Duration renderTimeout) {
+        return new AppOgImageProperties(renderDir.toString(), Duration.ofDays(14), renderTimeout, Duration.ofSeconds(1), DataSize.ofMegabytes(64), 1);
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setId("project-1");
+        project.setTitle("Willow Trees");
+        project.setUpdatedAt("2026-01-01T00:00:00");
+        return project;
+    }
 }
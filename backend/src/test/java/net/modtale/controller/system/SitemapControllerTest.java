@@ -1,7 +1,7 @@
 package net.modtale.controller.system;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Optional;
 import net.modtale.config.properties.AppFrontendProperties;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectClassification;
@@ -15,8 +15,16 @@ import net.modtale.service.project.query.ProjectViewService;
 import net.modtale.service.system.SitemapService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -51,12 +59,18 @@ class SitemapControllerTest {
         Project modpack = project("project-2", "mega-pack", "Mega Pack", ProjectClassification.MODPACK, "author-2");
         Project world = project("project-3", "sky-world", "Sky World", ProjectClassification.SAVE, "author-3");
 
-        when(userRepository.findById("author-1")).thenReturn(Optional.of(user("author-1", "AzureDoom")));
-        when(userRepository.findById("author-2")).thenReturn(Optional.of(user("author-2", "BuilderBee")));
-        when(userRepository.findById("author-3")).thenReturn(Optional.of(user("author-3", "CloudCrafter")));
-        when(projectRepository.findAllForSitemap()).thenReturn(List.of(plugin, modpack, world));
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(
+                user("author-1", "AzureDoom"),
+                user("author-2", "BuilderBee"),
+                user("author-3", "CloudCrafter")
+        ));
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of(plugin, modpack, world));
+        when(projectRepository.findSitemapEntriesByIdIn(anyCollection())).thenReturn(List.of(plugin, modpack, world));
 
-        String xml = controller.generateSitemap();
+        String index = body(controller.getSitemapIndex(null));
+        String xml = body(controller.getSitemapShard("pages", null))
+                + body(controller.getSitemapShard("projects-1", null))
+                + body(controller.getSitemapShard("creators-1", null));
 
         assertTrue(xml.contains("https://modtale.test/mod/levelingcore"));
         assertTrue(xml.contains("https://modtale.test/modpack/mega-pack"));
@@ -65,6 +79,35 @@ class SitemapControllerTest {
         assertTrue(xml.contains("https://modtale.test/creator/BuilderBee"));
         assertTrue(xml.contains("https://modtale.test/creator/CloudCrafter"));
         assertTrue(xml.contains("https://modtale.test/api-docs"));
+        assertTrue(index.contains("https://modtale.test/sitemaps/projects-1.xml"));
+    }
+
+    @Test
+    void shardsAreServedGzippedWithValidators() {
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of());
+
+        ResponseEntity<byte[]> plain = controller.getSitemapShard("pages", null);
+        ResponseEntity<byte[]> gzipped = controller.getSitemapShard("pages", "gzip, deflate, br");
+
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotNull(plain.getHeaders().getETag());
+        assertNotEquals(plain.getHeaders().getETag(), gzipped.getHeaders().getETag());
+        assertTrue(plain.getHeaders().getLastModified() > 0);
+        assertEquals(HttpStatus.NOT_FOUND, controller.getSitemapShard("projects-9", null).getStatusCode());
+    }
+
+    @Test
+    void gzipRefusedWithAZeroQualityIsServedPlain() {
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of());
+
+        ResponseEntity<byte[]> response = controller.getSitemapShard("pages", "gzip;q=0, identity");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(body(response).startsWith("<?xml"));
+    }
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
     }
 
     private static Project project(String id, String slug, String title, ProjectClassification classification, String authorId) {
@@ -5,10 +5,13 @@ import java.util.List;
 import net.modtale.config.properties.AppR2Properties;
 import net.modtale.model.dto.response.system.SystemStatusView;
 import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
+import net.modtale.model.system.StatusRollupResolution;
 import net.modtale.model.system.SystemStatus;
 import net.modtale.repository.system.StatusHistoryRepository;
 import net.modtale.service.system.StatusDiscordNotifierService;
 import net.modtale.service.system.StatusIncidentService;
+import net.modtale.service.system.StatusRollupService;
 import net.modtale.service.system.StatusSnapshotService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +36,7 @@ class StatusControllerTest {
     private StatusHistoryRepository historyRepository;
     private StatusDiscordNotifierService statusDiscordNotifierService;
     private StatusIncidentService statusIncidentService;
+    private StatusRollupService statusRollupService;
     private StatusSnapshotService statusSnapshotService;
 
     @BeforeEach
@@ -42,20 +47,23 @@ class StatusControllerTest {
         historyRepository = mock(StatusHistoryRepository.class);
         statusDiscordNotifierService = mock(StatusDiscordNotifierService.class);
         statusIncidentService = mock(StatusIncidentService.class);
+        statusRollupService = mock(StatusRollupService.class);
         when(statusIncidentService.getActiveIncidents()).thenReturn(List.of());
         when(statusIncidentService.getScheduledMaintenances()).thenReturn(List.of());
         when(statusIncidentService.getIncidentHistory()).thenReturn(List.of());
-        statusSnapshotService = new StatusSnapshotService(mongoTemplate, s3Client, r2Properties, historyRepository, statusDiscordNotifierService, statusIncidentService, false);
+        statusSnapshotService = new StatusSnapshotService(mongoTemplate, s3Client, r2Properties, historyRepository, statusDiscordNotifierService, statusIncidentService, statusRollupService, false);
         controller = new StatusController(statusSnapshotService);
     }
 
     @Test
     void getSystemStatusReturnsTheLatestEntryAndHistorySeries() {
         StatusHistory latest = history(SystemStatus.OPERATIONAL, 20, 10, 5, LocalDateTime.now().minusMinutes(5));
-        StatusHistory previous = history(SystemStatus.OPERATIONAL, 22, 12, 6, LocalDateTime.now().minusHours(1));
 
         when(historyRepository.findTopByOrderByTimestampDesc()).thenReturn(latest);
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of(previous, latest));
+        when(statusRollupService.find(eq(StatusRollupResolution.FIFTEEN_MINUTES), any())).thenReturn(List.of(
+                rollup(LocalDateTime.now().minusHours(1), 22),
+                rollup(LocalDateTime.now().minusMinutes(5), 20)
+        ));
 
         var response = controller.getSystemStatus("24h");
 
@@ -72,7 +80,8 @@ class StatusControllerTest {
 
         when(historyRepository.findTopByOrderByTimestampDesc()).thenReturn(null);
         when(historyRepository.save(any(StatusHistory.class))).thenReturn(saved);
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of(saved));
+        when(statusRollupService.find(eq(StatusRollupResolution.FIFTEEN_MINUTES), any()))
+                .thenReturn(List.of(rollup(LocalDateTime.now(), 15)));
 
         var response = controller.getSystemStatus("24h");
 
@@ -80,9 +89,20 @@ class StatusControllerTest {
         assertEquals(SystemStatus.OPERATIONAL, response.getBody().overall());
         verify(mongoTemplate).executeCommand("{ ping: 1 }");
         verify(historyRepository).save(any(StatusHistory.class));
+        verify(statusRollupService).sync(saved.getTimestamp());
         assertFalse(response.getBody().history().isEmpty());
     }
 
+    private static StatusRollup rollup(LocalDateTime bucketStart, int latency) {
+        StatusRollup rollup = new StatusRollup(bucketStart);
+        rollup.setSamples(1);
+        rollup.getOverall().add(SystemStatus.OPERATIONAL, latency);
+        rollup.getApi().add(SystemStatus.OPERATIONAL, latency);
+        rollup.getDb().add(SystemStatus.OPERATIONAL, latency);
+        rollup.getStorage().add(SystemStatus.OPERATIONAL, latency);
+        return rollup;
+    }
+
     private static StatusHistory history(SystemStatus overall, int api, int db, int storage, LocalDateTime timestamp) {
         StatusHistory history = new StatusHistory(api, db, storage, overall);
         ReflectionTestUtils.setField(history, "timestamp", timestamp);
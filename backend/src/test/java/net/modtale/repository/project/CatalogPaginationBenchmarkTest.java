@@ -0,0 +1,110 @@
+package net.modtale.repository.project;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectSort;
+import net.modtale.model.project.ProjectStatus;
+import net.modtale.model.project.ProjectViewCategory;
+import net.modtale.service.project.query.ProjectSearchResultDecorator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Seeds a catalog into a real MongoDB and compares page 1 and page 50 through offsets and through cursors.
+ * The results must match exactly; latencies are logged for comparison. Set {@code MODTALE_TEST_MONGO_URI}
+ * to enable.
+ */
+@EnabledIfEnvironmentVariable(named = "MODTALE_TEST_MONGO_URI", matches = ".+")
+class CatalogPaginationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogPaginationBenchmarkTest.class);
+    private static final int PROJECTS = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 49;
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ProjectRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(System.getenv("MODTALE_TEST_MONGO_URI"));
+        mongoTemplate = new MongoTemplate(client, "modtale_catalog_" + UUID.randomUUID().toString().replace("-", ""));
+        repository = new ProjectRepositoryImpl(mongoTemplate, mock(ProjectSearchResultDecorator.class));
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        resolver.resolveIndexFor(Project.class).forEach(mongoTemplate.indexOps(Project.class)::createIndex);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setStatus(ProjectStatus.PUBLISHED);
+            // Few distinct values so ties exercise the id tiebreaker.
+            project.setDownloadCount(i % 97);
+            project.setFavoriteCount(i % 13);
+            project.setDownloads7d(i % 7);
+            project.setUpdatedAt("2026-01-" + String.format("%02d", 1 + i % 28) + "T00:00:00");
+            project.setCreatedAt(project.getUpdatedAt());
+            projects.add(project);
+        }
+        mongoTemplate.insertAll(projects);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Test
+    void cursorPagesMatchOffsetPagesForEverySort() {
+        for (ProjectSort sort : ProjectSort.values()) {
+            String cursor = null;
+            for (int page = 0; page <= DEEP_PAGE; page++) {
+                Pageable cursorPage = CatalogPageRequest.of(page, PAGE_SIZE, cursor, false);
+                long cursorStart = System.nanoTime();
+                CatalogPage<Project> viaCursor = (CatalogPage<Project>) search(cursorPage, sort);
+                long cursorNanos = System.nanoTime() - cursorStart;
+
+                long offsetStart = System.nanoTime();
+                Page<Project> viaOffset = search(PageRequest.of(page, PAGE_SIZE), sort);
+                long offsetNanos = System.nanoTime() - offsetStart;
+
+                assertEquals(ids(viaOffset), ids(viaCursor), sort + " page " + page);
+                if (page == 0 || page == DEEP_PAGE) {
+                    logger.info("{} page {}: offset {} ms, cursor {} ms",
+                            sort, page + 1, String.format("%.2f", offsetNanos / 1e6), String.format("%.2f", cursorNanos / 1e6));
+                }
+                cursor = viaCursor.getNextCursor();
+            }
+        }
+    }
+
+    private Page<Project> search(Pageable pageable, ProjectSort sort) {
+        return repository.searchProjects(null, null, null, null, null, null, pageable, null, sort, ProjectViewCategory.ALL, null, null, null);
+    }
+
+    private static List<String> ids(Page<Project> page) {
+        return page.getContent().stream().map(Project::getId).toList();
+    }
+}
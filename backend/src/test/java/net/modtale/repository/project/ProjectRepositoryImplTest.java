@@ -1,6 +1,7 @@
 package net.modtale.repository.project;
 
 import java.util.List;
+import net.modtale.exception.InvalidProjectRequestException;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectSort;
 import net.modtale.model.project.ProjectViewCategory;
@@ -9,15 +10,22 @@ import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -322,6 +330,72 @@ class ProjectRepositoryImplTest {
         assertTrue(queryJson.contains("customLicenseOpenSource"));
     }
 
+    @Test
+    void fullPagesCarryACursorThatContinuesWithoutSkipping() {
+        when(mongoTemplate.find(org.mockito.ArgumentMatchers.any(Query.class), eq(Project.class)))
+                .thenReturn(List.of(project("65f000000000000000000001", 40), project("65f000000000000000000002", 40)));
+        when(mongoTemplate.count(org.mockito.ArgumentMatchers.any(Query.class), eq(Project.class))).thenReturn(9L);
+
+        CatalogPage<Project> first = (CatalogPage<Project>) search(PageRequest.of(0, 2), ProjectSort.DOWNLOADS);
+        assertNotNull(first.getNextCursor());
+
+        search(CatalogPageRequest.of(1, 2, first.getNextCursor(), false), ProjectSort.DOWNLOADS);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(Project.class));
+        Query firstQuery = queryCaptor.getAllValues().get(0);
+        Query next = queryCaptor.getAllValues().get(1);
+        assertEquals(1, firstQuery.getSortObject().get("_id"));
+        assertEquals(1, firstQuery.getFieldsObject().get("downloadCount"));
+        assertEquals(0, next.getSkip());
+        String keyset = next.getQueryObject().toString();
+        assertTrue(keyset.contains("$lt=40"));
+        assertTrue(keyset.contains("$gt=65f000000000000000000002"));
+    }
+
+    @Test
+    void totalsComeFromTheCountCacheUnlessAnExactTotalIsRequested() {
+        when(mongoTemplate.find(org.mockito.ArgumentMatchers.any(Query.class), eq(Project.class)))
+                .thenReturn(List.of(project("65f000000000000000000001", 3)));
+        when(mongoTemplate.count(org.mockito.ArgumentMatchers.any(Query.class), eq(Project.class))).thenReturn(30L);
+
+        CatalogPage<Project> cached = (CatalogPage<Project>) search(PageRequest.of(1, 1), ProjectSort.FAVORITES);
+        search(PageRequest.of(2, 1), ProjectSort.FAVORITES);
+        CatalogPage<Project> exact = (CatalogPage<Project>) search(CatalogPageRequest.of(3, 1, null, true), ProjectSort.FAVORITES);
+
+        assertEquals(30, cached.getTotalElements());
+        assertFalse(cached.isTotalExact());
+        assertTrue(exact.isTotalExact());
+        verify(mongoTemplate, times(2)).count(org.mockito.ArgumentMatchers.any(Query.class), eq(Project.class));
+    }
+
+    @Test
+    void lastPageHasNoCursorAndForeignCursorsAreRejected() {
+        CatalogPage<Project> page = (CatalogPage<Project>) search(PageRequest.of(0, 20), ProjectSort.TRENDING);
+        assertNull(page.getNextCursor());
+
+        String downloadsCursor = CatalogCursor.after(Sort.by(Sort.Order.desc("downloadCount"), Sort.Order.desc("updatedAt")),
+                project("65f000000000000000000001", 4)).encode();
+
+        assertThrows(InvalidProjectRequestException.class,
+                () -> search(CatalogPageRequest.of(1, 20, downloadsCursor, false), ProjectSort.TRENDING));
+        assertThrows(InvalidProjectRequestException.class,
+                () -> search(CatalogPageRequest.of(1, 20, "not-a-cursor", false), ProjectSort.TRENDING));
+    }
+
+    private Page<Project> search(Pageable pageable, ProjectSort sort) {
+        return repository.searchProjects(null, null, null, null, null, null, pageable, null, sort, ProjectViewCategory.ALL, null, null, null);
+    }
+
+    private static Project project(String id, int downloads) {
+        Project project = new Project();
+        project.setId(id);
+        project.setDownloadCount(downloads);
+        project.setFavoriteCount(downloads);
+        project.setUpdatedAt("2026-01-01T00:00:00");
+        return project;
+    }
+
     private Query capturedFindQuery() {
         ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
         verify(mongoTemplate).find(queryCaptor.capture(), eq(Project.class));
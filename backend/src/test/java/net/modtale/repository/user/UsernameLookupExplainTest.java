@@ -0,0 +1,67 @@
+package net.modtale.repository.user;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.util.UUID;
+import net.modtale.model.user.User;
+import net.modtale.service.user.account.AccountService;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs {@code explain} for the case-insensitive username lookups against a real MongoDB and fails if any
+ * of them plans a collection scan. Set {@code MODTALE_TEST_MONGO_URI} to enable.
+ */
+@EnabledIfEnvironmentVariable(named = "MODTALE_TEST_MONGO_URI", matches = ".+")
+class UsernameLookupExplainTest {
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(System.getenv("MODTALE_TEST_MONGO_URI"));
+        mongoTemplate = new MongoTemplate(client, "modtale_explain_" + UUID.randomUUID().toString().replace("-", ""));
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        resolver.resolveIndexFor(User.class).forEach(mongoTemplate.indexOps(User.class)::createIndex);
+
+        for (int i = 0; i < 50; i++) {
+            User user = new User();
+            user.setUsername("Creator_" + i);
+            mongoTemplate.insert(user);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Test
+    void usernameLookupsAreServedByIndexes() {
+        assertNoCollectionScan(new Query(Criteria.where("usernameLower").is(User.normalizeUsername("CREATOR_7"))));
+        assertNoCollectionScan(AccountService.publicProfileQuery("Creator_7"));
+        assertNoCollectionScan(AccountService.publicProfileQuery("Creator_7~" + UUID.randomUUID()));
+    }
+
+    private void assertNoCollectionScan(Query query) {
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document("find", "users")
+                .append("filter", query.getQueryObject())));
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        assertFalse(winningPlan.toJson().contains("COLLSCAN"), () -> "Collection scan for " + query + ": " + winningPlan.toJson());
+    }
+}
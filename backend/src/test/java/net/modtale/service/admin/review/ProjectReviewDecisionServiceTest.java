@@ -92,7 +92,7 @@ class ProjectReviewDecisionServiceTest {
 
         verify(securityIssueAnalysisService).pruneApprovedScanResults(project);
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(projectNotificationService).notifyUpdates(project, "1.0.0");
         verify(projectNotificationService).notifyDependents(project, "1.0.0");
         verify(adminAuditLogger).logAction("admin-1", "APPROVE_VERSION", "project-1", "VERSION", "VerID: version-1");
@@ -118,7 +118,7 @@ class ProjectReviewDecisionServiceTest {
         assertNull(version.getScheduledPublishDate());
 
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(notificationService).sendNotifcation(
                 java.util.List.of("author-1"),
                 "Version Rejected",
@@ -3,11 +3,12 @@ package net.modtale.service.admin.review;
 import java.util.List;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectStatus;
-import net.modtale.model.project.ProjectVersion;
-import net.modtale.model.project.ScanResult;
-import net.modtale.model.project.ScanStatus;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -15,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ProjectReviewQueueServiceTest {
@@ -29,47 +32,46 @@ class ProjectReviewQueueServiceTest {
     }
 
     @Test
-    void getVerificationQueueFiltersOutScanningVersionsDeduplicatesAndSorts() {
-        Project pendingProject = project("pending-1", "Pending", ProjectStatus.PENDING);
-        pendingProject.setUpdatedAt("2024-03-01T00:00:00");
+    void verificationQueueIsOneSortedPagedQueryThatSkipsScanningProjects() {
+        when(mongoTemplate.find(any(Query.class), eq(Project.class)))
+                .thenReturn(List.of(project("pending-1"), project("published-1")));
+        when(mongoTemplate.count(any(Query.class), eq(Project.class))).thenReturn(7L);
 
-        Project scanningProject = project("pending-2", "Scanning", ProjectStatus.PENDING);
-        scanningProject.setUpdatedAt("2024-01-01T00:00:00");
-        scanningProject.setVersions(List.of(version("2.0.0", scanResult(ScanStatus.SCANNING))));
+        Page<Project> queue = projectReviewQueueService.getVerificationQueue(PageRequest.of(1, 2));
 
-        Project pendingReviewProject = project("published-1", "Review Me", ProjectStatus.PUBLISHED);
-        pendingReviewProject.setUpdatedAt("2024-02-01T00:00:00");
-        ProjectVersion reviewVersion = version("3.0.0", null);
-        reviewVersion.setReviewStatus(ProjectVersion.ReviewStatus.PENDING);
-        pendingReviewProject.setVersions(List.of(reviewVersion));
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(Project.class));
+        Query query = captor.getValue();
+        assertEquals(new Document("updatedAt", 1), query.getSortObject());
+        assertEquals(2L, query.getSkip());
+        assertEquals(2, query.getLimit());
 
-        when(mongoTemplate.find(any(Query.class), eq(Project.class)))
-                .thenReturn(List.of(pendingProject, scanningProject))
-                .thenReturn(List.of(pendingReviewProject, pendingProject));
+        List<Document> clauses = query.getQueryObject().getList("$and", Document.class);
+        List<Document> statuses = clauses.get(0).getList("$or", Document.class);
+        assertEquals(new Document("status", ProjectStatus.PENDING), statuses.get(0));
+        assertEquals(
+                new Document("status", ProjectStatus.PUBLISHED).append("versions.reviewStatus", "PENDING"),
+                statuses.get(1)
+        );
+        assertEquals(new Document("versions.scanResult.status", new Document("$ne", "SCANNING")), clauses.get(1));
+
+        assertEquals(List.of("pending-1", "published-1"), queue.getContent().stream().map(Project::getId).toList());
+        assertEquals(7L, queue.getTotalElements());
+    }
+
+    @Test
+    void shortFirstPageIsNotCounted() {
+        when(mongoTemplate.find(any(Query.class), eq(Project.class))).thenReturn(List.of(project("pending-1")));
 
-        List<Project> queue = projectReviewQueueService.getVerificationQueue();
+        Page<Project> queue = projectReviewQueueService.getVerificationQueue(PageRequest.of(0, 50));
 
-        assertEquals(List.of("published-1", "pending-1"), queue.stream().map(Project::getId).toList());
+        assertEquals(1L, queue.getTotalElements());
+        verify(mongoTemplate, never()).count(any(Query.class), eq(Project.class));
     }
 
-    private static Project project(String id, String title, ProjectStatus status) {
+    private static Project project(String id) {
         Project project = new Project();
         project.setId(id);
-        project.setTitle(title);
-        project.setStatus(status);
         return project;
     }
-
-    private static ProjectVersion version(String versionNumber, ScanResult scanResult) {
-        ProjectVersion version = new ProjectVersion();
-        version.setVersionNumber(versionNumber);
-        version.setScanResult(scanResult);
-        return version;
-    }
-
-    private static ScanResult scanResult(ScanStatus status) {
-        ScanResult scanResult = new ScanResult();
-        scanResult.setStatus(status);
-        return scanResult;
-    }
 }
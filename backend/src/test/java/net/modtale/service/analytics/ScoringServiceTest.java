@@ -2,9 +2,11 @@ package net.modtale.service.analytics;
 
 import java.util.List;
 import net.modtale.model.project.Project;
+import net.modtale.service.project.query.CatalogSnapshotService;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -13,7 +15,7 @@ class ScoringServiceTest {
     @Test
     void ensureScoresDoesNotTouchMongoForEmptyInput() {
         MongoTemplate mongoTemplate = org.mockito.Mockito.mock(MongoTemplate.class);
-        ScoringService scoringService = new ScoringService(mongoTemplate);
+        ScoringService scoringService = new ScoringService(mongoTemplate, mock(CatalogSnapshotService.class));
 
         Project zeroDownloads = new Project();
         zeroDownloads.setDownloadCount(0);
@@ -28,7 +30,7 @@ class ScoringServiceTest {
     @Test
     void ensureScoresIsNoOpForPotentiallyStaleProjects() {
         MongoTemplate mongoTemplate = org.mockito.Mockito.mock(MongoTemplate.class);
-        ScoringService scoringService = new ScoringService(mongoTemplate);
+        ScoringService scoringService = new ScoringService(mongoTemplate, mock(CatalogSnapshotService.class));
 
         Project missing = new Project();
         missing.setDownloadCount(50);
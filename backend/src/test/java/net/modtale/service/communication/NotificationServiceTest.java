@@ -13,6 +13,7 @@ import net.modtale.repository.project.ProjectRepository;
 import net.modtale.repository.user.NotificationRepository;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -60,6 +61,7 @@ class NotificationServiceTest {
                 projectRepository,
                 notificationDeliveryService,
                 projectService,
+                mock(VersionDependencyGraphService.class),
                 executor
         );
     }
@@ -1,22 +1,204 @@
 package net.modtale.service.communication;
 
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.concurrent.Executor;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import net.modtale.config.properties.AppWebhookDeliveryProperties;
+import net.modtale.model.system.WebhookDelivery;
+import net.modtale.model.system.WebhookDestination;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import tools.jackson.databind.ObjectMapper;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class WebhookDeliveryServiceTest {
 
+    private final BlockingQueue<StubResponse> responses = new ArrayBlockingQueue<>(8);
+    private final BlockingQueue<String> receivedBodies = new ArrayBlockingQueue<>(8);
+    private HttpServer server;
+    private MongoTemplate mongoTemplate;
+    private WebhookDestinationResolver destinationResolver;
+    private WebhookDeliveryService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            StubResponse response = responses.poll();
+            if (response == null) {
+                response = new StubResponse(204, "");
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.createContext("/moved", exchange -> {
+            exchange.getResponseHeaders().add("Location", stubUrl());
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        destinationResolver = mock(WebhookDestinationResolver.class);
+        service = new WebhookDeliveryService(
+                mongoTemplate,
+                new ObjectMapper(),
+                new AppWebhookDeliveryProperties(3, 2, 2000, 5000, 1000, 60000, 60000, 10),
+                new SimpleMeterRegistry(),
+                destinationResolver,
+                Runnable::run
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void deliverAsyncQueuesTheDeliveryWithoutSecretsAndRemovesItAfterSuccess() throws Exception {
+        when(destinationResolver.resolve(WebhookDestination.PROJECT_FEED))
+                .thenReturn(Optional.of(new WebhookDestinationResolver.Target(stubUrl(), Map.of("apiKey", "secret"))));
+
+        service.deliverAsync(new WebhookDispatchRequest(WebhookDestination.PROJECT_FEED, Map.of("content", "hello")), "Failed");
+
+        ArgumentCaptor<WebhookDelivery> deliveryCaptor = ArgumentCaptor.forClass(WebhookDelivery.class);
+        verify(mongoTemplate).insert(deliveryCaptor.capture());
+        assertEquals(WebhookDestination.PROJECT_FEED, deliveryCaptor.getValue().getDestination());
+        assertNull(deliveryCaptor.getValue().getUrl());
+        assertEquals("{\"content\":\"hello\"}", deliveryCaptor.getValue().getPayload());
+        assertEquals("{\"content\":\"hello\",\"apiKey\":\"secret\"}", receivedBodies.poll(5, TimeUnit.SECONDS));
+        verify(mongoTemplate, timeout(5000)).remove(any(Query.class), eq(WebhookDelivery.class));
+    }
+
+    @Test
+    void deliverAsyncQueuesUnleasedForThePollerWhenTheLaneIsSaturated() {
+        when(destinationResolver.resolve(WebhookDestination.DISCORD))
+                .thenReturn(Optional.of(new WebhookDestinationResolver.Target(stubUrl(), Map.of())));
+        WebhookDeliveryService saturated = new WebhookDeliveryService(
+                mongoTemplate,
+                new ObjectMapper(),
+                new AppWebhookDeliveryProperties(3, 2, 2000, 5000, 1000, 60000, 60000, 10),
+                new SimpleMeterRegistry(),
+                destinationResolver,
+                task -> {
+                    throw new RejectedExecutionException("full");
+                }
+        );
+
+        saturated.deliverAsync(new WebhookDispatchRequest(WebhookDestination.DISCORD, Map.of("content", "hello")), "Failed");
+
+        ArgumentCaptor<WebhookDelivery> deliveryCaptor = ArgumentCaptor.forClass(WebhookDelivery.class);
+        verify(mongoTemplate).insert(deliveryCaptor.capture());
+        assertNull(deliveryCaptor.getValue().getLeaseUntil());
+        assertTrue(receivedBodies.isEmpty());
+    }
+
     @Test
-    void deliverAsyncSchedulesExecutorWork() {
-        Executor executor = mock(Executor.class);
-        WebhookDeliveryService service = new WebhookDeliveryService(executor);
+    void discordRateLimitIsRetriedAfterTheAdvertisedDelay() {
+        responses.add(new StubResponse(429, "{\"message\":\"You are being rate limited.\",\"retry_after\":2.5,\"global\":false}"));
+
+        LocalDateTime before = LocalDateTime.now();
+        service.attempt(delivery("delivery-1", 0)).join();
 
-        service.deliverAsync(new WebhookDispatchRequest("https://hooks.modtale.test", Map.of()), "Failed");
+        Document set = capturedSet();
+        assertEquals(1, set.get("attempts"));
+        assertEquals("HTTP 429", set.get("lastError"));
+        LocalDateTime nextAttemptAt = (LocalDateTime) set.get("nextAttemptAt");
+        assertNotNull(nextAttemptAt);
+        assertTrue(!nextAttemptAt.isBefore(before.plus(Duration.ofMillis(2500))));
+        assertTrue(nextAttemptAt.isBefore(before.plusSeconds(10)));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(WebhookDelivery.class));
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() {
+        responses.add(new StubResponse(404, "{\"message\":\"Unknown Webhook\"}"));
+
+        service.attempt(delivery("delivery-2", 0)).join();
+
+        Document set = capturedSet();
+        assertNotNull(set.get("failedAt"));
+        assertEquals("HTTP 404", set.get("lastError"));
+    }
+
+    @Test
+    void redirectsAreNotFollowed() {
+        WebhookDelivery delivery = delivery("delivery-4", 0);
+        delivery.setUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/moved");
+
+        service.attempt(delivery).join();
+
+        Document set = capturedSet();
+        assertNotNull(set.get("failedAt"));
+        assertEquals("HTTP 302", set.get("lastError"));
+        assertTrue(receivedBodies.isEmpty());
+    }
+
+    @Test
+    void serverErrorsStopRetryingAfterTheAttemptLimit() {
+        responses.add(new StubResponse(503, ""));
+
+        service.attempt(delivery("delivery-3", 2)).join();
+
+        Document set = capturedSet();
+        assertEquals(3, set.get("attempts"));
+        assertNotNull(set.get("failedAt"));
+    }
+
+    private Document capturedSet() {
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(WebhookDelivery.class));
+        return (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+    }
+
+    private WebhookDelivery delivery(String id, int attempts) {
+        WebhookDelivery delivery = new WebhookDelivery();
+        delivery.setId(id);
+        delivery.setUrl(stubUrl());
+        delivery.setPayload("{}");
+        delivery.setFailureMessage("Failed");
+        delivery.setAttempts(attempts);
+        return delivery;
+    }
+
+    private String stubUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+    }
 
-        verify(executor).execute(any(Runnable.class));
+    private record StubResponse(int status, String body) {
     }
 }
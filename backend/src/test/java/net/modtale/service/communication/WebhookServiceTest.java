@@ -4,13 +4,14 @@ import net.modtale.config.properties.AppAdminDiscordWebhookProperties;
 import net.modtale.config.properties.AppBackendProperties;
 import net.modtale.config.properties.AppDiscordWebhookProperties;
 import net.modtale.config.properties.AppFrontendProperties;
-import net.modtale.config.properties.AppWebhookProperties;
 import net.modtale.model.project.Project;
+import net.modtale.model.system.WebhookDestination;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectService;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -28,7 +29,6 @@ class WebhookServiceTest {
         WebhookPayloadFactory webhookPayloadFactory = new WebhookPayloadFactory(
                 userRepository,
                 projectService,
-                new AppWebhookProperties("https://hooks.modtale.test", "secret"),
                 new AppDiscordWebhookProperties(""),
                 new AppAdminDiscordWebhookProperties(""),
                 new AppFrontendProperties("https://modtale.test"),
@@ -50,7 +50,8 @@ class WebhookServiceTest {
                 org.mockito.ArgumentCaptor.forClass(WebhookDispatchRequest.class);
         verify(webhookDeliveryService).deliverAsync(requestCaptor.capture(), eq("Failed to trigger webhook"));
         WebhookDispatchRequest request = requestCaptor.getValue();
-        assertEquals("https://hooks.modtale.test", request.url());
+        assertEquals(WebhookDestination.PROJECT_FEED, request.destination());
+        assertFalse(request.body().containsKey("apiKey"));
         assertEquals("Sky Tools", request.body().get("title"));
         assertEquals("Ada", request.body().get("developerName"));
         assertEquals("https://modtale.test/project/sky-tools", request.body().get("modLink"));
@@ -64,7 +65,6 @@ class WebhookServiceTest {
         WebhookPayloadFactory webhookPayloadFactory = new WebhookPayloadFactory(
                 userRepository,
                 projectService,
-                new AppWebhookProperties("https://hooks.modtale.test", "secret"),
                 new AppDiscordWebhookProperties(""),
                 new AppAdminDiscordWebhookProperties(""),
                 new AppFrontendProperties("https://modtale.test"),
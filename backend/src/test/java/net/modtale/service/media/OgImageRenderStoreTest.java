@@ -0,0 +1,101 @@
+package net.modtale.service.media;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import net.modtale.config.properties.AppOgImageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OgImageRenderStoreTest {
+
+    @TempDir
+    Path renderDir;
+
+    private OgImageRenderStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OgImageRenderStore(properties());
+    }
+
+    @Test
+    void contentKeysDependOnEveryPart() {
+        assertEquals(OgImageRenderStore.contentKey("p", "v1", "png"), OgImageRenderStore.contentKey("p", "v1", "png"));
+        assertNotEquals(OgImageRenderStore.contentKey("p", "v1", "png"), OgImageRenderStore.contentKey("p", "v2", "png"));
+        assertNotEquals(OgImageRenderStore.contentKey("ab", "c"), OgImageRenderStore.contentKey("a", "bc"));
+    }
+
+    @Test
+    void writtenRendersSurviveANewStoreInstance() {
+        String key = OgImageRenderStore.contentKey("project-1", "etag", "png");
+        store.write(key, new byte[] {4, 5, 6});
+
+        OgImageRenderStore reopened = new OgImageRenderStore(properties());
+
+        assertArrayEquals(new byte[] {4, 5, 6}, reopened.read(key));
+        assertNull(reopened.read(OgImageRenderStore.contentKey("project-2", "etag", "png")));
+    }
+
+    @Test
+    void pruneDropsRendersOlderThanTheTtl() throws Exception {
+        String stale = OgImageRenderStore.contentKey("stale");
+        String fresh = OgImageRenderStore.contentKey("fresh");
+        store.write(stale, new byte[] {1});
+        store.write(fresh, new byte[] {2});
+        try (Stream<Path> files = Files.walk(renderDir)) {
+            Path staleFile = files.filter(file -> file.getFileName().toString().startsWith(stale)).findFirst().orElseThrow();
+            Files.setLastModifiedTime(staleFile, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        }
+
+        store.prune();
+
+        assertNull(store.read(stale));
+        assertArrayEquals(new byte[] {2}, store.read(fresh));
+    }
+
+    @Test
+    void writesPastTheByteCapEvictTheOldestRenders() throws Exception {
+        OgImageRenderStore capped = new OgImageRenderStore(properties(renderDir.toString(), DataSize.ofBytes(10)));
+        String oldest = OgImageRenderStore.contentKey("oldest");
+        capped.write(oldest, new byte[6]);
+        try (Stream<Path> files = Files.walk(renderDir)) {
+            Path oldestFile = files.filter(file -> file.getFileName().toString().startsWith(oldest)).findFirst().orElseThrow();
+            Files.setLastModifiedTime(oldestFile, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        }
+
+        String newest = OgImageRenderStore.contentKey("newest");
+        capped.write(newest, new byte[6]);
+
+        assertNull(capped.read(oldest));
+        assertArrayEquals(new byte[6], capped.read(newest));
+    }
+
+    @Test
+    void storeWithoutAConfiguredDirectoryPersistsNothing() {
+        OgImageRenderStore unconfigured = new OgImageRenderStore(properties("", DataSize.ofMegabytes(1)));
+        String key = OgImageRenderStore.contentKey("project-1");
+
+        unconfigured.write(key, new byte[] {1});
+
+        assertNull(unconfigured.read(key));
+    }
+
+    private AppOgImageProperties properties() {
+        return properties(renderDir.toString(), DataSize.ofMegabytes(64));
+    }
+
+    private AppOgImageProperties properties(String dir, DataSize maxSize) {
+        return new AppOgImageProperties(dir, Duration.ofDays(1), Duration.ofSeconds(5), Duration.ofSeconds(1), maxSize, 34);
+    }
+}
@@ -183,7 +183,7 @@ class LifecycleServiceTest {
         verify(validationService).validateSlug("sky-tools");
         verify(validationService).validateRepositoryUrl("https://github.com/modtale/sky-tools");
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(webhookService).triggerAdminNewProjectWebhook(project);
     }
 
@@ -212,7 +212,7 @@ class LifecycleServiceTest {
         assertEquals(ProjectStatus.PENDING, project.getStatus());
         assertEquals(queuedScan, uploadedDraftVersion.getScanResult());
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(scanService).enqueueBackgroundScan(
                 "project-1",
                 uploadedDraftVersion.getId(),
@@ -276,7 +276,7 @@ class LifecycleServiceTest {
         assertEquals(ProjectVersion.ReviewStatus.APPROVED, approved.getReviewStatus());
 
         verify(securityIssueAnalysisService).pruneApprovedScanResults(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(projectNotificationService).notifyNewProject(project);
         verify(webhookService).triggerWebhook(project);
         verify(webhookService).triggerDiscordWebhook(project);
@@ -302,7 +302,7 @@ class LifecycleServiceTest {
         assertNull(project.getApprovedBy());
 
         verify(accessControlService).hasProjectPermission(project, maintainer, "PROJECT_STATUS_PUBLISH");
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(projectNotificationService, never()).notifyNewProject(any(Project.class));
         verify(webhookService, never()).triggerWebhook(any(Project.class));
         verify(webhookService, never()).triggerDiscordWebhook(any(Project.class));
@@ -13,6 +13,7 @@ import net.modtale.model.user.ApiKey;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.analytics.ScoringService;
 import net.modtale.service.analytics.TrackingService;
+import net.modtale.service.project.query.ProjectRouteResolver;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.storage.StorageService;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,7 +59,8 @@ class ProjectDeletionServiceTest {
                 trackingService,
                 scoringService,
                 projectArtifactDeletionService,
-                mongoTemplate
+                mongoTemplate,
+                mock(ProjectRouteResolver.class)
         );
     }
 
@@ -71,7 +73,7 @@ class ProjectDeletionServiceTest {
         assertEquals(ProjectStatus.DELETED, project.getStatus());
         assertNotNull(project.getDeletedAt());
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(trackingService).logDeletedProject("project-1");
     }
 
@@ -115,7 +117,7 @@ class ProjectDeletionServiceTest {
         verify(storageService).deleteFile("https://cdn.modtale.net/one.png");
         verify(storageService).deleteFile("https://cdn.modtale.net/two.png");
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(projectRepository, never()).delete(project);
         verify(trackingService, never()).deleteProjectAnalytics("project-1");
     }
@@ -149,11 +151,11 @@ class ProjectDeletionServiceTest {
         verify(storageService).deleteFile("https://cdn.modtale.net/one.png");
         verify(mongoTemplate, times(2)).updateMulti(any(Query.class), any(Update.class), eq(net.modtale.model.user.User.class));
         verify(projectRepository).delete(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
 
         verify(trackingService).deleteProjectAnalytics("dep-1");
         verify(projectRepository).delete(orphan);
-        verify(projectService).evictProjectCache(orphan);
+        verify(projectService).evictProjectVersionCache(orphan);
     }
 
     private static Project editableProject(String id, ProjectClassification classification, ProjectStatus status) {
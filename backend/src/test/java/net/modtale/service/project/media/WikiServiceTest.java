@@ -1,15 +1,27 @@
 package net.modtale.service.project.media;
 
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
 import net.modtale.exception.ResourceNotFoundException;
+import net.modtale.exception.UpstreamServiceException;
+import net.modtale.mapper.ProjectMapper;
 import net.modtale.model.project.Project;
 import net.modtale.service.project.query.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -18,6 +30,9 @@ import static org.mockito.Mockito.when;
 
 class WikiServiceTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(WikiServiceTest.class);
+    private static final String BUNDLE_METADATA = "{\"mod\":{\"id\":\"wiki-1\"},\"pages\":[{\"slug\":\"home-1\"}]}";
+
     private ProjectService projectService;
     private WikiUpstreamClient wikiUpstreamClient;
     private ObjectMapper objectMapper;
@@ -28,7 +43,7 @@ class WikiServiceTest {
         projectService = mock(ProjectService.class);
         wikiUpstreamClient = mock(WikiUpstreamClient.class);
         objectMapper = new ObjectMapper();
-        service = new WikiService(projectService, objectMapper, wikiUpstreamClient);
+        service = new WikiService(projectService, objectMapper, wikiUpstreamClient, new ConcurrentMapCacheManager());
     }
 
     @Test
@@ -90,7 +105,7 @@ class WikiServiceTest {
         when(wikiUpstreamClient.fetchPagePayload("wiki-1", "guides/start"))
                 .thenReturn("{\"title\":\"Start\"}");
 
-        String result = service.getWikiPageBundle("levelingcore", "guides/start", null);
+        byte[] result = service.getWikiPageBundle("levelingcore", "guides/start", null);
         JsonNode bundle = objectMapper.readTree(result);
 
         assertEquals("project-1", bundle.path("project").path("id").asText());
@@ -103,6 +118,123 @@ class WikiServiceTest {
         verifyNoMoreInteractions(wikiUpstreamClient);
     }
 
+    @Test
+    void anonymousPagesAreCachedUnderTheProjectIdWhicheverRouteServedThem() {
+        Project project = new Project();
+        project.setId("project-1");
+        project.setSlug("levelingcore");
+        project.setHmWikiEnabled(true);
+        project.setHmWikiSlug("sky-tools");
+
+        when(projectService.getProjectPageShellByRouteKey("levelingcore", null)).thenReturn(project);
+        when(projectService.getProjectPageShellByRouteKey("project-1", null)).thenReturn(project);
+        when(wikiUpstreamClient.fetchProjectPayload("sky-tools"))
+                .thenReturn("{\"mod\":{\"id\":\"wiki-1\"},\"pages\":[{\"slug\":\"home-1\"}]}");
+        when(wikiUpstreamClient.fetchPagePayload("wiki-1", "guides/start")).thenReturn("{\"title\":\"Start\"}");
+
+        service.getWikiPage("levelingcore", "guides/start", null);
+        String cached = service.getWikiPage("project-1", "Guides/Start", null);
+
+        assertEquals("{\"title\":\"Start\"}", cached);
+        verify(wikiUpstreamClient).fetchProjectPayload("sky-tools");
+        verify(wikiUpstreamClient).fetchPagePayload("wiki-1", "guides/start");
+        verifyNoMoreInteractions(wikiUpstreamClient);
+    }
+
+    @Test
+    void getWikiPageBundleRejectsMalformedUpstreamPages() {
+        Project project = new Project();
+        project.setId("project-1");
+        project.setHmWikiEnabled(true);
+        project.setHmWikiSlug("sky-tools");
+
+        when(projectService.getProjectPageShellByRouteKey("levelingcore", null)).thenReturn(project);
+        when(wikiUpstreamClient.fetchProjectPayload("sky-tools"))
+                .thenReturn("{\"mod\":{\"id\":\"wiki-1\"},\"pages\":[{\"slug\":\"home-1\"}]}");
+        when(wikiUpstreamClient.fetchPagePayload("wiki-1", "home-1")).thenReturn("{\"title\":\"Home\"} trailing");
+
+        UpstreamServiceException error = assertThrows(
+                UpstreamServiceException.class,
+                () -> service.getWikiPageBundle("levelingcore", "", null)
+        );
+        assertEquals(HttpStatus.BAD_GATEWAY, error.getStatus());
+    }
+
+    /**
+     * The streaming writer must produce the same document as the previous tree round trip (DTO to string to
+     * tree, both bodies parsed to trees, whole bundle re-serialized) for a large page.
+     */
+    @Test
+    void streamingBundlesMatchTheTreeRoundTrip() throws Exception {
+        Project project = bundleProject();
+        String pageBody = largePageBody();
+
+        byte[] streaming = service.writeBundle(project, BUNDLE_METADATA, pageBody, "home-1");
+
+        assertEquals(objectMapper.readTree(treeRoundTrip(project, pageBody)), objectMapper.readTree(streaming));
+    }
+
+    /** Opt-in measurement of bytes allocated per bundle; logs both figures and asserts nothing. */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MODTALE_TEST_MONGO_URI", matches = ".+")
+    void measureBundleAllocations() throws Exception {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+        Project project = bundleProject();
+        String pageBody = largePageBody();
+        Callable<byte[]> streaming = () -> {
+            objectMapper.readTree(BUNDLE_METADATA);
+            return service.writeBundle(project, BUNDLE_METADATA, pageBody, "home-1");
+        };
+        Callable<byte[]> treeRoundTrip = () -> treeRoundTrip(project, pageBody);
+
+        double streamingBytes = allocatedPerCall(threads, streaming);
+        double treeBytes = allocatedPerCall(threads, treeRoundTrip);
+        logger.info("wiki bundle of {} chars: streaming {} B/op, tree round trip {} B/op",
+                pageBody.length(), String.format("%.2f", streamingBytes), String.format("%.2f", treeBytes));
+    }
+
+    private byte[] treeRoundTrip(Project project, String pageBody) {
+        ObjectNode bundle = objectMapper.createObjectNode();
+        bundle.set("project", objectMapper.readTree(objectMapper.writeValueAsString(ProjectMapper.toPageDTO(project))));
+        bundle.set("metadata", objectMapper.readTree(BUNDLE_METADATA));
+        bundle.set("page", objectMapper.readTree(pageBody));
+        bundle.put("pageSlug", "home-1");
+        return objectMapper.writeValueAsString(bundle).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static double allocatedPerCall(com.sun.management.ThreadMXBean threads, Callable<byte[]> bundle) throws Exception {
+        for (int i = 0; i < 200; i++) {
+            bundle.call();
+        }
+        int iterations = 500;
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            bundle.call();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / (double) iterations;
+    }
+
+    private static Project bundleProject() {
+        Project project = new Project();
+        project.setId("project-1");
+        project.setSlug("levelingcore");
+        project.setTitle("Leveling Core");
+        return project;
+    }
+
+    private static String largePageBody() {
+        StringBuilder blocks = new StringBuilder("{\"title\":\"Home\",\"blocks\":[");
+        for (int i = 0; i < 2_000; i++) {
+            if (i > 0) blocks.append(',');
+            blocks.append("{\"type\":\"paragraph\",\"text\":\"Paragraph ").append(i).append(" of the getting started guide.\"}");
+        }
+        return blocks.append("]}").toString();
+    }
+
     @Test
     void getWikiPageRejectsTraversalSegmentsBeforeFetchingUpstreamContent() {
         assertThrows(IllegalArgumentException.class, () -> service.getWikiPage("project-1", "../admin", null));
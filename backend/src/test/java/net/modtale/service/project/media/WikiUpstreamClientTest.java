@@ -1,99 +1,227 @@
 package net.modtale.service.project.media;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import net.modtale.config.properties.AppWikiProperties;
+import net.modtale.exception.UpstreamServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.MediaType;
-import org.springframework.test.web.client.MockRestServiceServer;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.springframework.test.web.client.ExpectedCount.once;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class WikiUpstreamClientTest {
 
+    private static final String PROJECT_BODY = "{\"mod\":{\"id\":\"wiki-1\"},\"pages\":[]}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicLong bodyBytes = new AtomicLong();
+    private final List<String> paths = new ArrayList<>();
+    private volatile String projectBody = PROJECT_BODY;
+    private volatile String projectEtag = "\"v1\"";
+    private volatile boolean failing;
+    private volatile CountDownLatch slowUpstream;
+    private volatile boolean laneSaturated;
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/mods/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
     @Test
-    void cachesProjectPayloadsThroughSpringProxy() {
-        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
-            WikiUpstreamClient client = context.getBean(WikiUpstreamClient.class);
-            MockRestServiceServer server = MockRestServiceServer.createServer(context.getBean(RestTemplate.class));
+    void freshEntriesAreServedWithoutAnUpstreamRequest() {
+        WikiUpstreamClient client = client(Duration.ofMinutes(5));
 
-            server.expect(once(), requestTo("https://wiki.modtale.test/api/mods/sky-tools"))
-                    .andRespond(withSuccess("{\"pages\":[]}", MediaType.APPLICATION_JSON));
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
 
-            assertEquals("{\"pages\":[]}", client.fetchProjectPayload("sky-tools"));
-            assertEquals("{\"pages\":[]}", client.fetchProjectPayload("sky-tools"));
+        assertEquals(1, requests.get());
+        assertEquals(PROJECT_BODY.length(), bodyBytes.get());
+    }
+
+    @Test
+    void staleEntriesAreServedAndRevalidatedWithoutRefetchingTheBody() {
+        WikiUpstreamClient client = client(Duration.ZERO);
 
-            server.verify();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
         }
+
+        assertEquals(6, requests.get());
+        assertEquals(5, notModified.get());
+        assertEquals(PROJECT_BODY.length(), bodyBytes.get());
     }
 
     @Test
-    void cachesPagePayloadsThroughSpringProxy() {
-        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
-            WikiUpstreamClient client = context.getBean(WikiUpstreamClient.class);
-            MockRestServiceServer server = MockRestServiceServer.createServer(context.getBean(RestTemplate.class));
+    void changedUpstreamBodiesReplaceTheEntryAfterRevalidation() {
+        WikiUpstreamClient client = client(Duration.ZERO);
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
 
-            server.expect(once(), requestTo("https://wiki.modtale.test/api/mods/wiki-1/home-1"))
-                    .andRespond(withSuccess("{\"title\":\"Home\"}", MediaType.APPLICATION_JSON));
+        projectBody = "{\"mod\":{\"id\":\"wiki-1\"},\"pages\":[{\"slug\":\"home\"}]}";
+        projectEtag = "\"v2\"";
 
-            assertEquals("{\"title\":\"Home\"}", client.fetchPagePayload("wiki-1", "home-1"));
-            assertEquals("{\"title\":\"Home\"}", client.fetchPagePayload("wiki-1", "home-1"));
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+        assertEquals(projectBody, client.fetchProjectPayload("sky-tools"));
+        assertEquals(2, notModified.get());
+        assertEquals(PROJECT_BODY.length() + projectBody.length(), bodyBytes.get());
+    }
+
+    @Test
+    void upstreamFailuresDuringRevalidationKeepServingTheCachedBody() {
+        WikiUpstreamClient client = client(Duration.ZERO);
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+
+        failing = true;
 
-            server.verify();
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void revalidationsRefusedByTheLaneAreRetriedOnTheNextRead() {
+        WikiUpstreamClient client = client(Duration.ZERO);
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+
+        laneSaturated = true;
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+        assertEquals(1, requests.get());
+
+        laneSaturated = false;
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+    }
+
+    @Test
+    void missesAreNotCachedWhenTheUpstreamFails() {
+        WikiUpstreamClient client = client(Duration.ofMinutes(5));
+        failing = true;
+
+        assertThrows(UpstreamServiceException.class, () -> client.fetchProjectPayload("sky-tools"));
+
+        failing = false;
+        assertEquals(PROJECT_BODY, client.fetchProjectPayload("sky-tools"));
+    }
+
+    @Test
+    void concurrentMissesShareOneUpstreamRequest() throws Exception {
+        WikiUpstreamClient client = client(Duration.ofMinutes(5));
+        slowUpstream = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> client.fetchProjectPayload("sky-tools")));
+            }
+            Thread.sleep(200);
+            slowUpstream.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals(PROJECT_BODY, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
         }
+
+        assertEquals(1, requests.get());
     }
 
     @Test
     void encodesNestedPagePathsWithoutFetchingTheModsList() {
-        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
-            WikiUpstreamClient client = context.getBean(WikiUpstreamClient.class);
-            MockRestServiceServer server = MockRestServiceServer.createServer(context.getBean(RestTemplate.class));
+        WikiUpstreamClient client = client(Duration.ofMinutes(5));
 
-            server.expect(once(), requestTo("https://wiki.modtale.test/api/mods/wiki-1/guides/getting-started"))
-                    .andRespond(withSuccess("{\"title\":\"Getting Started\"}", MediaType.APPLICATION_JSON));
+        assertEquals("{\"title\":\"page\"}", client.fetchPagePayload("wiki-1", "guides/getting-started"));
 
-            assertEquals("{\"title\":\"Getting Started\"}", client.fetchPagePayload("wiki-1", "guides/getting-started"));
+        assertEquals(List.of("/api/mods/wiki-1/guides/getting-started"), paths);
+    }
 
-            server.verify();
-        }
+    private WikiUpstreamClient client(Duration freshFor) {
+        return new WikiUpstreamClient(
+                new AppWikiProperties("", "http://127.0.0.1:" + server.getAddress().getPort() + "/api"),
+                new WikiHttpClientConfig().wikiRestTemplate(),
+                new CaffeineCacheManager(WikiUpstreamClient.PROJECT_CACHE, WikiUpstreamClient.PAGE_CACHE),
+                this::runOnLane,
+                freshFor
+        );
     }
 
-    @Configuration
-    @EnableCaching
-    static class TestConfig {
+    private void runOnLane(Runnable task) {
+        if (laneSaturated) {
+            throw new RejectedExecutionException("housekeeping lane is full");
+        }
+        task.run();
+    }
 
-        @Bean
-        CacheManager cacheManager() {
-            return new ConcurrentMapCacheManager(
-                    "wikiProjectPayload",
-                    "wikiPagePayload"
-            );
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        synchronized (paths) {
+            paths.add(exchange.getRequestURI().getRawPath());
         }
+        awaitSlowUpstream();
 
-        @Bean
-        AppWikiProperties appWikiProperties() {
-            return new AppWikiProperties("", "https://wiki.modtale.test/api");
+        if (failing) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
         }
 
-        @Bean
-        RestTemplate wikiRestTemplate() {
-            return new RestTemplate();
+        boolean projectRequest = exchange.getRequestURI().getRawPath().equals("/api/mods/sky-tools");
+        String body = projectRequest ? projectBody : "{\"title\":\"page\"}";
+        String etag = projectRequest ? projectEtag : "\"page\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.getResponseHeaders().add("Last-Modified", "Mon, 19 Oct 2026 10:00:00 GMT");
+
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
         }
 
-        @Bean
-        WikiUpstreamClient wikiUpstreamClient(
-                AppWikiProperties appWikiProperties,
-                RestTemplate wikiRestTemplate
-        ) {
-            return new WikiUpstreamClient(appWikiProperties, wikiRestTemplate);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        bodyBytes.addAndGet(bytes.length);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private void awaitSlowUpstream() {
+        CountDownLatch latch = slowUpstream;
+        if (latch == null) {
+            return;
+        }
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 }
@@ -9,6 +9,7 @@ import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.project.access.ProjectAccessService;
 import net.modtale.service.project.access.ProjectMutationGuard;
+import net.modtale.service.project.query.ProjectRouteResolver;
 import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.project.validation.ValidationService;
 import net.modtale.service.security.access.AccessControlService;
@@ -34,6 +35,7 @@ class MetadataServiceTest {
     private AccessControlService accessControlService;
     private ProjectAccessService projectAccessService;
     private SanitizationService sanitizationService;
+    private ProjectRouteResolver projectRouteResolver;
 
     @BeforeEach
     void setUp() {
@@ -43,6 +45,7 @@ class MetadataServiceTest {
         accessControlService = mock(AccessControlService.class);
         projectAccessService = new ProjectAccessService(projectService, accessControlService);
         sanitizationService = mock(SanitizationService.class);
+        projectRouteResolver = mock(ProjectRouteResolver.class);
 
         service = new MetadataService(
                 projectRepository,
@@ -50,7 +53,8 @@ class MetadataServiceTest {
                 validationService,
                 projectAccessService,
                 new ProjectMutationGuard(),
-                sanitizationService
+                sanitizationService,
+                projectRouteResolver
         );
     }
 
@@ -92,6 +96,8 @@ class MetadataServiceTest {
         assertFalse(existing.isCustomLicenseOpenSource());
         verify(validationService).validateSlug("new-slug");
         verify(projectRepository).save(existing);
+        verify(projectRouteResolver).evict("sky-tools");
+        verify(projectRouteResolver).evict(existing);
         verify(projectService).evictProjectCache(existing);
     }
 
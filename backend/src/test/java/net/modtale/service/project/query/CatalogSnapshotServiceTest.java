@@ -0,0 +1,113 @@
+package net.modtale.service.project.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.modtale.config.properties.AppCatalogSnapshotProperties;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectClassification;
+import net.modtale.model.project.ProjectSort;
+import net.modtale.repository.project.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogSnapshotServiceTest {
+
+    private static final int COMBINATIONS = (ProjectClassification.values().length + 1) * ProjectSort.values().length;
+
+    private ProjectRepository projectRepository;
+    private ProjectSearchResultDecorator decorator;
+    private CatalogSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        decorator = mock(ProjectSearchResultDecorator.class);
+        when(decorator.decorateCatalogResults(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Project project = new Project();
+        project.setId("project-1");
+        project.setTitle("Sky Tools");
+        when(projectRepository.searchProjects(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(project), PageRequest.of(0, 12), 1));
+
+        service = service(Runnable::run);
+    }
+
+    @Test
+    void firstTickMaterializesEveryClassificationAndSort() {
+        assertNull(service.find(null, ProjectSort.TRENDING, 12));
+
+        service.rebuildIfDue();
+
+        byte[] snapshot = service.find(ProjectClassification.MODPACK, ProjectSort.TRENDING, 12);
+        assertNotNull(snapshot);
+        assertTrue(new String(snapshot, StandardCharsets.UTF_8).contains("Sky Tools"));
+        assertNull(service.find(ProjectClassification.MODPACK, ProjectSort.TRENDING, 24));
+        verify(projectRepository, times(COMBINATIONS))
+                .searchProjects(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void projectChangesAreDebouncedAndFailedRebuildsKeepServingTheLastSnapshot() {
+        service.rebuildIfDue();
+        byte[] before = service.find(null, ProjectSort.RELEVANCE, 12);
+
+        service.requestRebuild();
+        service.rebuildIfDue();
+        verify(projectRepository, times(COMBINATIONS))
+                .searchProjects(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+
+        when(projectRepository.searchProjects(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("mongo down"));
+        service.requestImmediateRebuild();
+        service.rebuildIfDue();
+
+        assertArrayEquals(before, service.find(null, ProjectSort.RELEVANCE, 12));
+    }
+
+    @Test
+    void rebuildDroppedByASaturatedLaneIsRetriedOnTheNextTick() {
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        CatalogSnapshotService lanedService = service(task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            task.run();
+        });
+
+        lanedService.rebuildIfDue();
+        assertNull(lanedService.find(null, ProjectSort.TRENDING, 12));
+
+        saturated.set(false);
+        lanedService.rebuildIfDue();
+
+        assertNotNull(lanedService.find(null, ProjectSort.TRENDING, 12));
+    }
+
+    private CatalogSnapshotService service(Executor executor) {
+        return new CatalogSnapshotService(
+                projectRepository,
+                decorator,
+                new ObjectMapper(),
+                executor,
+                new AppCatalogSnapshotProperties(true, List.of(12), Duration.ofMinutes(1), Duration.ofMinutes(5))
+        );
+    }
+}
@@ -2,11 +2,17 @@ package net.modtale.service.project.query;
 
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectClassification;
+import net.modtale.service.project.version.LatestVersionIndexService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class ProjectCacheServiceTest {
 
@@ -27,10 +33,9 @@ class ProjectCacheServiceTest {
                 "projectSummarySearch",
                 "projectMarqueeSearch",
                 "projectMarqueeSummarySearch",
-                "sitemapData",
                 "platformStats"
         );
-        ProjectCacheService cacheService = new ProjectCacheService(cacheManager, new ProjectRouteService());
+        ProjectCacheService cacheService = new ProjectCacheService(cacheManager, new ProjectRouteService(), mock(CatalogSnapshotService.class), mock(LatestVersionIndexService.class), mock(VersionDependencyGraphService.class));
 
         Project project = new Project();
         project.setId("project-1");
@@ -59,7 +64,6 @@ class ProjectCacheServiceTest {
         cacheManager.getCache("projectSummarySearch").put("summary-page", "cached");
         cacheManager.getCache("projectMarqueeSearch").put("marquee-page", "cached");
         cacheManager.getCache("projectMarqueeSummarySearch").put("marquee-summary-page", "cached");
-        cacheManager.getCache("sitemapData").put("sitemap.xml", "cached");
         cacheManager.getCache("platformStats").put("public", "cached");
 
         assertNotNull(cacheManager.getCache("projectDetails").get("public:project-1"));
@@ -83,7 +87,6 @@ class ProjectCacheServiceTest {
         assertNotNull(cacheManager.getCache("projectSummarySearch").get("summary-page"));
         assertNotNull(cacheManager.getCache("projectMarqueeSearch").get("marquee-page"));
         assertNotNull(cacheManager.getCache("projectMarqueeSummarySearch").get("marquee-summary-page"));
-        assertNotNull(cacheManager.getCache("sitemapData").get("sitemap.xml"));
         assertNotNull(cacheManager.getCache("platformStats").get("public"));
 
         cacheService.evictProjectCache(project);
@@ -109,7 +112,6 @@ class ProjectCacheServiceTest {
         assertNull(cacheManager.getCache("projectSummarySearch").get("summary-page"));
         assertNull(cacheManager.getCache("projectMarqueeSearch").get("marquee-page"));
         assertNull(cacheManager.getCache("projectMarqueeSummarySearch").get("marquee-summary-page"));
-        assertNull(cacheManager.getCache("sitemapData").get("sitemap.xml"));
         assertNull(cacheManager.getCache("platformStats").get("public"));
     }
 
@@ -130,10 +132,9 @@ class ProjectCacheServiceTest {
                 "projectSummarySearch",
                 "projectMarqueeSearch",
                 "projectMarqueeSummarySearch",
-                "sitemapData",
                 "platformStats"
         );
-        ProjectCacheService cacheService = new ProjectCacheService(cacheManager, new ProjectRouteService());
+        ProjectCacheService cacheService = new ProjectCacheService(cacheManager, new ProjectRouteService(), mock(CatalogSnapshotService.class), mock(LatestVersionIndexService.class), mock(VersionDependencyGraphService.class));
 
         cacheManager.getCache("projectDetails").put("public:missing-project", "cached");
         cacheManager.getCache("projectDetailDtos").put("public:missing-project", "cached");
@@ -167,4 +168,74 @@ class ProjectCacheServiceTest {
         assertNull(cacheManager.getCache("projectMarqueeSearch").get("marquee-page"));
         assertNull(cacheManager.getCache("projectMarqueeSummarySearch").get("marquee-summary-page"));
     }
+
+    @Test
+    void onlyVersionAndStatusEvictionsResyncTheGraphAndLatestVersionIndex() {
+        LatestVersionIndexService latestVersionIndexService = mock(LatestVersionIndexService.class);
+        VersionDependencyGraphService versionDependencyGraphService = mock(VersionDependencyGraphService.class);
+        ProjectCacheService cacheService = new ProjectCacheService(new ConcurrentMapCacheManager(), new ProjectRouteService(), mock(CatalogSnapshotService.class), latestVersionIndexService, versionDependencyGraphService);
+        Project project = new Project();
+        project.setId("project-1");
+        project.setClassification(ProjectClassification.PLUGIN);
+
+        cacheService.evictProjectCache(project);
+        verify(versionDependencyGraphService, never()).syncProject("project-1");
+        verify(latestVersionIndexService, never()).requestSync("project-1");
+
+        cacheService.evictProjectVersionCache(project);
+        verify(versionDependencyGraphService).syncProject("project-1");
+        verify(latestVersionIndexService).requestSync("project-1");
+    }
+
+    @Test
+    void aFailedGraphSyncStillResyncsTheLatestVersionIndex() {
+        LatestVersionIndexService latestVersionIndexService = mock(LatestVersionIndexService.class);
+        VersionDependencyGraphService versionDependencyGraphService = mock(VersionDependencyGraphService.class);
+        doThrow(new IllegalStateException("mongo down")).when(versionDependencyGraphService).syncProject("project-1");
+        ProjectCacheService cacheService = new ProjectCacheService(new ConcurrentMapCacheManager(), new ProjectRouteService(), mock(CatalogSnapshotService.class), latestVersionIndexService, versionDependencyGraphService);
+        Project project = new Project();
+        project.setId("project-1");
+
+        cacheService.evictProjectVersionCache(project);
+
+        verify(latestVersionIndexService).requestSync("project-1");
+    }
+
+    @Test
+    void wikiPagesAreEvictedPerProjectInsteadOfCleared() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("wikiPageJson", "wikiPageBundleJson");
+        ProjectCacheService cacheService = new ProjectCacheService(cacheManager, new ProjectRouteService(), mock(CatalogSnapshotService.class), mock(LatestVersionIndexService.class), mock(VersionDependencyGraphService.class));
+
+        Project project = new Project();
+        project.setId("project-1");
+        project.setSlug("Sky-Tools");
+        project.setClassification(ProjectClassification.PLUGIN);
+
+        cacheManager.getCache("wikiPageJson").put("public:project-1", "pages");
+        cacheManager.getCache("wikiPageJson").put("public:project-2", "pages");
+        cacheManager.getCache("wikiPageBundleJson").put("public:project-1", "bundles");
+        cacheManager.getCache("wikiPageBundleJson").put("public:project-2", "bundles");
+
+        cacheService.evictProjectDetailsCache(project);
+
+        assertNull(cacheManager.getCache("wikiPageJson").get("public:project-1"));
+        assertNull(cacheManager.getCache("wikiPageBundleJson").get("public:project-1"));
+        assertNotNull(cacheManager.getCache("wikiPageJson").get("public:project-2"));
+        assertNotNull(cacheManager.getCache("wikiPageBundleJson").get("public:project-2"));
+    }
+
+    @Test
+    void evictingByIdAlsoDropsWikiPagesServedThroughTheSlug() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("wikiPageJson", "wikiPageBundleJson");
+        ProjectCacheService cacheService = new ProjectCacheService(cacheManager, new ProjectRouteService(), mock(CatalogSnapshotService.class), mock(LatestVersionIndexService.class), mock(VersionDependencyGraphService.class));
+
+        // WikiService caches under the resolved id even when the page was requested by slug.
+        cacheManager.getCache("wikiPageJson").put("public:project-1", "pages");
+        cacheManager.getCache("wikiPageBundleJson").put("public:project-1", "bundles");
+
+        cacheService.evictProjectDetailsCacheById("project-1");
+
+        assertNull(cacheManager.getCache("wikiPageJson").get("public:project-1"));
+        assertNull(cacheManager.getCache("wikiPageBundleJson").get("public:project-1"));
+    }
 }
@@ -0,0 +1,102 @@
+package net.modtale.service.project.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import net.modtale.config.properties.AppResponseCacheProperties;
+import net.modtale.model.project.Project;
+import net.modtale.service.project.version.LatestVersionIndexService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ProjectResponseBytesCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ProjectResponseBytesCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(ProjectResponseBytesCache.CACHE_NAME);
+        cache = new ProjectResponseBytesCache(cacheManager, new ObjectMapper(), new AppResponseCacheProperties(true, true, 16));
+    }
+
+    @Test
+    void hitsReuseTheEncodedBytesWithoutLoadingAgain() {
+        ProjectResponseBytesCache.EncodedResponse first = cache.get("projectPageDtos", "sky-tools", null, this::load);
+        ProjectResponseBytesCache.EncodedResponse second = cache.get("projectPageDtos", "sky-tools", "", this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertNull(first.contentEncoding());
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("Sky Tools"));
+        assertTrue(first.matches(first.etag()));
+        assertTrue(first.matches("\"other\", W/" + first.etag()));
+        assertFalse(first.matches("\"other\""));
+    }
+
+    @Test
+    void gzipVariantsCompressTheIdentityBodyUnderTheirOwnEtag() throws IOException {
+        ProjectResponseBytesCache.EncodedResponse gzip = cache.get("projectPageDtos", "sky-tools", "br;q=1, gzip;q=0.8", this::load);
+        ProjectResponseBytesCache.EncodedResponse identity = cache.get("projectPageDtos", "sky-tools", "identity", this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals("gzip", gzip.contentEncoding());
+        assertNotEquals(identity.etag(), gzip.etag());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.body()))) {
+            assertEquals(new String(identity.body(), StandardCharsets.UTF_8), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void missingDtosAreNotCached() {
+        assertNull(cache.get("projectPageDtos", "missing", null, () -> null));
+
+        assertNull(cacheManager.getCache(ProjectResponseBytesCache.CACHE_NAME)
+                .get(ProjectResponseBytesCache.key("projectPageDtos", "missing", "identity")));
+    }
+
+    @Test
+    void projectEvictionDropsEveryEncodingForEveryRouteKey() {
+        cache.get("projectPageDtos", "project-1", null, this::load);
+        cache.get("projectVersionDtos", "sky-tools", "gzip", this::load);
+        Project project = new Project();
+        project.setId("project-1");
+        project.setSlug("sky-tools");
+
+        new ProjectCacheService(cacheManager, new ProjectRouteService(), mock(CatalogSnapshotService.class), mock(LatestVersionIndexService.class), mock(VersionDependencyGraphService.class))
+                .evictProjectDetailsCache(project);
+
+        cache.get("projectPageDtos", "project-1", null, this::load);
+        cache.get("projectVersionDtos", "sky-tools", "gzip", this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void acceptEncodingHonoursZeroQuality() {
+        assertTrue(ProjectResponseBytesCache.acceptsGzip("deflate, gzip"));
+        assertTrue(ProjectResponseBytesCache.acceptsGzip("*"));
+        assertFalse(ProjectResponseBytesCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ProjectResponseBytesCache.acceptsGzip("br"));
+        assertFalse(ProjectResponseBytesCache.acceptsGzip(null));
+    }
+
+    private Object load() {
+        loads.incrementAndGet();
+        return Map.of("title", "Sky Tools", "description", "A long enough description to be worth compressing.");
+    }
+}
@@ -0,0 +1,77 @@
+package net.modtale.service.project.query;
+
+import java.util.List;
+import net.modtale.model.project.Project;
+import net.modtale.repository.project.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectRouteResolverTest {
+
+    private ProjectRepository projectRepository;
+    private ProjectRouteResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        resolver = new ProjectRouteResolver(projectRepository, new ProjectRouteService());
+    }
+
+    @Test
+    void bareKeysPreferSlugsAndExplicitHandlesPreferIds() {
+        Project slugOwner = project("project-1", "project-2");
+        Project idOwner = project("project-2", "sky-tools");
+        when(projectRepository.findRouteCandidates(List.of("project-2"), "project-2")).thenReturn(List.of(slugOwner, idOwner));
+        when(projectRepository.findRouteCandidates(List.of("project-2"), "other~project-2")).thenReturn(List.of(idOwner));
+
+        assertEquals("project-1", resolver.resolveProjectId(" project-2 "));
+        assertEquals("project-2", resolver.resolveProjectId("other~project-2"));
+    }
+
+    @Test
+    void resolutionsAndMissesAreCachedUntilEvicted() {
+        Project project = project("project-1", "sky-tools");
+        when(projectRepository.findRouteCandidates(any(), eq("sky-tools"))).thenReturn(List.of(project));
+
+        assertEquals("project-1", resolver.resolveProjectId("sky-tools"));
+        assertEquals("project-1", resolver.resolveProjectId("sky-tools"));
+        assertNull(resolver.resolveProjectId("wp-login.php"));
+        assertNull(resolver.resolveProjectId("wp-login.php"));
+
+        verify(projectRepository, times(1)).findRouteCandidates(any(), eq("sky-tools"));
+        verify(projectRepository, times(1)).findRouteCandidates(any(), eq("wp-login.php"));
+
+        project.setSlug("sky-tools-2");
+        resolver.evict(project);
+        when(projectRepository.findRouteCandidates(any(), eq("sky-tools"))).thenReturn(List.of());
+
+        assertNull(resolver.resolveProjectId("sky-tools"));
+    }
+
+    @Test
+    void evictingAProjectDropsMissesForItsNewSlug() {
+        assertNull(resolver.resolveProjectId("fresh-slug"));
+        Project project = project("project-1", "fresh-slug");
+        when(projectRepository.findRouteCandidates(any(), eq("fresh-slug"))).thenReturn(List.of(project));
+
+        resolver.evict(project);
+
+        assertEquals("project-1", resolver.resolveProjectId("fresh-slug"));
+    }
+
+    private static Project project(String id, String slug) {
+        Project project = new Project();
+        project.setId(id);
+        project.setSlug(slug);
+        return project;
+    }
+}
@@ -12,8 +12,10 @@ import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
-import net.modtale.repository.user.UserRepository;
+import net.modtale.service.project.version.LatestVersionIndexService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import net.modtale.service.security.access.AccessControlService;
+import net.modtale.service.user.account.UserProjectionCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
@@ -33,19 +35,18 @@ class ProjectServiceTest {
 
     private ProjectService service;
     private ProjectRepository projectRepository;
-    private UserRepository userRepository;
     private AccessControlService accessControlService;
     private MongoTemplate mongoTemplate;
 
     @BeforeEach
     void setUp() {
         projectRepository = mock(ProjectRepository.class);
-        userRepository = mock(UserRepository.class);
         mongoTemplate = mock(MongoTemplate.class);
         accessControlService = mock(AccessControlService.class);
         ProjectRouteService projectRouteService = new ProjectRouteService();
-        ProjectCacheService projectCacheService = new ProjectCacheService(new ConcurrentMapCacheManager("projectDetails"), projectRouteService);
-        ProjectViewService projectViewService = new ProjectViewService(projectRepository, userRepository, mongoTemplate, accessControlService, projectRouteService);
+        ProjectCacheService projectCacheService = new ProjectCacheService(new ConcurrentMapCacheManager("projectDetails"), projectRouteService, mock(CatalogSnapshotService.class), mock(LatestVersionIndexService.class), mock(VersionDependencyGraphService.class));
+        ProjectRelationLoader projectRelationLoader = new ProjectRelationLoader(mongoTemplate, new UserProjectionCacheService(mongoTemplate));
+        ProjectViewService projectViewService = new ProjectViewService(projectRepository, accessControlService, new ProjectRouteResolver(projectRepository, projectRouteService), projectRelationLoader);
 
         service = new ProjectService(
                 projectViewService,
@@ -101,7 +102,7 @@ class ProjectServiceTest {
 
         User author = user("author-1", "ItsNeil17");
         when(projectRepository.findPublicDetailById("project-1")).thenReturn(Optional.of(project));
-        when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenReturn(author);
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(author));
         when(accessControlService.isPubliclyReadable(project)).thenReturn(true);
 
         Project resolved = service.getPublicProjectById("project-1");
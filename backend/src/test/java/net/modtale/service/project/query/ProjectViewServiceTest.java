@@ -3,26 +3,32 @@ package net.modtale.service.project.query;
 import java.util.List;
 import java.util.Optional;
 import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectDependency;
 import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
-import net.modtale.repository.user.UserRepository;
 import net.modtale.service.security.access.AccessControlService;
+import net.modtale.service.user.account.UserProjectionCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ProjectViewServiceTest {
 
     private ProjectRepository projectRepository;
-    private UserRepository userRepository;
     private MongoTemplate mongoTemplate;
     private AccessControlService accessControlService;
     private ProjectRouteService projectRouteService;
@@ -31,11 +37,11 @@ class ProjectViewServiceTest {
     @BeforeEach
     void setUp() {
         projectRepository = mock(ProjectRepository.class);
-        userRepository = mock(UserRepository.class);
         mongoTemplate = mock(MongoTemplate.class);
         accessControlService = mock(AccessControlService.class);
         projectRouteService = new ProjectRouteService();
-        service = new ProjectViewService(projectRepository, userRepository, mongoTemplate, accessControlService, projectRouteService);
+        ProjectRelationLoader projectRelationLoader = new ProjectRelationLoader(mongoTemplate, new UserProjectionCacheService(mongoTemplate));
+        service = new ProjectViewService(projectRepository, accessControlService, new ProjectRouteResolver(projectRepository, projectRouteService), projectRelationLoader);
     }
 
     @Test
@@ -44,7 +50,7 @@ class ProjectViewServiceTest {
         User contributor = user("user-1", "ada");
 
         when(projectRepository.findViewerDetailById("project-1")).thenReturn(Optional.of(project));
-        when(userRepository.findById("author-1")).thenReturn(Optional.of(user("author-1", "author")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(user("author-1", "author")));
         when(accessControlService.hasEditPermission(project, contributor)).thenReturn(true);
         when(accessControlService.isAdmin(contributor)).thenReturn(false);
 
@@ -60,7 +66,7 @@ class ProjectViewServiceTest {
         User admin = user("admin-1", "mod");
 
         when(projectRepository.findViewerDetailById("project-1")).thenReturn(Optional.of(project));
-        when(userRepository.findById("author-1")).thenReturn(Optional.of(user("author-1", "author")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(user("author-1", "author")));
         when(accessControlService.hasEditPermission(project, admin)).thenReturn(false);
         when(accessControlService.canReadProject(project, admin)).thenReturn(true);
 
@@ -76,8 +82,9 @@ class ProjectViewServiceTest {
         project.setSlug("levelingcore");
         project.setStatus(ProjectStatus.PUBLISHED);
 
-        when(projectRepository.findPublicDetailBySlug("levelingcore")).thenReturn(Optional.of(project));
-        when(userRepository.findById("author-1")).thenReturn(Optional.of(user("author-1", "author")));
+        when(projectRepository.findRouteCandidates(any(), eq("levelingcore"))).thenReturn(List.of(project));
+        when(projectRepository.findPublicDetailById("project-1")).thenReturn(Optional.of(project));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(user("author-1", "author")));
         when(accessControlService.isPubliclyReadable(project)).thenReturn(true);
 
         Project result = service.getPublicProjectByRouteKey("levelingcore");
@@ -92,8 +99,9 @@ class ProjectViewServiceTest {
         project.setStatus(ProjectStatus.PUBLISHED);
         User viewer = user("viewer-1", "viewer");
 
+        when(projectRepository.findRouteCandidates(any(), eq("levelingcore~project-1"))).thenReturn(List.of(project));
         when(projectRepository.findViewerDetailById("project-1")).thenReturn(Optional.of(project));
-        when(userRepository.findById("author-1")).thenReturn(Optional.of(user("author-1", "author")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(user("author-1", "author")));
         when(accessControlService.hasEditPermission(project, viewer)).thenReturn(false);
         when(accessControlService.isAdmin(viewer)).thenReturn(false);
         when(accessControlService.canReadProject(project, viewer)).thenReturn(true);
@@ -103,6 +111,37 @@ class ProjectViewServiceTest {
         assertNotNull(result);
     }
 
+    @Test
+    void getPublicProjectByIdResolvesAuthorTeamAndDependenciesWithOneQueryPerType() {
+        Project project = projectWithScanResult();
+        ProjectDependency dependency = new ProjectDependency();
+        dependency.setModId("dependency-1");
+        project.getVersions().getFirst().setDependencies(List.of(dependency));
+        Project.ProjectMember member = new Project.ProjectMember();
+        member.setUserId("member-1");
+        project.setTeamMembers(List.of(member));
+
+        Project dependencyProject = new Project();
+        dependencyProject.setId("dependency-1");
+        dependencyProject.setTitle("Core Lib");
+        dependencyProject.setSlug("core-lib");
+
+        when(projectRepository.findPublicDetailById("project-1")).thenReturn(Optional.of(project));
+        when(accessControlService.isPubliclyReadable(project)).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(User.class)))
+                .thenReturn(List.of(user("author-1", "author"), user("member-1", "member")));
+        when(mongoTemplate.find(any(Query.class), eq(Project.class))).thenReturn(List.of(dependencyProject));
+
+        Project result = service.getPublicProjectById("project-1");
+
+        assertNotNull(result);
+        assertEquals("author", result.getAuthor());
+        assertEquals("member", result.getTeamMembers().getFirst().getUsername());
+        assertEquals("core-lib", result.getVersions().getFirst().getDependencies().getFirst().getSlug());
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(User.class));
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(Project.class));
+    }
+
     private static Project projectWithScanResult() {
         ProjectVersion version = new ProjectVersion();
         version.setId("version-1");
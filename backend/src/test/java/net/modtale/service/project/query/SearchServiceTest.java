@@ -12,8 +12,10 @@ import net.modtale.model.project.ProjectViewCategory;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 import net.modtale.model.user.User;
+import net.modtale.repository.project.CatalogPageRequest;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.repository.user.UserRepository;
+import net.modtale.service.user.account.UserProjectionCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -50,7 +52,9 @@ class SearchServiceTest {
         projectRepository = mock(ProjectRepository.class);
         userRepository = mock(UserRepository.class);
         mongoTemplate = mock(MongoTemplate.class);
-        ProjectSearchResultDecorator projectSearchResultDecorator = new ProjectSearchResultDecorator(userRepository);
+        ProjectSearchResultDecorator projectSearchResultDecorator = new ProjectSearchResultDecorator(
+                new ProjectRelationLoader(mongoTemplate, new UserProjectionCacheService(mongoTemplate))
+        );
         ProjectCatalogSearchService projectCatalogSearchService = new ProjectCatalogSearchService(
                 projectRepository,
                 projectSearchResultDecorator
@@ -73,7 +77,7 @@ class SearchServiceTest {
                 .thenReturn(favorites);
 
         Page<Project> result = searchService.searchProjects(
-                null, null, 0, 12, null, null, null, null, null, ProjectViewCategory.FAVORITES, null, null, true, currentUser
+                null, null, 0, 12, null, null, null, null, null, ProjectViewCategory.FAVORITES, null, null, true, null, false, currentUser
         );
 
         assertEquals(favorites, result);
@@ -89,7 +93,7 @@ class SearchServiceTest {
         currentUser.setLikedModIds(List.of());
 
         Page<Project> result = searchService.searchProjects(
-                null, null, 0, 12, ProjectSort.RELEVANCE, null, null, null, null, ProjectViewCategory.FAVORITES, null, null, null, currentUser
+                null, null, 0, 12, ProjectSort.RELEVANCE, null, null, null, null, ProjectViewCategory.FAVORITES, null, null, null, null, false, currentUser
         );
 
         assertTrue(result.isEmpty());
@@ -123,7 +127,7 @@ class SearchServiceTest {
                 eq("author-1"),
                 eq(true)
         )).thenReturn(page);
-        when(userRepository.findAllById(any(Iterable.class))).thenReturn(List.of(author));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(author));
 
         Page<Project> result = searchService.searchProjects(
                 List.of("magic"),
@@ -139,6 +143,8 @@ class SearchServiceTest {
                 "30d",
                 "author-1",
                 true,
+                null,
+                false,
                 currentUser
         );
 
@@ -203,11 +209,13 @@ class SearchServiceTest {
                 null,
                 null,
                 null,
+                null,
+                false,
                 null
         );
 
         assertEquals("Ada", result.getContent().getFirst().getAuthor());
-        verify(userRepository, never()).findAllById(any(Iterable.class));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(User.class));
     }
 
     @Test
@@ -228,6 +236,8 @@ class SearchServiceTest {
                         "not-a-date",
                         null,
                         null,
+                        null,
+                        false,
                         null
                 )
         );
@@ -235,6 +245,22 @@ class SearchServiceTest {
         assertEquals("Date ranges must be 7d, 30d, 90d, 1y, all, or a valid ISO-8601 date.", error.getMessage());
     }
 
+    @Test
+    void searchProjectMarqueeForwardsTheCursorToTheKeysetPath() {
+        when(projectRepository.searchProjectMarquee(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Page.empty());
+
+        searchService.searchProjectMarquee(
+                null, null, 3, 16, ProjectSort.TRENDING, null, null, null, null, ProjectViewCategory.ALL, null, null, null, "cursor-1", true
+        );
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(projectRepository).searchProjectMarquee(any(), any(), any(), any(), any(), any(), pageableCaptor.capture(), any(), any(), any(), any(), any());
+        CatalogPageRequest request = (CatalogPageRequest) pageableCaptor.getValue();
+        assertEquals("cursor-1", request.getCursor());
+        assertTrue(request.isExactTotal());
+    }
+
     @Test
     void getCreatorProjectsReturnsEmptyWhenTheCreatorDoesNotExist() {
         when(userRepository.findById("missing")).thenReturn(Optional.empty());
@@ -305,7 +331,7 @@ class SearchServiceTest {
 
         when(mongoTemplate.count(any(Query.class), eq(Project.class))).thenReturn(1L);
         when(mongoTemplate.find(any(Query.class), eq(Project.class))).thenReturn(List.of(project));
-        when(userRepository.findAllById(any(Iterable.class))).thenReturn(List.of(user("author-1", "Ada")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(user("author-1", "Ada")));
 
         Page<Project> result = searchService.getContributedProjects("contrib-1", PageRequest.of(0, 5));
 
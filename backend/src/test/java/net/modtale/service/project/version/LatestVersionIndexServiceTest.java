@@ -0,0 +1,184 @@
+package net.modtale.service.project.version;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.modtale.model.project.LatestVersionEntry;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectStatus;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.service.security.access.AccessControlService;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LatestVersionIndexServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final AccessControlService accessControlService = mock(AccessControlService.class);
+    private final LatestVersionIndexService service = new LatestVersionIndexService(mongoTemplate, accessControlService, Runnable::run);
+
+    @Test
+    void newestApprovedVersionWinsForEachChannelAndGameVersion() {
+        Project project = project(
+                version("v4", "1.3.0", ProjectVersion.Channel.BETA, ProjectVersion.ReviewStatus.APPROVED, "1.21"),
+                version("v3", "1.2.0", null, ProjectVersion.ReviewStatus.PENDING, "1.21"),
+                version("v2", "1.1.0", null, ProjectVersion.ReviewStatus.APPROVED, "1.21", "1.20"),
+                version("v1", "1.0.0", ProjectVersion.Channel.RELEASE, ProjectVersion.ReviewStatus.APPROVED, "1.20")
+        );
+        when(accessControlService.isPubliclyReadable(project)).thenReturn(true);
+
+        List<LatestVersionEntry> entries = service.toEntries(project);
+
+        assertEquals(
+                List.of("project-1:BETA:1.21", "project-1:RELEASE:1.21", "project-1:RELEASE:1.20"),
+                entries.stream().map(LatestVersionEntry::getId).toList()
+        );
+        assertEquals(List.of("v4", "v2", "v2"), entries.stream().map(LatestVersionEntry::getVersionId).toList());
+    }
+
+    @Test
+    void hiddenAndDeletedProjectsHaveNoEntries() {
+        Project hidden = project(version("v1", "1.0.0", null, ProjectVersion.ReviewStatus.APPROVED, "1.21"));
+        hidden.setStatus(ProjectStatus.DRAFT);
+        Project deleted = project(version("v1", "1.0.0", null, ProjectVersion.ReviewStatus.APPROVED, "1.21"));
+        deleted.setDeletedAt(LocalDateTime.now());
+        when(accessControlService.isPubliclyReadable(deleted)).thenReturn(true);
+
+        assertTrue(service.toEntries(hidden).isEmpty());
+        assertTrue(service.toEntries(deleted).isEmpty());
+    }
+
+    @Test
+    void updateChecksReadAllProjectsInOneQueryAndPreferTheNewestRelease() {
+        when(mongoTemplate.find(any(Query.class), eq(LatestVersionEntry.class))).thenReturn(List.of(
+                entry("project-2", ProjectVersion.Channel.RELEASE, "2026-03-01T00:00:00"),
+                entry("project-1", ProjectVersion.Channel.BETA, "2026-02-01T00:00:00"),
+                entry("project-1", ProjectVersion.Channel.RELEASE, "2026-02-01T00:00:00"),
+                entry("project-2", ProjectVersion.Channel.BETA, "2026-04-01T00:00:00")
+        ));
+
+        Map<String, LatestVersionEntry> latest = service.findLatest(
+                List.of("project-1", "project-2", "project-3"),
+                "1.21",
+                List.of(ProjectVersion.Channel.BETA, ProjectVersion.Channel.RELEASE)
+        );
+
+        assertEquals(List.of("project-1", "project-2"), List.copyOf(latest.keySet()));
+        assertEquals(ProjectVersion.Channel.RELEASE, latest.get("project-1").getChannel());
+        assertEquals(ProjectVersion.Channel.BETA, latest.get("project-2").getChannel());
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(LatestVersionEntry.class));
+        Document queryObject = captor.getValue().getQueryObject();
+        assertEquals(new Document("$in", List.of("project-1", "project-2", "project-3")), queryObject.get("projectId"));
+        assertEquals("1.21", queryObject.get("gameVersion"));
+    }
+
+    @Test
+    void syncsRefusedByTheHousekeepingLaneCanBeRequestedAgain() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        LatestVersionIndexService lane = new LatestVersionIndexService(mongoTemplate, accessControlService, task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("housekeeping lane is full");
+            }
+            queued.add(task);
+        });
+
+        lane.requestSync("project-1");
+        saturated.set(false);
+        lane.requestSync("project-1");
+        lane.requestSync("project-1");
+
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void refusedSyncsAreRequeuedByTheRetryTick() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        LatestVersionIndexService lane = new LatestVersionIndexService(mongoTemplate, accessControlService, task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("housekeeping lane is full");
+            }
+            queued.add(task);
+        });
+
+        lane.requestSync("project-1");
+        lane.retryRefusedSyncs();
+        assertEquals(0, queued.size());
+
+        saturated.set(false);
+        lane.retryRefusedSyncs();
+        lane.retryRefusedSyncs();
+
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void refusedBackfillsAreRetried() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        LatestVersionIndexService lane = new LatestVersionIndexService(mongoTemplate, accessControlService, task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("housekeeping lane is full");
+            }
+            queued.add(task);
+        });
+
+        lane.backfillIfEmpty();
+        saturated.set(false);
+        lane.retryRefusedBackfill();
+        lane.retryRefusedBackfill();
+
+        assertEquals(1, queued.size());
+    }
+
+    private static Project project(ProjectVersion... versions) {
+        Project project = new Project();
+        project.setId("project-1");
+        project.setStatus(ProjectStatus.PUBLISHED);
+        project.setVersions(new ArrayList<>(List.of(versions)));
+        return project;
+    }
+
+    private static ProjectVersion version(
+            String id,
+            String versionNumber,
+            ProjectVersion.Channel channel,
+            ProjectVersion.ReviewStatus reviewStatus,
+            String... gameVersions
+    ) {
+        ProjectVersion version = new ProjectVersion();
+        version.setId(id);
+        version.setVersionNumber(versionNumber);
+        version.setChannel(channel);
+        version.setReviewStatus(reviewStatus);
+        version.setGameVersions(List.of(gameVersions));
+        return version;
+    }
+
+    private static LatestVersionEntry entry(String projectId, ProjectVersion.Channel channel, String releaseDate) {
+        LatestVersionEntry entry = new LatestVersionEntry();
+        entry.setId(LatestVersionEntry.idFor(projectId, channel, "1.21"));
+        entry.setProjectId(projectId);
+        entry.setChannel(channel);
+        entry.setGameVersion("1.21");
+        entry.setReleaseDate(releaseDate);
+        return entry;
+    }
+}
@@ -0,0 +1,109 @@
+package net.modtale.service.project.version;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.modtale.model.project.LatestVersionEntry;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectStatus;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.service.security.access.AccessControlService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Seeds projects into a real MongoDB, backfills the latest version index and runs 1,000-project update checks
+ * against it. Every project must resolve to its newest release; latencies are printed. Set
+ * {@code MODTALE_TEST_MONGO_URI} to enable.
+ */
+@EnabledIfEnvironmentVariable(named = "MODTALE_TEST_MONGO_URI", matches = ".+")
+class LatestVersionUpdateCheckLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatestVersionUpdateCheckLoadTest.class);
+    private static final int PROJECTS = 1_000;
+    private static final int VERSIONS_PER_PROJECT = 20;
+    private static final int ROUNDS = 50;
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private LatestVersionIndexService service;
+    private List<String> projectIds;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(System.getenv("MODTALE_TEST_MONGO_URI"));
+        mongoTemplate = new MongoTemplate(client, "modtale_updates_" + UUID.randomUUID().toString().replace("-", ""));
+        AccessControlService accessControlService = mock(AccessControlService.class);
+        when(accessControlService.isPubliclyReadable(any())).thenReturn(true);
+        service = new LatestVersionIndexService(mongoTemplate, accessControlService, Runnable::run);
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        resolver.resolveIndexFor(LatestVersionEntry.class).forEach(mongoTemplate.indexOps(LatestVersionEntry.class)::createIndex);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setStatus(ProjectStatus.PUBLISHED);
+            List<ProjectVersion> versions = new ArrayList<>();
+            for (int v = VERSIONS_PER_PROJECT; v > 0; v--) {
+                ProjectVersion version = new ProjectVersion();
+                version.setId(UUID.randomUUID().toString());
+                version.setVersionNumber("1." + v + ".0");
+                version.setChannel(v % 3 == 0 ? ProjectVersion.Channel.BETA : ProjectVersion.Channel.RELEASE);
+                version.setReviewStatus(ProjectVersion.ReviewStatus.APPROVED);
+                version.setGameVersions(Arrays.asList("1.20", "1.21"));
+                version.setReleaseDate(String.format("2026-01-01T00:%02d:00", v));
+                versions.add(version);
+            }
+            project.setVersions(versions);
+            projects.add(project);
+        }
+        projectIds = mongoTemplate.insertAll(projects).stream().map(Project::getId).toList();
+        service.backfillIfEmpty();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Test
+    void thousandProjectUpdateChecksResolveEveryProject() {
+        long[] nanos = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            Map<String, LatestVersionEntry> latest = service.findLatest(projectIds, "1.21", null);
+            nanos[round] = System.nanoTime() - start;
+
+            assertEquals(PROJECTS, latest.size());
+            latest.values().forEach(entry -> assertEquals("1.20.0", entry.getVersionNumber()));
+        }
+
+        Arrays.sort(nanos);
+        logger.info("{}-project update check: p50 {} ms, p95 {} ms, max {} ms",
+                PROJECTS,
+                String.format("%.2f", nanos[ROUNDS / 2] / 1e6),
+                String.format("%.2f", nanos[ROUNDS * 95 / 100] / 1e6),
+                String.format("%.2f", nanos[ROUNDS - 1] / 1e6));
+    }
+}
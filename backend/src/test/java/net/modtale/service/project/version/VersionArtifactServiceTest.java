@@ -1,7 +1,11 @@
 package net.modtale.service.project.version;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import net.modtale.exception.InvalidVersionRequestException;
 import net.modtale.exception.StorageArtifactOperationException;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectClassification;
@@ -10,35 +14,41 @@ import net.modtale.service.storage.StorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class VersionArtifactServiceTest {
 
     private VersionArtifactService service;
     private MongoTemplate mongoTemplate;
+    private VersionHashLookupService versionHashLookupService;
 
     @BeforeEach
     void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        versionHashLookupService = mock(VersionHashLookupService.class);
         service = new VersionArtifactService(
                 mock(StorageService.class),
                 mock(FileValidationService.class),
-                mock(MongoTemplate.class)
+                mongoTemplate,
+                versionHashLookupService
         );
-        mongoTemplate = mock(MongoTemplate.class);
-        service = new VersionArtifactService(mock(StorageService.class), mock(FileValidationService.class), mongoTemplate);
     }
 
     @Test
     void prepareVersionArtifactWrapsChecksumReadFailuresInANamedException() throws Exception {
         StorageService storageService = mock(StorageService.class);
         FileValidationService fileValidationService = mock(FileValidationService.class);
-        service = new VersionArtifactService(storageService, fileValidationService, mongoTemplate);
+        service = new VersionArtifactService(storageService, fileValidationService, mongoTemplate, versionHashLookupService);
 
         MultipartFile file = mock(MultipartFile.class);
         when(file.isEmpty()).thenReturn(false);
@@ -60,6 +70,38 @@ class VersionArtifactServiceTest {
         );
     }
 
+    @Test
+    void duplicateUploadsAreOnlyRejectedWhenAHoldingProjectIsLive() throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("mod.jar");
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream("artifact".getBytes(StandardCharsets.UTF_8)));
+        Project project = new Project();
+        project.setClassification(ProjectClassification.PLUGIN);
+
+        when(versionHashLookupService.findProjectIds(any())).thenReturn(List.of("deleted-project"));
+        when(mongoTemplate.exists(any(Query.class), eq(Project.class))).thenReturn(false);
+        service.prepareVersionArtifact(project, file);
+
+        when(mongoTemplate.exists(any(Query.class), eq(Project.class))).thenReturn(true);
+        assertThrows(InvalidVersionRequestException.class, () -> service.prepareVersionArtifact(project, file));
+    }
+
+    @Test
+    void uniqueUploadsSkipTheProjectQuery() throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("mod.jar");
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream("artifact".getBytes(StandardCharsets.UTF_8)));
+        Project project = new Project();
+        project.setClassification(ProjectClassification.PLUGIN);
+        when(versionHashLookupService.findProjectIds(any())).thenReturn(List.of());
+
+        service.prepareVersionArtifact(project, file);
+
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Project.class));
+    }
+
     private static final class BrokenInputStream extends InputStream {
         @Override
         public int read() throws IOException {
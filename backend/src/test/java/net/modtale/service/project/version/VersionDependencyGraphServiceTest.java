@@ -0,0 +1,103 @@
+package net.modtale.service.project.version;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectClassification;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ProjectVersionNode;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VersionDependencyGraphServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final VersionHashLookupService versionHashLookupService = mock(VersionHashLookupService.class);
+    private final VersionDependencyGraphService service = new VersionDependencyGraphService(mongoTemplate, versionHashLookupService);
+
+    @Test
+    void reconciliationResyncsOnlyProjectsWhoseNodesDrifted() {
+        Project current = project("project-1", "files/a.jar", ProjectVersion.ReviewStatus.APPROVED);
+        Project drifted = project("project-2", "files/b.jar", ProjectVersion.ReviewStatus.APPROVED);
+        List<ProjectVersionNode> indexed = new ArrayList<>(VersionDependencyGraphService.toNodes(current));
+        ProjectVersionNode stale = VersionDependencyGraphService.toNodes(drifted).getFirst();
+        stale.setReviewStatus(ProjectVersion.ReviewStatus.PENDING);
+        indexed.add(stale);
+        when(mongoTemplate.find(any(Query.class), eq(ProjectVersionNode.class))).thenReturn(indexed);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectVersionNode.class)).thenReturn(mock(BulkOperations.class));
+
+        assertEquals(1, service.reconcileBatch(List.of(current, drifted)));
+
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectVersionNode.class);
+        verify(mongoTemplate).findDistinct(any(Query.class), eq("hash"), eq(ProjectVersionNode.class), eq(String.class));
+    }
+
+    @Test
+    void syncByIdRemovesTheNodesOfProjectsThatNoLongerExist() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Project.class))).thenReturn(null);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("hash"), eq(ProjectVersionNode.class), eq(String.class))).thenReturn(List.of("abc"));
+
+        service.syncProject("project-1");
+
+        verify(mongoTemplate).remove(any(Query.class), eq(ProjectVersionNode.class));
+        verify(versionHashLookupService).evict(List.of("abc"));
+        verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectVersionNode.class);
+    }
+
+    @Test
+    void syncByIdRewritesNodesFromTheStoredProject() {
+        Project stored = project("project-1", "files/a.jar", ProjectVersion.ReviewStatus.APPROVED);
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.findOne(any(Query.class), eq(Project.class))).thenReturn(stored);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectVersionNode.class)).thenReturn(bulkOps);
+
+        service.syncProject("project-1");
+
+        verify(bulkOps).replaceOne(any(Query.class), any(ProjectVersionNode.class), any(FindAndReplaceOptions.class));
+        verify(bulkOps).execute();
+    }
+
+    @Test
+    void aRejectionResyncedByIdEvictsTheCachedHashAndIndexesTheNewStatus() {
+        Project stored = project("project-1", "files/a.jar", ProjectVersion.ReviewStatus.REJECTED);
+        stored.getVersions().getFirst().setHash("abc");
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.findOne(any(Query.class), eq(Project.class))).thenReturn(stored);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("hash"), eq(ProjectVersionNode.class), eq(String.class))).thenReturn(List.of("abc"));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectVersionNode.class)).thenReturn(bulkOps);
+
+        service.syncProject("project-1");
+
+        ArgumentCaptor<ProjectVersionNode> node = ArgumentCaptor.forClass(ProjectVersionNode.class);
+        verify(bulkOps).replaceOne(any(Query.class), node.capture(), any(FindAndReplaceOptions.class));
+        assertEquals(ProjectVersion.ReviewStatus.REJECTED, node.getValue().getReviewStatus());
+        verify(versionHashLookupService).evict(List.of("abc"));
+    }
+
+    private static Project project(String id, String fileUrl, ProjectVersion.ReviewStatus reviewStatus) {
+        ProjectVersion version = new ProjectVersion();
+        version.setId(id + "-v1");
+        version.setVersionNumber("1.0.0");
+        version.setFileUrl(fileUrl);
+        version.setReviewStatus(reviewStatus);
+
+        Project project = new Project();
+        project.setId(id);
+        project.setClassification(ProjectClassification.PLUGIN);
+        project.setVersions(new ArrayList<>(List.of(version)));
+        return project;
+    }
+}
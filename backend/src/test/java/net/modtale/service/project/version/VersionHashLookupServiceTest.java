@@ -0,0 +1,112 @@
+package net.modtale.service.project.version;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.modtale.model.dto.response.project.VersionHashLookupResponse;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectStatus;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ProjectVersionNode;
+import net.modtale.service.security.access.AccessControlService;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VersionHashLookupServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final AccessControlService accessControlService = mock(AccessControlService.class);
+    private final VersionHashLookupService service = new VersionHashLookupService(
+            mongoTemplate,
+            new ConcurrentMapCacheManager(VersionHashLookupService.CACHE_NAME),
+            accessControlService
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(accessControlService.isPubliclyReadable(any(Project.class))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Project.class)))
+                .thenReturn(List.of(project("project-1"), project("project-2")));
+    }
+
+    @Test
+    void modlistsResolveInOneQueryAndHotHashesSkipItAfterwards() {
+        when(mongoTemplate.find(any(Query.class), eq(ProjectVersionNode.class)))
+                .thenReturn(List.of(node("bbb", "project-2"), node("aaa", "project-1")))
+                .thenReturn(List.of());
+
+        Map<String, VersionHashLookupResponse.Match> first = service.resolve(List.of("AAA", "bbb", "ccc", "aaa"));
+        Map<String, VersionHashLookupResponse.Match> second = service.resolve(List.of("aaa", "bbb", "ccc"));
+
+        assertEquals(List.of("aaa", "bbb"), List.copyOf(first.keySet()));
+        assertEquals("project-1", first.get("aaa").projectId());
+        assertEquals(first, second);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(captor.capture(), eq(ProjectVersionNode.class));
+        assertEquals(approvedHashes(List.of("aaa", "bbb", "ccc")), captor.getAllValues().get(0).getQueryObject());
+        assertEquals(approvedHashes(List.of("ccc")), captor.getAllValues().get(1).getQueryObject());
+    }
+
+    @Test
+    void matchesOnDeletedOrUnreadableProjectsAreLeftOut() {
+        Project deleted = project("project-2");
+        deleted.setDeletedAt(java.time.LocalDateTime.now());
+        Project draft = project("project-3");
+        when(accessControlService.isPubliclyReadable(draft)).thenReturn(false);
+        when(mongoTemplate.find(any(Query.class), eq(Project.class))).thenReturn(List.of(project("project-1"), deleted, draft));
+        when(mongoTemplate.find(any(Query.class), eq(ProjectVersionNode.class)))
+                .thenReturn(List.of(node("aaa", "project-1"), node("bbb", "project-2"), node("ccc", "project-3")));
+
+        Map<String, VersionHashLookupResponse.Match> matches = service.resolve(List.of("aaa", "bbb", "ccc"));
+
+        assertEquals(List.of("aaa"), List.copyOf(matches.keySet()));
+    }
+
+    private static Document approvedHashes(List<String> hashes) {
+        return new Document("hash", new Document("$in", hashes)).append("reviewStatus", ProjectVersion.ReviewStatus.APPROVED);
+    }
+
+    private static Project project(String id) {
+        Project project = new Project();
+        project.setId(id);
+        project.setStatus(ProjectStatus.PUBLISHED);
+        return project;
+    }
+
+    @Test
+    void evictedHashesAreReadFromTheIndexAgain() {
+        when(mongoTemplate.find(any(Query.class), eq(ProjectVersionNode.class)))
+                .thenReturn(List.of(node("aaa", "project-1")))
+                .thenReturn(List.of());
+
+        assertEquals("project-1", service.find("aaa").orElseThrow().projectId());
+        service.evict(List.of("AAA"));
+
+        assertEquals(Optional.empty(), service.find("aaa"));
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(ProjectVersionNode.class));
+    }
+
+    private static ProjectVersionNode node(String hash, String projectId) {
+        ProjectVersionNode node = new ProjectVersionNode();
+        node.setProjectId(projectId);
+        node.setVersionId(projectId + "-v1");
+        node.setVersionNumber("1.0.0");
+        node.setFileUrl("/files/plugin/" + hash + ".jar");
+        node.setHash(hash);
+        return node;
+    }
+}
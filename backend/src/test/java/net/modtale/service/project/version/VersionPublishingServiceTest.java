@@ -1,9 +1,14 @@
 package net.modtale.service.project.version;
 
+import com.mongodb.client.result.UpdateResult;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ReleaseSchedule;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.communication.ProjectNotificationService;
 import net.modtale.service.project.lifecycle.ScheduledReleaseExecutionService;
@@ -12,12 +17,15 @@ import net.modtale.service.project.query.ProjectService;
 import net.modtale.service.security.issue.SecurityIssueAnalysisService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -33,6 +41,8 @@ class VersionPublishingServiceTest {
     private ProjectService projectService;
     private ProjectNotificationService projectNotificationService;
     private SecurityIssueAnalysisService securityIssueAnalysisService;
+    private ScheduledReleaseQueryService queryService;
+    private ScheduledReleaseExecutionService executionService;
 
     @BeforeEach
     void setUp() {
@@ -42,49 +52,112 @@ class VersionPublishingServiceTest {
         projectNotificationService = mock(ProjectNotificationService.class);
         securityIssueAnalysisService = mock(SecurityIssueAnalysisService.class);
 
-        ScheduledReleaseQueryService queryService = new ScheduledReleaseQueryService(mongoTemplate);
-        ScheduledReleaseExecutionService executionService = new ScheduledReleaseExecutionService(
+        queryService = new ScheduledReleaseQueryService(mongoTemplate);
+        executionService = new ScheduledReleaseExecutionService(
+                mongoTemplate,
                 projectRepository,
                 projectService,
                 projectNotificationService,
                 securityIssueAnalysisService
         );
-        service = new VersionPublishingService(queryService, executionService);
+        service = new VersionPublishingService(mongoTemplate, queryService, executionService, Runnable::run);
     }
 
     @Test
-    void processScheduledReleasesPublishesOnlyDueVersions() {
+    void dueReleasesArePublishedWithAPositionalUpdateAndRemovedFromTheSchedule() {
         Project project = new Project();
         project.setId("project-1");
-        ProjectVersion dueVersion = version("1.0.0", "2000-01-01T00:00:00");
-        ProjectVersion futureVersion = version("2.0.0", "2999-01-01T00:00:00");
-        project.setVersions(new ArrayList<>(List.of(dueVersion, futureVersion)));
+        project.setVersions(new ArrayList<>(List.of(version("1.0.0"))));
+        ReleaseSchedule entry = new ReleaseSchedule("project-1", "version-1.0.0", LocalDateTime.now().minusSeconds(1));
 
-        when(mongoTemplate.find(any(Query.class), eq(Project.class))).thenReturn(List.of(project));
+        when(mongoTemplate.find(any(Query.class), eq(ReleaseSchedule.class))).thenReturn(List.of(entry));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(ReleaseSchedule.class)))
+                .thenReturn(entry);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Project.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(projectRepository.findById("project-1")).thenReturn(java.util.Optional.of(project));
 
         service.processScheduledReleases();
+        service.dispatchDueReleases();
 
-        assertEquals(ProjectVersion.ReviewStatus.APPROVED, dueVersion.getReviewStatus());
-        assertNull(dueVersion.getScheduledPublishDate());
-        assertEquals(ProjectVersion.ReviewStatus.SCHEDULED, futureVersion.getReviewStatus());
-        assertEquals("2999-01-01T00:00:00", futureVersion.getScheduledPublishDate());
-        assertNotNull(project.getUpdatedAt());
-
-        verify(securityIssueAnalysisService).pruneApprovedScanResults(project);
-        verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(Project.class));
+        assertEquals(ProjectVersion.ReviewStatus.APPROVED, update.getValue().getUpdateObject().get("$set", org.bson.Document.class).get("versions.$.reviewStatus"));
+        verify(mongoTemplate).remove(any(Query.class), eq(ReleaseSchedule.class));
+        verify(projectRepository, never()).save(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(projectNotificationService).notifyUpdates(project, "1.0.0");
         verify(projectNotificationService).notifyDependents(project, "1.0.0");
-        verify(projectNotificationService, never()).notifyUpdates(project, "2.0.0");
-        verify(projectNotificationService, never()).notifyDependents(project, "2.0.0");
     }
 
-    private static ProjectVersion version(String versionNumber, String scheduledPublishDate) {
+    @Test
+    void releasesHeldByAnotherNodeAreSkipped() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(ReleaseSchedule.class)))
+                .thenReturn(null);
+
+        assertFalse(service.release(ReleaseSchedule.idFor("project-1", "version-1.0.0")));
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Project.class));
+        verify(projectNotificationService, never()).notifyUpdates(any(), any());
+    }
+
+    @Test
+    void versionsMovedToALaterTimeAreRequeuedInsteadOfDropped() {
+        ReleaseSchedule entry = new ReleaseSchedule("project-1", "version-1.0.0", LocalDateTime.now().minusSeconds(1));
+        LocalDateTime later = LocalDateTime.now().plusMinutes(30).withNano(0);
+        Project stored = new Project();
+        ProjectVersion rescheduled = version("1.0.0");
+        rescheduled.setScheduledPublishDate(later.toString());
+        stored.setVersions(List.of(rescheduled));
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(ReleaseSchedule.class)))
+                .thenReturn(entry);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Project.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(mongoTemplate.findOne(any(Query.class), eq(Project.class))).thenReturn(stored);
+
+        assertFalse(service.release(entry.getId()));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(ReleaseSchedule.class));
+        assertEquals(later, update.getValue().getUpdateObject().get("$set", org.bson.Document.class).get("dueAt"));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ReleaseSchedule.class));
+    }
+
+    @Test
+    void releasesTheLaneRejectsAreReArmedInsteadOfWaitingForTheNextCheck() {
+        ReleaseSchedule entry = new ReleaseSchedule("project-1", "version-1.0.0", LocalDateTime.now().minusSeconds(1));
+        when(mongoTemplate.find(any(Query.class), eq(ReleaseSchedule.class))).thenReturn(List.of(entry));
+        AtomicInteger attempts = new AtomicInteger();
+        VersionPublishingService saturated = new VersionPublishingService(mongoTemplate, queryService, executionService, task -> {
+            attempts.incrementAndGet();
+            throw new RejectedExecutionException("saturated");
+        });
+
+        saturated.processScheduledReleases();
+        saturated.dispatchDueReleases();
+        saturated.dispatchDueReleases();
+
+        assertEquals(1, attempts.get());
+        assertTrue(saturated.isQueued(entry.getId()));
+    }
+
+    @Test
+    void pendingReleasesOrderByDueTime() {
+        LocalDateTime now = LocalDateTime.now();
+        var soon = new VersionPublishingService.PendingRelease("a", now.plusSeconds(5));
+        var later = new VersionPublishingService.PendingRelease("b", now.plusMinutes(5));
+
+        assertTrue(soon.compareTo(later) < 0);
+        assertTrue(soon.getDelay(java.util.concurrent.TimeUnit.SECONDS) <= 5);
+    }
+
+    private static ProjectVersion version(String versionNumber) {
         ProjectVersion version = new ProjectVersion();
         version.setId("version-" + versionNumber);
         version.setVersionNumber(versionNumber);
         version.setReviewStatus(ProjectVersion.ReviewStatus.SCHEDULED);
-        version.setScheduledPublishDate(scheduledPublishDate);
+        version.setScheduledPublishDate("2000-01-01T00:00:00");
         return version;
     }
 }
@@ -102,7 +102,9 @@ class VersionServiceTest {
                 versionManifestService,
                 projectDeletionService,
                 versionCreationCommandHandler,
-                versionUpdateCommandHandler
+                versionUpdateCommandHandler,
+                mock(VersionHashLookupService.class),
+                mock(LatestVersionIndexService.class)
         );
     }
 
@@ -149,7 +151,7 @@ class VersionServiceTest {
         assertEquals("sha-256", savedVersion.getHash());
         assertEquals(queuedScan, savedVersion.getScanResult());
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(scanService).enqueueBackgroundScan("project-1", savedVersion.getId(), "/files/data/bundle.zip", "bundle.zip", false, 1);
     }
 
@@ -190,7 +192,7 @@ class VersionServiceTest {
         ProjectVersion savedVersion = project.getVersions().getFirst();
         assertNull(savedVersion.getScanResult());
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(scanService, never()).createQueuedScanResult(1, "Initial scan queued.");
         verify(scanService, never()).enqueueBackgroundScan("project-1", savedVersion.getId(), "/files/data/bundle.zip", "bundle.zip", false, 1);
     }
@@ -289,7 +291,7 @@ class VersionServiceTest {
         assertEquals(queuedScan, savedVersion.getScanResult());
         verify(projectDeletionService).deleteVersionFile(existing);
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(scanService).enqueueBackgroundScan("project-1", savedVersion.getId(), "/files/data/replacement.zip", "replacement.zip", false, 1);
     }
 
@@ -383,7 +385,7 @@ class VersionServiceTest {
         assertEquals("new-dep", version.getDependencies().getFirst().getModId());
         verify(projectDeletionService).deleteStoredFile("modpacks/sky-pack-1.0.0.zip");
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
     }
 
     @Test
@@ -408,7 +410,7 @@ class VersionServiceTest {
         assertEquals(0, project.getVersions().size());
         verify(projectDeletionService).deleteVersionFile(version);
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
     }
 
     @Test
@@ -9,8 +9,10 @@ import net.modtale.model.project.ProjectStatus;
 import net.modtale.model.user.ApiKey;
 import net.modtale.model.user.AdminPermission;
 import net.modtale.model.user.User;
+import net.modtale.model.user.UserPrincipalSnapshot;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.repository.user.UserRepository;
+import net.modtale.service.project.query.ProjectRouteResolver;
 import net.modtale.service.project.query.ProjectRouteService;
 import net.modtale.service.user.account.AccountService;
 import org.junit.jupiter.api.AfterEach;
@@ -26,6 +28,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
@@ -38,6 +41,7 @@ class AccessControlServiceTest {
     private UserRepository userRepository;
     private ProjectRepository projectRepository;
     private MongoTemplate mongoTemplate;
+    private ProjectRouteResolver projectRouteResolver;
 
     @BeforeEach
     void setUp() {
@@ -46,10 +50,12 @@ class AccessControlServiceTest {
         userRepository = mock(UserRepository.class);
         projectRepository = mock(ProjectRepository.class);
         mongoTemplate = mock(MongoTemplate.class);
+        projectRouteResolver = mock(ProjectRouteResolver.class);
+        when(projectRouteResolver.resolveProjectId(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
         accessControlService = new AccessControlService(
                 accountService,
                 userRepository,
-                new PermissionProjectLookupService(projectRepository, new net.modtale.service.project.query.ProjectRouteService()),
+                new PermissionProjectLookupService(projectRepository, projectRouteResolver),
                 mongoTemplate
         );
     }
@@ -100,7 +106,7 @@ class AccessControlServiceTest {
     @Test
     void hasCreateProjectPermAllowsSelfAdminsAndOrganizationManagers() {
         User currentUser = user("u-1", "Ada", List.of("USER"));
-        when(accountService.getCurrentUser((Authentication) isNull())).thenReturn(currentUser);
+        when(accountService.getCurrentPrincipal((Authentication) isNull())).thenReturn(UserPrincipalSnapshot.of(currentUser));
 
         assertTrue(accessControlService.hasCreateProjectPerm(null, null));
         assertTrue(accessControlService.hasCreateProjectPerm("", null));
@@ -116,7 +122,7 @@ class AccessControlServiceTest {
         assertTrue(accessControlService.hasCreateProjectPerm("org-1", null));
 
         User admin = userWithAdminPermissions("u-admin", "admin", AdminPermission.PROJECT_MODERATE);
-        when(accountService.getCurrentUser((Authentication) isNull())).thenReturn(admin);
+        when(accountService.getCurrentPrincipal((Authentication) isNull())).thenReturn(UserPrincipalSnapshot.of(admin));
         assertTrue(accessControlService.hasCreateProjectPerm("someone-else", null));
     }
 
@@ -143,7 +149,7 @@ class AccessControlServiceTest {
         project.setTeamMembers(List.of(new Project.ProjectMember("u-editor", "role-1")));
         project.setProjectRoles(List.of(new Project.ProjectRole("role-1", "Editor", "#fff", Set.of(ApiKey.ApiPermission.PROJECT_EDIT_METADATA))));
 
-        when(accountService.getCurrentUser((Authentication) isNull())).thenReturn(currentUser);
+        when(accountService.getCurrentPrincipal((Authentication) isNull())).thenReturn(UserPrincipalSnapshot.of(currentUser));
 
         assertTrue(accessControlService.hasProjectPerm("project-1", "PROJECT_EDIT_METADATA", null));
         assertFalse(accessControlService.hasProjectPerm("project-1", "PROJECT_DELETE", null));
@@ -164,16 +170,16 @@ class AccessControlServiceTest {
         )));
         when(projectRepository.findPermissionSnapshotById("draft-1")).thenReturn(Optional.of(project));
 
-        when(accountService.getCurrentUser((Authentication) isNull()))
-                .thenReturn(user("u-owner", "owner", List.of("USER")));
+        when(accountService.getCurrentPrincipal((Authentication) isNull()))
+                .thenReturn(UserPrincipalSnapshot.of(user("u-owner", "owner", List.of("USER"))));
         assertTrue(accessControlService.hasProjectPerm("draft-1", "PROJECT_READ", null));
 
-        when(accountService.getCurrentUser((Authentication) isNull()))
-                .thenReturn(user("u-reader", "reader", List.of("USER")));
+        when(accountService.getCurrentPrincipal((Authentication) isNull()))
+                .thenReturn(UserPrincipalSnapshot.of(user("u-reader", "reader", List.of("USER"))));
         assertTrue(accessControlService.hasProjectPerm("draft-1", "PROJECT_READ", null));
 
-        when(accountService.getCurrentUser((Authentication) isNull()))
-                .thenReturn(user("u-stranger", "stranger", List.of("USER")));
+        when(accountService.getCurrentPrincipal((Authentication) isNull()))
+                .thenReturn(UserPrincipalSnapshot.of(user("u-stranger", "stranger", List.of("USER"))));
         assertFalse(accessControlService.hasProjectPerm("draft-1", "PROJECT_READ", null));
     }
 
@@ -209,7 +215,7 @@ class AccessControlServiceTest {
         when(projectRepository.findPermissionSnapshotById("project-1")).thenReturn(Optional.of(project));
 
         Authentication unscopedKey = apiAuthentication(owner);
-        when(accountService.getCurrentUser(unscopedKey)).thenReturn(owner);
+        when(accountService.getCurrentPrincipal(unscopedKey)).thenReturn(UserPrincipalSnapshot.of(owner));
 
         assertFalse(accessControlService.hasProjectPerm("project-1", "VERSION_CREATE", unscopedKey));
     }
@@ -224,7 +230,7 @@ class AccessControlServiceTest {
         when(projectRepository.findPermissionSnapshotById("personal-project")).thenReturn(Optional.of(personalProject));
 
         Authentication personalKey = apiAuthentication(owner, "SCOPE_PERSONAL_VERSION_CREATE");
-        when(accountService.getCurrentUser(personalKey)).thenReturn(owner);
+        when(accountService.getCurrentPrincipal(personalKey)).thenReturn(UserPrincipalSnapshot.of(owner));
 
         assertTrue(accessControlService.hasProjectPerm("personal-project", "VERSION_CREATE", personalKey));
 
@@ -300,12 +306,12 @@ class AccessControlServiceTest {
     void hasCreateProjectPermRequiresApiKeyCreateScope() {
         User currentUser = user("u-1", "Ada", List.of("USER"));
         Authentication personalKey = apiAuthentication(currentUser, "SCOPE_PERSONAL_PROJECT_CREATE");
-        when(accountService.getCurrentUser(personalKey)).thenReturn(currentUser);
+        when(accountService.getCurrentPrincipal(personalKey)).thenReturn(UserPrincipalSnapshot.of(currentUser));
 
         assertTrue(accessControlService.hasCreateProjectPerm(null, personalKey));
 
         Authentication unscopedKey = apiAuthentication(currentUser);
-        when(accountService.getCurrentUser(unscopedKey)).thenReturn(currentUser);
+        when(accountService.getCurrentPrincipal(unscopedKey)).thenReturn(UserPrincipalSnapshot.of(currentUser));
 
         assertFalse(accessControlService.hasCreateProjectPerm(null, unscopedKey));
 
@@ -318,7 +324,7 @@ class AccessControlServiceTest {
         when(userRepository.findById("org-1")).thenReturn(Optional.of(org));
 
         Authentication orgKey = apiAuthentication(currentUser, "SCOPE_org-1_PROJECT_CREATE");
-        when(accountService.getCurrentUser(orgKey)).thenReturn(currentUser);
+        when(accountService.getCurrentPrincipal(orgKey)).thenReturn(UserPrincipalSnapshot.of(currentUser));
 
         assertTrue(accessControlService.hasCreateProjectPerm("org-1", orgKey));
     }
@@ -329,7 +335,8 @@ class AccessControlServiceTest {
         project.setId("project-1");
         project.setSlug("levelingcore");
         project.setStatus(ProjectStatus.PUBLISHED);
-        when(projectRepository.findPermissionSnapshotBySlug("levelingcore")).thenReturn(Optional.of(project));
+        when(projectRouteResolver.resolveProjectId("levelingcore")).thenReturn("project-1");
+        when(projectRepository.findPermissionSnapshotById("project-1")).thenReturn(Optional.of(project));
 
         assertTrue(accessControlService.hasProjectPerm("levelingcore", "PROJECT_READ", null));
     }
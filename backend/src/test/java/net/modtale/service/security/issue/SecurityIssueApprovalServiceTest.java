@@ -8,6 +8,7 @@ import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.project.ScanResult;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.security.scan.ScanReportService;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -28,8 +29,9 @@ class SecurityIssueApprovalServiceTest {
 
     private final SecurityIssueClassificationService classificationService =
             new SecurityIssueClassificationService(securityProperties());
+    private final ScanReportService scanReportService = mock(ScanReportService.class);
     private final SecurityIssueApprovalService approvalService =
-            new SecurityIssueApprovalService(classificationService);
+            new SecurityIssueApprovalService(classificationService, scanReportService);
 
     @Test
     void approvalKeepsCompactBaselinesAndClearsHeavyScanResult() {
@@ -105,6 +107,27 @@ class SecurityIssueApprovalServiceTest {
         assertNull(pending.getApprovedIssueBaselines());
     }
 
+    @Test
+    void pruneBuildsBaselinesFromStoredDetailsOfStubbedVersions() {
+        ProjectVersion approved = approvedVersion("version-1", "1.0.0");
+        ScanResult full = new ScanResult();
+        full.setIssues(new ArrayList<>(List.of(issue())));
+        approved.setScanResult(full.toStub());
+
+        Project project = new Project();
+        project.setId("project-1");
+        project.setVersions(List.of(approved));
+        when(scanReportService.loadDetails(eq("project-1"), any())).thenAnswer(invocation -> {
+            approved.setScanResult(full);
+            return 1;
+        });
+
+        assertEquals(1, approvalService.pruneApprovedScanResults(project));
+
+        assertNull(approved.getScanResult());
+        assertEquals(1, approved.getApprovedIssueBaselines().size());
+    }
+
     private static ProjectVersion approvedVersion(String id, String versionNumber) {
         ProjectVersion version = new ProjectVersion();
         version.setId(id);
@@ -1,9 +1,13 @@
 package net.modtale.service.security.issue;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SecurityIssueEvaluationServiceTest {
@@ -52,6 +57,80 @@ class SecurityIssueEvaluationServiceTest {
         assertTrue(service.looseFingerprint(first).startsWith("sl:"));
     }
 
+    @Test
+    void fingerprintsKeepTheFormatAlreadyStoredOnApprovedVersions() {
+        ScanResult.ScanIssue issue = issue(
+                "Dangerous Call",
+                "Runtime/Reflection",
+                "Connects to 192.168.0.55 with token 12345",
+                "outer.jar-> COM/Example/Deep/Path/Foo.class",
+                42,
+                "HIGH",
+                10,
+                70
+        );
+
+        SecurityIssueAnalysisService.IssueFingerprints fingerprints = service.fingerprints(issue);
+
+        assertEquals("si:09adf719263ea7f640c53dfb", fingerprints.exact());
+        assertEquals("sl:5a22eb1cb0b0298a9df85552", fingerprints.loose());
+        assertEquals(fingerprints.exact(), service.fingerprint(issue));
+        assertEquals(fingerprints.loose(), service.looseFingerprint(issue));
+    }
+
+    @Test
+    void syntheticTenThousandIssueScanIsClassifiedAgainstALongVersionHistory() {
+        List<ScanResult.ScanIssue> issues = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            boolean known = i < 6_000;
+            issues.add(issue(
+                    known ? "Reflection" : "Novel",
+                    known ? "Runtime" : "Network",
+                    "Finding at offset " + i,
+                    "com/example/p" + i + "/Foo.class",
+                    i % 400 + 1,
+                    "LOW",
+                    4,
+                    40
+            ));
+        }
+
+        Project project = new Project();
+        List<ProjectVersion> versions = new ArrayList<>();
+        for (int v = 0; v < 40; v++) {
+            ProjectVersion version = new ProjectVersion();
+            version.setId("version-" + v);
+            version.setVersionNumber("1." + v + ".0");
+            version.setReviewStatus(ProjectVersion.ReviewStatus.APPROVED);
+            List<ProjectVersion.ApprovedIssueBaseline> stored = new ArrayList<>();
+            for (int i = v * 150; i < (v + 1) * 150; i++) {
+                SecurityIssueAnalysisService.IssueFingerprints fingerprints = service.fingerprints(issues.get(i));
+                stored.add(new ProjectVersion.ApprovedIssueBaseline(
+                        fingerprints.exact(),
+                        fingerprints.loose(),
+                        "LOW",
+                        4,
+                        40,
+                        Instant.now().toEpochMilli()
+                ));
+            }
+            version.setApprovedIssueBaselines(stored);
+            versions.add(version);
+        }
+        project.setVersions(versions);
+
+        SecurityIssueAnalysisService.ClassificationStats stats = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            SecurityIssueAnalysisService.BaselineIndex index =
+                    new SecurityIssueBaselineService().collectApprovedIssueBaselines(project, null, service);
+            return service.annotateAgainstBaselines(scan(issues.toArray(ScanResult.ScanIssue[]::new)), index);
+        });
+
+        assertEquals(6_000, stats.knownIssueCount());
+        assertEquals(4_000, stats.newIssueCount());
+        assertEquals(0, stats.escalatedIssueCount());
+        assertEquals("1.39.0", issues.get(5_999).getBaselineVersion());
+    }
+
     @Test
     void normalizeScanResultInitializesMissingFieldsAndDerivesStatusFromVerdict() {
         ScanResult scanResult = new ScanResult();
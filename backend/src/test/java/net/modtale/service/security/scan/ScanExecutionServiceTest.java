@@ -0,0 +1,246 @@
+package net.modtale.service.security.scan;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import net.modtale.config.properties.AppScanJobProperties;
+import net.modtale.exception.StorageDownloadException;
+import net.modtale.model.project.ScanJob;
+import net.modtale.model.project.ScanResult;
+import net.modtale.service.storage.StorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScanExecutionServiceTest {
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private WardenClientService wardenService;
+    private StorageService storageService;
+    private ScanPersistenceService scanPersistenceService;
+    private ScanCompletionService scanCompletionService;
+    private ScanRecoveryService scanRecoveryService;
+    private ScanJobService scanJobService;
+    private ScanRoutingService scanRoutingService;
+    private SimpleMeterRegistry meterRegistry;
+    private ScanExecutionService service;
+
+    @BeforeEach
+    void setUp() {
+        wardenService = mock(WardenClientService.class);
+        storageService = mock(StorageService.class);
+        scanPersistenceService = mock(ScanPersistenceService.class);
+        scanCompletionService = mock(ScanCompletionService.class);
+        scanRecoveryService = mock(ScanRecoveryService.class);
+        scanJobService = mock(ScanJobService.class);
+        scanRoutingService = mock(ScanRoutingService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(wardenService.maxInFlightScans()).thenReturn(2);
+        service = new ScanExecutionService(
+                wardenService,
+                storageService,
+                submitted::add,
+                Schedulers.fromExecutor(submitted::add),
+                scanPersistenceService,
+                scanCompletionService,
+                scanRecoveryService,
+                scanJobService,
+                scanRoutingService,
+                new AppScanJobProperties(4, 60_000L, 2_000L, 20_000L),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void enqueuedScansArePersistedBeforeTheyAreClaimed() {
+        service.enqueueBackgroundScan("project-1", "version-1", "files/mod.jar", "mod.jar", true, 2);
+
+        verify(scanJobService).enqueue("project-1", "version-1", "files/mod.jar", "mod.jar", true, 2);
+        verify(scanJobService).claimNext(anyString(), eq(Duration.ofMillis(60_000L)));
+    }
+
+    @Test
+    void inFlightScansAreBoundedByTheWardenHeapBudget() {
+        ScanJob first = job("version-1", 1);
+        ScanJob second = job("version-2", 1);
+        ScanJob third = job("version-3", 1);
+        ScanResult result = new ScanResult();
+        when(scanJobService.claimNext(anyString(), any(Duration.class))).thenReturn(first, second, third);
+        when(scanPersistenceService.markAttemptRunning(any(), any(), anyInt())).thenReturn(true);
+        when(wardenService.scan(any(), eq("mod.jar"))).thenReturn(Mono.just(result));
+
+        service.dispatchAvailableJobs();
+
+        assertEquals(2, submitted.size());
+        assertEquals(2.0, meterRegistry.get("modtale.scan.jobs.running").gauge().value());
+
+        submitted.remove(1); // the second scan stays in flight
+        drain();
+        verify(scanCompletionService).handleCompletedScan("project-1", "version-1", 1, false, result);
+        verify(scanJobService).finish(first, workerId(), ScanJob.State.DONE);
+        assertEquals(1L, meterRegistry.get("modtale.scan.jobs.duration").timer().count());
+
+        service.dispatchAvailableJobs();
+        assertEquals(1, submitted.size());
+        assertEquals(2.0, meterRegistry.get("modtale.scan.jobs.running").gauge().value());
+        verify(scanJobService, times(3)).claimNext(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void configuredConcurrencyCapsTheHeapBudget() {
+        when(wardenService.maxInFlightScans()).thenReturn(50);
+        ScanExecutionService capped = new ScanExecutionService(
+                wardenService,
+                storageService,
+                submitted::add,
+                Schedulers.fromExecutor(submitted::add),
+                scanPersistenceService,
+                scanCompletionService,
+                scanRecoveryService,
+                scanJobService,
+                scanRoutingService,
+                new AppScanJobProperties(3, 60_000L, 2_000L, 20_000L),
+                new SimpleMeterRegistry()
+        );
+        when(scanJobService.claimNext(anyString(), any(Duration.class))).thenAnswer(invocation -> job("version-x", 1));
+
+        capped.dispatchAvailableJobs();
+
+        assertEquals(3, submitted.size());
+        verify(scanJobService, times(3)).claimNext(anyString(), any(Duration.class));
+    }
+
+    @Test
+    void reclaimedJobsGoThroughRecoveryInsteadOfRescanning() {
+        ScanJob abandoned = job("version-1", 1);
+        abandoned.setClaims(2);
+        when(scanJobService.claimNext(anyString(), any(Duration.class))).thenReturn(abandoned, (ScanJob) null);
+        when(scanRecoveryService.recoverAbandonedJob(abandoned)).thenReturn(false);
+
+        service.dispatchAvailableJobs();
+        drain();
+
+        verify(scanPersistenceService, never()).markAttemptRunning(any(), any(), anyInt());
+        verify(wardenService, never()).scan(any(), any());
+        verify(scanJobService).finish(abandoned, workerId(), ScanJob.State.FAILED);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void heartbeatsOnlyExtendLeasesOfScansInsideTheTimeout() {
+        ScanJob fresh = job("version-1", 1);
+        ScanJob hung = job("version-2", 1);
+        hung.setStartedAt(LocalDateTime.now().minusMinutes(30));
+        when(scanJobService.claimNext(anyString(), any(Duration.class))).thenReturn(fresh, hung);
+        when(scanRoutingService.scanTimeoutMillis()).thenReturn(Duration.ofMinutes(25).toMillis());
+        when(scanJobService.countQueued()).thenReturn(7L);
+
+        service.dispatchAvailableJobs();
+        service.heartbeatLeases();
+
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(scanJobService).extendLeases(anyString(), ids.capture(), eq(Duration.ofMillis(60_000L)));
+        assertEquals(List.of(fresh.getId()), List.copyOf(ids.getValue()));
+        assertEquals(7.0, meterRegistry.get("modtale.scan.jobs.queued").gauge().value());
+    }
+
+    @Test
+    void wardenUploadsDoNotHoldAScanLaneThreadAndStorageFailuresAreRecorded() {
+        ScanJob job = job("version-1", 1);
+        Sinks.One<ScanResult> upload = Sinks.one();
+        StorageDownloadException missing = new StorageDownloadException("The requested file is not available in storage.", null);
+        when(scanJobService.claimNext(anyString(), any(Duration.class))).thenReturn(job, (ScanJob) null);
+        when(scanPersistenceService.markAttemptRunning(any(), any(), anyInt())).thenReturn(true);
+        when(wardenService.scan(any(), eq("mod.jar"))).thenReturn(upload.asMono());
+
+        service.dispatchAvailableJobs();
+        drain();
+
+        assertEquals(1.0, meterRegistry.get("modtale.scan.jobs.running").gauge().value());
+        verify(scanJobService, never()).finish(any(), any(), any());
+
+        upload.tryEmitError(missing);
+        drain();
+
+        verify(scanCompletionService).handleScanFailure("project-1", "version-1", "mod.jar", 1, missing);
+        verify(scanJobService).finish(job, workerId(), ScanJob.State.DONE);
+        assertEquals(0.0, meterRegistry.get("modtale.scan.jobs.running").gauge().value());
+    }
+
+    @Test
+    void jobsRefusedByTheScanLaneAreReleased() {
+        ScanJob job = job("version-1", 1);
+        when(wardenService.maxInFlightScans()).thenReturn(1);
+        ScanExecutionService saturated = new ScanExecutionService(
+                wardenService,
+                storageService,
+                task -> {
+                    throw new java.util.concurrent.RejectedExecutionException("full");
+                },
+                Schedulers.immediate(),
+                scanPersistenceService,
+                scanCompletionService,
+                scanRecoveryService,
+                scanJobService,
+                scanRoutingService,
+                new AppScanJobProperties(4, 60_000L, 2_000L, 20_000L),
+                new SimpleMeterRegistry()
+        );
+        when(scanJobService.claimNext(anyString(), any(Duration.class))).thenReturn(job);
+
+        saturated.dispatchAvailableJobs();
+        saturated.dispatchAvailableJobs(); // the single permit came back, so the job is claimed again
+
+        verify(scanJobService, times(2)).release(eq(job), anyString(), any(Duration.class));
+        verify(scanJobService, times(2)).claimNext(anyString(), any(Duration.class));
+        verify(scanJobService, never()).enqueue(any(), any(), any(), any(), anyBoolean(), anyInt());
+        assertTrue(submitted.isEmpty());
+    }
+
+    private void drain() {
+        while (!submitted.isEmpty()) {
+            submitted.removeFirst().run();
+        }
+    }
+
+    private String workerId() {
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(scanJobService, org.mockito.Mockito.atLeastOnce()).claimNext(owner.capture(), any(Duration.class));
+        return owner.getValue();
+    }
+
+    private static ScanJob job(String versionId, int attempt) {
+        LocalDateTime now = LocalDateTime.now();
+        ScanJob job = new ScanJob();
+        job.setId(ScanJob.idFor("project-1", versionId, attempt));
+        job.setProjectId("project-1");
+        job.setVersionId(versionId);
+        job.setFilePath("files/mod.jar");
+        job.setOriginalFilename("mod.jar");
+        job.setAttempt(attempt);
+        job.setState(ScanJob.State.RUNNING);
+        job.setClaims(1);
+        job.setVisibleAt(now.minusSeconds(3));
+        job.setStartedAt(now);
+        return job;
+    }
+}
@@ -1,14 +1,23 @@
 package net.modtale.service.security.scan;
 
+import java.util.Collection;
 import java.util.List;
 import net.modtale.model.project.Project;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanJob;
 import net.modtale.model.project.ScanResult;
 import net.modtale.model.project.ScanStatus;
 import net.modtale.service.project.query.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,84 +25,102 @@ import static org.mockito.Mockito.when;
 
 class ScanRecoveryServiceTest {
 
-    private ProjectService projectService;
     private ScanRoutingService scanRoutingService;
     private ScanPersistenceService scanPersistenceService;
     private ScanCompletionService scanCompletionService;
-    private ScanRecoveryService.BackgroundScanScheduler scheduler;
+    private ScanJobService scanJobService;
     private ScanRecoveryService service;
 
     @BeforeEach
     void setUp() {
-        projectService = mock(ProjectService.class);
         scanRoutingService = mock(ScanRoutingService.class);
         scanPersistenceService = mock(ScanPersistenceService.class);
         scanCompletionService = mock(ScanCompletionService.class);
-        scheduler = mock(ScanRecoveryService.BackgroundScanScheduler.class);
-        service = new ScanRecoveryService(projectService, scanRoutingService, scanPersistenceService, scanCompletionService);
+        scanJobService = mock(ScanJobService.class);
+        service = new ScanRecoveryService(
+                mock(ProjectService.class),
+                scanRoutingService,
+                scanPersistenceService,
+                scanCompletionService,
+                scanJobService
+        );
     }
 
     @Test
-    void recoverStaleScanningVersionsQueuesRetryWhenAttemptsRemain() {
-        Project project = project("project-1", version("version-1", "files/mod.jar", 1, staleTimestamp()));
+    void abandonedJobsAreRetriedAsTheNextAttemptWhileRetriesRemain() {
         ScanResult queued = new ScanResult();
-
-        when(scanRoutingService.scanTimeoutMillis()).thenReturn(60_000L);
         when(scanRoutingService.scanMaxRetries()).thenReturn(2);
-        when(scanPersistenceService.findProjectsWithScanningVersions()).thenReturn(List.of(project));
+        when(scanPersistenceService.isAttemptInFlight("project-1", "version-1", 1)).thenReturn(true);
         when(scanRoutingService.createQueuedScanResult(2, "Previous scan attempt timed out and was re-queued automatically."))
                 .thenReturn(queued);
         when(scanPersistenceService.queueRetryAttempt("project-1", "version-1", 1, queued)).thenReturn(true);
 
-        service.recoverStaleScanningVersions(scheduler);
+        assertTrue(service.recoverAbandonedJob(job("files/mod.jar", 1)));
 
-        verify(scheduler).enqueue("project-1", "version-1", "files/mod.jar", "mod.jar", false, 2);
-        verify(scanCompletionService, never()).handleTimedOutScan(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt());
-        verify(projectService).evictProjectCache(project);
+        verify(scanJobService).enqueue("project-1", "version-1", "files/mod.jar", "mod.jar", false, 2);
+        verify(scanCompletionService, never()).handleTimedOutScan(any(), any(), any(), anyInt());
     }
 
     @Test
-    void recoverStaleScanningVersionsMarksTimedOutWhenRetriesAreExhaustedOrFileIsMissing() {
-        ProjectVersion exhausted = version("version-1", "files/mod.jar", 3, staleTimestamp());
-        ProjectVersion missingFile = version("version-2", null, 1, staleTimestamp());
-        Project project = project("project-1", exhausted, missingFile);
-
-        when(scanRoutingService.scanTimeoutMillis()).thenReturn(60_000L);
+    void abandonedJobsTimeOutWhenRetriesAreExhaustedOrFileIsMissing() {
         when(scanRoutingService.scanMaxRetries()).thenReturn(2);
-        when(scanPersistenceService.findProjectsWithScanningVersions()).thenReturn(List.of(project));
+        when(scanPersistenceService.isAttemptInFlight(any(), any(), anyInt())).thenReturn(true);
 
-        service.recoverStaleScanningVersions(scheduler);
+        assertFalse(service.recoverAbandonedJob(job("files/mod.jar", 3)));
+        assertFalse(service.recoverAbandonedJob(job(null, 1)));
 
         verify(scanCompletionService).handleTimedOutScan("project-1", "version-1", "mod.jar", 3);
-        verify(scanCompletionService).handleTimedOutScan("project-1", "version-2", "uploaded-artifact", 1);
-        verify(scheduler, never()).enqueue(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyBoolean(), org.mockito.ArgumentMatchers.anyInt());
+        verify(scanCompletionService).handleTimedOutScan("project-1", "version-1", "uploaded-artifact", 1);
+        verify(scanJobService, never()).enqueue(any(), any(), any(), any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void abandonedJobsWhoseScanAlreadyFinishedAreLeftAlone() {
+        when(scanPersistenceService.isAttemptInFlight("project-1", "version-1", 1)).thenReturn(false);
+
+        assertTrue(service.recoverAbandonedJob(job("files/mod.jar", 1)));
+
+        verify(scanPersistenceService, never()).queueRetryAttempt(any(), any(), anyInt(), any());
+        verify(scanCompletionService, never()).handleTimedOutScan(any(), any(), any(), anyInt());
     }
 
+    @SuppressWarnings("unchecked")
     @Test
-    void recoverStaleScanningVersionsIgnoresFreshOrNonScanningVersions() {
-        ProjectVersion fresh = version("version-1", "files/mod.jar", 1, System.currentTimeMillis());
+    void scanningVersionsWithoutJobsAreQueuedAtTheirCurrentAttempt() {
+        ProjectVersion scanning = version("version-1", "files/mod.jar", 2, System.currentTimeMillis());
+        ProjectVersion missingFile = version("version-2", null, 1, System.currentTimeMillis() - 120_000L);
         ProjectVersion clean = new ProjectVersion();
-        clean.setId("version-2");
+        clean.setId("version-3");
         clean.setScanResult(new ScanResult());
         clean.getScanResult().setStatus(ScanStatus.CLEAN);
-        Project project = project("project-1", fresh, clean);
+        Project project = new Project();
+        project.setId("project-1");
+        project.setVersions(List.of(scanning, missingFile, clean));
 
         when(scanRoutingService.scanTimeoutMillis()).thenReturn(60_000L);
         when(scanPersistenceService.findProjectsWithScanningVersions()).thenReturn(List.of(project));
 
-        service.recoverStaleScanningVersions(scheduler);
+        assertEquals(1, service.queueJobsForScanningVersions());
 
-        verify(scheduler, never()).enqueue(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyBoolean(), org.mockito.ArgumentMatchers.anyInt());
-        verify(scanPersistenceService, never()).queueRetryAttempt(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt(), org.mockito.ArgumentMatchers.any());
-        verify(scanCompletionService, never()).handleTimedOutScan(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt());
-        verify(projectService).evictProjectCache(project);
+        ArgumentCaptor<Collection<ScanJob>> jobs = ArgumentCaptor.forClass(Collection.class);
+        verify(scanJobService).enqueueMissing(jobs.capture());
+        ScanJob job = jobs.getValue().iterator().next();
+        assertEquals("version-1", job.getVersionId());
+        assertEquals(2, job.getAttempt());
+        assertEquals("mod.jar", job.getOriginalFilename());
+        verify(scanCompletionService).handleTimedOutScan("project-1", "version-2", "uploaded-artifact", 1);
     }
 
-    private static Project project(String id, ProjectVersion... versions) {
-        Project project = new Project();
-        project.setId(id);
-        project.setVersions(List.of(versions));
-        return project;
+    private static ScanJob job(String filePath, int attempt) {
+        ScanJob job = new ScanJob();
+        job.setId(ScanJob.idFor("project-1", "version-1", attempt));
+        job.setProjectId("project-1");
+        job.setVersionId("version-1");
+        job.setFilePath(filePath);
+        job.setOriginalFilename(filePath == null ? null : "mod.jar");
+        job.setAttempt(attempt);
+        job.setClaims(2);
+        return job;
     }
 
     private static ProjectVersion version(String id, String fileUrl, int attempt, long timestamp) {
@@ -108,8 +135,4 @@ class ScanRecoveryServiceTest {
         version.setScanResult(scanResult);
         return version;
     }
-
-    private static long staleTimestamp() {
-        return System.currentTimeMillis() - 120_000L;
-    }
 }
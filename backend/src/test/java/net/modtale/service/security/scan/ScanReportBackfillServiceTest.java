@@ -0,0 +1,75 @@
+package net.modtale.service.security.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanReport;
+import net.modtale.model.project.ScanResult;
+import net.modtale.model.project.ScanStatus;
+import net.modtale.service.security.issue.SecurityIssueAnalysisService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ScanReportBackfillServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SecurityIssueAnalysisService securityIssueAnalysisService = mock(SecurityIssueAnalysisService.class);
+
+    @Test
+    void batchesOfApprovedVersionsSkipTheEmptyReportBulk() {
+        BulkOperations reports = mock(BulkOperations.class);
+        BulkOperations projects = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ScanReport.class)).thenReturn(reports);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class)).thenReturn(projects);
+        when(mongoTemplate.stream(any(Query.class), eq(Project.class))).thenReturn(Stream.of(approvedProject()));
+        ScanReportBackfillService service = new ScanReportBackfillService(mongoTemplate, securityIssueAnalysisService, Runnable::run);
+
+        assertEquals(1, service.moveEmbeddedResults());
+
+        verify(reports, never()).execute();
+        verify(projects).execute();
+    }
+
+    @Test
+    void aRefusedBackfillIsLoggedInsteadOfThrown() {
+        ScanReportBackfillService service = new ScanReportBackfillService(mongoTemplate, securityIssueAnalysisService, task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        service.backfill();
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static Project approvedProject() {
+        ScanResult.ScanIssue issue = new ScanResult.ScanIssue();
+        issue.setSeverity("MEDIUM");
+        issue.setType("ReflectionAccess");
+        ScanResult result = new ScanResult(ScanStatus.SUSPICIOUS, 40, new ArrayList<>(List.of(issue)));
+        result.setScanAttempt(1);
+
+        ProjectVersion version = new ProjectVersion();
+        version.setId("version-1");
+        version.setReviewStatus(ProjectVersion.ReviewStatus.APPROVED);
+        version.setScanResult(result);
+
+        Project project = new Project();
+        project.setId("project-1");
+        project.setVersions(new ArrayList<>(List.of(version)));
+        return project;
+    }
+}
@@ -0,0 +1,125 @@
+package net.modtale.service.security.scan;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ScanReport;
+import net.modtale.model.project.ScanResult;
+import net.modtale.model.project.ScanStatus;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScanReportServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScanReportService service = new ScanReportService(mongoTemplate, meterRegistry);
+
+    @Test
+    void storingAResultLeavesOnlyTheStubOnTheProjectDocument() {
+        Project embedded = project(5, 300);
+        Project stubbed = project(5, 300);
+        for (ProjectVersion version : stubbed.getVersions()) {
+            version.setScanResult(service.store(stubbed.getId(), version.getId(), version.getScanResult()));
+        }
+
+        int before = bsonSize(embedded);
+        int after = bsonSize(stubbed);
+
+        verify(mongoTemplate, times(5)).save(any(ScanReport.class));
+        assertTrue(after * 10 < before, "project document went from " + before + " to " + after + " bytes");
+        ScanResult stub = stubbed.getVersions().getFirst().getScanResult();
+        assertTrue(stub.isDetailsStored());
+        assertTrue(stub.getIssues().isEmpty());
+        assertEquals(300, stub.getSummary().getTotalIssues());
+        assertEquals(ScanStatus.SUSPICIOUS, stub.getStatus());
+    }
+
+    @Test
+    void detailsAreLoadedForStubbedVersionsInOneQuery() {
+        Project project = project(3, 4);
+        ProjectVersion stored = project.getVersions().get(0);
+        ProjectVersion missing = project.getVersions().get(1);
+        ProjectVersion queued = project.getVersions().get(2);
+        ScanResult full = stored.getScanResult();
+        stored.setScanResult(full.toStub());
+        missing.setScanResult(missing.getScanResult().toStub());
+        queued.setScanResult(new ScanResult(ScanStatus.SCANNING, 0, List.of()));
+        when(mongoTemplate.find(any(Query.class), eq(ScanReport.class)))
+                .thenReturn(List.of(new ScanReport(project.getId(), stored.getId(), full)));
+
+        assertEquals(1, service.loadDetails(project));
+
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(ScanReport.class));
+        assertSame(full, stored.getScanResult());
+        assertTrue(missing.getScanResult().isDetailsStored());
+        assertTrue(missing.getScanResult().getIssues().isEmpty());
+        assertEquals(ScanStatus.SCANNING, queued.getScanResult().getStatus());
+        assertEquals(1L, meterRegistry.get("modtale.scan.reports.load").timer().count());
+    }
+
+    private static Project project(int versions, int issuesPerVersion) {
+        Project project = new Project();
+        project.setId("project-1");
+        List<ProjectVersion> projectVersions = new ArrayList<>();
+        for (int v = 0; v < versions; v++) {
+            ProjectVersion version = new ProjectVersion();
+            version.setId("version-" + v);
+            version.setVersionNumber("1.0." + v);
+            version.setScanResult(result(issuesPerVersion));
+            projectVersions.add(version);
+        }
+        project.setVersions(projectVersions);
+        return project;
+    }
+
+    private static ScanResult result(int issueCount) {
+        List<ScanResult.ScanIssue> issues = new ArrayList<>();
+        for (int i = 0; i < issueCount; i++) {
+            ScanResult.ScanIssue issue = new ScanResult.ScanIssue();
+            issue.setSeverity("MEDIUM");
+            issue.setType("ReflectionAccess");
+            issue.setCategory("runtime");
+            issue.setDescription("Reflective call to java.lang.Runtime#exec in obfuscated helper " + i);
+            issue.setFilePath("com/example/mod/internal/Helper" + i + ".class");
+            issue.setLineStart(i);
+            issue.setScoreImpact(3);
+            issue.setConfidence(60);
+            issues.add(issue);
+        }
+        ScanResult result = new ScanResult(ScanStatus.SUSPICIOUS, 40, issues);
+        result.setVerdict("REVIEW");
+        result.setScanAttempt(1);
+        ScanResult.ScanSummary summary = new ScanResult.ScanSummary();
+        summary.setTotalIssues(issueCount);
+        result.setSummary(summary);
+        return result;
+    }
+
+    private static int bsonSize(Project project) {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        Document document = new Document();
+        converter.write(project, document);
+        return new RawBsonDocument(document, new DocumentCodec()).getByteBuffer().remaining();
+    }
+}
@@ -78,7 +78,7 @@ class ScanRequestServiceTest {
         assertNull(version.getScheduledPublishDate());
         verify(scanThrottleService).enforceRescanLimit(user);
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         verify(scanExecutionService).enqueueBackgroundScan("project-1", "version-1", "files/mod.jar", "mod.jar", true, 2);
     }
 
@@ -77,7 +77,7 @@ class ScanServiceTest {
         assertEquals(ProjectVersion.ReviewStatus.PENDING, version.getReviewStatus());
         verify(scanThrottleService).enforceRescanLimit(user);
         verify(projectRepository).save(project);
-        verify(projectService).evictProjectCache(project);
+        verify(projectService).evictProjectVersionCache(project);
         ArgumentCaptor<String> originalFilename = ArgumentCaptor.forClass(String.class);
         verify(scanExecutionService).enqueueBackgroundScan(
                 eq("project-1"),
@@ -0,0 +1,176 @@
+package net.modtale.service.security.scan;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.modtale.config.properties.AppWardenProperties;
+import net.modtale.exception.StorageDownloadException;
+import net.modtale.model.project.ScanResult;
+import net.modtale.model.project.ScanStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WardenClientServiceTest {
+
+    private static final long ARTIFACT_BYTES = 64L * 1024 * 1024;
+    private static final long HEAP_PER_SCAN_LIMIT = 16L * 1024 * 1024;
+
+    private final AtomicLong received = new AtomicLong();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/scan", exchange -> {
+            byte[] chunk = new byte[8192];
+            try (InputStream body = exchange.getRequestBody()) {
+                int read;
+                long sinceSleep = 0;
+                while ((read = body.read(chunk)) != -1) {
+                    received.addAndGet(read);
+                    sinceSleep += read;
+                    if (sinceSleep >= 1024 * 1024) {
+                        // A scanner slower than storage is what makes backpressure matter.
+                        sleep(2);
+                        sinceSleep = 0;
+                    }
+                }
+            }
+            byte[] response = "{\"status\":\"CLEAN\",\"verdict\":\"ALLOW\",\"scanState\":\"COMPLETE\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/broken/api/v1/scan", exchange -> {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void artifactBytesHeldPerScanStayBoundedWhateverTheArtifactSize() {
+        WardenClientService service = new WardenClientService(properties(""));
+        GeneratedArtifact artifact = new GeneratedArtifact(ARTIFACT_BYTES, received);
+
+        ScanResult result = service.scan(() -> artifact, "modpack.zip").block(Duration.ofSeconds(60));
+
+        assertEquals(ScanStatus.CLEAN, result.getStatus());
+        assertTrue(received.get() >= ARTIFACT_BYTES, "stub scanner received the whole artifact");
+        assertTrue(artifact.closed, "the storage stream is closed once the upload ends");
+        // Bytes read from storage but not yet taken by the scanner bound what the client holds, including
+        // socket buffers. A byte[] download would hold all 64MB at once.
+        assertTrue(
+                artifact.maxAhead < HEAP_PER_SCAN_LIMIT,
+                "held " + artifact.maxAhead / 1024 + "KB ahead of the scanner for a " + ARTIFACT_BYTES / 1024 / 1024 + "MB artifact"
+        );
+    }
+
+    @Test
+    void retriesReopenTheArtifactAndDegradeWhenWardenKeepsFailing() {
+        WardenClientService service = new WardenClientService(properties("/broken"));
+        AtomicInteger opens = new AtomicInteger();
+
+        ScanResult result = service.scan(() -> {
+            opens.incrementAndGet();
+            return new GeneratedArtifact(256 * 1024, new AtomicLong());
+        }, "mod.jar").block(Duration.ofSeconds(30));
+
+        assertEquals(2, opens.get());
+        assertEquals("UPSTREAM_UNAVAILABLE", result.getScanState());
+        assertEquals(ScanStatus.SUSPICIOUS, result.getStatus());
+    }
+
+    @Test
+    void storageFailuresArePassedThroughWithoutRetrying() {
+        WardenClientService service = new WardenClientService(properties(""));
+        AtomicInteger opens = new AtomicInteger();
+        StorageDownloadException missing = new StorageDownloadException("The requested file is not available in storage.", null);
+
+        StorageDownloadException thrown = assertThrows(StorageDownloadException.class, () -> service.scan(() -> {
+            opens.incrementAndGet();
+            throw missing;
+        }, "mod.jar").block(Duration.ofSeconds(30)));
+
+        assertEquals(missing, thrown);
+        assertEquals(1, opens.get());
+    }
+
+    @Test
+    void inFlightScansAreSizedFromTheHeapBudget() {
+        WardenClientService service = new WardenClientService(properties(""));
+
+        assertEquals(64 * 1024 * 5 + 2048 * 1024, service.heapPerScanBytes());
+        assertEquals(55, service.maxInFlightScans());
+    }
+
+    private AppWardenProperties properties(String pathPrefix) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + pathPrefix;
+        return new AppWardenProperties(url, "", true, 2, 30, 64, 4, 2048, 128);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Produces its bytes on demand, so the test itself never holds the artifact. */
+    private static final class GeneratedArtifact extends InputStream {
+        private final long size;
+        private final AtomicLong consumed;
+        private long produced;
+        private volatile long maxAhead;
+        private volatile boolean closed;
+
+        private GeneratedArtifact(long size, AtomicLong consumed) {
+            this.size = size;
+            this.consumed = consumed;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (produced >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - produced);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) (produced + i);
+            }
+            produced += count;
+            maxAhead = Math.max(maxAhead, produced - consumed.get());
+            return count;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -2,10 +2,14 @@ package net.modtale.service.storage;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import net.modtale.model.project.Project;
+import net.modtale.model.project.ProjectClassification;
 import net.modtale.model.project.ProjectDependency;
 import net.modtale.model.project.ProjectVersion;
+import net.modtale.model.project.ProjectVersionNode;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.multipart.MultipartFile;
@@ -14,19 +18,23 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DownloadArchiveSupportTest {
 
     private ProjectService projectService;
     private StorageService storageService;
+    private VersionDependencyGraphService versionDependencyGraphService;
     private DownloadArchiveSupport service;
 
     @BeforeEach
     void setUp() {
         projectService = mock(ProjectService.class);
         storageService = mock(StorageService.class);
-        service = new DownloadArchiveSupport(projectService, storageService);
+        versionDependencyGraphService = mock(VersionDependencyGraphService.class);
+        service = new DownloadArchiveSupport(projectService, storageService, versionDependencyGraphService);
     }
 
     @Test
@@ -43,6 +51,24 @@ class DownloadArchiveSupportTest {
         assertNull(service.resolveDependency(new ProjectDependency("project-1", "Project", "2.0.0")));
     }
 
+    @Test
+    void resolveDependencyPrefersTheVersionGraphOverLoadingTheProject() {
+        ProjectVersionNode node = new ProjectVersionNode();
+        node.setProjectId("project-1");
+        node.setVersionId("version-1");
+        node.setVersionNumber("1.0.0");
+        node.setFileUrl("files/a.jar");
+        node.setClassification(ProjectClassification.PLUGIN);
+        when(versionDependencyGraphService.findVersion("project-1", "1.0.0")).thenReturn(Optional.of(node));
+
+        DownloadArchiveSupport.ResolvedDependency resolved =
+                service.resolveDependency(new ProjectDependency("project-1", "Project", "1.0.0"));
+
+        assertEquals("files/a.jar", resolved.version().getFileUrl());
+        assertEquals(ProjectClassification.PLUGIN, resolved.project().getClassification());
+        verify(projectService, never()).getRawProjectById("project-1");
+    }
+
     @Test
     void extractOriginalFilenameStripsStoragePrefixWhenPresent() {
         assertEquals("mod.jar", service.extractOriginalFilename("files/123456789012345678901234567890123456-mod.jar"));
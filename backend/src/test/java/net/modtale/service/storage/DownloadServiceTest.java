@@ -18,6 +18,7 @@ import net.modtale.model.project.ProjectVersion;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.project.version.VersionDependencyGraphService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -47,7 +48,7 @@ class DownloadServiceTest {
         projectRepository = mock(ProjectRepository.class);
         projectService = mock(ProjectService.class);
         storageService = mock(StorageService.class);
-        downloadService = new DownloadService(projectRepository, projectService, storageService, limitProperties(10));
+        downloadService = new DownloadService(projectRepository, projectService, storageService, mock(VersionDependencyGraphService.class), limitProperties(10));
     }
 
     @Test
@@ -108,7 +109,7 @@ class DownloadServiceTest {
 
     @Test
     void generateModpackZipAppliesPerUserRateLimiting() throws Exception {
-        downloadService = new DownloadService(projectRepository, projectService, storageService, limitProperties(1));
+        downloadService = new DownloadService(projectRepository, projectService, storageService, mock(VersionDependencyGraphService.class), limitProperties(1));
 
         Project pack = pack("pack-1", "tiny-pack", "Tiny Pack");
         ProjectVersion version = version("1.0.0");
@@ -84,6 +84,7 @@ class ModpackArchiveServiceTest {
         assertEquals("data-binary", entries.get("asset-packs/data.zip"));
         assertEquals(true, entries.get("modpack.json").contains("\"id\": \"plugin\""));
         verify(projectRepository).save(pack);
+        verify(archiveSupport).syncVersionGraph(pack);
     }
 
     private static Project pack() {
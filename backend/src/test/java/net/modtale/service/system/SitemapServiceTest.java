@@ -1,19 +1,29 @@
 package net.modtale.service.system;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 import net.modtale.config.properties.AppFrontendProperties;
 import net.modtale.model.project.Project;
 import net.modtale.model.user.User;
 import net.modtale.repository.project.ProjectRepository;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.project.query.ProjectService;
+import net.modtale.service.system.SitemapService.SitemapDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SitemapServiceTest {
@@ -37,44 +47,115 @@ class SitemapServiceTest {
     }
 
     @Test
-    void generateSitemapIncludesStaticRoutesProjectsAndDeduplicatedAuthorUrls() {
+    void sitemapIndexListsPageProjectAndCreatorShards() {
         Project first = project("project-1", "author-id", "willow", "2026-06-01");
         Project second = project("project-2", "author-id", "willow", "2026-06-18T15:30:00");
 
-        when(projectRepository.findAllForSitemap()).thenReturn(List.of(first, second));
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of(first, second));
+        when(projectRepository.findSitemapEntriesByIdIn(anyCollection())).thenReturn(List.of(first, second));
         when(projectService.getProjectLink(first)).thenReturn("/plugin/first");
         when(projectService.getProjectLink(second)).thenReturn("/plugin/second");
 
-        String xml = service.generateSitemap();
+        String index = text(service.getIndex());
+        String pages = text(service.getShard("pages").orElseThrow());
+        String projects = text(service.getShard("projects-1").orElseThrow());
+        String creators = text(service.getShard("creators-1").orElseThrow());
 
-        assertTrue(xml.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
-        assertTrue(xml.contains("<loc>https://modtale.test/</loc>"));
-        assertTrue(xml.contains("<loc>https://modtale.test/plugins</loc>"));
-        assertTrue(xml.contains("<loc>https://modtale.test/plugin/first</loc>"));
-        assertTrue(xml.contains("<lastmod>2026-06-01</lastmod>"));
-        assertTrue(xml.contains("<loc>https://modtale.test/plugin/second</loc>"));
-        assertTrue(xml.contains("<lastmod>2026-06-18</lastmod>"));
-        assertEquals(1, countOccurrences(xml, "<loc>https://modtale.test/creator/willow</loc>"));
+        assertTrue(index.contains("<sitemapindex"));
+        assertTrue(index.contains("<loc>https://modtale.test/sitemaps/pages.xml</loc>"));
+        assertTrue(index.contains("<loc>https://modtale.test/sitemaps/projects-1.xml</loc>"));
+        assertTrue(index.contains("<loc>https://modtale.test/sitemaps/creators-1.xml</loc>"));
+        assertTrue(pages.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+        assertTrue(pages.contains("<loc>https://modtale.test/</loc>"));
+        assertTrue(pages.contains("<loc>https://modtale.test/plugins</loc>"));
+        assertTrue(projects.contains("<loc>https://modtale.test/plugin/first</loc>"));
+        assertTrue(projects.contains("<lastmod>2026-06-01</lastmod>"));
+        assertTrue(projects.contains("<loc>https://modtale.test/plugin/second</loc>"));
+        assertTrue(projects.contains("<lastmod>2026-06-18</lastmod>"));
+        assertEquals(1, countOccurrences(creators, "<loc>https://modtale.test/creator/willow</loc>"));
     }
 
     @Test
-    void generateSitemapFallsBackToAuthorLookupAndThenAuthorId() {
+    void creatorShardFallsBackToAuthorLookupAndThenAuthorId() {
         Project withUser = project("project-1", "author-id", null, "2026-06-01");
         Project withMissingUser = project("project-2", "missing-id", null, "2026-06-01");
         User user = new User();
         user.setId("author-id");
         user.setUsername("looked-up");
 
-        when(projectRepository.findAllForSitemap()).thenReturn(List.of(withUser, withMissingUser));
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of(withUser, withMissingUser));
+        when(projectRepository.findSitemapEntriesByIdIn(anyCollection())).thenReturn(List.of(withUser, withMissingUser));
         when(projectService.getProjectLink(withUser)).thenReturn("/plugin/first");
         when(projectService.getProjectLink(withMissingUser)).thenReturn("/plugin/second");
-        when(userRepository.findById("author-id")).thenReturn(Optional.of(user));
-        when(userRepository.findById("missing-id")).thenReturn(Optional.empty());
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(user));
 
-        String xml = service.generateSitemap();
+        String creators = text(service.getShard("creators-1").orElseThrow());
 
-        assertTrue(xml.contains("<loc>https://modtale.test/creator/looked-up</loc>"));
-        assertTrue(xml.contains("<loc>https://modtale.test/creator/missing-id</loc>"));
+        assertTrue(creators.contains("<loc>https://modtale.test/creator/looked-up</loc>"));
+        assertTrue(creators.contains("<loc>https://modtale.test/creator/missing-id</loc>"));
+    }
+
+    @Test
+    void refreshReloadsOnlyChangedProjectsAndKeepsUnchangedShardBytes() {
+        Project first = project("project-1", "author-id", "willow", "2026-06-01");
+        Project second = project("project-2", "author-id", "willow", "2026-06-01");
+        Project secondUpdated = project("project-2", "author-id", "willow", "2026-06-20");
+
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of(first, second));
+        when(projectRepository.findSitemapEntriesByIdIn(anyCollection())).thenReturn(List.of(first, second));
+        when(projectService.getProjectLink(first)).thenReturn("/plugin/first");
+        when(projectService.getProjectLink(secondUpdated)).thenReturn("/plugin/second");
+        when(projectService.getProjectLink(second)).thenReturn("/plugin/second");
+
+        SitemapDocument pagesBefore = service.getShard("pages").orElseThrow();
+        SitemapDocument projectsBefore = service.getShard("projects-1").orElseThrow();
+
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of(first, secondUpdated));
+        when(projectRepository.findSitemapEntriesByIdIn(List.of("project-2"))).thenReturn(List.of(secondUpdated));
+        service.refresh();
+
+        verify(projectRepository).findSitemapEntriesByIdIn(List.of("project-2"));
+        assertSame(pagesBefore, service.getShard("pages").orElseThrow());
+        SitemapDocument projectsAfter = service.getShard("projects-1").orElseThrow();
+        assertNotEquals(projectsBefore.etag(), projectsAfter.etag());
+        assertTrue(text(projectsAfter).contains("<lastmod>2026-06-20</lastmod>"));
+        assertTrue(text(projectsAfter).contains("<loc>https://modtale.test/plugin/first</loc>"));
+    }
+
+    @Test
+    void shardsAreStoredGzipped() throws IOException {
+        when(projectRepository.findSitemapStamps()).thenReturn(List.of());
+
+        SitemapDocument pages = service.getShard("pages").orElseThrow();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(pages.gzip()))) {
+            assertEquals(text(pages), new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void addingAProjectChangesOnlyTheShardItHashesInto() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3 * SitemapService.SHARD_SIZE; i++) {
+            ids.add(Integer.toHexString(0x6a000000 + i));
+        }
+        List<List<String>> before = SitemapService.bucketByKey(ids, Function.identity());
+        ids.add("6b000000");
+        List<List<String>> after = SitemapService.bucketByKey(ids, Function.identity());
+
+        assertEquals(4, before.size());
+        assertEquals(4, after.size());
+        int changed = 0;
+        for (int bucket = 0; bucket < before.size(); bucket++) {
+            if (!before.get(bucket).equals(after.get(bucket))) {
+                changed++;
+            }
+        }
+        assertEquals(1, changed);
+    }
+
+    private static String text(SitemapDocument document) {
+        return new String(document.xml(), StandardCharsets.UTF_8);
     }
 
     private static Project project(String id, String authorId, String author, String updatedAt) {
@@ -8,7 +8,9 @@ import java.util.Properties;
 import net.modtale.config.properties.AppFrontendProperties;
 import net.modtale.config.properties.AppStatusDiscordWebhookProperties;
 import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
 import net.modtale.model.system.SystemStatus;
+import net.modtale.model.system.WebhookDestination;
 import net.modtale.service.communication.WebhookDeliveryService;
 import net.modtale.service.communication.WebhookDispatchRequest;
 import org.junit.jupiter.api.Test;
@@ -64,14 +66,17 @@ class StatusDiscordNotifierServiceTest {
 
         StatusHistory previous = history(SystemStatus.OPERATIONAL);
         StatusHistory latest = history(SystemStatus.DEGRADED);
-        service.notifyStatusChange(previous, latest, List.of(previous, latest));
+        StatusRollup yesterday = new StatusRollup(LocalDateTime.now().minusDays(1));
+        yesterday.getApi().add(SystemStatus.OPERATIONAL, 25);
+        yesterday.getApi().add(SystemStatus.OUTAGE, 0);
+        service.notifyStatusChange(previous, latest, List.of(yesterday));
 
         org.mockito.ArgumentCaptor<WebhookDispatchRequest> requestCaptor =
                 org.mockito.ArgumentCaptor.forClass(WebhookDispatchRequest.class);
         verify(deliveryService).deliverAsync(requestCaptor.capture(), eq("Failed to trigger Status Discord webhook"));
 
         WebhookDispatchRequest request = requestCaptor.getValue();
-        assertEquals("https://discord.test/webhook", request.url());
+        assertEquals(WebhookDestination.STATUS_DISCORD, request.destination());
         assertEquals("Modtale Status Monitor", request.body().get("username"));
         assertEquals("https://modtale.net/assets/favicon.png", request.body().get("avatar_url"));
         assertFalse(request.body().containsKey("content"));
@@ -88,6 +93,7 @@ class StatusDiscordNotifierServiceTest {
         assertTrue(description.contains("Database (Atlas)"));
         assertTrue(description.contains("Storage (R2)"));
         assertTrue(description.contains("Degraded"));
+        assertTrue(description.contains("(50.00% uptime)"));
     }
 
     @Test
@@ -0,0 +1,98 @@
+package net.modtale.service.system;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
+import net.modtale.model.system.StatusRollupResolution;
+import net.modtale.model.system.SystemStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatusRollupServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private StatusRollupService service;
+    private final List<String> writtenCollections = new ArrayList<>();
+    private final List<StatusRollup> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        service = new StatusRollupService(mongoTemplate);
+        when(mongoTemplate.find(any(Query.class), eq(StatusRollup.class), anyString())).thenReturn(List.of());
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(StatusRollup.class), anyString()))
+                .thenAnswer(invocation -> {
+                    String collection = invocation.getArgument(2);
+                    BulkOperations bulk = mock(BulkOperations.class);
+                    when(bulk.replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class))).thenAnswer(replace -> {
+                        writtenCollections.add(collection);
+                        written.add(replace.getArgument(1));
+                        return bulk;
+                    });
+                    return bulk;
+                });
+    }
+
+    @Test
+    void syncFoldsProbesIntoEveryResolution() {
+        LocalDateTime minute = LocalDateTime.now().withSecond(0).withNano(0);
+        when(mongoTemplate.stream(any(Query.class), eq(StatusHistory.class))).thenReturn(Stream.of(
+                history(minute.plusSeconds(5), SystemStatus.OPERATIONAL, SystemStatus.OPERATIONAL, 20),
+                history(minute.plusSeconds(35), SystemStatus.DEGRADED, SystemStatus.OUTAGE, 40)
+        ));
+
+        service.sync(minute);
+
+        assertEquals(List.of(
+                StatusRollupResolution.ONE_MINUTE.collection(),
+                StatusRollupResolution.FIFTEEN_MINUTES.collection(),
+                StatusRollupResolution.ONE_HOUR.collection(),
+                StatusRollupResolution.ONE_DAY.collection()
+        ), writtenCollections);
+
+        StatusRollup daily = written.getLast();
+        assertEquals(minute.toLocalDate().atStartOfDay(), daily.getBucketStart());
+        assertEquals(2, daily.getSamples());
+        assertEquals(SystemStatus.OUTAGE, daily.getDb().worstStatus());
+        assertEquals(30, daily.getApi().averageLatency());
+        assertEquals(50.0, StatusRollupService.uptimePercent(List.of(daily), StatusRollup::getDb));
+    }
+
+    @Test
+    void legacyRowsWithoutServiceStatusesFallBackToTheOverallStatus() {
+        LocalDateTime minute = LocalDateTime.now().withSecond(0).withNano(0);
+        StatusHistory legacy = history(minute, SystemStatus.OPERATIONAL, SystemStatus.OPERATIONAL, 0);
+        ReflectionTestUtils.setField(legacy, "dbStatus", null);
+        when(mongoTemplate.stream(any(Query.class), eq(StatusHistory.class))).thenReturn(Stream.of(legacy));
+
+        service.sync(minute);
+
+        assertEquals(SystemStatus.OPERATIONAL, written.getFirst().getDb().worstStatus());
+    }
+
+    @Test
+    void uptimeIsHundredPercentWithoutSamples() {
+        assertEquals(100.0, StatusRollupService.uptimePercent(List.of(), StatusRollup::getApi));
+    }
+
+    private static StatusHistory history(LocalDateTime timestamp, SystemStatus overall, SystemStatus db, int apiLatency) {
+        StatusHistory history = new StatusHistory(apiLatency, 5, 5, overall, overall, db, SystemStatus.OPERATIONAL);
+        ReflectionTestUtils.setField(history, "timestamp", timestamp);
+        return history;
+    }
+}
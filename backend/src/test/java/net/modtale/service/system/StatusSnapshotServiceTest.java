@@ -7,6 +7,8 @@ import java.util.List;
 import net.modtale.config.properties.AppR2Properties;
 import net.modtale.model.dto.response.system.SystemStatusView;
 import net.modtale.model.system.StatusHistory;
+import net.modtale.model.system.StatusRollup;
+import net.modtale.model.system.StatusRollupResolution;
 import net.modtale.model.system.SystemStatus;
 import net.modtale.repository.system.StatusHistoryRepository;
 import org.bson.Document;
@@ -36,6 +38,7 @@ class StatusSnapshotServiceTest {
     private StatusHistoryRepository historyRepository;
     private StatusDiscordNotifierService statusDiscordNotifierService;
     private StatusIncidentService statusIncidentService;
+    private StatusRollupService statusRollupService;
     private StatusSnapshotService service;
 
     @BeforeEach
@@ -46,22 +49,28 @@ class StatusSnapshotServiceTest {
         historyRepository = mock(StatusHistoryRepository.class);
         statusDiscordNotifierService = mock(StatusDiscordNotifierService.class);
         statusIncidentService = mock(StatusIncidentService.class);
+        statusRollupService = mock(StatusRollupService.class);
         when(statusIncidentService.getActiveIncidents()).thenReturn(List.of());
         when(statusIncidentService.getScheduledMaintenances()).thenReturn(List.of());
         when(statusIncidentService.getIncidentHistory()).thenReturn(List.of());
-        service = new StatusSnapshotService(mongoTemplate, s3Client, r2Properties, historyRepository, statusDiscordNotifierService, statusIncidentService, false);
+        service = new StatusSnapshotService(mongoTemplate, s3Client, r2Properties, historyRepository, statusDiscordNotifierService, statusIncidentService, statusRollupService, false);
     }
 
     @Test
-    void getSystemStatusBuildsFromLatestHistoryAndDownsamplesThirtyDayHistory() {
+    void getSystemStatusBuildsFromLatestHistoryAndHourlyRollupsForThirtyDays() {
         StatusHistory latest = history(12, 4, 8, SystemStatus.OPERATIONAL, LocalDateTime.now());
-        List<StatusHistory> history = new ArrayList<>();
-        for (int index = 0; index < 600; index++) {
-            history.add(history(index, index + 1, index + 2, SystemStatus.OPERATIONAL, LocalDateTime.now().minusMinutes(600 - index)));
+        List<StatusRollup> rollups = new ArrayList<>();
+        for (int index = 0; index < 720; index++) {
+            rollups.add(rollup(
+                    LocalDateTime.now().minusHours(720 - index),
+                    SystemStatus.OPERATIONAL,
+                    SystemStatus.OPERATIONAL,
+                    SystemStatus.OPERATIONAL
+            ));
         }
 
         when(historyRepository.findTopByOrderByTimestampDesc()).thenReturn(latest);
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(history);
+        when(statusRollupService.find(eq(StatusRollupResolution.ONE_HOUR), any())).thenReturn(rollups);
 
         SystemStatusView status = service.getSystemStatus("30d");
 
@@ -69,7 +78,8 @@ class StatusSnapshotServiceTest {
         assertEquals(3, status.services().size());
         assertEquals("api", status.services().getFirst().id());
         assertEquals(12, status.services().getFirst().latency());
-        assertEquals(100, status.history().size());
+        assertEquals(720, status.history().size());
+        assertEquals(40, status.history().getFirst().api());
         assertEquals(SystemStatus.OPERATIONAL, status.history().getFirst().apiStatus());
         assertEquals(SystemStatus.OPERATIONAL, status.history().getFirst().dbStatus());
         assertEquals(SystemStatus.OPERATIONAL, status.history().getFirst().storageStatus());
@@ -89,7 +99,12 @@ class StatusSnapshotServiceTest {
         );
 
         when(historyRepository.findTopByOrderByTimestampDesc()).thenReturn(latest);
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of(latest));
+        when(statusRollupService.find(eq(StatusRollupResolution.FIFTEEN_MINUTES), any())).thenReturn(List.of(rollup(
+                LocalDateTime.now(),
+                SystemStatus.DEGRADED,
+                SystemStatus.OPERATIONAL,
+                SystemStatus.OUTAGE
+        )));
 
         SystemStatusView status = service.getSystemStatus("24h");
 
@@ -106,15 +121,10 @@ class StatusSnapshotServiceTest {
         ReflectionTestUtils.setField(legacy, "storageStatus", null);
 
         when(historyRepository.findTopByOrderByTimestampDesc()).thenReturn(legacy);
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of(legacy));
 
         SystemStatusView status = service.getSystemStatus("24h");
 
-        assertEquals(SystemStatus.OPERATIONAL, status.services().getFirst().status());
-        assertTrue(status.history().stream().allMatch(point ->
-                point.apiStatus() == SystemStatus.OPERATIONAL
-                        && point.dbStatus() == SystemStatus.OPERATIONAL
-                        && point.storageStatus() == SystemStatus.OPERATIONAL));
+        assertTrue(status.services().stream().allMatch(service -> service.status() == SystemStatus.OPERATIONAL));
     }
 
     @Test
@@ -122,7 +132,6 @@ class StatusSnapshotServiceTest {
         when(mongoTemplate.executeCommand("{ ping: 1 }")).thenThrow(new MongoException("db down"));
         when(s3Client.headBucket(any(HeadBucketRequest.class))).thenReturn(HeadBucketResponse.builder().build());
         when(historyRepository.save(any(StatusHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of());
 
         service.refreshSnapshots();
 
@@ -135,6 +144,7 @@ class StatusSnapshotServiceTest {
         assertTrue(status.services().stream().anyMatch(service ->
                 service.id().equals("storage") && service.status() == SystemStatus.OPERATIONAL));
         verify(historyRepository).save(any(StatusHistory.class));
+        verify(statusRollupService).sync(any(LocalDateTime.class));
     }
 
     @Test
@@ -144,7 +154,6 @@ class StatusSnapshotServiceTest {
         when(mongoTemplate.executeCommand("{ ping: 1 }")).thenThrow(new MongoException("db down"));
         when(s3Client.headBucket(any(HeadBucketRequest.class))).thenReturn(HeadBucketResponse.builder().build());
         when(historyRepository.save(any(StatusHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of());
 
         service.refreshSnapshots();
 
@@ -157,7 +166,6 @@ class StatusSnapshotServiceTest {
         when(historyRepository.findTopByOrderByTimestampDesc()).thenReturn(previous);
         when(s3Client.headBucket(any(HeadBucketRequest.class))).thenReturn(HeadBucketResponse.builder().build());
         when(historyRepository.save(any(StatusHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(historyRepository.findByTimestampAfterOrderByTimestampAsc(any())).thenReturn(List.of());
 
         service.refreshSnapshots();
 
@@ -168,6 +176,22 @@ class StatusSnapshotServiceTest {
         );
     }
 
+    private static StatusRollup rollup(
+            LocalDateTime bucketStart,
+            SystemStatus apiStatus,
+            SystemStatus dbStatus,
+            SystemStatus storageStatus
+    ) {
+        StatusRollup rollup = new StatusRollup(bucketStart);
+        rollup.setSamples(2);
+        for (int sample = 0; sample < 2; sample++) {
+            rollup.getApi().add(apiStatus, 30 + sample * 20);
+            rollup.getDb().add(dbStatus, 10);
+            rollup.getStorage().add(storageStatus, 20);
+        }
+        return rollup;
+    }
+
     private static StatusHistory history(
             int apiLatency,
             int dbLatency,
@@ -1,16 +1,22 @@
 package net.modtale.service.user.account;
 
-import java.util.Optional;
+import java.util.List;
 import net.modtale.model.user.User;
 import net.modtale.repository.user.UserRepository;
 import net.modtale.service.security.validation.SanitizationService;
 import net.modtale.service.user.connection.ConnectedAccountMutationService;
 import org.junit.jupiter.api.BeforeEach;
+import org.bson.Document;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,31 +24,33 @@ import static org.mockito.Mockito.when;
 class AccountServiceTest {
 
     private UserRepository userRepository;
+    private MongoTemplate mongoTemplate;
     private OAuthAvatarHealingService oauthAvatarHealingService;
     private AccountService accountService;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
         oauthAvatarHealingService = mock(OAuthAvatarHealingService.class);
         accountService = new AccountService(
                 userRepository,
-                mock(org.springframework.data.mongodb.core.MongoTemplate.class),
+                mongoTemplate,
                 mock(net.modtale.service.security.validation.SanitizationService.class),
                 mock(CurrentUserResolutionService.class),
                 oauthAvatarHealingService,
                 mock(AccountLifecycleService.class),
-                mock(ConnectedAccountMutationService.class)
+                mock(ConnectedAccountMutationService.class),
+                mock(UserProjectionCacheService.class)
         );
     }
 
     @Test
     void getPublicProfileResolvesByUsername() {
         User user = user("user-1", "AzureDoom");
-        when(userRepository.findById("AzureDoom")).thenReturn(Optional.empty());
-        when(userRepository.findByUsernameIgnoreCase("AzureDoom")).thenReturn(Optional.of(user));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(user));
 
-        User result = accountService.getPublicProfile("AzureDoom");
+        User result = accountService.getPublicProfile("azuredoom");
 
         assertEquals(user, result);
         verify(oauthAvatarHealingService).maybeHealOAuthAvatar(user);
@@ -51,16 +59,26 @@ class AccountServiceTest {
     @Test
     void getPublicProfileResolvesLegacyHandleSuffixes() {
         User user = user("user-1", "AzureDoom");
-        when(userRepository.findById("AzureDoom~user-1")).thenReturn(Optional.empty());
-        when(userRepository.findByUsernameIgnoreCase("AzureDoom~user-1")).thenReturn(Optional.empty());
-        when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
+        User handleOwner = user("user-2", "Renamed");
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(handleOwner, user));
 
-        User result = accountService.getPublicProfile("AzureDoom~user-1");
+        User result = accountService.getPublicProfile("Renamed~user-1");
 
         assertEquals(user, result);
         verify(oauthAvatarHealingService).maybeHealOAuthAvatar(user);
     }
 
+    @Test
+    void publicProfileQueryOnlyUsesIndexedEqualityBranches() {
+        Document filter = AccountService.publicProfileQuery("AzureDoom~user-1").getQueryObject();
+
+        List<?> branches = (List<?>) filter.get("$or");
+        assertEquals(4, branches.size());
+        assertEquals(new Document("usernameLower", "azuredoom~user-1"), branches.get(0));
+        assertEquals(new Document("usernameLower", "azuredoom"), branches.get(3));
+        assertFalse(filter.toJson().contains("$regex"));
+    }
+
     @Test
     void getPublicProfileReturnsNullForBlankIdentifiers() {
         assertNull(accountService.getPublicProfile(" "));
@@ -0,0 +1,126 @@
+package net.modtale.service.user.account;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.modtale.model.user.OAuthProvider;
+import net.modtale.model.user.User;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OAuthAvatarHealingServiceTest {
+
+    private final BlockingQueue<String> methods = new LinkedBlockingQueue<>();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private HttpServer server;
+    private MongoTemplate mongoTemplate;
+    private UserProjectionCacheService userProjectionCacheService;
+    private OAuthAvatarHealingService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gitlab/", exchange -> {
+            methods.add(exchange.getRequestMethod());
+            int status = exchange.getRequestURI().getPath().endsWith("live.png") ? 200 : 404;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        userProjectionCacheService = mock(UserProjectionCacheService.class);
+        service = new OAuthAvatarHealingService(mongoTemplate, userProjectionCacheService, scheduled::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void readsOnlyScheduleOneCheckPerCooldownWindow() {
+        User user = user(avatar("dead.png"));
+
+        service.maybeHealOAuthAvatar(user);
+        service.maybeHealOAuthAvatar(user);
+
+        assertEquals(1, scheduled.size());
+        assertTrue(methods.isEmpty());
+    }
+
+    @Test
+    void checkRejectedByASaturatedProbeLaneCanBeScheduledAgain() {
+        AtomicInteger attempts = new AtomicInteger();
+        OAuthAvatarHealingService saturated = new OAuthAvatarHealingService(mongoTemplate, userProjectionCacheService, task -> {
+            attempts.incrementAndGet();
+            throw new RejectedExecutionException("saturated");
+        });
+        User user = user(avatar("dead.png"));
+
+        saturated.maybeHealOAuthAvatar(user);
+        saturated.maybeHealOAuthAvatar(user);
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void reachableAvatarIsLeftAloneAndProbedWithHead() {
+        service.maybeHealOAuthAvatar(user(avatar("live.png")));
+        scheduled.forEach(Runnable::run);
+
+        assertEquals(List.of("HEAD"), List.copyOf(methods));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(User.class));
+    }
+
+    @Test
+    void deadAvatarIsResetWithAConditionalSet() {
+        String deadUrl = avatar("dead.png");
+        service.maybeHealOAuthAvatar(user(deadUrl));
+        scheduled.forEach(Runnable::run);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(User.class));
+        assertEquals(deadUrl, query.getValue().getQueryObject().get("avatarUrl"));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertTrue(((String) set.get("avatarUrl")).startsWith("https://ui-avatars.com/api/?name=willow"));
+        verify(userProjectionCacheService).evict("user-1");
+    }
+
+    private String avatar(String name) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/gitlab/" + name;
+    }
+
+    private static User user(String avatarUrl) {
+        User.ConnectedAccount account = new User.ConnectedAccount();
+        account.setProvider(OAuthProvider.GITLAB);
+
+        User user = new User();
+        user.setId("user-1");
+        user.setUsername("willow");
+        user.setAvatarUrl(avatarUrl);
+        user.setConnectedAccounts(List.of(account));
+        return user;
+    }
+}
@@ -0,0 +1,104 @@
+package net.modtale.service.user.account;
+
+import java.util.List;
+import net.modtale.model.user.PrincipalInvalidation;
+import net.modtale.model.user.User;
+import net.modtale.model.user.UserPrincipalSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserPrincipalCacheServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private UserPrincipalCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        service = new UserPrincipalCacheService(mongoTemplate);
+    }
+
+    @Test
+    void snapshotIsCachedUntilTheUserIsInvalidated() {
+        when(mongoTemplate.findOne(any(Query.class), eq(User.class)))
+                .thenReturn(user("u-1", "Alice", List.of("USER")))
+                .thenReturn(user("u-1", "Alice", List.of("USER", "ADMIN")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of(organization("org-1")));
+
+        UserPrincipalSnapshot first = service.get("u-1");
+        UserPrincipalSnapshot cached = service.get("u-1");
+
+        assertEquals(first, cached);
+        assertTrue(first.organizationIds().contains("org-1"));
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(User.class));
+
+        service.invalidate("u-1");
+        UserPrincipalSnapshot reloaded = service.get("u-1");
+
+        assertEquals(List.of("USER", "ADMIN"), reloaded.roles());
+        verify(mongoTemplate, times(2)).findOne(any(Query.class), eq(User.class));
+    }
+
+    @Test
+    void organizationInvalidationDropsMemberSnapshots() {
+        when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenReturn(user("u-2", "bob", List.of("USER")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class)))
+                .thenReturn(List.of(organization("org-1")))
+                .thenReturn(List.of());
+
+        assertTrue(service.get("u-2").organizationIds().contains("org-1"));
+
+        service.invalidateOrganization("org-1", List.of());
+
+        assertTrue(service.get("u-2").organizationIds().isEmpty());
+    }
+
+    @Test
+    void invalidationPublishedByAnotherNodeDropsTheLocalSnapshot() {
+        when(mongoTemplate.findOne(any(Query.class), eq(User.class)))
+                .thenReturn(user("u-3", "carol", List.of("USER")))
+                .thenReturn(user("u-3", "carol", List.of("USER", "ADMIN")));
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(List.of());
+        PrincipalInvalidation remote = new PrincipalInvalidation(List.of("u-3"), null);
+        remote.setId("inv-1");
+        when(mongoTemplate.find(any(Query.class), eq(PrincipalInvalidation.class))).thenReturn(List.of(remote));
+
+        service.get("u-3");
+        service.applyRemoteInvalidations();
+
+        assertEquals(List.of("USER", "ADMIN"), service.get("u-3").roles());
+    }
+
+    @Test
+    void localInvalidationsArePublishedForOtherNodes() {
+        service.invalidateOrganization("org-1", List.of("u-1"));
+
+        verify(mongoTemplate).insert(any(PrincipalInvalidation.class));
+    }
+
+    private User user(String id, String username, List<String> roles) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setRoles(roles);
+        return user;
+    }
+
+    private User organization(String id) {
+        User organization = new User();
+        organization.setId(id);
+        organization.setAccountType(User.AccountType.ORGANIZATION);
+        return organization;
+    }
+}
@@ -16,6 +16,7 @@ import net.modtale.service.communication.NotificationService;
 import net.modtale.service.security.access.AccessControlService;
 import net.modtale.service.security.validation.SanitizationService;
 import net.modtale.service.user.account.AccountService;
+import net.modtale.service.user.account.UserProjectionCacheService;
 import net.modtale.service.user.connection.ConnectedAccountMutationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +66,7 @@ class OrganizationServiceTest {
                 organizationConnectionService,
                 organizationRoleService,
                 organizationInviteService,
+                mock(UserProjectionCacheService.class),
                 new AppLimitProperties(10, 5, 10, 5, 5, 50, 20, 10)
         );
     }
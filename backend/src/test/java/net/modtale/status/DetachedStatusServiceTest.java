@@ -4,9 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -66,6 +68,34 @@ class DetachedStatusServiceTest {
         assertFalse(status.history().getFirst().time() > status.history().getLast().time());
     }
 
+    @Test
+    void probesFasterWhileDegradedThanWhileHealthy() {
+        StatusServiceProperties properties = new StatusServiceProperties();
+        properties.setHealthyProbeInterval(Duration.ofHours(1));
+        properties.setDegradedProbeInterval(Duration.ZERO);
+        when(snapshotFileStore.readHistory()).thenReturn(List.of());
+        when(mongoStatusStore.findHistoryAfter(any())).thenReturn(List.of());
+        when(mongoStatusStore.findLatestHistory()).thenReturn(Optional.empty());
+        when(mongoStatusStore.findIncidentBuckets()).thenReturn(IncidentBuckets.empty());
+        when(statusProbeService.performHealthCheck()).thenReturn(
+                entry(Instant.now().minusSeconds(30), SystemStatus.DEGRADED),
+                entry(Instant.now().minusSeconds(20), SystemStatus.OPERATIONAL)
+        );
+        DetachedStatusService service = new DetachedStatusService(
+                properties,
+                statusProbeService,
+                mongoStatusStore,
+                snapshotFileStore,
+                statusDiscordNotifier
+        );
+
+        service.probeIfDue();
+        service.probeIfDue();
+        service.probeIfDue();
+
+        verify(statusProbeService, times(2)).performHealthCheck();
+    }
+
     private DetachedStatusService serviceWith(StatusHistoryEntry entry) {
         when(snapshotFileStore.readHistory()).thenReturn(List.of());
         when(mongoStatusStore.findHistoryAfter(any())).thenReturn(List.of());
@@ -40,7 +40,7 @@ export const adminClient = {
     getUserRaw: async (userId: string) => (await api.get(`/admin/users/${userId}/raw`)).data,
     updateUserRaw: async (userId: string, data: any) => (await api.put(`/admin/users/${userId}/raw`, data)).data,
 
-    getVerificationQueue: async () => (await api.get('/admin/verification/queue')).data,
+    getVerificationQueue: async (params: { page?: number; size?: number } = {}) => (await api.get('/admin/verification/queue', { params })).data,
     getReviewDetails: async (id: string) => (await api.get(`/admin/projects/${id}/review-details`)).data,
     getCurrentAdmin: async () => (await api.get('/user/me')).data,
 
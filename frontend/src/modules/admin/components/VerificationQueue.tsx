@@ -8,10 +8,15 @@ interface VerificationQueueProps {
     loadingReview: boolean;
     reviewingId?: string;
     onReview: (id: string) => void;
+    page: number;
+    totalPages: number;
+    totalElements: number;
+    onPageChange: (page: number) => void;
 }
 
 export const VerificationQueue: React.FC<VerificationQueueProps> = ({
-                                                                        pendingProjects, loadingQueue, loadingReview, reviewingId, onReview
+                                                                        pendingProjects, loadingQueue, loadingReview, reviewingId, onReview,
+                                                                        page, totalPages, totalElements, onPageChange
                                                                     }) => {
     if (loadingQueue) {
         return <div className="text-center py-24 text-slate-400 font-bold animate-pulse">Loading queue...</div>;
@@ -143,8 +148,41 @@ export const VerificationQueue: React.FC<VerificationQueueProps> = ({
     };
 
     return (
-        <div className="grid gap-4">
-            {sortedProjects.map(renderQueueItem)}
+        <div className="space-y-6">
+            <div className="grid gap-4">
+                {sortedProjects.map(renderQueueItem)}
+            </div>
+
+            {totalPages > 1 && (
+                <div className="flex flex-col gap-4 rounded-3xl border border-slate-200 bg-white/50 px-5 py-4 shadow-sm backdrop-blur-md sm:flex-row sm:items-center sm:justify-between dark:border-white/10 dark:bg-white/5">
+                    <div>
+                        <div className="text-sm font-bold text-slate-900 dark:text-white">
+                            Page {page + 1} of {totalPages}
+                        </div>
+                        <div className="text-sm font-medium text-slate-500 dark:text-slate-400">
+                            {totalElements.toLocaleString()} projects waiting for review.
+                        </div>
+                    </div>
+                    <div className="flex items-center gap-3">
+                        <button
+                            type="button"
+                            disabled={page === 0}
+                            onClick={() => onPageChange(Math.max(0, page - 1))}
+                            className="rounded-2xl border border-slate-200 bg-white/80 px-4 py-2.5 text-sm font-bold text-slate-700 transition-colors hover:bg-slate-50 disabled:cursor-not-allowed disabled:opacity-50 dark:border-white/10 dark:bg-black/20 dark:text-slate-200 dark:hover:bg-white/5"
+                        >
+                            Previous
+                        </button>
+                        <button
+                            type="button"
+                            disabled={page >= totalPages - 1}
+                            onClick={() => onPageChange(Math.min(totalPages - 1, page + 1))}
+                            className="rounded-2xl bg-modtale-accent px-4 py-2.5 text-sm font-bold text-white transition-colors hover:bg-modtale-accent/90 disabled:cursor-not-allowed disabled:opacity-50"
+                        >
+                            Next
+                        </button>
+                    </div>
+                </div>
+            )}
         </div>
     );
 };
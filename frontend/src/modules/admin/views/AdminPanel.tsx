@@ -20,11 +20,16 @@ interface AdminPanelProps {
 
 type AdminTab = 'users' | 'verification' | 'reports' | 'projects' | 'analytics' | 'logs' | 'status';
 
+const QUEUE_PAGE_SIZE = 50;
+
 export function AdminPanel({ currentUser }: AdminPanelProps) {
     const [activeTab, setActiveTab] = useState<AdminTab>('verification');
     const [status, setStatus] = useState<any>(null);
 
     const [pendingProjects, setPendingProjects] = useState<Project[]>([]);
+    const [queueTotal, setQueueTotal] = useState(0);
+    const [queuePage, setQueuePage] = useState(0);
+    const [queueTotalPages, setQueueTotalPages] = useState(1);
     const [loadingQueue, setLoadingQueue] = useState(false);
     const [queueError, setQueueError] = useState<string | null>(null);
 
@@ -87,16 +92,20 @@ export function AdminPanel({ currentUser }: AdminPanelProps) {
             fetchQueue();
         } else {
             setPendingProjects([]);
+            setQueueTotal(0);
+            setQueueTotalPages(1);
             setQueueError(null);
         }
+    }, [canReadReviewQueue, queuePage]);
 
+    useEffect(() => {
         if (canReadReports) {
             fetchReports();
         } else {
             setReports([]);
             setReportsError(null);
         }
-    }, [canReadReviewQueue, canReadReports]);
+    }, [canReadReports]);
 
     useEffect(() => {
         if (!canReadReviewQueue) return;
@@ -104,7 +113,7 @@ export function AdminPanel({ currentUser }: AdminPanelProps) {
             fetchQueue();
         }, 30_000);
         return () => clearInterval(interval);
-    }, [canReadReviewQueue]);
+    }, [canReadReviewQueue, queuePage]);
 
     useEffect(() => {
         if (isAdmin && firstAllowedTab && !tabAccess[activeTab]) {
@@ -116,8 +125,16 @@ export function AdminPanel({ currentUser }: AdminPanelProps) {
         if (!canReadReviewQueue) return;
         setLoadingQueue(true);
         try {
-            const data = await adminClient.getVerificationQueue();
-            setPendingProjects(data);
+            const data = await adminClient.getVerificationQueue({ page: queuePage, size: QUEUE_PAGE_SIZE });
+            const totalPages = data.totalPages || 1;
+            if (queuePage > 0 && queuePage >= totalPages) {
+                // Reviews emptied the last page; step back and let the page effect refetch.
+                setQueuePage(totalPages - 1);
+                return;
+            }
+            setPendingProjects(data.content || []);
+            setQueueTotal(data.totalElements || 0);
+            setQueueTotalPages(totalPages);
             setQueueError(null);
         } catch (e) {
             setQueueError(extractApiErrorMessage(e, 'We could not load the verification queue.'));
@@ -228,7 +245,7 @@ export function AdminPanel({ currentUser }: AdminPanelProps) {
                                         tab="verification"
                                         icon={LayoutDashboard}
                                         label="Verification Queue"
-                                        badge={pendingProjects.length}
+                                        badge={queueTotal}
                                     />
                                 )}
                                 {canReadReports && (
@@ -297,6 +314,10 @@ export function AdminPanel({ currentUser }: AdminPanelProps) {
                                         loadingReview={loadingReview}
                                         reviewingId={reviewingProject?.mod?.id}
                                         onReview={fetchProjectDetails}
+                                        page={queuePage}
+                                        totalPages={queueTotalPages}
+                                        totalElements={queueTotal}
+                                        onPageChange={setQueuePage}
                                     />
                                 </div>
                             )}
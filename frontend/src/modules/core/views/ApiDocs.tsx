@@ -783,6 +783,32 @@ const endpointSpecificExample = (method: string, path: string, code: string): un
             channel: sampleVersionSummary.channel,
         };
     }
+    if (path === '/api/v1/version/hashes' && code === '200') {
+        return {
+            versions: {
+                '9f2c4e1a7b3d5c8e0f1a2b3c4d5e6f708192a3b4c5d6e7f8091a2b3c4d5e6f70': {
+                    projectId: '67f62da0d5de9b5f94b69999',
+                    versionId: sampleVersionSummary.id,
+                    versionNumber: sampleVersionSummary.versionNumber,
+                    fileUrl: 'projects/skyforge-utilities/2.4.1.jar',
+                },
+            },
+        };
+    }
+    if (path === '/api/v1/version/updates' && code === '200') {
+        return {
+            updates: {
+                '67f62da0d5de9b5f94b69999': {
+                    versionId: sampleVersionSummary.id,
+                    versionNumber: sampleVersionSummary.versionNumber,
+                    channel: sampleVersionSummary.channel,
+                    releaseDate: sampleVersionSummary.releaseDate,
+                    fileUrl: 'projects/skyforge-utilities/2.4.1.jar',
+                    hash: '9f2c4e1a7b3d5c8e0f1a2b3c4d5e6f708192a3b4c5d6e7f8091a2b3c4d5e6f70',
+                },
+            },
+        };
+    }
 
     if (path === '/api/v1/users/search' && code === '200') return [sampleUserSummary];
     if (path === '/api/v1/users/batch' && code === '200') return [sampleUserSummary];